@@ -0,0 +1,523 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.annotation.processor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+/**
+ * Generates mapper class for each persistence entry class. Mapper lists entry
+ * properties with ORM annotations and accesses them by direct getter/setter
+ * calls. It allows to avoid reflective scanning of entry class at runtime.
+ * <p/>
+ * Mapper of class <code>pkg.Outer.Entry</code> is generated as
+ * <code>pkg.Outer_Entry_EntryMapper</code>. Properties with private or
+ * inaccessible accessors are skipped and accessed via reflection at runtime.
+ */
+@SupportedAnnotationTypes({ EntryMapperProcessor.DATA_ENTRY_ANNOTATION, EntryMapperProcessor.ATTRIBUTE_NAME_ANNOTATION,
+		EntryMapperProcessor.JSON_OBJECT_ANNOTATION, EntryMapperProcessor.EXPIRATION_ANNOTATION })
+public class EntryMapperProcessor extends AbstractProcessor {
+
+	static final String ORM_ANNOTATION_PACKAGE = "io.jans.orm.annotation.";
+
+	static final String DATA_ENTRY_ANNOTATION = ORM_ANNOTATION_PACKAGE + "DataEntry";
+	static final String ATTRIBUTE_NAME_ANNOTATION = ORM_ANNOTATION_PACKAGE + "AttributeName";
+	static final String JSON_OBJECT_ANNOTATION = ORM_ANNOTATION_PACKAGE + "JsonObject";
+	static final String EXPIRATION_ANNOTATION = ORM_ANNOTATION_PACKAGE + "Expiration";
+
+	static final String MAPPER_CLASS_SUFFIX = "_EntryMapper";
+	static final String MAPPER_BASE_CLASS = "io.jans.orm.reflect.property.GeneratedEntryMapper";
+
+	private final Set<String> processedTypes = new HashSet<String>();
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		Set<TypeElement> entryTypes = new LinkedHashSet<TypeElement>();
+		for (TypeElement annotation : annotations) {
+			for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+				if (element.getKind() == ElementKind.CLASS) {
+					entryTypes.add((TypeElement) element);
+				} else if ((element.getKind() == ElementKind.FIELD) && (element.getEnclosingElement().getKind() == ElementKind.CLASS)) {
+					entryTypes.add((TypeElement) element.getEnclosingElement());
+				}
+			}
+		}
+
+		for (TypeElement entryType : entryTypes) {
+			if (!processedTypes.add(entryType.getQualifiedName().toString())) {
+				continue;
+			}
+
+			if (!isMapperSupported(entryType)) {
+				processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+						"Skipping generation of entry mapper for inaccessible class " + entryType.getQualifiedName(), entryType);
+				continue;
+			}
+
+			try {
+				generateMapper(entryType);
+			} catch (IOException ex) {
+				processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+						"Failed to generate entry mapper for class " + entryType.getQualifiedName() + ": " + ex.getMessage(), entryType);
+			}
+		}
+
+		// Allow other processors to handle ORM annotations too
+		return false;
+	}
+
+	private boolean isMapperSupported(TypeElement entryType) {
+		Element element = entryType;
+		while (element.getKind().isClass() || element.getKind().isInterface()) {
+			TypeElement typeElement = (TypeElement) element;
+			if ((typeElement.getNestingKind() == NestingKind.LOCAL) || (typeElement.getNestingKind() == NestingKind.ANONYMOUS)
+					|| typeElement.getModifiers().contains(Modifier.PRIVATE)) {
+				return false;
+			}
+			element = element.getEnclosingElement();
+		}
+
+		return true;
+	}
+
+	private void generateMapper(TypeElement entryType) throws IOException {
+		PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(entryType);
+		String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+		String mapperSimpleName = getFlatName(entryType) + MAPPER_CLASS_SUFFIX;
+		String entryTypeName = entryType.getQualifiedName().toString();
+
+		List<PropertyInfo> properties = collectProperties(entryType, packageName);
+		if (properties == null) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+					"Skipping generation of entry mapper for class " + entryTypeName + " with inaccessible super class", entryType);
+			return;
+		}
+
+		boolean instantiable = isInstantiable(entryType, packageName);
+
+		String mapperName = packageName.isEmpty() ? mapperSimpleName : packageName + "." + mapperSimpleName;
+		JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(mapperName, entryType);
+
+		PrintWriter out = new PrintWriter(sourceFile.openWriter());
+		try {
+			if (!packageName.isEmpty()) {
+				out.println("package " + packageName + ";");
+				out.println();
+			}
+			out.println("/**");
+			out.println(" * Entry mapper of {@link " + entryTypeName + "}. Generated by " + EntryMapperProcessor.class.getName()
+					+ ". Don't edit");
+			out.println(" */");
+			out.println("@SuppressWarnings({ \"rawtypes\", \"unchecked\" })");
+			out.println("public final class " + mapperSimpleName + " extends " + MAPPER_BASE_CLASS + "<" + entryTypeName + "> {");
+			out.println();
+
+			out.println("\tpublic " + mapperSimpleName + "() {");
+			out.println("\t\tsuper(" + entryTypeName + ".class);");
+			for (PropertyInfo property : properties) {
+				StringBuilder registration = new StringBuilder();
+				registration.append("\t\tproperty(\"").append(property.name).append("\", ").append(property.fieldClass).append(".class)");
+				if (property.getter != null) {
+					registration.append("\n\t\t\t.getter(").append(getTypeName(property.getter.getEnclosingElement().asType())).append(".class, \"")
+							.append(property.getter.getSimpleName()).append("\", ").append(getErasureName(property.getter.getReturnType()))
+							.append(".class)");
+				}
+				if (property.setter != null) {
+					registration.append("\n\t\t\t.setter(").append(getTypeName(property.setter.getEnclosingElement().asType())).append(".class, \"")
+							.append(property.setter.getSimpleName()).append("\", ")
+							.append(getErasureName(property.setter.getParameters().get(0).asType())).append(".class)");
+				}
+				out.println(registration.append(";"));
+			}
+			out.println("\t}");
+			out.println();
+
+			if (instantiable) {
+				out.println("\t@Override");
+				out.println("\tpublic " + entryTypeName + " newInstance() {");
+				out.println("\t\treturn new " + entryTypeName + "();");
+				out.println("\t}");
+				out.println();
+				out.println("\t@Override");
+				out.println("\tpublic boolean isInstantiable() {");
+				out.println("\t\treturn true;");
+				out.println("\t}");
+				out.println();
+			}
+
+			out.println("\t@Override");
+			out.println("\tprotected Object get(" + entryTypeName + " entry, int index) {");
+			out.println("\t\tswitch (index) {");
+			for (int i = 0; i < properties.size(); i++) {
+				PropertyInfo property = properties.get(i);
+				if (property.getter != null) {
+					out.println("\t\tcase " + i + ":");
+					out.println("\t\t\treturn entry." + property.getter.getSimpleName() + "();");
+				}
+			}
+			out.println("\t\tdefault:");
+			out.println("\t\t\tthrow new IllegalArgumentException(\"There is no generated getter for property with index \" + index);");
+			out.println("\t\t}");
+			out.println("\t}");
+			out.println();
+
+			out.println("\t@Override");
+			out.println("\tprotected void set(" + entryTypeName + " entry, int index, Object value) {");
+			out.println("\t\tswitch (index) {");
+			for (int i = 0; i < properties.size(); i++) {
+				PropertyInfo property = properties.get(i);
+				if (property.setter != null) {
+					TypeMirror parameterType = getMemberParameterType(entryType, property.setter);
+					out.println("\t\tcase " + i + ":");
+					out.println("\t\t\tentry." + property.setter.getSimpleName() + "((" + getCastTypeName(parameterType) + ") value);");
+					out.println("\t\t\treturn;");
+				}
+			}
+			out.println("\t\tdefault:");
+			out.println("\t\t\tthrow new IllegalArgumentException(\"There is no generated setter for property with index \" + index);");
+			out.println("\t\t}");
+			out.println("\t}");
+			out.println();
+			out.println("}");
+		} finally {
+			out.close();
+		}
+	}
+
+	/*
+	 * Collect fields with ORM annotations in the same way as runtime annotation resolver does.
+	 * Super class field overrides sub class field with the same name
+	 */
+	private List<PropertyInfo> collectProperties(TypeElement entryType, String packageName) {
+		Map<String, TypeElement> fields = new LinkedHashMap<String, TypeElement>();
+
+		TypeElement currentType = entryType;
+		while (currentType != null) {
+			for (VariableElement field : ElementFilter.fieldsIn(currentType.getEnclosedElements())) {
+				if (!field.getModifiers().contains(Modifier.STATIC) && hasOrmAnnotation(field)) {
+					fields.put(field.getSimpleName().toString(), currentType);
+				}
+			}
+
+			currentType = getSuperclass(currentType);
+		}
+
+		List<PropertyInfo> properties = new ArrayList<PropertyInfo>(fields.size());
+		for (Map.Entry<String, TypeElement> field : fields.entrySet()) {
+			TypeElement fieldType = field.getValue();
+			if (!isAccessible(fieldType, packageName)) {
+				// Mapper can't reference this class. Use reflection for this entry
+				return null;
+			}
+
+			String propertyName = field.getKey();
+			ExecutableElement getter = findGetter(entryType, propertyName);
+			ExecutableElement setter = findSetter(entryType, propertyName, getter == null ? null : getter.getReturnType());
+
+			PropertyInfo property = new PropertyInfo(propertyName, getTypeName(fieldType.asType()));
+			if ((getter != null) && isAccessible(getter, packageName) && isAccessible(getter.getReturnType(), packageName)) {
+				property.getter = getter;
+			}
+			if ((setter != null) && isAccessible(setter, packageName) && isAccessible(setter.getParameters().get(0).asType(), packageName)
+					&& isAccessible(getMemberParameterType(entryType, setter), packageName)) {
+				property.setter = setter;
+			}
+
+			properties.add(property);
+		}
+
+		return properties;
+	}
+
+	private boolean hasOrmAnnotation(Element element) {
+		for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+			TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+			if (annotationType.getQualifiedName().toString().startsWith(ORM_ANNOTATION_PACKAGE)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/*
+	 * Mirrors BasicPropertyAccessor getter lookup: get/is method without parameters
+	 */
+	private ExecutableElement findGetter(TypeElement entryType, String propertyName) {
+		TypeElement currentType = entryType;
+		while (currentType != null) {
+			for (ExecutableElement method : ElementFilter.methodsIn(currentType.getEnclosedElements())) {
+				if (!method.getParameters().isEmpty() || method.getModifiers().contains(Modifier.STATIC)) {
+					continue;
+				}
+
+				String methodName = method.getSimpleName().toString();
+				if ((methodName.startsWith("get") && isPropertyMethodName(methodName.substring(3), propertyName))
+						|| (methodName.startsWith("is") && isPropertyMethodName(methodName.substring(2), propertyName))) {
+					return method;
+				}
+			}
+
+			currentType = getSuperclass(currentType);
+		}
+
+		return null;
+	}
+
+	/*
+	 * Mirrors BasicPropertyAccessor setter lookup: set method with one parameter. Prefer
+	 * method with parameter type which matches getter return type
+	 */
+	private ExecutableElement findSetter(TypeElement entryType, String propertyName, TypeMirror getterReturnType) {
+		TypeElement currentType = entryType;
+		while (currentType != null) {
+			ExecutableElement potentialSetter = null;
+			for (ExecutableElement method : ElementFilter.methodsIn(currentType.getEnclosedElements())) {
+				if ((method.getParameters().size() != 1) || method.getModifiers().contains(Modifier.STATIC)) {
+					continue;
+				}
+
+				String methodName = method.getSimpleName().toString();
+				if (methodName.startsWith("set") && isPropertyMethodName(methodName.substring(3), propertyName)) {
+					potentialSetter = method;
+					if ((getterReturnType == null) || processingEnv.getTypeUtils().isSameType(
+							processingEnv.getTypeUtils().erasure(method.getParameters().get(0).asType()),
+							processingEnv.getTypeUtils().erasure(getterReturnType))) {
+						return potentialSetter;
+					}
+				}
+			}
+
+			if (potentialSetter != null) {
+				return potentialSetter;
+			}
+
+			currentType = getSuperclass(currentType);
+		}
+
+		return null;
+	}
+
+	private boolean isPropertyMethodName(String methodPropertyName, String propertyName) {
+		return decapitalize(methodPropertyName).equals(propertyName) || methodPropertyName.equals(propertyName);
+	}
+
+	private boolean isInstantiable(TypeElement entryType, String packageName) {
+		if (entryType.getModifiers().contains(Modifier.ABSTRACT)) {
+			return false;
+		}
+
+		if ((entryType.getNestingKind() == NestingKind.MEMBER) && !entryType.getModifiers().contains(Modifier.STATIC)) {
+			return false;
+		}
+
+		for (ExecutableElement constructor : ElementFilter.constructorsIn(entryType.getEnclosedElements())) {
+			if (constructor.getParameters().isEmpty()) {
+				return constructor.getThrownTypes().isEmpty() && isAccessible(constructor, packageName);
+			}
+		}
+
+		return false;
+	}
+
+	private boolean isAccessible(ExecutableElement method, String packageName) {
+		if (!method.getThrownTypes().isEmpty()) {
+			// Generated switch can't propagate checked exceptions
+			return false;
+		}
+
+		if (!isAccessible((TypeElement) method.getEnclosingElement(), packageName)) {
+			return false;
+		}
+
+		return isAccessible(method.getModifiers(), method.getEnclosingElement(), packageName);
+	}
+
+	private boolean isAccessible(TypeMirror type, String packageName) {
+		if (type.getKind().isPrimitive()) {
+			return true;
+		}
+
+		if (type.getKind() == TypeKind.ARRAY) {
+			return isAccessible(((ArrayType) type).getComponentType(), packageName);
+		}
+
+		TypeMirror erasure = processingEnv.getTypeUtils().erasure(type);
+		if (erasure.getKind() == TypeKind.DECLARED) {
+			return isAccessible((TypeElement) ((DeclaredType) erasure).asElement(), packageName);
+		}
+
+		return false;
+	}
+
+	private boolean isAccessible(TypeElement type, String packageName) {
+		Element element = type;
+		while (element.getKind().isClass() || element.getKind().isInterface()) {
+			if (!isAccessible(element.getModifiers(), element, packageName)) {
+				return false;
+			}
+			element = element.getEnclosingElement();
+		}
+
+		return true;
+	}
+
+	private boolean isAccessible(Set<Modifier> modifiers, Element element, String packageName) {
+		if (modifiers.contains(Modifier.PUBLIC)) {
+			return true;
+		}
+
+		if (modifiers.contains(Modifier.PRIVATE)) {
+			return false;
+		}
+
+		// Package private and protected members are accessible from the same package only
+		PackageElement elementPackage = processingEnv.getElementUtils().getPackageOf(element);
+		return elementPackage.getQualifiedName().contentEquals(packageName);
+	}
+
+	private TypeElement getSuperclass(TypeElement type) {
+		TypeMirror superclass = type.getSuperclass();
+		if (superclass.getKind() != TypeKind.DECLARED) {
+			return null;
+		}
+
+		TypeElement superType = (TypeElement) ((DeclaredType) superclass).asElement();
+		if (superType.getQualifiedName().contentEquals(Object.class.getName())) {
+			return null;
+		}
+
+		return superType;
+	}
+
+	private String getFlatName(TypeElement type) {
+		Element enclosingElement = type.getEnclosingElement();
+		if (enclosingElement.getKind().isClass() || enclosingElement.getKind().isInterface()) {
+			return getFlatName((TypeElement) enclosingElement) + "_" + type.getSimpleName();
+		}
+
+		return type.getSimpleName().toString();
+	}
+
+	/*
+	 * Parameter type of inherited method might be more specific in entry class if super class is generic
+	 */
+	private TypeMirror getMemberParameterType(TypeElement entryType, ExecutableElement method) {
+		DeclaredType entryDeclaredType = (DeclaredType) processingEnv.getTypeUtils().erasure(entryType.asType());
+		try {
+			ExecutableType memberType = (ExecutableType) processingEnv.getTypeUtils().asMemberOf(entryDeclaredType, method);
+			return memberType.getParameterTypes().get(0);
+		} catch (IllegalArgumentException ex) {
+			return method.getParameters().get(0).asType();
+		}
+	}
+
+	private String getErasureName(TypeMirror type) {
+		return getTypeName(processingEnv.getTypeUtils().erasure(type));
+	}
+
+	private String getCastTypeName(TypeMirror type) {
+		if (type.getKind().isPrimitive()) {
+			return processingEnv.getTypeUtils().boxedClass((PrimitiveType) type).getQualifiedName().toString();
+		}
+
+		return getErasureName(type);
+	}
+
+	/*
+	 * Build canonical name without type arguments and type annotations
+	 */
+	private String getTypeName(TypeMirror type) {
+		if (type.getKind().isPrimitive()) {
+			return type.getKind().name().toLowerCase();
+		}
+
+		if (type.getKind() == TypeKind.ARRAY) {
+			return getTypeName(((ArrayType) type).getComponentType()) + "[]";
+		}
+
+		if (type.getKind() == TypeKind.DECLARED) {
+			return ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString();
+		}
+
+		TypeMirror erasure = processingEnv.getTypeUtils().erasure(type);
+		if (erasure.getKind() == TypeKind.DECLARED) {
+			return getTypeName(erasure);
+		}
+
+		return Object.class.getName();
+	}
+
+	/*
+	 * Same as java.beans.Introspector.decapitalize
+	 */
+	private static String decapitalize(String name) {
+		if ((name == null) || (name.length() == 0)) {
+			return name;
+		}
+
+		if ((name.length() > 1) && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+			return name;
+		}
+
+		char[] chars = name.toCharArray();
+		chars[0] = Character.toLowerCase(chars[0]);
+
+		return new String(chars);
+	}
+
+	private static final class PropertyInfo {
+
+		private final String name;
+		private final String fieldClass;
+
+		private ExecutableElement getter;
+		private ExecutableElement setter;
+
+		private PropertyInfo(String name, String fieldClass) {
+			this.name = name;
+			this.fieldClass = fieldClass;
+		}
+
+	}
+
+}
@@ -40,4 +40,16 @@ public @interface DataEntry {
      */
     boolean forceUpdate() default false;
 
+    /**
+     * (Optional) Specify that ORM should keep snapshot of loaded entry and merge it
+     * without lookup. Snapshot is created only if entry was loaded with all attributes.
+     */
+    boolean trackChanges() default false;
+
+    /**
+     * (Optional) Specify that ORM should keep entries loaded by DN in second level
+     * cache of entry manager. Cache is invalidated on entry update and remove.
+     */
+    boolean cacheable() default false;
+
 }
@@ -0,0 +1,96 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.benchmark;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.jans.orm.impl.test.InMemoryEntryManager;
+import io.jans.orm.model.AttributeData;
+import io.jans.orm.model.base.SimpleUser;
+import io.jans.orm.reflect.property.Instantiator;
+import io.jans.orm.reflect.util.ReflectHelper;
+
+/**
+ * Creates page of entries from loaded attributes. Constructor benchmarks
+ * compare lookup of default constructor per row with cached instantiator
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EntityCreationBenchmark {
+
+	@Param({ "100000" })
+	private int rows;
+
+	private InMemoryEntryManager entryManager;
+	private Map<String, List<AttributeData>> entriesAttributes;
+
+	@Setup
+	public void init() {
+		entryManager = new InMemoryEntryManager();
+
+		entriesAttributes = new LinkedHashMap<String, List<AttributeData>>(rows);
+		for (int i = 0; i < rows; i++) {
+			String dn = String.format("uid=user%d,ou=people,o=jans", i);
+
+			List<AttributeData> attributes = new ArrayList<AttributeData>();
+			attributes.add(new AttributeData("objectClass", new String[] { "jansPerson" }));
+			attributes.add(new AttributeData("uid", "user" + i));
+			attributes.add(new AttributeData("jansPersistentJWT", new String[] { "jwt" + i }));
+			attributes.add(new AttributeData("givenName", "Name" + i));
+			attributes.add(new AttributeData("mail", "user" + i + "@jans.io"));
+			entriesAttributes.put(dn, attributes);
+		}
+	}
+
+	@TearDown
+	public void destroy() {
+		entryManager.destroy();
+	}
+
+	@Benchmark
+	public List<SimpleUser> createEntities() {
+		return entryManager.createEntities(SimpleUser.class, entriesAttributes);
+	}
+
+	@Benchmark
+	public void constructorLookupPerRow(Blackhole blackhole) throws Exception {
+		for (int i = 0; i < rows; i++) {
+			blackhole.consume(ReflectHelper.createObjectByDefaultConstructor(SimpleUser.class));
+		}
+	}
+
+	@Benchmark
+	public void cachedInstantiator(Blackhole blackhole) {
+		Instantiator<SimpleUser> instantiator = ReflectHelper.getInstantiator(SimpleUser.class);
+		for (int i = 0; i < rows; i++) {
+			blackhole.consume(instantiator.newInstance());
+		}
+	}
+
+}
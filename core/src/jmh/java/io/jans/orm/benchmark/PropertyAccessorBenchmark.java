@@ -0,0 +1,178 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.benchmark;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.jans.orm.model.base.SimpleUser;
+import io.jans.orm.reflect.property.Getter;
+import io.jans.orm.reflect.property.PropertyAccessor;
+import io.jans.orm.reflect.property.Setter;
+import io.jans.orm.reflect.util.ReflectHelper;
+
+/**
+ * Compares reflective and method handle property accessors. Each operation
+ * reads and writes back all mapped properties of entry
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertyAccessorBenchmark {
+
+	private static final String[] USER_PROPERTIES = { "dn", "userId", "updatedAt", "oxAuthPersistentJwt" };
+	private static final String[] SESSION_STATE_PROPERTIES = { "dn", "id", "lastUsedAt", "userDn", "permissionGranted", "jwt" };
+
+	@Param({ ReflectHelper.BASIC_PROPERTY_ACCESSOR_STRATEGY, ReflectHelper.METHOD_HANDLE_PROPERTY_ACCESSOR_STRATEGY })
+	private String strategy;
+
+	private SimpleUser user;
+	private Getter[] userGetters;
+	private Setter[] userSetters;
+
+	private SimpleSessionState sessionState;
+	private Getter[] sessionStateGetters;
+	private Setter[] sessionStateSetters;
+
+	@Setup
+	public void init() {
+		PropertyAccessor propertyAccessor = ReflectHelper.getPropertyAccessor(strategy);
+
+		user = new SimpleUser();
+		user.setDn("uid=user1,ou=people,o=jans");
+		user.setUserId("user1");
+		user.setUpdatedAt(new Date());
+		user.setOxAuthPersistentJwt(new String[] { "jwt1", "jwt2" });
+		userGetters = getGetters(propertyAccessor, SimpleUser.class, USER_PROPERTIES);
+		userSetters = getSetters(propertyAccessor, SimpleUser.class, USER_PROPERTIES);
+
+		sessionState = new SimpleSessionState();
+		sessionState.setDn("jansId=session1,ou=sessions,o=jans");
+		sessionState.setId("session1");
+		sessionState.setLastUsedAt(new Date());
+		sessionState.setUserDn(user.getDn());
+		sessionState.setPermissionGranted(Boolean.TRUE);
+		sessionState.setJwt("jwt");
+		sessionStateGetters = getGetters(propertyAccessor, SimpleSessionState.class, SESSION_STATE_PROPERTIES);
+		sessionStateSetters = getSetters(propertyAccessor, SimpleSessionState.class, SESSION_STATE_PROPERTIES);
+	}
+
+	@Benchmark
+	public void simpleUser(Blackhole blackhole) {
+		copyProperties(user, userGetters, userSetters, blackhole);
+	}
+
+	@Benchmark
+	public void simpleSessionState(Blackhole blackhole) {
+		copyProperties(sessionState, sessionStateGetters, sessionStateSetters, blackhole);
+	}
+
+	private static void copyProperties(Object entry, Getter[] getters, Setter[] setters, Blackhole blackhole) {
+		for (int i = 0; i < getters.length; i++) {
+			Object value = getters[i].get(entry);
+			setters[i].set(entry, value);
+			blackhole.consume(value);
+		}
+	}
+
+	private static Getter[] getGetters(PropertyAccessor propertyAccessor, Class<?> entryClass, String[] properties) {
+		Getter[] getters = new Getter[properties.length];
+		for (int i = 0; i < properties.length; i++) {
+			getters[i] = propertyAccessor.getGetter(entryClass, properties[i]);
+		}
+
+		return getters;
+	}
+
+	private static Setter[] getSetters(PropertyAccessor propertyAccessor, Class<?> entryClass, String[] properties) {
+		Setter[] setters = new Setter[properties.length];
+		for (int i = 0; i < properties.length; i++) {
+			setters[i] = propertyAccessor.getSetter(entryClass, properties[i]);
+		}
+
+		return setters;
+	}
+
+	/*
+	 * Properties of session entry from sample modules
+	 */
+	public static class SimpleSessionState {
+
+		private String dn;
+		private String id;
+		private Date lastUsedAt;
+		private String userDn;
+		private Boolean permissionGranted;
+		private String jwt;
+
+		public String getDn() {
+			return dn;
+		}
+
+		public void setDn(String dn) {
+			this.dn = dn;
+		}
+
+		public String getId() {
+			return id;
+		}
+
+		public void setId(String id) {
+			this.id = id;
+		}
+
+		public Date getLastUsedAt() {
+			return lastUsedAt;
+		}
+
+		public void setLastUsedAt(Date lastUsedAt) {
+			this.lastUsedAt = lastUsedAt;
+		}
+
+		public String getUserDn() {
+			return userDn;
+		}
+
+		public void setUserDn(String userDn) {
+			this.userDn = userDn;
+		}
+
+		public Boolean getPermissionGranted() {
+			return permissionGranted;
+		}
+
+		public void setPermissionGranted(Boolean permissionGranted) {
+			this.permissionGranted = permissionGranted;
+		}
+
+		public String getJwt() {
+			return jwt;
+		}
+
+		public void setJwt(String jwt) {
+			this.jwt = jwt;
+		}
+
+	}
+
+}
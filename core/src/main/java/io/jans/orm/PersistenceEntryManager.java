@@ -6,9 +6,12 @@
 
 package io.jans.orm;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import javax.persistence.EntityManager;
 import javax.persistence.EntityTransaction;
@@ -20,10 +23,13 @@ import io.jans.orm.event.DeleteNotifier;
 import io.jans.orm.exception.extension.PersistenceExtension;
 import io.jans.orm.model.AttributeData;
 import io.jans.orm.model.BatchOperation;
+import io.jans.orm.model.BulkOperationResult;
+import io.jans.orm.model.FindByDnsResult;
 import io.jans.orm.model.PagedResult;
 import io.jans.orm.model.SearchScope;
 import io.jans.orm.model.SortOrder;
 import io.jans.orm.operation.PersistenceOperationService;
+import io.jans.orm.operation.UnitOfWork;
 import io.jans.orm.search.filter.Filter;
 
 /**
@@ -43,8 +49,24 @@ public interface PersistenceEntryManager extends EntityManager {
 
 	void persist(Object entry);
 
+    /**
+     * Add entries in batches. Backends send each batch to DB in one request if it's possible
+     *
+     * @param batchSize Count of entries in one batch
+     * @return Added entries and errors of entries which were not added
+     */
+    <T> BulkOperationResult<T> persistAll(Collection<T> entries);
+    <T> BulkOperationResult<T> persistAll(Collection<T> entries, int batchSize);
+
 	Void merge(Object entry);
 
+    /**
+     * Update entries in batches. Backends send each batch to DB in one request if it's possible
+     *
+     * @return Updated entries and errors of entries which were not updated
+     */
+    <T> BulkOperationResult<T> mergeAll(Collection<T> entries);
+
 	@Deprecated
 	boolean contains(Object entity);
 
@@ -60,6 +82,13 @@ public interface PersistenceEntryManager extends EntityManager {
 
     <T> T find(Object primaryKey, Class<T> entryClass, String[] ldapReturnAttributes);
 
+    /**
+     * Load entries by list of DNs with few DB requests
+     *
+     * @return Found entries in order of DNs and DNs of entries which don't exist
+     */
+    <T> FindByDnsResult<T> findByDns(Class<T> entryClass, Collection<String> dns, String[] ldapReturnAttributes);
+
     /**
      * Search by sample
      *
@@ -82,12 +111,40 @@ public interface PersistenceEntryManager extends EntityManager {
     <T> PagedResult<T> findPagedEntries(String primaryKey, Class<T> entryClass, Filter filter, String[] ldapReturnAttributes, String sortBy,
                                         SortOrder sortOrder, int start, int count, int chunkSize);
 
+    /**
+     * Search entries page by page. Next page is loaded when previous one was consumed
+     *
+     * @param pageSize Count of entries to load per request
+     * @return Stream of entries. It should be closed to release search resources if it wasn't consumed completely
+     */
+    <T> Stream<T> streamEntries(String primaryKey, Class<T> entryClass, Filter filter, String[] ldapReturnAttributes, int pageSize);
+    <T> Stream<T> streamEntries(String primaryKey, Class<T> entryClass, Filter filter, SearchScope scope, String[] ldapReturnAttributes,
+                                int pageSize);
+
 	void remove(Object entry);
 
 	@Deprecated
 	void remove(String dn);
 	<T> void remove(String primaryKey, Class<T> entryClass);
 
+    /**
+     * Remove entries in batches. Delete subscribers are notified about each entry
+     *
+     * @return Removed DNs and errors of DNs which were not removed
+     */
+    <T> BulkOperationResult<String> removeAll(Class<T> entryClass, Collection<String> dns);
+
+    /**
+     * Start buffering of persist, merge and remove operations of current thread.
+     * Buffered operations are sent to DB with one write on flush or close
+     */
+    UnitOfWork beginUnitOfWork();
+
+    /**
+     * @return Unit of work of current thread or null
+     */
+    UnitOfWork getUnitOfWork();
+
 	<T> int remove(String primaryKey, Class<T> entryClass, Filter filter, int count);
 	
 	@Deprecated
@@ -95,6 +152,29 @@ public interface PersistenceEntryManager extends EntityManager {
 
 	<T> void removeRecursively(String primaryKey, Class<T> entryClass);
 
+    /**
+     * Async counterparts of blocking methods. Lookup, persist and remove by DN use async
+     * API of LDAP and Couchbase backends. Search, count and merge on all backends, and all
+     * operations on SQL and Spanner backends, are blocking calls executed on bounded pool
+     * of threads. Entries are created from loaded attributes on the same pool
+     *
+     * @return Future which is completed with result of operation or exceptionally with its error
+     */
+    <T> CompletableFuture<T> findAsync(Object primaryKey, Class<T> entryClass, String[] ldapReturnAttributes);
+
+    <T> CompletableFuture<List<T>> findEntriesAsync(String primaryKey, Class<T> entryClass, Filter filter);
+    <T> CompletableFuture<List<T>> findEntriesAsync(String primaryKey, Class<T> entryClass, Filter filter, String[] ldapReturnAttributes,
+                                                    int count);
+
+    <T> CompletableFuture<Integer> countEntriesAsync(String primaryKey, Class<T> entryClass, Filter filter);
+
+    CompletableFuture<Void> persistAsync(Object entry);
+
+    CompletableFuture<Void> mergeAsync(Object entry);
+
+    CompletableFuture<Void> removeAsync(Object entry);
+    <T> CompletableFuture<Void> removeAsync(String primaryKey, Class<T> entryClass);
+
     boolean hasBranchesSupport(String primaryKey);
     boolean hasExpirationSupport(String primaryKey);
 	String getPersistenceType();
@@ -8,19 +8,33 @@ package io.jans.orm.impl;
 
 import java.io.Serializable;
 import java.lang.annotation.Annotation;
-import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.stream.Stream;
+
+import javax.persistence.EntityTransaction;
 
 import org.apache.commons.codec.binary.Base64;
 import org.slf4j.Logger;
@@ -43,12 +57,31 @@ import io.jans.orm.exception.InvalidArgumentException;
 import io.jans.orm.exception.MappingException;
 import io.jans.orm.exception.extension.PersistenceExtension;
 import io.jans.orm.exception.EntryPersistenceException;
+import io.jans.orm.exception.PropertyNotFoundException;
+import io.jans.orm.exception.operation.EntryNotFoundException;
+import io.jans.orm.impl.model.EntryClassMetadata;
+import io.jans.orm.impl.model.AttributesListMapping;
+import io.jans.orm.impl.model.EntryMapping;
+import io.jans.orm.impl.model.EntrySnapshot;
+import io.jans.orm.impl.model.MergeEntry;
+import io.jans.orm.impl.model.PersistEntry;
+import io.jans.orm.impl.model.PropertyMapping;
+import io.jans.orm.impl.model.RemoveEntry;
 import io.jans.orm.model.AttributeData;
 import io.jans.orm.model.AttributeDataModification;
 import io.jans.orm.model.AttributeDataModification.AttributeModificationType;
+import io.jans.orm.model.BulkOperationResult;
+import io.jans.orm.model.FindByDnsResult;
 import io.jans.orm.model.SearchScope;
+import io.jans.orm.operation.AsyncOperationExecutor;
+import io.jans.orm.operation.PagePrefetcher;
+import io.jans.orm.operation.ParallelEntityCreator;
 import io.jans.orm.operation.PersistenceOperationService;
+import io.jans.orm.operation.RequestCoalescer;
+import io.jans.orm.operation.UnitOfWork;
+import io.jans.orm.reflect.property.EntryMapper;
 import io.jans.orm.reflect.property.Getter;
+import io.jans.orm.reflect.property.Instantiator;
 import io.jans.orm.reflect.property.PropertyAnnotation;
 import io.jans.orm.reflect.property.Setter;
 import io.jans.orm.reflect.util.ReflectHelper;
@@ -81,13 +114,13 @@ public abstract class BaseEntryManager implements PersistenceEntryManager {
 	private static final Class<?>[] SUM_BY_ALLOWED_DATA_TYPES = { int.class, Integer.class, float.class, Float.class,
 			double.class, Double.class };
 
-	private final Map<String, List<PropertyAnnotation>> classAnnotations = new HashMap<String, List<PropertyAnnotation>>();
-	private final Map<String, Getter> classGetters = new HashMap<String, Getter>();
-	private final Map<String, Setter> classSetters = new HashMap<String, Setter>();
+	private final TrackedEntries trackedEntries = new TrackedEntries();
 
-	private static Object CLASS_ANNOTATIONS_LOCK = new Object();
-	private static Object CLASS_SETTERS_LOCK = new Object();
-	private static Object CLASS_GETTERS_LOCK = new Object();
+	private static final Comparator<String> IGNORE_CASE_COMPARATOR = new Comparator<String>() {
+		public int compare(String o1, String o2) {
+			return o1.toLowerCase().compareTo(o2.toLowerCase());
+		}
+	};
 
 	private static final ObjectMapper JSON_OBJECT_MAPPER = new ObjectMapper();
 
@@ -97,12 +130,126 @@ public abstract class BaseEntryManager implements PersistenceEntryManager {
 	protected static final Comparator<String> LINE_LENGHT_COMPARATOR = new LineLenghtComparator<String>(false);
 
 	protected static final int DEFAULT_PAGINATION_SIZE = 100;
+
+	/**
+	 * System properties with maximum count of entries in second level entry cache,
+	 * TTL of cached entry in seconds and comma separated list of entry classes
+	 * which should be cached in addition to classes annotated with
+	 * {@link DataEntry#cacheable()}
+	 */
+	public static final String ENTRY_CACHE_SIZE = "jans.orm.entry_cache.size";
+	public static final String ENTRY_CACHE_TTL = "jans.orm.entry_cache.ttl";
+	public static final String ENTRY_CACHE_CLASSES = "jans.orm.entry_cache.classes";
+
+	private final EntryCache entryCache = new EntryCache(Integer.getInteger(ENTRY_CACHE_SIZE, EntryCache.DEFAULT_MAX_SIZE),
+			Long.getLong(ENTRY_CACHE_TTL, EntryCache.DEFAULT_TTL / 1000) * 1000);
+	private volatile Set<String> entryCacheClasses = getEntryCacheClassesProperty();
+
+	/**
+	 * System properties with maximum total count of entries in cached search
+	 * results and TTL of cached result in seconds. Search results are cached only
+	 * for entry classes which use second level entry cache. Default size 0
+	 * disables query cache
+	 */
+	public static final String QUERY_CACHE_SIZE = "jans.orm.query_cache.size";
+	public static final String QUERY_CACHE_TTL = "jans.orm.query_cache.ttl";
+
+	/**
+	 * System property which enables coalescing of concurrent identical lookups
+	 * and authentications
+	 */
+	public static final String REQUEST_COALESCING = "jans.orm.request_coalescing";
+
+	protected static final String FIND_OPERATION = "find";
+	protected static final String AUTHENTICATE_OPERATION = "authenticate";
+
+	private final RequestCoalescer requestCoalescer = new RequestCoalescer(Boolean.getBoolean(REQUEST_COALESCING));
+
+	// Random salt of password digests in authentication request keys
+	private final byte[] passwordDigestSalt = createPasswordDigestSalt();
+
+	private final QueryCache queryCache = new QueryCache(Integer.getInteger(QUERY_CACHE_SIZE, QueryCache.DEFAULT_MAX_SIZE),
+			Long.getLong(QUERY_CACHE_TTL, QueryCache.DEFAULT_TTL / 1000) * 1000);
+
+	/**
+	 * System properties with maximum count of remembered absent DNs and TTL in
+	 * seconds during which DN is considered as absent. Default TTL 0 disables
+	 * negative cache
+	 */
+	public static final String NEGATIVE_CACHE_SIZE = "jans.orm.negative_cache.size";
+	public static final String NEGATIVE_CACHE_TTL = "jans.orm.negative_cache.ttl";
+
+	private final NegativeEntryCache negativeEntryCache = new NegativeEntryCache(
+			Integer.getInteger(NEGATIVE_CACHE_SIZE, NegativeEntryCache.DEFAULT_MAX_SIZE),
+			Long.getLong(NEGATIVE_CACHE_TTL, NegativeEntryCache.DEFAULT_TTL / 1000) * 1000);
+
+	/**
+	 * System property with default count of entries which are sent to DB in one
+	 * batch by persistAll, mergeAll and removeAll
+	 */
+	public static final String PERSIST_BATCH_SIZE = "jans.orm.persist.batch_size";
+
+	protected static final int DEFAULT_PERSIST_BATCH_SIZE = 100;
+
+	private int persistBatchSize = Integer.getInteger(PERSIST_BATCH_SIZE, DEFAULT_PERSIST_BATCH_SIZE);
+
+	/**
+	 * System properties with count of threads which execute async operations and
+	 * maximum count of async operations which wait for free thread
+	 */
+	public static final String ASYNC_THREADS = "jans.orm.async.threads";
+	public static final String ASYNC_QUEUE_SIZE = "jans.orm.async.queue_size";
+
+	private final AsyncOperationExecutor asyncOperationExecutor = new AsyncOperationExecutor(
+			Integer.getInteger(ASYNC_THREADS, 2 * Runtime.getRuntime().availableProcessors()), Integer.getInteger(ASYNC_QUEUE_SIZE, 1000));
+
+	/**
+	 * System property with maximum count of threads which load pages of batch
+	 * searches in advance
+	 */
+	public static final String PREFETCH_THREADS = "jans.orm.prefetch.threads";
+
+	private final ThreadPoolExecutor prefetchExecutor = PagePrefetcher.newExecutor(
+			Integer.getInteger(PREFETCH_THREADS, Runtime.getRuntime().availableProcessors()));
+
+	/**
+	 * System properties with minimal count of entries which are created from loaded
+	 * attributes in parallel and maximum count of threads which create them in
+	 * addition to caller thread. Default threshold 0 disables parallel creation
+	 */
+	public static final String PARALLEL_CREATE_ENTITIES_THRESHOLD = "jans.orm.create_entities.parallel_threshold";
+	public static final String PARALLEL_CREATE_ENTITIES_THREADS = "jans.orm.create_entities.threads";
+
+	private final ParallelEntityCreator parallelEntityCreator = new ParallelEntityCreator(
+			Integer.getInteger(PARALLEL_CREATE_ENTITIES_THREADS, Runtime.getRuntime().availableProcessors() - 1),
+			Integer.getInteger(PARALLEL_CREATE_ENTITIES_THRESHOLD, 0));
+
+	// Unit of work which buffers write operations of current thread
+	private final ThreadLocal<UnitOfWork> currentUnitOfWork = new ThreadLocal<UnitOfWork>();
+
+	private final UnitOfWorkTransaction transaction = new UnitOfWorkTransaction(this);
 	
 	protected PersistenceOperationService operationService = null;
 	protected PersistenceExtension persistenceExtension = null;
 
 	@Override
 	public void persist(Object entry) {
+		UnitOfWorkImpl unitOfWork = getBufferingUnitOfWork();
+		if (unitOfWork != null) {
+			unitOfWork.persist(getBufferedEntryDn(entry), entry);
+			return;
+		}
+
+		PersistEntry persistEntry = preparePersistEntry(entry);
+
+		try {
+			persist(persistEntry.getDn(), persistEntry.getObjectClasses(), persistEntry.getAttributes(), persistEntry.getExpiration());
+		} finally {
+			invalidateCaches(persistEntry.getDn(), entry.getClass());
+		}
+	}
+
+	private PersistEntry preparePersistEntry(Object entry) {
 		if (entry == null) {
 			throw new MappingException("Entry to persist is null");
 		}
@@ -124,11 +271,100 @@ public abstract class BaseEntryManager implements PersistenceEntryManager {
 
 		LOG.debug(String.format("LDAP attributes for persist: %s", attributes));
 
-		persist(dnValue.toString(), objectClasses, attributes, expirationValue);
+		return new PersistEntry(dnValue.toString(), objectClasses, attributes, expirationValue);
 	}
 
 	protected abstract void persist(String dn, String[] objectClasses, List<AttributeData> attributes, Integer expiration);
 
+	/**
+	 * Add entry without blocking caller thread. Backends with async API override
+	 * it. By default entry is added on async operation executor
+	 */
+	protected CompletableFuture<Void> persistAsync(String dn, String[] objectClasses, List<AttributeData> attributes, Integer expiration) {
+		return asyncOperationExecutor.execute(() -> {
+			persist(dn, objectClasses, attributes, expiration);
+			return null;
+		});
+	}
+
+	@Override
+	public <T> BulkOperationResult<T> persistAll(Collection<T> entries) {
+		return persistAll(entries, persistBatchSize);
+	}
+
+	@Override
+	public <T> BulkOperationResult<T> persistAll(Collection<T> entries, int batchSize) {
+		if (entries == null) {
+			throw new MappingException("Entries to persist is null");
+		}
+
+		int currentBatchSize = batchSize > 0 ? batchSize : DEFAULT_PERSIST_BATCH_SIZE;
+
+		BulkOperationResult<T> result = new BulkOperationResult<T>();
+		List<T> batchEntries = new ArrayList<T>(Math.min(currentBatchSize, entries.size()));
+		List<PersistEntry> batchPersistEntries = new ArrayList<PersistEntry>(Math.min(currentBatchSize, entries.size()));
+		for (T entry : entries) {
+			try {
+				batchPersistEntries.add(preparePersistEntry(entry));
+				batchEntries.add(entry);
+			} catch (RuntimeException ex) {
+				result.addFailure(entry, ex);
+			}
+
+			if (batchPersistEntries.size() >= currentBatchSize) {
+				persistBatch(batchEntries, batchPersistEntries, result);
+			}
+		}
+
+		if (batchPersistEntries.size() > 0) {
+			persistBatch(batchEntries, batchPersistEntries, result);
+		}
+
+		return result;
+	}
+
+	private <T> void persistBatch(List<T> batchEntries, List<PersistEntry> batchPersistEntries, BulkOperationResult<T> result) {
+		try {
+			persist(batchPersistEntries);
+		} catch (RuntimeException ex) {
+			// Batch failed as whole
+			for (PersistEntry persistEntry : batchPersistEntries) {
+				if (persistEntry.getError() == null) {
+					persistEntry.setError(ex);
+				}
+			}
+		} finally {
+			for (int i = 0; i < batchEntries.size(); i++) {
+				T entry = batchEntries.get(i);
+				PersistEntry persistEntry = batchPersistEntries.get(i);
+				if (persistEntry.getError() == null) {
+					result.addSucceeded(entry);
+				} else {
+					result.addFailure(entry, persistEntry.getError());
+				}
+
+				invalidateCaches(persistEntry.getDn(), entry.getClass());
+			}
+
+			batchEntries.clear();
+			batchPersistEntries.clear();
+		}
+	}
+
+	/**
+	 * Add batch of entries. Backends which support batch writes should override
+	 * it. Implementation should set error of each entry which was not added
+	 */
+	protected void persist(List<PersistEntry> persistEntries) {
+		for (PersistEntry persistEntry : persistEntries) {
+			try {
+				persist(persistEntry.getDn(), persistEntry.getObjectClasses(), persistEntry.getAttributes(), persistEntry.getExpiration());
+			} catch (RuntimeException ex) {
+				persistEntry.setError(ex);
+			}
+		}
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public <T> List<T> findEntries(Object entry, int count) {
@@ -146,7 +382,7 @@ public abstract class BaseEntryManager implements PersistenceEntryManager {
 		List<AttributeData> attributes = getAttributesListForPersist(entry, propertiesAnnotations);
 		Filter searchFilter = createFilterByEntry(entry, entryClass, attributes);
 
-		return findEntries(dnValue.toString(), entryClass, searchFilter, SearchScope.SUB, null, 0, count,
+		return findCachedEntries(dnValue.toString(), entryClass, searchFilter, SearchScope.SUB, null, 0, count,
 				DEFAULT_PAGINATION_SIZE);
 	}
 
@@ -157,29 +393,72 @@ public abstract class BaseEntryManager implements PersistenceEntryManager {
 
 	@Override
 	public <T> List<T> findEntries(String baseDN, Class<T> entryClass, Filter filter) {
-		return findEntries(baseDN, entryClass, filter, SearchScope.SUB, null, null, 0, 0, 0);
+		return findCachedEntries(baseDN, entryClass, filter, SearchScope.SUB, null, 0, 0, 0);
 	}
 
 	@Override
 	public <T> List<T> findEntries(String baseDN, Class<T> entryClass, Filter filter, int count) {
-		return findEntries(baseDN, entryClass, filter, SearchScope.SUB, null, null, 0, count, 0);
+		return findCachedEntries(baseDN, entryClass, filter, SearchScope.SUB, null, 0, count, 0);
 	}
 
 	@Override
 	public <T> List<T> findEntries(String baseDN, Class<T> entryClass, Filter filter, String[] ldapReturnAttributes) {
-		return findEntries(baseDN, entryClass, filter, SearchScope.SUB, ldapReturnAttributes, null, 0, 0, 0);
+		return findCachedEntries(baseDN, entryClass, filter, SearchScope.SUB, ldapReturnAttributes, 0, 0, 0);
 	}
 
 	@Override
 	public <T> List<T> findEntries(String baseDN, Class<T> entryClass, Filter filter, String[] ldapReturnAttributes,
 			int count) {
-		return findEntries(baseDN, entryClass, filter, SearchScope.SUB, ldapReturnAttributes, null, 0, count, 0);
+		return findCachedEntries(baseDN, entryClass, filter, SearchScope.SUB, ldapReturnAttributes, 0, count, 0);
 	}
 
 	@Override
 	public <T> List<T> findEntries(String baseDN, Class<T> entryClass, Filter filter, SearchScope scope,
 			String[] ldapReturnAttributes, int start, int count, int chunkSize) {
-		return findEntries(baseDN, entryClass, filter, scope, ldapReturnAttributes, null, start, count, chunkSize);
+		return findCachedEntries(baseDN, entryClass, filter, scope, ldapReturnAttributes, start, count, chunkSize);
+	}
+
+	/*
+	 * Search results are cached as snapshots of found entries. Entries are recreated from snapshot
+	 * on each cache hit, so caller can modify returned entries
+	 */
+	private <T> List<T> findCachedEntries(String baseDN, Class<T> entryClass, Filter filter, SearchScope scope,
+			String[] ldapReturnAttributes, int start, int count, int chunkSize) {
+		if (StringHelper.isEmpty(baseDN) || !isUseQueryCache(entryClass)) {
+			return findEntries(baseDN, entryClass, filter, scope, ldapReturnAttributes, null, start, count, chunkSize);
+		}
+
+		QueryCache.QueryKey queryKey = QueryCache.createKey(baseDN, entryClass, filter, scope, ldapReturnAttributes, start, count);
+		List<PropertyAnnotation> propertiesAnnotations = getEntryPropertyAnnotations(entryClass);
+
+		List<EntrySnapshot> cachedEntries = queryCache.get(queryKey);
+		if (cachedEntries != null) {
+			Map<String, List<AttributeData>> entriesAttributes = new LinkedHashMap<String, List<AttributeData>>(cachedEntries.size() * 2);
+			for (EntrySnapshot cachedEntry : cachedEntries) {
+				entriesAttributes.put(cachedEntry.getDn(), copyAttributesData(cachedEntry.getAttributes()));
+			}
+
+			List<T> entries = createEntities(entryClass, propertiesAnnotations, entriesAttributes);
+			trackEntries(entryClass, entries, ldapReturnAttributes);
+
+			return entries;
+		}
+
+		long invalidationStamp = queryCache.getInvalidationStamp();
+		List<T> entries = findEntries(baseDN, entryClass, filter, scope, ldapReturnAttributes, null, start, count, chunkSize);
+
+		List<EntrySnapshot> entrySnapshots = new ArrayList<EntrySnapshot>(entries.size());
+		for (T entry : entries) {
+			entrySnapshots.add(createEntrySnapshot(entry, entryClass, propertiesAnnotations));
+		}
+		queryCache.put(queryKey, getTypeObjectClasses(entryClass), entrySnapshots, invalidationStamp);
+
+		return entries;
+	}
+
+	@Override
+	public <T> Stream<T> streamEntries(String baseDN, Class<T> entryClass, Filter filter, String[] ldapReturnAttributes, int pageSize) {
+		return streamEntries(baseDN, entryClass, filter, SearchScope.SUB, ldapReturnAttributes, pageSize);
 	}
 
 	@SuppressWarnings("unchecked")
@@ -201,8 +480,39 @@ public abstract class BaseEntryManager implements PersistenceEntryManager {
 		return countEntries(dnValue.toString(), entryClass, searchFilter);
 	}
 
-	@SuppressWarnings("unchecked")
 	protected Void merge(Object entry, boolean isSchemaUpdate, boolean isConfigurationUpdate, AttributeModificationType schemaModificationType) {
+		UnitOfWorkImpl unitOfWork = getBufferingUnitOfWork();
+		if ((unitOfWork != null) && !isSchemaUpdate) {
+			unitOfWork.merge(getBufferedEntryDn(entry), entry, isConfigurationUpdate);
+			return null;
+		}
+
+		MergeEntry mergeEntry = prepareMergeEntry(entry, isSchemaUpdate, isConfigurationUpdate, schemaModificationType);
+
+		try {
+			merge(mergeEntry.getDn(), mergeEntry.getObjectClasses(), mergeEntry.getAttributeDataModifications(), mergeEntry.getExpiration());
+		} finally {
+			invalidateCaches(mergeEntry.getDn(), entry.getClass());
+		}
+
+		if (mergeEntry.isTrackChanges()) {
+			trackEntry(entry, entry.getClass(), getEntryPropertyAnnotations(entry.getClass()));
+		}
+
+		return null;
+	}
+
+	protected MergeEntry prepareMergeEntry(Object entry, boolean isSchemaUpdate, boolean isConfigurationUpdate, AttributeModificationType schemaModificationType) {
+		return prepareMergeEntry(entry, isSchemaUpdate, isConfigurationUpdate, schemaModificationType, null);
+	}
+
+	/**
+	 * Prepare modifications of entry. Attributes which were loaded before are used
+	 * instead of loading untracked entry
+	 */
+	@SuppressWarnings("unchecked")
+	protected MergeEntry prepareMergeEntry(Object entry, boolean isSchemaUpdate, boolean isConfigurationUpdate, AttributeModificationType schemaModificationType,
+			List<AttributeData> loadedAttributes) {
 		if (entry == null) {
 			throw new MappingException("Entry to persist is null");
 		}
@@ -225,12 +535,25 @@ public abstract class BaseEntryManager implements PersistenceEntryManager {
 		List<AttributeData> attributesToPersist = getAttributesListForPersist(entry, propertiesAnnotations);
 		Map<String, AttributeData> attributesToPersistMap = getAttributesMap(attributesToPersist);
 
+		EntryMapping entryMapping = getEntryMapping(entryClass, propertiesAnnotations);
+
+		// Snapshot is removed before update. It will be recreated after successful update only
+		EntrySnapshot entrySnapshot = null;
+		if (!isSchemaUpdate && !forceUpdate) {
+			entrySnapshot = trackedEntries.remove(entry);
+		}
+
 		// Load entry
 		List<AttributeData> attributesFromLdap = null;
 		if (isSchemaUpdate || forceUpdate) {
 			// If it's schema modification request we don't need to load
 			// attributes from LDAP
 			attributesFromLdap = new ArrayList<AttributeData>();
+		} else if (isEntrySnapshotApplicable(entrySnapshot, dnValue.toString(), entryMapping, attributesToPersistMap)) {
+			// Entry is tracked. Use attributes from snapshot instead of loading them
+			attributesFromLdap = entrySnapshot.getAttributes();
+		} else if (loadedAttributes != null) {
+			attributesFromLdap = loadedAttributes;
 		} else {
 			List<String> currentLdapReturnAttributesList = buildAttributesListForUpdate(entry, objectClasses, propertiesAnnotations);
 			if (!isConfigurationUpdate) {
@@ -251,7 +574,7 @@ public abstract class BaseEntryManager implements PersistenceEntryManager {
 
 		// Process properties with Attribute annotation
 		List<AttributeDataModification> attributeDataModifications = collectAttributeModifications(
-				propertiesAnnotations, attributesToPersistMap, attributesFromLdapMap, isSchemaUpdate,
+				entryMapping, attributesToPersistMap, attributesFromLdapMap, isSchemaUpdate,
 				schemaModificationType, forceUpdate);
 
 		if (LOG.isTraceEnabled()) {
@@ -266,9 +589,192 @@ public abstract class BaseEntryManager implements PersistenceEntryManager {
 
 		LOG.debug(String.format("LDAP attributes for merge: %s", attributeDataModifications));
 
-		merge(dnValue.toString(), objectClasses, attributeDataModifications, expirationValue);
+		return new MergeEntry(dnValue.toString(), objectClasses, attributeDataModifications, expirationValue, entrySnapshot != null);
+	}
+
+	/**
+	 * Prepare modifications of entry for bulk merge
+	 */
+	protected MergeEntry prepareMergeEntry(Object entry) {
+		if (entry == null) {
+			throw new MappingException("Entry to persist is null");
+		}
 
-		return null;
+		Class<?> entryClass = entry.getClass();
+		checkEntryClass(entryClass, true);
+		if (isSchemaEntry(entryClass)) {
+			throw new UnsupportedOperationException("Bulk merge of schema entries is not supported");
+		}
+
+		return prepareMergeEntry(entry, false, false, null);
+	}
+
+	@Override
+	public <T> BulkOperationResult<T> mergeAll(Collection<T> entries) {
+		if (entries == null) {
+			throw new MappingException("Entries to merge is null");
+		}
+
+		int currentBatchSize = persistBatchSize > 0 ? persistBatchSize : DEFAULT_PERSIST_BATCH_SIZE;
+
+		BulkOperationResult<T> result = new BulkOperationResult<T>();
+		List<T> batchEntries = new ArrayList<T>(Math.min(currentBatchSize, entries.size()));
+		List<MergeEntry> batchMergeEntries = new ArrayList<MergeEntry>(Math.min(currentBatchSize, entries.size()));
+		for (T entry : entries) {
+			try {
+				batchMergeEntries.add(prepareMergeEntry(entry));
+				batchEntries.add(entry);
+			} catch (RuntimeException ex) {
+				result.addFailure(entry, ex);
+			}
+
+			if (batchMergeEntries.size() >= currentBatchSize) {
+				mergeBatch(batchEntries, batchMergeEntries, result);
+			}
+		}
+
+		if (batchMergeEntries.size() > 0) {
+			mergeBatch(batchEntries, batchMergeEntries, result);
+		}
+
+		return result;
+	}
+
+	private <T> void mergeBatch(List<T> batchEntries, List<MergeEntry> batchMergeEntries, BulkOperationResult<T> result) {
+		try {
+			merge(batchMergeEntries);
+		} catch (RuntimeException ex) {
+			// Batch failed as whole
+			for (MergeEntry mergeEntry : batchMergeEntries) {
+				if (mergeEntry.getError() == null) {
+					mergeEntry.setError(ex);
+				}
+			}
+		} finally {
+			for (int i = 0; i < batchEntries.size(); i++) {
+				T entry = batchEntries.get(i);
+				MergeEntry mergeEntry = batchMergeEntries.get(i);
+				if (mergeEntry.getError() == null) {
+					result.addSucceeded(entry);
+					if (mergeEntry.isTrackChanges()) {
+						trackEntry(entry, entry.getClass(), getEntryPropertyAnnotations(entry.getClass()));
+					}
+				} else {
+					result.addFailure(entry, mergeEntry.getError());
+				}
+
+				invalidateCaches(mergeEntry.getDn(), entry.getClass());
+			}
+
+			batchEntries.clear();
+			batchMergeEntries.clear();
+		}
+	}
+
+	/**
+	 * Update batch of entries. Backends which support batch writes should override
+	 * it. Implementation should set error of each entry which was not updated
+	 */
+	protected void merge(List<MergeEntry> mergeEntries) {
+		for (MergeEntry mergeEntry : mergeEntries) {
+			try {
+				merge(mergeEntry.getDn(), mergeEntry.getObjectClasses(), mergeEntry.getAttributeDataModifications(), mergeEntry.getExpiration());
+			} catch (RuntimeException ex) {
+				mergeEntry.setError(ex);
+			}
+		}
+	}
+
+	/*
+	 * Snapshot doesn't contain attributes with ignoreDuringRead = true because they are not loaded.
+	 * Hence it can't be used to update these attributes
+	 */
+	private boolean isEntrySnapshotApplicable(EntrySnapshot entrySnapshot, String dn, EntryMapping entryMapping,
+			Map<String, AttributeData> attributesToPersistMap) {
+		if ((entrySnapshot == null) || !StringHelper.equalsIgnoreCase(entrySnapshot.getDn(), dn)) {
+			return false;
+		}
+
+		for (PropertyMapping propertyMapping : entryMapping.getAttributeProperties()) {
+			if (propertyMapping.isIgnoreDuringRead() && !propertyMapping.isIgnoreDuringUpdate()
+					&& attributesToPersistMap.containsKey(propertyMapping.getAttributeNameLowerCase())) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Keep snapshot of entries loaded with all attributes if entry class is
+	 * annotated with {@link DataEntry#trackChanges()}
+	 */
+	protected <T> void trackEntries(Class<T> entryClass, List<T> entries, String[] ldapReturnAttributes) {
+		if ((entries == null) || entries.isEmpty() || ArrayHelper.isNotEmpty(ldapReturnAttributes) || !isUseEntryTrackChanges(entryClass)) {
+			return;
+		}
+
+		List<PropertyAnnotation> propertiesAnnotations = getEntryPropertyAnnotations(entryClass);
+		for (T entry : entries) {
+			trackEntry(entry, entryClass, propertiesAnnotations);
+		}
+	}
+
+	private void trackEntry(Object entry, Class<?> entryClass, List<PropertyAnnotation> propertiesAnnotations) {
+		trackedEntries.put(entry, createEntrySnapshot(entry, entryClass, propertiesAnnotations));
+	}
+
+	private EntrySnapshot createEntrySnapshot(Object entry, Class<?> entryClass, List<PropertyAnnotation> propertiesAnnotations) {
+		Object dnValue = getDNValue(entry, entryClass);
+
+		List<AttributeData> attributes = getAttributesListForPersist(entry, propertiesAnnotations);
+		List<AttributeData> snapshotAttributes = new ArrayList<AttributeData>(attributes.size() + 1);
+		for (AttributeData attribute : attributes) {
+			if (!isEmptyAttributeValues(attribute)) {
+				snapshotAttributes.add(copyAttributeData(attribute));
+			}
+		}
+		snapshotAttributes.add(new AttributeData(OBJECT_CLASS, getObjectClasses(entry, entryClass)));
+
+		return new EntrySnapshot(dnValue.toString(), snapshotAttributes);
+	}
+
+	private List<AttributeData> copyAttributesData(List<AttributeData> attributes) {
+		List<AttributeData> result = new ArrayList<AttributeData>(attributes.size());
+		for (AttributeData attribute : attributes) {
+			result.add(copyAttributeData(attribute));
+		}
+
+		return result;
+	}
+
+	/*
+	 * Entry might share arrays and mutable values with attribute
+	 */
+	private AttributeData copyAttributeData(AttributeData attribute) {
+		if (attribute.getValues() == null) {
+			return new AttributeData(attribute.getName(), (Object[]) null, attribute.getMultiValued());
+		}
+
+		Object[] values = attribute.getValues().clone();
+		for (int i = 0; i < values.length; i++) {
+			if (values[i] instanceof Date) {
+				values[i] = ((Date) values[i]).clone();
+			}
+		}
+
+		return new AttributeData(attribute.getName(), values, attribute.getMultiValued());
+	}
+
+	/**
+	 * Stop tracking entry changes. Next merge of this entry will load it from DB
+	 */
+	public void untrackEntry(Object entry) {
+		trackedEntries.remove(entry);
+	}
+
+	public boolean isTrackedEntry(Object entry) {
+		return trackedEntries.get(entry) != null;
 	}
 
 	protected List<String> buildAttributesListForUpdate(Object entry, String[] objectClasses, List<PropertyAnnotation> propertiesAnnotations) {
@@ -280,216 +786,638 @@ public abstract class BaseEntryManager implements PersistenceEntryManager {
 			List<AttributeDataModification> attributeDataModifications, boolean forceUpdate);
 
 	protected List<AttributeDataModification> collectAttributeModifications(
-			List<PropertyAnnotation> propertiesAnnotations, Map<String, AttributeData> attributesToPersistMap,
+			EntryMapping entryMapping, Map<String, AttributeData> attributesToPersistMap,
 			Map<String, AttributeData> attributesFromLdapMap, boolean isSchemaUpdate,
 			AttributeModificationType schemaModificationType, boolean forceUpdate) {
 		List<AttributeDataModification> attributeDataModifications = new ArrayList<AttributeDataModification>();
 
-		for (PropertyAnnotation propertiesAnnotation : propertiesAnnotations) {
-			String propertyName = propertiesAnnotation.getPropertyName();
-			Annotation ldapAttribute;
-
-			ldapAttribute = ReflectHelper.getAnnotationByType(propertiesAnnotation.getAnnotations(),
-					AttributeName.class);
-			if (ldapAttribute != null) {
-				String ldapAttributeName = ((AttributeName) ldapAttribute).name();
-				if (StringHelper.isEmpty(ldapAttributeName)) {
-					ldapAttributeName = propertyName;
-				}
-				ldapAttributeName = ldapAttributeName.toLowerCase();
+		for (PropertyMapping propertyMapping : entryMapping.getAttributeProperties()) {
+			String ldapAttributeName = propertyMapping.getAttributeNameLowerCase();
 
-				AttributeData attributeToPersist = attributesToPersistMap.get(ldapAttributeName);
-				AttributeData attributeFromLdap = attributesFromLdapMap.get(ldapAttributeName);
+			// Remove processed attributes
+			AttributeData attributeToPersist = attributesToPersistMap.remove(ldapAttributeName);
+			AttributeData attributeFromLdap = attributesFromLdapMap.remove(ldapAttributeName);
 
-				// Remove processed attributes
-				attributesToPersistMap.remove(ldapAttributeName);
-				attributesFromLdapMap.remove(ldapAttributeName);
+			AttributeName ldapAttributeAnnotation = propertyMapping.getAttributeAnnotation();
+			if (ldapAttributeAnnotation.ignoreDuringUpdate()) {
+				continue;
+			}
 
-				AttributeName ldapAttributeAnnotation = (AttributeName) ldapAttribute;
-				if (ldapAttributeAnnotation.ignoreDuringUpdate()) {
+			if (attributeFromLdap != null && attributeToPersist != null) {
+				// Modify DN entry attribute in DS
+				if (!attributeFromLdap.equals(attributeToPersist)) {
+					if (isEmptyAttributeValues(attributeToPersist) && !ldapAttributeAnnotation.updateOnly()) {
+						attributeDataModifications.add(new AttributeDataModification(
+								AttributeModificationType.REMOVE, null, attributeFromLdap));
+					} else {
+						attributeDataModifications.add(new AttributeDataModification(
+								AttributeModificationType.REPLACE, attributeToPersist, attributeFromLdap));
+					}
+				}
+			} else if ((attributeFromLdap == null) && (attributeToPersist != null)) {
+				// Add entry attribute or change schema
+				if (isSchemaUpdate && (attributeToPersist.getValue() == null
+						&& Arrays.equals(attributeToPersist.getValues(), new Object[] {}))) {
 					continue;
 				}
-
-				if (attributeFromLdap != null && attributeToPersist != null) {
-					// Modify DN entry attribute in DS
-					if (!attributeFromLdap.equals(attributeToPersist)) {
-						if (isEmptyAttributeValues(attributeToPersist) && !ldapAttributeAnnotation.updateOnly()) {
-							attributeDataModifications.add(new AttributeDataModification(
-									AttributeModificationType.REMOVE, null, attributeFromLdap));
-						} else {
-							attributeDataModifications.add(new AttributeDataModification(
-									AttributeModificationType.REPLACE, attributeToPersist, attributeFromLdap));
-						}
-					}
-				} else if ((attributeFromLdap == null) && (attributeToPersist != null)) {
-					// Add entry attribute or change schema
-					if (isSchemaUpdate && (attributeToPersist.getValue() == null
-							&& Arrays.equals(attributeToPersist.getValues(), new Object[] {}))) {
-						continue;
-					}
-					AttributeModificationType modType = isSchemaUpdate ? schemaModificationType
-							: AttributeModificationType.ADD;
-					if (AttributeModificationType.ADD == modType) {
-						if (isEmptyAttributeValues(attributeToPersist)) {
-							if (forceUpdate) {
-								attributeDataModifications.add(new AttributeDataModification(AttributeModificationType.REMOVE,
-										null, attributeToPersist));
-							}
-						} else {
-							modType = forceUpdate ? AttributeModificationType.FORCE_UPDATE : modType;
-							attributeDataModifications.add(
-									new AttributeDataModification(modType, attributeToPersist));
+				AttributeModificationType modType = isSchemaUpdate ? schemaModificationType
+						: AttributeModificationType.ADD;
+				if (AttributeModificationType.ADD == modType) {
+					if (isEmptyAttributeValues(attributeToPersist)) {
+						if (forceUpdate) {
+							attributeDataModifications.add(new AttributeDataModification(AttributeModificationType.REMOVE,
+									null, attributeToPersist));
 						}
 					} else {
-						attributeDataModifications.add(new AttributeDataModification(AttributeModificationType.REMOVE,
-								null, attributeToPersist));
+						modType = forceUpdate ? AttributeModificationType.FORCE_UPDATE : modType;
+						attributeDataModifications.add(
+								new AttributeDataModification(modType, attributeToPersist));
 					}
-				} else if ((attributeFromLdap != null) && (attributeToPersist == null)) {
-					// Remove if attribute not marked as ignoreDuringRead = true
-					// or updateOnly = true
-					if (!ldapAttributeAnnotation.ignoreDuringRead() && !ldapAttributeAnnotation.updateOnly()) {
-						if (isEmptyAttributeValues(attributeFromLdap) && isStoreFullEntry()) {
-							// It's RDBS case. We don't need to set null to already empty table cell
-							continue;
-						}
-						attributeDataModifications.add(new AttributeDataModification(AttributeModificationType.REMOVE,
-								null, attributeFromLdap));
+				} else {
+					attributeDataModifications.add(new AttributeDataModification(AttributeModificationType.REMOVE,
+							null, attributeToPersist));
+				}
+			} else if ((attributeFromLdap != null) && (attributeToPersist == null)) {
+				// Remove if attribute not marked as ignoreDuringRead = true
+				// or updateOnly = true
+				if (!ldapAttributeAnnotation.ignoreDuringRead() && !ldapAttributeAnnotation.updateOnly()) {
+					if (isEmptyAttributeValues(attributeFromLdap) && isStoreFullEntry()) {
+						// It's RDBS case. We don't need to set null to already empty table cell
+						continue;
 					}
-				} else if (forceUpdate && (attributeFromLdap == null) && (attributeToPersist == null)) {
 					attributeDataModifications.add(new AttributeDataModification(AttributeModificationType.REMOVE,
-							null, new AttributeData(ldapAttributeName, null)));
+							null, attributeFromLdap));
 				}
+			} else if (forceUpdate && (attributeFromLdap == null) && (attributeToPersist == null)) {
+				attributeDataModifications.add(new AttributeDataModification(AttributeModificationType.REMOVE,
+						null, new AttributeData(ldapAttributeName, null)));
 			}
 		}
 
 		// Process properties with @AttributesList annotation
-		for (PropertyAnnotation propertiesAnnotation : propertiesAnnotations) {
-			Annotation ldapAttribute;
-			ldapAttribute = ReflectHelper.getAnnotationByType(propertiesAnnotation.getAnnotations(),
-					AttributesList.class);
-			if (ldapAttribute != null) {
-				Map<String, AttributeName> ldapAttributesConfiguration = new HashMap<String, AttributeName>();
-				for (AttributeName ldapAttributeConfiguration : ((AttributesList) ldapAttribute)
-						.attributesConfiguration()) {
-					ldapAttributesConfiguration.put(ldapAttributeConfiguration.name(), ldapAttributeConfiguration);
+		for (AttributesListMapping attributesListMapping : entryMapping.getAttributesListProperties()) {
+			Map<String, AttributeName> ldapAttributesConfiguration = attributesListMapping.getAttributesConfiguration();
+
+			// Prepare attributes for removal
+			for (AttributeData attributeFromLdap : attributesFromLdapMap.values()) {
+				String attributeName = attributeFromLdap.getName();
+				if (OBJECT_CLASS.equalsIgnoreCase(attributeName)) {
+					continue;
 				}
 
-				// Prepare attributes for removal
-				for (AttributeData attributeFromLdap : attributesFromLdapMap.values()) {
-					String attributeName = attributeFromLdap.getName();
-					if (OBJECT_CLASS.equalsIgnoreCase(attributeName)) {
-						continue;
+				AttributeName ldapAttributeConfiguration = ldapAttributesConfiguration.get(attributeName);
+				if ((ldapAttributeConfiguration != null) && ldapAttributeConfiguration.ignoreDuringUpdate()) {
+					continue;
+				}
+
+				if (!attributesToPersistMap.containsKey(attributeName.toLowerCase())) {
+					// Remove if attribute not marked as ignoreDuringRead = true
+					if ((ldapAttributeConfiguration == null) || ((ldapAttributeConfiguration != null)
+							&& !ldapAttributeConfiguration.ignoreDuringRead())) {
+						attributeDataModifications.add(new AttributeDataModification(
+								AttributeModificationType.REMOVE, null, attributeFromLdap));
 					}
+				}
+			}
+
+			// Prepare attributes for adding and replace
+			for (AttributeData attributeToPersist : attributesToPersistMap.values()) {
+				String attributeName = attributeToPersist.getName();
+
+				AttributeName ldapAttributeConfiguration = ldapAttributesConfiguration.get(attributeName);
+				if ((ldapAttributeConfiguration != null) && ldapAttributeConfiguration.ignoreDuringUpdate()) {
+					continue;
+				}
 
-					AttributeName ldapAttributeConfiguration = ldapAttributesConfiguration.get(attributeName);
-					if ((ldapAttributeConfiguration != null) && ldapAttributeConfiguration.ignoreDuringUpdate()) {
+				AttributeData attributeFromLdap = attributesFromLdapMap.get(attributeName.toLowerCase());
+				if (attributeFromLdap == null) {
+					// Add entry attribute or change schema
+					AttributeModificationType modType = isSchemaUpdate ? schemaModificationType
+							: AttributeModificationType.ADD;
+					if (AttributeModificationType.ADD.equals(modType)) {
+						if (!isEmptyAttributeValues(attributeToPersist)) {
+							attributeDataModifications.add(new AttributeDataModification(
+									AttributeModificationType.ADD, attributeToPersist));
+						}
+					} else {
+						attributeDataModifications.add(new AttributeDataModification(
+								AttributeModificationType.REMOVE, null, attributeToPersist));
+					}
+				} else if ((attributeFromLdap != null) && isEmptyAttributeValues(attributeToPersist)) {
+					if (isEmptyAttributeValues(attributeFromLdap) && isStoreFullEntry()) {
+						// It's RDBS case. We don't need to set null to already empty table cell
 						continue;
 					}
 
-					if (!attributesToPersistMap.containsKey(attributeName.toLowerCase())) {
-						// Remove if attribute not marked as ignoreDuringRead = true
-						if ((ldapAttributeConfiguration == null) || ((ldapAttributeConfiguration != null)
-								&& !ldapAttributeConfiguration.ignoreDuringRead())) {
+					attributeDataModifications.add(new AttributeDataModification(AttributeModificationType.REMOVE,
+							null, attributeFromLdap));
+				} else {
+					if (!attributeFromLdap.equals(attributeToPersist)) {
+						if (isEmptyAttributeValues(attributeToPersist)
+								&& (ldapAttributeConfiguration == null || !ldapAttributeConfiguration.updateOnly())) {
+							if (isEmptyAttributeValues(attributeFromLdap) && isStoreFullEntry()) {
+								// It's RDBS case. We don't need to set null to already empty table cell
+								continue;
+							}
+
 							attributeDataModifications.add(new AttributeDataModification(
 									AttributeModificationType.REMOVE, null, attributeFromLdap));
+						} else {
+							attributeDataModifications.add(new AttributeDataModification(
+									AttributeModificationType.REPLACE, attributeToPersist, attributeFromLdap));
 						}
 					}
 				}
+			}
+
+		}
 
-				// Prepare attributes for adding and replace
-				for (AttributeData attributeToPersist : attributesToPersistMap.values()) {
-					String attributeName = attributeToPersist.getName();
+		return attributeDataModifications;
+	}
 
-					AttributeName ldapAttributeConfiguration = ldapAttributesConfiguration.get(attributeName);
-					if ((ldapAttributeConfiguration != null) && ldapAttributeConfiguration.ignoreDuringUpdate()) {
-						continue;
+	protected boolean isStoreFullEntry() {
+		return false;
+	}
+
+	protected boolean isEmptyAttributeValues(AttributeData attributeData) {
+		Object[] attributeToPersistValues = attributeData.getValues();
+
+		return ArrayHelper.isEmpty(attributeToPersistValues)
+				|| ((attributeToPersistValues.length == 1) && StringHelper.isEmpty(String.valueOf(attributeToPersistValues[0])));
+	}
+
+	protected abstract void merge(String dn, String[] objectClasses, List<AttributeDataModification> attributeDataModifications, Integer expiration);
+
+	protected abstract <T> void removeByDn(String dn, String[] objectClasses);
+
+	/**
+	 * Remove entry without blocking caller thread. Backends with async API
+	 * override it. By default entry is removed on async operation executor
+	 */
+	protected CompletableFuture<Void> removeByDnAsync(String dn, String[] objectClasses) {
+		return asyncOperationExecutor.execute(() -> {
+			removeByDn(dn, objectClasses);
+			return null;
+		});
+	}
+
+	@Deprecated
+	public void remove(String primaryKey) {
+		UnitOfWorkImpl unitOfWork = getBufferingUnitOfWork();
+		if (unitOfWork != null) {
+			bufferRemove(unitOfWork, primaryKey, null);
+			return;
+		}
+
+		try {
+			removeByDn(primaryKey, null);
+		} finally {
+			invalidateCaches(primaryKey, null);
+		}
+	}
+
+	@Override
+	public <T> void remove(String primaryKey, Class<T> entryClass) {
+		String[] objectClasses = null;
+		
+		if (entryClass != null) {
+			// Check entry class
+			checkEntryClass(entryClass, false);
+			objectClasses = getTypeObjectClasses(entryClass);
+		}
+
+		UnitOfWorkImpl unitOfWork = getBufferingUnitOfWork();
+		if (unitOfWork != null) {
+			bufferRemove(unitOfWork, primaryKey, entryClass);
+			return;
+		}
+
+		try {
+			removeByDn(primaryKey, objectClasses);
+		} finally {
+			invalidateCaches(primaryKey, entryClass);
+		}
+	}
+
+	@Override
+	public <T> BulkOperationResult<String> removeAll(Class<T> entryClass, Collection<String> dns) {
+		if (dns == null) {
+			throw new MappingException("DNs to remove entries is null");
+		}
+
+		// Check entry class
+		checkEntryClass(entryClass, false);
+		String[] objectClasses = getTypeObjectClasses(entryClass);
+
+		// Each DN is removed once even if it's specified few times
+		Set<String> uniqueDns = new LinkedHashSet<String>(dns);
+		for (String dn : uniqueDns) {
+			if (StringHelper.isEmpty(dn)) {
+				throw new MappingException("DN to remove entry is null");
+			}
+		}
+
+		int currentBatchSize = persistBatchSize > 0 ? persistBatchSize : DEFAULT_PERSIST_BATCH_SIZE;
+
+		BulkOperationResult<String> result = new BulkOperationResult<String>();
+		List<String> removeDns = new ArrayList<String>(uniqueDns);
+		for (int start = 0; start < removeDns.size(); start += currentBatchSize) {
+			removeBatch(entryClass, objectClasses, removeDns.subList(start, Math.min(start + currentBatchSize, removeDns.size())), result);
+		}
+
+		return result;
+	}
+
+	private void removeBatch(Class<?> entryClass, String[] objectClasses, List<String> batchDns, BulkOperationResult<? super String> result) {
+		Map<String, Exception> errors;
+		try {
+			errors = removeByDns(batchDns, objectClasses);
+		} catch (RuntimeException ex) {
+			// Batch failed as whole
+			errors = new HashMap<String, Exception>();
+			for (String dn : batchDns) {
+				errors.put(dn, ex);
+			}
+		}
+
+		for (String dn : batchDns) {
+			Exception error = errors.get(dn);
+			if (error == null) {
+				result.addSucceeded(dn);
+			} else {
+				result.addFailure(dn, error);
+			}
+
+			invalidateCaches(dn, entryClass);
+		}
+	}
+
+	@Override
+	public UnitOfWork beginUnitOfWork() {
+		if (currentUnitOfWork.get() != null) {
+			throw new IllegalStateException("Unit of work is already active in current thread");
+		}
+
+		UnitOfWork unitOfWork = createUnitOfWork();
+		currentUnitOfWork.set(unitOfWork);
+
+		return unitOfWork;
+	}
+
+	protected UnitOfWork createUnitOfWork() {
+		return new UnitOfWorkImpl(this);
+	}
+
+	@Override
+	public UnitOfWork getUnitOfWork() {
+		return currentUnitOfWork.get();
+	}
+
+	protected void endUnitOfWork(UnitOfWork unitOfWork) {
+		if (currentUnitOfWork.get() == unitOfWork) {
+			currentUnitOfWork.remove();
+		}
+	}
+
+	@Override
+	public void flush() {
+		UnitOfWork unitOfWork = currentUnitOfWork.get();
+		if (unitOfWork != null) {
+			unitOfWork.flush();
+		}
+	}
+
+	@Override
+	public EntityTransaction getTransaction() {
+		return transaction;
+	}
+
+	private UnitOfWorkImpl getBufferingUnitOfWork() {
+		UnitOfWork unitOfWork = currentUnitOfWork.get();
+		if (unitOfWork instanceof UnitOfWorkImpl) {
+			return (UnitOfWorkImpl) unitOfWork;
+		}
+
+		return null;
+	}
+
+	/*
+	 * Remove which backend can't execute is rejected before buffering. Otherwise it fails whole flush
+	 */
+	private void bufferRemove(UnitOfWorkImpl unitOfWork, String primaryKey, Class<?> entryClass) {
+		if ((entryClass == null) && isEntryClassRequiredForRemove()) {
+			throw new UnsupportedOperationException("Entry class is manadatory for remove operation!");
+		}
+
+		unitOfWork.remove(primaryKey, entryClass);
+	}
+
+	/**
+	 * Backends which need object classes of entry to remove it override it
+	 */
+	protected boolean isEntryClassRequiredForRemove() {
+		return false;
+	}
+
+	private String getBufferedEntryDn(Object entry) {
+		if (entry == null) {
+			throw new MappingException("Entry to persist is null");
+		}
+
+		// Validate entry before buffering to report mapping errors to caller
+		Class<?> entryClass = entry.getClass();
+		checkEntryClass(entryClass, false);
+
+		return getDNValue(entry, entryClass).toString();
+	}
+
+	/**
+	 * Send buffered operations of unit of work to DB with one backend write. If
+	 * one of operations can't be prepared nothing is written
+	 */
+	BulkOperationResult<UnitOfWorkImpl.PendingOperation> flush(List<UnitOfWorkImpl.PendingOperation> operations) {
+		BulkOperationResult<UnitOfWorkImpl.PendingOperation> result = new BulkOperationResult<UnitOfWorkImpl.PendingOperation>();
+
+		Map<String, List<AttributeData>> loadedEntries = loadEntriesForMerge(operations);
+
+		List<PersistEntry> persistEntries = new ArrayList<PersistEntry>();
+		List<MergeEntry> mergeEntries = new ArrayList<MergeEntry>();
+		List<RemoveEntry> removeEntries = new ArrayList<RemoveEntry>();
+		List<Exception> errors = new ArrayList<Exception>(operations.size());
+		List<List<MergeEntry>> operationMergeEntries = new ArrayList<List<MergeEntry>>(operations.size());
+		boolean prepared = true;
+		for (UnitOfWorkImpl.PendingOperation operation : operations) {
+			List<MergeEntry> instanceMergeEntries = null;
+			try {
+				if (UnitOfWorkImpl.OperationType.PERSIST == operation.getType()) {
+					PersistEntry persistEntry = preparePersistEntry(operation.getEntry());
+					persistEntries.add(persistEntry);
+				} else if (UnitOfWorkImpl.OperationType.MERGE == operation.getType()) {
+					// Each merged instance is compared with same entry state
+					List<AttributeData> loadedAttributes = loadedEntries.get(StringHelper.toLowerCase(operation.getDn()));
+					instanceMergeEntries = new ArrayList<MergeEntry>(operation.getEntries().size());
+					for (Object entry : operation.getEntries()) {
+						instanceMergeEntries.add(prepareMergeEntry(entry, false, operation.isConfigurationUpdate(), null, loadedAttributes));
 					}
+					mergeEntries.add(combineMergeEntries(instanceMergeEntries));
+				} else {
+					Class<?> entryClass = operation.getEntryClass();
+					removeEntries.add(new RemoveEntry(operation.getDn(), entryClass == null ? null : getTypeObjectClasses(entryClass)));
+				}
+				errors.add(null);
+			} catch (RuntimeException ex) {
+				errors.add(ex);
+				prepared = false;
+			}
+			operationMergeEntries.add(instanceMergeEntries);
+		}
 
-					AttributeData attributeFromLdap = attributesFromLdapMap.get(attributeName.toLowerCase());
-					if (attributeFromLdap == null) {
-						// Add entry attribute or change schema
-						AttributeModificationType modType = isSchemaUpdate ? schemaModificationType
-								: AttributeModificationType.ADD;
-						if (AttributeModificationType.ADD.equals(modType)) {
-							if (!isEmptyAttributeValues(attributeToPersist)) {
-								attributeDataModifications.add(new AttributeDataModification(
-										AttributeModificationType.ADD, attributeToPersist));
-							}
-						} else {
-							attributeDataModifications.add(new AttributeDataModification(
-									AttributeModificationType.REMOVE, null, attributeToPersist));
-						}
-					} else if ((attributeFromLdap != null) && isEmptyAttributeValues(attributeToPersist)) {
-						if (isEmptyAttributeValues(attributeFromLdap) && isStoreFullEntry()) {
-							// It's RDBS case. We don't need to set null to already empty table cell
-							continue;
-						}
+		if (prepared) {
+			try {
+				write(persistEntries, mergeEntries, removeEntries);
+			} catch (RuntimeException ex) {
+				// Write failed as whole
+				setErrors(persistEntries, mergeEntries, removeEntries, ex);
+			}
+		}
+
+		Set<Class<?>> entryClasses = new HashSet<Class<?>>();
+		int persistIndex = 0, mergeIndex = 0, removeIndex = 0;
+		for (int i = 0; i < operations.size(); i++) {
+			UnitOfWorkImpl.PendingOperation operation = operations.get(i);
+			Exception error = errors.get(i);
+			if (error == null) {
+				if (UnitOfWorkImpl.OperationType.PERSIST == operation.getType()) {
+					error = persistEntries.get(persistIndex++).getError();
+				} else if (UnitOfWorkImpl.OperationType.MERGE == operation.getType()) {
+					error = mergeEntries.get(mergeIndex++).getError();
+				} else {
+					error = removeEntries.get(removeIndex++).getError();
+				}
+			}
 
-						attributeDataModifications.add(new AttributeDataModification(AttributeModificationType.REMOVE,
-								null, attributeFromLdap));
-					} else {
-						if (!attributeFromLdap.equals(attributeToPersist)) {
-							if (isEmptyAttributeValues(attributeToPersist)
-									&& (ldapAttributeConfiguration == null || !ldapAttributeConfiguration.updateOnly())) {
-								if (isEmptyAttributeValues(attributeFromLdap) && isStoreFullEntry()) {
-									// It's RDBS case. We don't need to set null to already empty table cell
-									continue;
-								}
-
-								attributeDataModifications.add(new AttributeDataModification(
-										AttributeModificationType.REMOVE, null, attributeFromLdap));
-							} else {
-								attributeDataModifications.add(new AttributeDataModification(
-										AttributeModificationType.REPLACE, attributeToPersist, attributeFromLdap));
-							}
+			if (error != null) {
+				result.addFailure(operation, error);
+			} else if (prepared) {
+				result.addSucceeded(operation);
+
+				List<MergeEntry> instanceMergeEntries = operationMergeEntries.get(i);
+				if (instanceMergeEntries != null) {
+					for (int j = 0; j < instanceMergeEntries.size(); j++) {
+						if (instanceMergeEntries.get(j).isTrackChanges()) {
+							Object entry = operation.getEntries().get(j);
+							trackEntry(entry, entry.getClass(), getEntryPropertyAnnotations(entry.getClass()));
 						}
 					}
 				}
+			}
 
+			entryCache.invalidate(operation.getDn());
+			negativeEntryCache.invalidate(operation.getDn());
+			requestCoalescer.invalidate(operation.getDn());
+			if (entryClasses.add(operation.getEntryClass())) {
+				if (operation.getEntryClass() == null) {
+					queryCache.clear();
+				} else {
+					queryCache.invalidate(operation.getEntryClass(), getTypeObjectClasses(operation.getEntryClass()));
+				}
 			}
 		}
 
-		return attributeDataModifications;
+		return result;
 	}
 
-	protected boolean isStoreFullEntry() {
-		return false;
+	/*
+	 * Modifications of later instance of entry replace modifications of same attribute made by earlier instances
+	 */
+	private MergeEntry combineMergeEntries(List<MergeEntry> instanceMergeEntries) {
+		MergeEntry lastMergeEntry = instanceMergeEntries.get(instanceMergeEntries.size() - 1);
+		if (instanceMergeEntries.size() == 1) {
+			return lastMergeEntry;
+		}
+
+		Map<String, AttributeDataModification> attributeDataModifications = new LinkedHashMap<String, AttributeDataModification>();
+		for (MergeEntry mergeEntry : instanceMergeEntries) {
+			for (AttributeDataModification attributeDataModification : mergeEntry.getAttributeDataModifications()) {
+				AttributeData attribute = attributeDataModification.getAttribute() == null ? attributeDataModification.getOldAttribute()
+						: attributeDataModification.getAttribute();
+				attributeDataModifications.put(StringHelper.toLowerCase(attribute.getName()), attributeDataModification);
+			}
+		}
+
+		return new MergeEntry(lastMergeEntry.getDn(), lastMergeEntry.getObjectClasses(),
+				new ArrayList<AttributeDataModification>(attributeDataModifications.values()), lastMergeEntry.getExpiration(),
+				lastMergeEntry.isTrackChanges());
+	}
+
+	/*
+	 * Merge of untracked entry needs current attributes of entry. Entries of one class are loaded with one request
+	 */
+	private Map<String, List<AttributeData>> loadEntriesForMerge(List<UnitOfWorkImpl.PendingOperation> operations) {
+		Map<List<Object>, List<String>> dnsByRequest = new LinkedHashMap<List<Object>, List<String>>();
+		for (UnitOfWorkImpl.PendingOperation operation : operations) {
+			if ((UnitOfWorkImpl.OperationType.MERGE != operation.getType()) || !isLoadForMergeRequired(operation)) {
+				continue;
+			}
+
+			try {
+				Class<?> entryClass = operation.getEntryClass();
+				checkEntryClass(entryClass, false);
+				if (isUseEntryForceUpdate(entryClass)) {
+					continue;
+				}
+
+				// Request is defined by entry class and attributes which merge of instances loads
+				Set<String> attributes = new LinkedHashSet<String>();
+				for (Object entry : operation.getEntries()) {
+					String[] objectClasses = getObjectClasses(entry, entryClass);
+					attributes.addAll(buildAttributesListForUpdate(entry, objectClasses, getEntryPropertyAnnotations(entryClass)));
+				}
+				if (!operation.isConfigurationUpdate()) {
+					attributes.add("objectClass");
+				}
+
+				List<Object> request = new ArrayList<Object>(attributes.size() + 1);
+				request.add(entryClass);
+				request.addAll(attributes);
+
+				dnsByRequest.computeIfAbsent(request, k -> new ArrayList<String>()).add(operation.getDn());
+			} catch (RuntimeException ex) {
+				// Merge reports this error
+			}
+		}
+
+		Map<String, List<AttributeData>> result = new HashMap<String, List<AttributeData>>();
+		for (Entry<List<Object>, List<String>> requestEntry : dnsByRequest.entrySet()) {
+			List<Object> request = requestEntry.getKey();
+			Class<?> entryClass = (Class<?>) request.get(0);
+			String[] attributes = request.subList(1, request.size()).toArray(EMPTY_STRING_ARRAY);
+
+			List<PropertyAnnotation> propertiesAnnotations = getEntryPropertyAnnotations(entryClass);
+			Map<String, PropertyAnnotation> propertiesAnnotationsMap = prepareEntryPropertiesTypes(entryClass, propertiesAnnotations);
+			try {
+				Map<String, List<AttributeData>> entries = findByDns(requestEntry.getValue(), getTypeObjectClasses(entryClass), propertiesAnnotationsMap, attributes);
+				for (Entry<String, List<AttributeData>> entry : entries.entrySet()) {
+					result.put(StringHelper.toLowerCase(entry.getKey()), entry.getValue());
+				}
+			} catch (RuntimeException ex) {
+				// Entries which were not loaded are loaded one by one on merge
+				LOG.debug("Failed to load entries for merge", ex);
+			}
+		}
+
+		return result;
+	}
+
+	/*
+	 * Instances of other entry class load own attributes on merge
+	 */
+	private boolean isLoadForMergeRequired(UnitOfWorkImpl.PendingOperation operation) {
+		boolean tracked = true;
+		for (Object entry : operation.getEntries()) {
+			if (entry.getClass() != operation.getEntryClass()) {
+				return false;
+			}
+			tracked &= isTrackedEntry(entry);
+		}
+
+		return !tracked;
+	}
+
+	private void setErrors(List<PersistEntry> persistEntries, List<MergeEntry> mergeEntries, List<RemoveEntry> removeEntries, Exception error) {
+		for (PersistEntry persistEntry : persistEntries) {
+			if (persistEntry.getError() == null) {
+				persistEntry.setError(error);
+			}
+		}
+		for (MergeEntry mergeEntry : mergeEntries) {
+			if (mergeEntry.getError() == null) {
+				mergeEntry.setError(error);
+			}
+		}
+		for (RemoveEntry removeEntry : removeEntries) {
+			if (removeEntry.getError() == null) {
+				removeEntry.setError(error);
+			}
+		}
 	}
 
-	protected boolean isEmptyAttributeValues(AttributeData attributeData) {
-		Object[] attributeToPersistValues = attributeData.getValues();
+	/**
+	 * Write operations of unit of work. Backends with transactions should override
+	 * it to write all operations atomically. By default each kind of operations is
+	 * sent with bulk methods. Implementation should set error of each entry which
+	 * was not written
+	 */
+	protected void write(List<PersistEntry> persistEntries, List<MergeEntry> mergeEntries, List<RemoveEntry> removeEntries) {
+		if (!persistEntries.isEmpty()) {
+			try {
+				persist(persistEntries);
+			} catch (RuntimeException ex) {
+				setErrors(persistEntries, Collections.<MergeEntry>emptyList(), Collections.<RemoveEntry>emptyList(), ex);
+			}
+		}
 
-		return ArrayHelper.isEmpty(attributeToPersistValues)
-				|| ((attributeToPersistValues.length == 1) && StringHelper.isEmpty(String.valueOf(attributeToPersistValues[0])));
-	}
+		if (!mergeEntries.isEmpty()) {
+			try {
+				merge(mergeEntries);
+			} catch (RuntimeException ex) {
+				setErrors(Collections.<PersistEntry>emptyList(), mergeEntries, Collections.<RemoveEntry>emptyList(), ex);
+			}
+		}
 
-	protected abstract void merge(String dn, String[] objectClasses, List<AttributeDataModification> attributeDataModifications, Integer expiration);
+		// Entries with same object classes are removed together
+		Map<List<String>, List<RemoveEntry>> removeEntriesByObjectClasses = new LinkedHashMap<List<String>, List<RemoveEntry>>();
+		for (RemoveEntry removeEntry : removeEntries) {
+			List<String> objectClasses = removeEntry.getObjectClasses() == null ? null : Arrays.asList(removeEntry.getObjectClasses());
+			removeEntriesByObjectClasses.computeIfAbsent(objectClasses, k -> new ArrayList<RemoveEntry>()).add(removeEntry);
+		}
 
-	protected abstract <T> void removeByDn(String dn, String[] objectClasses);
+		for (List<RemoveEntry> batchEntries : removeEntriesByObjectClasses.values()) {
+			List<String> dns = new ArrayList<String>(batchEntries.size());
+			for (RemoveEntry removeEntry : batchEntries) {
+				dns.add(removeEntry.getDn());
+			}
 
-	@Deprecated
-	public void remove(String primaryKey) {
-		removeByDn(primaryKey, null);
+			try {
+				Map<String, Exception> removeErrors = removeByDns(dns, batchEntries.get(0).getObjectClasses());
+				for (RemoveEntry removeEntry : batchEntries) {
+					removeEntry.setError(removeErrors.get(removeEntry.getDn()));
+				}
+			} catch (RuntimeException ex) {
+				setErrors(Collections.<PersistEntry>emptyList(), Collections.<MergeEntry>emptyList(), batchEntries, ex);
+			}
+		}
 	}
 
-	@Override
-	public <T> void remove(String primaryKey, Class<T> entryClass) {
-		String[] objectClasses = null;
-		
-		if (entryClass != null) {
-			// Check entry class
-			checkEntryClass(entryClass, false);
-			objectClasses = getTypeObjectClasses(entryClass);
+	/**
+	 * Remove batch of entries. Backends which support batch deletes should
+	 * override it. Implementation should notify delete subscribers about each
+	 * entry
+	 *
+	 * @return Errors of entries which were not removed by DN
+	 */
+	protected Map<String, Exception> removeByDns(List<String> dns, String[] objectClasses) {
+		Map<String, Exception> errors = new HashMap<String, Exception>();
+		for (String dn : dns) {
+			try {
+				removeByDn(dn, objectClasses);
+			} catch (RuntimeException ex) {
+				errors.put(dn, ex);
+			}
 		}
 
-		removeByDn(primaryKey, objectClasses);
+		return errors;
 	}
 
 	protected abstract <T> void removeRecursivelyFromDn(String primaryKey, String[] objectClasses);
 
 	@Deprecated
 	public void removeRecursively(String primaryKey) {
-		removeRecursivelyFromDn(primaryKey, null);
+		try {
+			removeRecursivelyFromDn(primaryKey, null);
+		} finally {
+			invalidateCaches(primaryKey, null);
+		}
 	}
 
 	@Override
@@ -502,7 +1430,12 @@ public abstract class BaseEntryManager implements PersistenceEntryManager {
 			objectClasses = getTypeObjectClasses(entryClass);
 		}
 
-		removeRecursivelyFromDn(primaryKey, objectClasses);
+		try {
+			removeRecursivelyFromDn(primaryKey, objectClasses);
+		} finally {
+			// Sub entries might have other classes
+			invalidateCaches(primaryKey, null);
+		}
 	}
 
 	@Override
@@ -532,15 +1465,23 @@ public abstract class BaseEntryManager implements PersistenceEntryManager {
 		}
 
 		checkEntryClass(entryClass, true);
+		if (negativeEntryCache.isAbsent(entryClass, primaryKey)) {
+			return false;
+		}
+
 		String[] objectClasses = getTypeObjectClasses(entryClass);
 
 		List<PropertyAnnotation> propertiesAnnotations = getEntryPropertyAnnotations(entryClass);
         Map<String, PropertyAnnotation> propertiesAnnotationsMap = prepareEntryPropertiesTypes(entryClass, propertiesAnnotations);
 
+		long invalidationStamp = negativeEntryCache.getInvalidationStamp();
         try {
 			List<AttributeData> results = find(primaryKey, objectClasses, propertiesAnnotationsMap, ldapReturnAttributes);
 			return (results != null) && (results.size() > 0);
 		} catch (EntryPersistenceException ex) {
+			if (isEntryNotFound(ex)) {
+				negativeEntryCache.put(entryClass, primaryKey, invalidationStamp);
+			}
 			return false;
 		}
 	}
@@ -593,6 +1534,208 @@ public abstract class BaseEntryManager implements PersistenceEntryManager {
 		return find(entryClass, primaryKey, ldapReturnAttributes, propertiesAnnotations, propertiesAnnotationsMap);
 	}
 
+	@Override
+	public <T> FindByDnsResult<T> findByDns(Class<T> entryClass, Collection<String> dns, String[] ldapReturnAttributes) {
+		if (dns == null) {
+			throw new MappingException("DNs to find entries is null");
+		}
+
+		checkEntryClass(entryClass, true);
+		List<PropertyAnnotation> propertiesAnnotations = getEntryPropertyAnnotations(entryClass);
+        Map<String, PropertyAnnotation> propertiesAnnotationsMap = prepareEntryPropertiesTypes(entryClass, propertiesAnnotations);
+
+		String[] currentLdapReturnAttributes = ldapReturnAttributes;
+		if (ArrayHelper.isEmpty(currentLdapReturnAttributes)) {
+			currentLdapReturnAttributes = getAttributes(null, propertiesAnnotations, false);
+		}
+
+		// Each DN is loaded once even if it's specified few times
+		Set<String> uniqueDns = new LinkedHashSet<String>(dns);
+		for (String dn : uniqueDns) {
+			if (StringHelper.isEmpty(dn)) {
+				throw new MappingException("DN to find entry is null");
+			}
+		}
+
+		// Only entries which are not in entry cache and were not found recently are loaded
+		boolean useEntryCache = isUseEntryCache(entryClass);
+		List<String> requestDns = new ArrayList<String>(uniqueDns);
+		List<String> loadDns = new ArrayList<String>(requestDns.size());
+		Map<String, List<AttributeData>> loadedEntriesAttributes = new HashMap<String, List<AttributeData>>();
+		for (String dn : requestDns) {
+			List<AttributeData> cachedAttributes = useEntryCache ? entryCache.get(entryClass, dn, ldapReturnAttributes) : null;
+			if (cachedAttributes != null) {
+				loadedEntriesAttributes.put(dn, copyAttributesData(cachedAttributes));
+			} else if (!negativeEntryCache.isAbsent(entryClass, dn)) {
+				loadDns.add(dn);
+			}
+		}
+
+		long invalidationStamp = entryCache.getInvalidationStamp();
+		long negativeInvalidationStamp = negativeEntryCache.getInvalidationStamp();
+
+		String[] objectClasses = getTypeObjectClasses(entryClass);
+		for (int start = 0; start < loadDns.size(); start += DEFAULT_PAGINATION_SIZE) {
+			List<String> chunkDns = loadDns.subList(start, Math.min(start + DEFAULT_PAGINATION_SIZE, loadDns.size()));
+			Map<String, List<AttributeData>> chunkEntriesAttributes = findByDns(chunkDns, objectClasses, propertiesAnnotationsMap, currentLdapReturnAttributes);
+			for (String dn : chunkDns) {
+				List<AttributeData> attributes = chunkEntriesAttributes.get(dn);
+				if (attributes == null) {
+					negativeEntryCache.put(entryClass, dn, negativeInvalidationStamp);
+				} else {
+					putCachedAttributes(entryClass, dn, ldapReturnAttributes, attributes, invalidationStamp);
+					loadedEntriesAttributes.put(dn, attributes);
+				}
+			}
+		}
+
+		Map<String, List<AttributeData>> entriesAttributes = new LinkedHashMap<String, List<AttributeData>>();
+		List<String> missingDns = new ArrayList<String>();
+		for (String dn : requestDns) {
+			List<AttributeData> attributes = loadedEntriesAttributes.get(dn);
+			if (attributes == null) {
+				missingDns.add(dn);
+			} else {
+				entriesAttributes.put(dn, attributes);
+			}
+		}
+
+		List<T> entries = createEntities(entryClass, propertiesAnnotations, entriesAttributes);
+		trackEntries(entryClass, entries, ldapReturnAttributes);
+
+		// Return entries in order of requested DNs
+		Map<String, T> entriesByDn = new HashMap<String, T>();
+		int index = 0;
+		for (String dn : entriesAttributes.keySet()) {
+			entriesByDn.put(dn, entries.get(index++));
+		}
+
+		List<T> results = new ArrayList<T>(dns.size());
+		for (String dn : dns) {
+			T entry = entriesByDn.get(dn);
+			if (entry != null) {
+				results.add(entry);
+			}
+		}
+
+		return new FindByDnsResult<T>(results, missingDns);
+	}
+
+	/**
+	 * Load attributes of entries by DNs. Backends which can load few entries with
+	 * one request should override it
+	 *
+	 * @return Attributes of found entries by DN. There are no absent entries in it
+	 */
+	protected Map<String, List<AttributeData>> findByDns(List<String> dns, String[] objectClasses,
+			Map<String, PropertyAnnotation> propertiesAnnotationsMap, String... attributes) {
+		Map<String, List<AttributeData>> result = new HashMap<String, List<AttributeData>>();
+		for (String dn : dns) {
+			try {
+				result.put(dn, find(dn, objectClasses, propertiesAnnotationsMap, attributes));
+			} catch (EntryPersistenceException ex) {
+				if (!isEntryNotFound(ex)) {
+					throw ex;
+				}
+			}
+		}
+
+		return result;
+	}
+
+	@Override
+	public <T> CompletableFuture<T> findAsync(Object primaryKey, Class<T> entryClass, String[] ldapReturnAttributes) {
+		try {
+			if (StringHelper.isEmptyString(primaryKey)) {
+				throw new MappingException("DN to find entry is null");
+			}
+
+			checkEntryClass(entryClass, true);
+			List<PropertyAnnotation> propertiesAnnotations = getEntryPropertyAnnotations(entryClass);
+			Map<String, PropertyAnnotation> propertiesAnnotationsMap = prepareEntryPropertiesTypes(entryClass, propertiesAnnotations);
+
+			return findAsync(entryClass, primaryKey, ldapReturnAttributes, propertiesAnnotations, propertiesAnnotationsMap);
+		} catch (RuntimeException ex) {
+			return failedFuture(ex);
+		}
+	}
+
+	@Override
+	public <T> CompletableFuture<List<T>> findEntriesAsync(String baseDN, Class<T> entryClass, Filter filter) {
+		return asyncOperationExecutor.execute(() -> findEntries(baseDN, entryClass, filter));
+	}
+
+	@Override
+	public <T> CompletableFuture<List<T>> findEntriesAsync(String baseDN, Class<T> entryClass, Filter filter, String[] ldapReturnAttributes,
+			int count) {
+		return asyncOperationExecutor.execute(() -> findEntries(baseDN, entryClass, filter, ldapReturnAttributes, count));
+	}
+
+	@Override
+	public <T> CompletableFuture<Integer> countEntriesAsync(String baseDN, Class<T> entryClass, Filter filter) {
+		return asyncOperationExecutor.execute(() -> countEntries(baseDN, entryClass, filter));
+	}
+
+	@Override
+	public CompletableFuture<Void> persistAsync(Object entry) {
+		PersistEntry persistEntry;
+		try {
+			persistEntry = preparePersistEntry(entry);
+		} catch (RuntimeException ex) {
+			return failedFuture(ex);
+		}
+
+		return persistAsync(persistEntry.getDn(), persistEntry.getObjectClasses(), persistEntry.getAttributes(), persistEntry.getExpiration())
+				.whenComplete((result, ex) -> invalidateCaches(persistEntry.getDn(), entry.getClass()));
+	}
+
+	@Override
+	public CompletableFuture<Void> mergeAsync(Object entry) {
+		return asyncOperationExecutor.execute(() -> merge(entry));
+	}
+
+	@Override
+	public CompletableFuture<Void> removeAsync(Object entry) {
+		return asyncOperationExecutor.execute(() -> {
+			remove(entry);
+			return null;
+		});
+	}
+
+	@Override
+	public <T> CompletableFuture<Void> removeAsync(String primaryKey, Class<T> entryClass) {
+		String[] objectClasses = null;
+		try {
+			if (entryClass != null) {
+				// Check entry class
+				checkEntryClass(entryClass, false);
+				objectClasses = getTypeObjectClasses(entryClass);
+			}
+		} catch (RuntimeException ex) {
+			return failedFuture(ex);
+		}
+
+		return removeByDnAsync(primaryKey, objectClasses).whenComplete((result, ex) -> invalidateCaches(primaryKey, entryClass));
+	}
+
+	protected static <V> CompletableFuture<V> failedFuture(Throwable ex) {
+		CompletableFuture<V> future = new CompletableFuture<V>();
+		future.completeExceptionally(ex);
+
+		return future;
+	}
+
+	/*
+	 * Dependent stages of async operations wrap original error
+	 */
+	protected static Throwable unwrapCompletionException(Throwable ex) {
+		if ((ex instanceof CompletionException) && (ex.getCause() != null)) {
+			return ex.getCause();
+		}
+
+		return ex;
+	}
+
 	protected <T> String[] getAttributes(T entry, List<PropertyAnnotation> propertiesAnnotations,
 			boolean isIgnoreAttributesList) {
 		List<String> attributes = getAttributesList(entry, propertiesAnnotations, isIgnoreAttributesList);
@@ -703,23 +1846,170 @@ public abstract class BaseEntryManager implements PersistenceEntryManager {
 
 	private <T> T find(Class<T> entryClass, Object primaryKey, String[] ldapReturnAttributes,
 			List<PropertyAnnotation> propertiesAnnotations, Map<String, PropertyAnnotation> propertiesAnnotationsMap) {
-		Map<String, List<AttributeData>> entriesAttributes = new HashMap<String, List<AttributeData>>();
+		String dn = primaryKey.toString();
+		List<AttributeData> ldapAttributes = getCachedAttributes(entryClass, dn, ldapReturnAttributes);
 
-		String[] currentLdapReturnAttributes = ldapReturnAttributes;
-		if (ArrayHelper.isEmpty(currentLdapReturnAttributes)) {
-			currentLdapReturnAttributes = getAttributes(null, propertiesAnnotations, false);
+		if (ldapAttributes == null) {
+			long invalidationStamp = entryCache.getInvalidationStamp();
+			long negativeInvalidationStamp = negativeEntryCache.getInvalidationStamp();
+
+			String[] objectClasses = getTypeObjectClasses(entryClass);
+			try {
+				ldapAttributes = loadAttributes(entryClass, dn, objectClasses, propertiesAnnotationsMap,
+						getReturnAttributes(ldapReturnAttributes, propertiesAnnotations));
+			} catch (EntryPersistenceException ex) {
+				putAbsentEntry(entryClass, dn, ex, negativeInvalidationStamp);
+				throw ex;
+			}
+
+			putCachedAttributes(entryClass, dn, ldapReturnAttributes, ldapAttributes, invalidationStamp);
 		}
 
+		return createEntry(entryClass, primaryKey, ldapReturnAttributes, propertiesAnnotations, ldapAttributes);
+	}
+
+	/*
+	 * Lookup doesn't block caller thread. Backend async API completes it, results are cached like in find.
+	 * Entry is created on async pool to not hold backend I/O thread which completed lookup
+	 */
+	private <T> CompletableFuture<T> findAsync(Class<T> entryClass, Object primaryKey, String[] ldapReturnAttributes,
+			List<PropertyAnnotation> propertiesAnnotations, Map<String, PropertyAnnotation> propertiesAnnotationsMap) {
+		String dn = primaryKey.toString();
+		List<AttributeData> cachedAttributes = getCachedAttributes(entryClass, dn, ldapReturnAttributes);
+		if (cachedAttributes != null) {
+			return CompletableFuture.completedFuture(createEntry(entryClass, primaryKey, ldapReturnAttributes, propertiesAnnotations, cachedAttributes));
+		}
+
+		long invalidationStamp = entryCache.getInvalidationStamp();
+		long negativeInvalidationStamp = negativeEntryCache.getInvalidationStamp();
+
 		String[] objectClasses = getTypeObjectClasses(entryClass);
-		List<AttributeData> ldapAttributes = find(primaryKey.toString(), objectClasses, propertiesAnnotationsMap, currentLdapReturnAttributes);
+		return findAsync(dn, objectClasses, propertiesAnnotationsMap, getReturnAttributes(ldapReturnAttributes, propertiesAnnotations))
+				.whenComplete((ldapAttributes, ex) -> {
+					if (ex == null) {
+						putCachedAttributes(entryClass, dn, ldapReturnAttributes, ldapAttributes, invalidationStamp);
+					} else {
+						putAbsentEntry(entryClass, dn, ex, negativeInvalidationStamp);
+					}
+				}).thenCompose(ldapAttributes -> asyncOperationExecutor.execute(
+						() -> createEntry(entryClass, primaryKey, ldapReturnAttributes, propertiesAnnotations, ldapAttributes)));
+	}
+
+	private String[] getReturnAttributes(String[] ldapReturnAttributes, List<PropertyAnnotation> propertiesAnnotations) {
+		if (ArrayHelper.isEmpty(ldapReturnAttributes)) {
+			return getAttributes(null, propertiesAnnotations, false);
+		}
+
+		return ldapReturnAttributes;
+	}
+
+	/*
+	 * Returns copy of cached attributes or null if entry should be loaded
+	 */
+	private List<AttributeData> getCachedAttributes(Class<?> entryClass, String dn, String[] ldapReturnAttributes) {
+		if (isUseEntryCache(entryClass)) {
+			List<AttributeData> cachedAttributes = entryCache.get(entryClass, dn, ldapReturnAttributes);
+			if (cachedAttributes != null) {
+				return copyAttributesData(cachedAttributes);
+			}
+		}
+
+		if (negativeEntryCache.isAbsent(entryClass, dn)) {
+			throw new EntryPersistenceException(String.format("Failed to find entry: '%s'", dn),
+					new EntryNotFoundException(String.format("Entry '%s' was not found recently", dn)));
+		}
+
+		return null;
+	}
+
+	private void putCachedAttributes(Class<?> entryClass, String dn, String[] ldapReturnAttributes, List<AttributeData> ldapAttributes,
+			long invalidationStamp) {
+		if (isUseEntryCache(entryClass)) {
+			entryCache.put(entryClass, dn, ldapReturnAttributes, copyAttributesData(ldapAttributes), invalidationStamp);
+		}
+	}
 
+	private void putAbsentEntry(Class<?> entryClass, String dn, Throwable ex, long negativeInvalidationStamp) {
+		if (isEntryNotFound(ex)) {
+			negativeEntryCache.put(entryClass, dn, negativeInvalidationStamp);
+		}
+	}
+
+	private <T> T createEntry(Class<T> entryClass, Object primaryKey, String[] ldapReturnAttributes,
+			List<PropertyAnnotation> propertiesAnnotations, List<AttributeData> ldapAttributes) {
+		Map<String, List<AttributeData>> entriesAttributes = new HashMap<String, List<AttributeData>>();
 		entriesAttributes.put(String.valueOf(primaryKey), ldapAttributes);
 		List<T> results = createEntities(entryClass, propertiesAnnotations, entriesAttributes);
+		trackEntries(entryClass, results, ldapReturnAttributes);
+
 		return results.get(0);
 	}
 
+	/*
+	 * Concurrent identical lookups share one DB request. Each caller gets own copy of shared attributes
+	 */
+	private List<AttributeData> loadAttributes(Class<?> entryClass, String dn, String[] objectClasses,
+			Map<String, PropertyAnnotation> propertiesAnnotationsMap, String[] attributes) {
+		if (!requestCoalescer.isEnabled()) {
+			return find(dn, objectClasses, propertiesAnnotationsMap, attributes);
+		}
+
+		List<Object> requestKey = Arrays.asList(entryClass, dn, attributes == null ? null : Arrays.asList(attributes));
+		List<AttributeData> sharedAttributes = requestCoalescer.execute(FIND_OPERATION, dn, requestKey,
+				() -> find(dn, objectClasses, propertiesAnnotationsMap, attributes));
+
+		return copyAttributesData(sharedAttributes);
+	}
+
 	protected abstract List<AttributeData> find(String dn, String[] objectClasses, Map<String, PropertyAnnotation> propertiesAnnotationsMap, String... attributes);
 
+	/**
+	 * Load entry attributes without blocking caller thread. Backends with async
+	 * API override it. By default lookup is executed on async operation executor
+	 */
+	protected CompletableFuture<List<AttributeData>> findAsync(String dn, String[] objectClasses,
+			Map<String, PropertyAnnotation> propertiesAnnotationsMap, String... attributes) {
+		return asyncOperationExecutor.execute(() -> find(dn, objectClasses, propertiesAnnotationsMap, attributes));
+	}
+
+	/**
+	 * Execute authentication request. Concurrent authentications of the same DN
+	 * with the same password share one DB request if request coalescing is enabled.
+	 * Request key contains password digest instead of password
+	 */
+	protected <E extends Exception> boolean authenticate(String bindDn, Class<?> entryClass, String password,
+			RequestCoalescer.Request<Boolean, E> request) throws E {
+		if (!requestCoalescer.isEnabled()) {
+			return requestCoalescer.execute(AUTHENTICATE_OPERATION, null, request);
+		}
+
+		List<Object> requestKey = Arrays.asList(bindDn, entryClass, digestPassword(password));
+
+		return requestCoalescer.execute(AUTHENTICATE_OPERATION, bindDn, requestKey, request);
+	}
+
+	private static byte[] createPasswordDigestSalt() {
+		byte[] salt = new byte[16];
+		new SecureRandom().nextBytes(salt);
+
+		return salt;
+	}
+
+	private String digestPassword(String password) {
+		if (password == null) {
+			return null;
+		}
+
+		try {
+			MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+			messageDigest.update(passwordDigestSalt);
+
+			return Base64.encodeBase64String(messageDigest.digest(password.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException("Failed to get SHA-256 message digest", ex);
+		}
+	}
+
 	protected boolean checkEntryClass(Class<?> entryClass, boolean isAllowSchemaEntry) {
 		if (entryClass == null) {
 			throw new MappingException("Entry class is null");
@@ -767,6 +2057,46 @@ public abstract class BaseEntryManager implements PersistenceEntryManager {
 		return false;
 	}
 
+	protected boolean isUseEntryTrackChanges(Class<?> entryClass) {
+		if (entryClass == null) {
+			throw new MappingException("Entry class is null");
+		}
+
+		// Check if entry is LDAP Entry
+		List<Annotation> entryAnnotations = ReflectHelper.getClassAnnotations(entryClass, LDAP_ENTRY_TYPE_ANNOTATIONS);
+
+		Annotation dataEntry = ReflectHelper.getAnnotationByType(entryAnnotations, DataEntry.class);
+		if (dataEntry == null) {
+			return false;
+		}
+
+		return ((DataEntry) dataEntry).trackChanges();
+	}
+
+	protected boolean isUseEntryCache(Class<?> entryClass) {
+		return entryCache.isEnabled() && isCacheableEntry(entryClass);
+	}
+
+	protected boolean isUseQueryCache(Class<?> entryClass) {
+		return queryCache.isEnabled() && isCacheableEntry(entryClass);
+	}
+
+	protected boolean isCacheableEntry(Class<?> entryClass) {
+		if (entryCacheClasses.contains(entryClass.getName())) {
+			return true;
+		}
+
+		// Check if entry is LDAP Entry
+		List<Annotation> entryAnnotations = ReflectHelper.getClassAnnotations(entryClass, LDAP_ENTRY_TYPE_ANNOTATIONS);
+
+		Annotation dataEntry = ReflectHelper.getAnnotationByType(entryAnnotations, DataEntry.class);
+		if (dataEntry == null) {
+			return false;
+		}
+
+		return ((DataEntry) dataEntry).cacheable();
+	}
+
 	protected boolean isSchemaEntry(Class<?> entryClass) {
 		if (entryClass == null) {
 			throw new MappingException("Entry class is null");
@@ -947,175 +2277,294 @@ public abstract class BaseEntryManager implements PersistenceEntryManager {
 			throw new MappingException("Entry should has getter for property " + dnProperty);
 		}
 
-		// Type object classes
-		String[] typeObjectClasses = getTypeObjectClasses(entryClass);
-		Arrays.sort(typeObjectClasses);
+		// Type object classes
+		String[] typeObjectClasses = getTypeObjectClasses(entryClass);
+		Arrays.sort(typeObjectClasses);
+
+		EntryMapping entryMapping = getEntryMapping(entryClass, propertiesAnnotations);
+
+		Instantiator<T> entryInstantiator;
+		try {
+			entryInstantiator = getInstantiator(entryClass);
+		} catch (Exception ex) {
+			throw new MappingException(String.format("Entry %s should has default constructor", entryClass));
+		}
+
+		if (parallelEntityCreator.isParallel(entriesAttributes.size())) {
+			// Order of entries is kept
+			return parallelEntityCreator.create(new ArrayList<Entry<String, List<AttributeData>>>(entriesAttributes.entrySet()),
+					entryAttributes -> createEntity(entryClass, entryMapping, entryInstantiator, dnProperty, dnSetter, typeObjectClasses,
+							entryAttributes.getKey(), entryAttributes.getValue(), doSort));
+		}
+
+		List<T> results = new ArrayList<T>(entriesAttributes.size());
+		for (Entry<String, List<AttributeData>> entryAttributes : entriesAttributes.entrySet()) {
+			results.add(createEntity(entryClass, entryMapping, entryInstantiator, dnProperty, dnSetter, typeObjectClasses,
+					entryAttributes.getKey(), entryAttributes.getValue(), doSort));
+		}
+
+		return results;
+	}
+
+	private <T> T createEntity(Class<T> entryClass, EntryMapping entryMapping, Instantiator<T> entryInstantiator, String dnProperty,
+			Setter dnSetter, String[] typeObjectClasses, String dn, List<AttributeData> attributes, boolean doSort) {
+		PropertyMapping[] attributeProperties = entryMapping.getAttributeProperties();
+
+		Map<String, AttributeData> attributesMap = getAttributesMap(attributes);
+
+		T entry;
+		List<String> customObjectClasses = null;
+		try {
+			entry = entryInstantiator.newInstance();
+		} catch (Exception ex) {
+			throw new MappingException(String.format("Entry %s should has default constructor", entryClass));
+		}
+
+		dnSetter.set(entry, dn);
 
-		List<T> results = new ArrayList<T>(entriesAttributes.size());
-		for (Entry<String, List<AttributeData>> entryAttributes : entriesAttributes.entrySet()) {
-			String dn = entryAttributes.getKey();
-			List<AttributeData> attributes = entryAttributes.getValue();
-			Map<String, AttributeData> attributesMap = getAttributesMap(attributes);
+		// Remove processed DN attribute
+		attributesMap.remove(dnProperty);
 
-			T entry;
-			List<String> customObjectClasses = null;
-			try {
-				entry = ReflectHelper.createObjectByDefaultConstructor(entryClass);
-			} catch (Exception ex) {
-				throw new MappingException(String.format("Entry %s should has default constructor", entryClass));
+		// Set loaded properties to entry
+
+		// Process properties with AttributeName annotation
+		for (PropertyMapping propertyMapping : attributeProperties) {
+			// Remove processed attributes
+			AttributeData attributeData = attributesMap.remove(propertyMapping.getAttributeNameLowerCase());
+
+			if (propertyMapping.isIgnoreDuringRead()) {
+				continue;
+			}
+
+			Setter setter = propertyMapping.getSetter();
+			if (setter == null) {
+				throw new MappingException("Entry should has setter for property " + propertyMapping.getPropertyName());
 			}
-			results.add(entry);
 
-			dnSetter.set(entry, dn);
+			setPropertyValue(propertyMapping.getPropertyName(), setter, propertyMapping.getConverter(), entry, attributeData);
+		}
 
-			// Remove processed DN attribute
-			attributesMap.remove(dnProperty);
+		// Process properties with @AttributesList annotation
+		for (AttributesListMapping attributesListMapping : entryMapping.getAttributesListProperties()) {
+			String propertyName = attributesListMapping.getPropertyName();
+			AttributesList ldapAttribute = attributesListMapping.getAttributesListAnnotation();
+			Map<String, AttributeName> ldapAttributesConfiguration = attributesListMapping.getAttributesConfiguration();
 
-			// Set loaded properties to entry
+			Setter setter = attributesListMapping.getSetter();
+			if (setter == null) {
+				throw new MappingException("Entry should has setter for property " + propertyName);
+			}
 
-			// Process properties with AttributeName annotation
-			for (PropertyAnnotation propertiesAnnotation : propertiesAnnotations) {
-				String propertyName = propertiesAnnotation.getPropertyName();
-				Annotation ldapAttribute;
+			List<Object> propertyValue = new ArrayList<Object>();
+			setter.set(entry, propertyValue);
 
-				ldapAttribute = ReflectHelper.getAnnotationByType(propertiesAnnotation.getAnnotations(),
-						AttributeName.class);
-				if (ldapAttribute != null) {
-					String ldapAttributeName = ((AttributeName) ldapAttribute).name();
-					if (StringHelper.isEmpty(ldapAttributeName)) {
-						ldapAttributeName = propertyName;
-					}
-					ldapAttributeName = ldapAttributeName.toLowerCase();
+			Class<?> entryItemType = attributesListMapping.getItemType();
+			if (entryItemType == null) {
+				throw new MappingException(
+						"Entry property " + propertyName + " should has setter with specified element type");
+			}
 
-					AttributeData attributeData = attributesMap.get(ldapAttributeName);
+			Setter entryPropertyNameSetter = attributesListMapping.getItemNameSetter();
+			if (entryPropertyNameSetter == null) {
+				throw new MappingException(
+						"Entry should has setter for property " + propertyName + "." + ldapAttribute.name());
+			}
 
-					// Remove processed attributes
-					attributesMap.remove(ldapAttributeName);
+			Setter entryPropertyValueSetter = attributesListMapping.getItemValueSetter();
+			if (entryPropertyValueSetter == null) {
+				throw new MappingException(
+						"Entry should has getter for property " + propertyName + "." + ldapAttribute.value());
+			}
 
-					if (((AttributeName) ldapAttribute).ignoreDuringRead()) {
+			for (AttributeData entryAttribute : attributesMap.values()) {
+				if (OBJECT_CLASS.equalsIgnoreCase(entryAttribute.getName())) {
+					String[] objectClasses = entryAttribute.getStringValues();
+					if (ArrayHelper.isEmpty(objectClasses)) {
 						continue;
 					}
 
-					Setter setter = getSetter(entryClass, propertyName);
-					if (setter == null) {
-						throw new MappingException("Entry should has setter for property " + propertyName);
+					if (customObjectClasses == null) {
+						customObjectClasses = new ArrayList<String>();
 					}
 
-					Annotation ldapJsonObject = ReflectHelper.getAnnotationByType(propertiesAnnotation.getAnnotations(),
-							JsonObject.class);
-					boolean jsonObject = ldapJsonObject != null;
+					for (String objectClass : objectClasses) {
+						int idx = Arrays.binarySearch(typeObjectClasses, objectClass, IGNORE_CASE_COMPARATOR);
+
+						if (idx < 0) {
+							customObjectClasses.add(objectClass);
+						}
+					}
 
-					setPropertyValue(propertyName, setter, entry, attributeData, jsonObject);
+					continue;
 				}
-			}
 
-			// Process properties with @AttributesList annotation
-			for (PropertyAnnotation propertiesAnnotation : propertiesAnnotations) {
-				String propertyName = propertiesAnnotation.getPropertyName();
-				Annotation ldapAttribute;
+				AttributeName ldapAttributeConfiguration = ldapAttributesConfiguration
+						.get(entryAttribute.getName());
+				if ((ldapAttributeConfiguration != null) && ldapAttributeConfiguration.ignoreDuringRead()) {
+					continue;
+				}
 
-				ldapAttribute = ReflectHelper.getAnnotationByType(propertiesAnnotation.getAnnotations(),
-						AttributesList.class);
-				if (ldapAttribute != null) {
-					Map<String, AttributeName> ldapAttributesConfiguration = new HashMap<String, AttributeName>();
-					for (AttributeName ldapAttributeConfiguration : ((AttributesList) ldapAttribute)
-							.attributesConfiguration()) {
-						ldapAttributesConfiguration.put(ldapAttributeConfiguration.name(), ldapAttributeConfiguration);
+				Setter entryPropertyMultivaluedSetter = attributesListMapping.getItemMultiValuedSetter();
+				if (entryPropertyMultivaluedSetter != null) {
+					Class<?> parameterType = ReflectHelper.getSetterType(entryPropertyMultivaluedSetter);
+					if (!parameterType.equals(Boolean.TYPE)) {
+						throw new MappingException(
+								"Entry should has getter for property " + propertyName + "." + ldapAttribute.multiValued() + " with boolean type");
 					}
+				}
 
-					Setter setter = getSetter(entryClass, propertyName);
-					if (setter == null) {
-						throw new MappingException("Entry should has setter for property " + propertyName);
-					}
+				Object listItem = getListItem(propertyName, entryPropertyNameSetter, entryPropertyValueSetter,
+						entryPropertyMultivaluedSetter, entryItemType, entryAttribute);
+				if (listItem != null) {
+					propertyValue.add(listItem);
+				}
+			}
 
-					List<Object> propertyValue = new ArrayList<Object>();
-					setter.set(entry, propertyValue);
+			if (doSort) {
+				sortAttributesListIfNeeded(ldapAttribute, entryItemType, propertyValue);
+			}
+		}
 
-					Class<?> entryItemType = ReflectHelper.getListType(setter);
-					if (entryItemType == null) {
-						throw new MappingException(
-								"Entry property " + propertyName + " should has setter with specified element type");
-					}
+		if ((customObjectClasses != null) && (customObjectClasses.size() > 0)) {
+			setCustomObjectClasses(entry, entryClass, customObjectClasses.toArray(new String[0]));
+		}
 
-					String entryPropertyName = ((AttributesList) ldapAttribute).name();
-					Setter entryPropertyNameSetter = getSetter(entryItemType, entryPropertyName);
-					if (entryPropertyNameSetter == null) {
-						throw new MappingException(
-								"Entry should has setter for property " + propertyName + "." + entryPropertyName);
-					}
+		return entry;
+	}
 
-					String entryPropertyValue = ((AttributesList) ldapAttribute).value();
-					Setter entryPropertyValueSetter = getSetter(entryItemType, entryPropertyValue);
-					if (entryPropertyValueSetter == null) {
-						throw new MappingException(
-								"Entry should has getter for property " + propertyName + "." + entryPropertyValue);
-					}
+	private static Set<String> getEntryCacheClassesProperty() {
+		String entryCacheClasses = System.getProperty(ENTRY_CACHE_CLASSES);
+		if (StringHelper.isEmpty(entryCacheClasses)) {
+			return Collections.emptySet();
+		}
 
-					for (AttributeData entryAttribute : attributesMap.values()) {
-						if (OBJECT_CLASS.equalsIgnoreCase(entryAttribute.getName())) {
-							String[] objectClasses = entryAttribute.getStringValues();
-							if (ArrayHelper.isEmpty(objectClasses)) {
-								continue;
-							}
+		return new HashSet<String>(Arrays.asList(StringHelper.split(entryCacheClasses, ",")));
+	}
 
-							if (customObjectClasses == null) {
-								customObjectClasses = new ArrayList<String>();
-							}
+	/**
+	 * Second level cache of entries loaded by DN. It allows to configure size, TTL
+	 * and check hit/miss statistics
+	 */
+	public EntryCache getEntryCache() {
+		return entryCache;
+	}
 
-							for (String objectClass : objectClasses) {
-								int idx = Arrays.binarySearch(typeObjectClasses, objectClass, new Comparator<String>() {
-									public int compare(String o1, String o2) {
-										return o1.toLowerCase().compareTo(o2.toLowerCase());
-									}
-								});
+	/**
+	 * Cache of search results of entry classes which use second level entry cache
+	 */
+	public QueryCache getQueryCache() {
+		return queryCache;
+	}
 
-								if (idx < 0) {
-									customObjectClasses.add(objectClass);
-								}
-							}
+	/**
+	 * Cache of DNs which were not found recently
+	 */
+	public NegativeEntryCache getNegativeEntryCache() {
+		return negativeEntryCache;
+	}
 
-							continue;
-						}
+	/**
+	 * Coalescer of concurrent identical lookups and authentications. It allows to
+	 * enable coalescing and check count of coalesced requests
+	 */
+	public RequestCoalescer getRequestCoalescer() {
+		return requestCoalescer;
+	}
 
-						AttributeName ldapAttributeConfiguration = ldapAttributesConfiguration
-								.get(entryAttribute.getName());
-						if ((ldapAttributeConfiguration != null) && ldapAttributeConfiguration.ignoreDuringRead()) {
-							continue;
-						}
+	public int getPersistBatchSize() {
+		return persistBatchSize;
+	}
 
-						String entryPropertyMultivalued = ((AttributesList) ldapAttribute).multiValued();
-						Setter entryPropertyMultivaluedSetter = null;
-						if (StringHelper.isNotEmpty(entryPropertyMultivalued)) {
-							entryPropertyMultivaluedSetter = getSetter(entryItemType, entryPropertyMultivalued);
-						}
-						if (entryPropertyMultivaluedSetter != null) {
-							Class<?> parameterType = ReflectHelper.getSetterType(entryPropertyMultivaluedSetter);
-							if (!parameterType.equals(Boolean.TYPE)) {
-								throw new MappingException(
-										"Entry should has getter for property " + propertyName + "." + entryPropertyMultivalued + " with boolean type");
-							}
-						}
+	public void setPersistBatchSize(int persistBatchSize) {
+		this.persistBatchSize = persistBatchSize;
+	}
 
-						Object listItem = getListItem(propertyName, entryPropertyNameSetter, entryPropertyValueSetter,
-								entryPropertyMultivaluedSetter, entryItemType, entryAttribute);
-						if (listItem != null) {
-							propertyValue.add(listItem);
-						}
-					}
+	/**
+	 * Bounded pool of threads which execute async operations
+	 */
+	public AsyncOperationExecutor getAsyncOperationExecutor() {
+		return asyncOperationExecutor;
+	}
 
-					if (doSort) {
-						sortAttributesListIfNeeded((AttributesList) ldapAttribute, entryItemType,
-								propertyValue);
-					}
-				}
-			}
+	/**
+	 * Stop threads of async operations. Backends call it on destroy
+	 */
+	protected void shutdownAsyncOperationExecutor() {
+		asyncOperationExecutor.shutdown();
+	}
+
+	/**
+	 * Bounded pool of threads which load pages of batch searches in advance
+	 */
+	public Executor getPrefetchExecutor() {
+		return prefetchExecutor;
+	}
+
+	/**
+	 * Stop threads which load pages in advance. Backends call it on destroy
+	 */
+	protected void shutdownPrefetchExecutor() {
+		prefetchExecutor.shutdown();
+	}
+
+	/**
+	 * Creator of large search results which allows to enable parallel creation of
+	 * entries
+	 */
+	public ParallelEntityCreator getParallelEntityCreator() {
+		return parallelEntityCreator;
+	}
 
-			if ((customObjectClasses != null) && (customObjectClasses.size() > 0)) {
-				setCustomObjectClasses(entry, entryClass, customObjectClasses.toArray(new String[0]));
+	/**
+	 * Stop threads which create entries in parallel. Backends call it on destroy
+	 */
+	protected void shutdownParallelEntityCreator() {
+		parallelEntityCreator.shutdown();
+	}
+
+	/**
+	 * Remove cached entries of specified DN, remembered absence of this DN and
+	 * cached search results of entry class. All search results are removed if
+	 * entry class is not specified. Lookups of DN which are in progress are not
+	 * shared with new callers
+	 */
+	protected void invalidateCaches(String dn, Class<?> entryClass) {
+		entryCache.invalidate(dn);
+		negativeEntryCache.invalidate(dn);
+		requestCoalescer.invalidate(dn);
+
+		if (entryClass == null) {
+			queryCache.clear();
+		} else {
+			queryCache.invalidate(entryClass, getTypeObjectClasses(entryClass));
+		}
+	}
+
+	/*
+	 * Backends report lookup of absent entry with EntryNotFoundException cause
+	 */
+	private boolean isEntryNotFound(Throwable ex) {
+		for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+			if (cause instanceof EntryNotFoundException) {
+				return true;
 			}
 		}
 
-		return results;
+		return false;
+	}
+
+	public Set<String> getEntryCacheClasses() {
+		return entryCacheClasses;
+	}
+
+	/**
+	 * Set names of entry classes which should be cached in addition to classes
+	 * annotated with {@link DataEntry#cacheable()}
+	 */
+	public void setEntryCacheClasses(Set<String> entryCacheClasses) {
+		this.entryCacheClasses = entryCacheClasses == null ? Collections.<String>emptySet() : new HashSet<String>(entryCacheClasses);
+		this.entryCache.clear();
+		this.queryCache.clear();
 	}
 
 	@Override
@@ -1314,7 +2763,7 @@ public abstract class BaseEntryManager implements PersistenceEntryManager {
 			T entryKey = keys.get(key);
 			if (entryKey == null) {
 				try {
-					entryKey = ReflectHelper.createObjectByDefaultConstructor(entryClass);
+					entryKey = getInstantiator(entryClass).newInstance();
 				} catch (Exception ex) {
 					throw new MappingException(String.format("Entry %s should has default constructor", entryClass),
 							ex);
@@ -1478,63 +2927,45 @@ public abstract class BaseEntryManager implements PersistenceEntryManager {
 
 	protected List<AttributeData> getAttributesListForPersist(Object entry,
 			List<PropertyAnnotation> propertiesAnnotations) {
+		EntryMapping entryMapping = getEntryMapping(entry.getClass(), propertiesAnnotations);
+
 		// Prepare list of properties to persist
 		List<AttributeData> attributes = new ArrayList<AttributeData>();
-		for (PropertyAnnotation propertiesAnnotation : propertiesAnnotations) {
-			String propertyName = propertiesAnnotation.getPropertyName();
-			Annotation ldapAttribute;
-
-			// Process properties with AttributeName annotation
-			ldapAttribute = ReflectHelper.getAnnotationByType(propertiesAnnotation.getAnnotations(),
-					AttributeName.class);
-			if (ldapAttribute != null) {
-				AttributeData attribute = getAttributeDataFromAttribute(entry, ldapAttribute, propertiesAnnotation,
-						propertyName);
-				if (attribute != null) {
-					attributes.add(attribute);
-				}
 
-				continue;
+		// Process properties with AttributeName annotation
+		for (PropertyMapping propertyMapping : entryMapping.getAttributeProperties()) {
+			AttributeData attribute = getAttributeDataFromAttribute(entry, propertyMapping);
+			if (attribute != null) {
+				attributes.add(attribute);
 			}
+		}
 
-			// Process properties with @AttributesList annotation
-			ldapAttribute = ReflectHelper.getAnnotationByType(propertiesAnnotation.getAnnotations(),
-					AttributesList.class);
-			if (ldapAttribute != null) {
-				List<AttributeData> listAttributes = getAttributesFromAttributesList(entry, ldapAttribute,
-						propertyName);
-				if (listAttributes != null) {
-					attributes.addAll(listAttributes);
-				}
-
-				continue;
+		// Process properties with @AttributesList annotation
+		for (AttributesListMapping attributesListMapping : entryMapping.getAttributesListProperties()) {
+			List<AttributeData> listAttributes = getAttributesFromAttributesList(entry, attributesListMapping.getAttributesListAnnotation(),
+					attributesListMapping.getPropertyName());
+			if (listAttributes != null) {
+				attributes.addAll(listAttributes);
 			}
 		}
 
 		return attributes;
 	}
 
-	private AttributeData getAttributeDataFromAttribute(Object entry, Annotation ldapAttribute,
-			PropertyAnnotation propertiesAnnotation, String propertyName) {
-		Class<?> entryClass = entry.getClass();
-
-		String ldapAttributeName = ((AttributeName) ldapAttribute).name();
-		if (StringHelper.isEmpty(ldapAttributeName)) {
-			ldapAttributeName = propertyName;
-		}
+	private AttributeData getAttributeDataFromAttribute(Object entry, PropertyMapping propertyMapping) {
+		String propertyName = propertyMapping.getPropertyName();
 
-		Getter getter = getGetter(entryClass, propertyName);
+		Getter getter = propertyMapping.getGetter();
 		if (getter == null) {
 			throw new MappingException("Entry should has getter for property " + propertyName);
 		}
 
-		Class<?> parameterType = getSetterPropertyType(entryClass, propertyName);
-		boolean multiValued = isMultiValued(parameterType);
+		if (propertyMapping.getSetter() == null) {
+			throw new MappingException("Entry should has setter for property " + propertyName);
+		}
 
-		Annotation ldapJsonObject = ReflectHelper.getAnnotationByType(propertiesAnnotation.getAnnotations(),
-				JsonObject.class);
-		boolean jsonObject = ldapJsonObject != null;
-		AttributeData attribute = getAttributeData(propertyName, ldapAttributeName, getter, entry, multiValued, jsonObject);
+		AttributeData attribute = getAttributeData(propertyName, propertyMapping.getAttributeName(), getter, entry,
+				propertyMapping.isMultiValued(), propertyMapping.isJsonObject());
 
 		return attribute;
 	}
@@ -1629,18 +3060,24 @@ public abstract class BaseEntryManager implements PersistenceEntryManager {
 
 	protected <T> List<PropertyAnnotation> getEntryClassAnnotations(Class<T> entryClass, String keyCategory,
 			Class<?>[] annotationTypes) {
-		String key = keyCategory + entryClass.getName();
+		EntryClassMetadata classMetadata = EntryClassMetadata.forClass(entryClass);
+		ConcurrentMap<String, List<PropertyAnnotation>> classAnnotations = classMetadata.getAnnotations();
 
-		List<PropertyAnnotation> annotations = classAnnotations.get(key);
+		List<PropertyAnnotation> annotations = classAnnotations.get(keyCategory);
 		if (annotations == null) {
-			synchronized (CLASS_ANNOTATIONS_LOCK) {
-				annotations = classAnnotations.get(key);
-				if (annotations == null) {
-					Map<String, List<Annotation>> annotationsMap = ReflectHelper.getPropertiesAnnotations(entryClass,
-							annotationTypes);
-					annotations = convertToPropertyAnnotationList(annotationsMap);
-					classAnnotations.put(key, annotations);
-				}
+			// Prefer compile time generated mapper to avoid class hierarchy scan
+			Map<String, List<Annotation>> annotationsMap;
+			EntryMapper<?> entryMapper = classMetadata.getEntryMapper();
+			if (entryMapper == null) {
+				annotationsMap = ReflectHelper.getPropertiesAnnotations(entryClass, annotationTypes);
+			} else {
+				annotationsMap = entryMapper.getPropertiesAnnotations(annotationTypes);
+			}
+			annotations = convertToPropertyAnnotationList(annotationsMap);
+
+			List<PropertyAnnotation> existingAnnotations = classAnnotations.putIfAbsent(keyCategory, annotations);
+			if (existingAnnotations != null) {
+				annotations = existingAnnotations;
 			}
 		}
 
@@ -1658,195 +3095,210 @@ public abstract class BaseEntryManager implements PersistenceEntryManager {
 		return result;
 	}
 
-	protected <T> Getter getGetter(Class<T> entryClass, String propertyName) {
-		String key = entryClass.getName() + "." + propertyName;
+	protected <T> EntryMapping getEntryMapping(Class<T> entryClass) {
+		EntryClassMetadata classMetadata = EntryClassMetadata.forClass(entryClass);
 
-		Getter getter = classGetters.get(key);
-		if (getter == null) {
-			synchronized (CLASS_GETTERS_LOCK) {
-				getter = classGetters.get(key);
-				if (getter == null) {
-					getter = ReflectHelper.getGetter(entryClass, propertyName);
-					classGetters.put(key, getter);
+		EntryMapping entryMapping = classMetadata.getEntryMapping();
+		if (entryMapping == null) {
+			synchronized (classMetadata) {
+				entryMapping = classMetadata.getEntryMapping();
+				if (entryMapping == null) {
+					entryMapping = buildEntryMapping(entryClass, getEntryPropertyAnnotations(entryClass));
+					classMetadata.setEntryMapping(entryMapping);
 				}
 			}
 		}
 
-		return getter;
+		return entryMapping;
 	}
 
-	protected <T> Setter getSetter(Class<T> entryClass, String propertyName) {
-		String key = entryClass.getName() + "." + propertyName;
+	protected <T> EntryMapping getEntryMapping(Class<T> entryClass, List<PropertyAnnotation> propertiesAnnotations) {
+		EntryMapping entryMapping = getEntryMapping(entryClass);
+		if (entryMapping.getPropertiesAnnotations() == propertiesAnnotations) {
+			return entryMapping;
+		}
 
-		Setter setter = classSetters.get(key);
-		if (setter == null) {
-			synchronized (CLASS_SETTERS_LOCK) {
-				setter = classSetters.get(key);
-				if (setter == null) {
-					setter = ReflectHelper.getSetter(entryClass, propertyName);
-					classSetters.put(key, setter);
+		// Custom list of properties. Build mapping without caching it
+		return buildEntryMapping(entryClass, propertiesAnnotations);
+	}
+
+	private <T> EntryMapping buildEntryMapping(Class<T> entryClass, List<PropertyAnnotation> propertiesAnnotations) {
+		List<PropertyMapping> attributeProperties = new ArrayList<PropertyMapping>(propertiesAnnotations.size());
+		List<AttributesListMapping> attributesListProperties = new ArrayList<AttributesListMapping>(1);
+
+		for (PropertyAnnotation propertiesAnnotation : propertiesAnnotations) {
+			String propertyName = propertiesAnnotation.getPropertyName();
+			List<Annotation> annotations = propertiesAnnotation.getAnnotations();
+
+			// Process properties with AttributeName annotation
+			AttributeName ldapAttribute = (AttributeName) ReflectHelper.getAnnotationByType(annotations, AttributeName.class);
+			if (ldapAttribute != null) {
+				String ldapAttributeName = ldapAttribute.name();
+				if (StringHelper.isEmpty(ldapAttributeName)) {
+					ldapAttributeName = propertyName;
+				}
+
+				// Entry might not have accessors for properties which are not used. Report it on access
+				Getter getter = findGetter(entryClass, propertyName);
+				Setter setter = findSetter(entryClass, propertyName);
+				Class<?> parameterType = ReflectHelper.getSetterType(setter);
+
+				boolean jsonObject = ReflectHelper.getAnnotationByType(annotations, JsonObject.class) != null;
+				PropertyValueConverter converter = null;
+				if (setter != null) {
+					converter = PropertyValueConverter.forType(propertyName, setter, parameterType, jsonObject);
 				}
+
+				attributeProperties.add(new PropertyMapping(propertiesAnnotation, ldapAttribute, ldapAttributeName, getter, setter,
+						parameterType, converter, isMultiValued(parameterType), jsonObject));
+				continue;
+			}
+
+			// Process properties with @AttributesList annotation
+			AttributesList ldapAttributesList = (AttributesList) ReflectHelper.getAnnotationByType(annotations, AttributesList.class);
+			if (ldapAttributesList != null) {
+				attributesListProperties.add(buildAttributesListMapping(entryClass, propertiesAnnotation, ldapAttributesList));
 			}
 		}
 
-		return setter;
+		return new EntryMapping(entryClass, propertiesAnnotations, attributeProperties.toArray(new PropertyMapping[0]),
+				attributesListProperties.toArray(new AttributesListMapping[0]));
 	}
 
-	private AttributeData getAttributeData(String propertyName, Getter propertyNameGetter, Getter propertyValueGetter,
-			Object entry, boolean multiValued, boolean jsonObject) {
-		Object ldapAttributeName = propertyNameGetter.get(entry);
-		if (ldapAttributeName == null) {
-			return null;
+	/*
+	 * Entry might not have accessors for list properties which are not used. Report it on access
+	 */
+	private <T> AttributesListMapping buildAttributesListMapping(Class<T> entryClass, PropertyAnnotation propertiesAnnotation,
+			AttributesList ldapAttributesList) {
+		Setter setter = findSetter(entryClass, propertiesAnnotation.getPropertyName());
+		Class<?> itemType = setter == null ? null : ReflectHelper.getListType(setter);
+
+		Setter itemNameSetter = null, itemValueSetter = null, itemMultiValuedSetter = null;
+		if (itemType != null) {
+			itemNameSetter = findSetter(itemType, ldapAttributesList.name());
+			itemValueSetter = findSetter(itemType, ldapAttributesList.value());
+			if (StringHelper.isNotEmpty(ldapAttributesList.multiValued())) {
+				itemMultiValuedSetter = findSetter(itemType, ldapAttributesList.multiValued());
+			}
 		}
 
-		return getAttributeData(propertyName, ldapAttributeName.toString(), propertyValueGetter, entry, multiValued, jsonObject);
+		return new AttributesListMapping(propertiesAnnotation, ldapAttributesList, setter, itemType, itemNameSetter, itemValueSetter,
+				itemMultiValuedSetter);
 	}
 
-	private void setPropertyValue(String propertyName, Setter propertyValueSetter, Object entry,
-			AttributeData attribute, boolean jsonObject) {
-		if (attribute == null) {
-			return;
+	@SuppressWarnings("unchecked")
+	protected <T> Instantiator<T> getInstantiator(Class<T> entryClass) {
+		EntryClassMetadata classMetadata = EntryClassMetadata.forClass(entryClass);
+
+		Instantiator<T> instantiator = (Instantiator<T>) classMetadata.getInstantiator();
+		if (instantiator == null) {
+			EntryMapper<T> entryMapper = (EntryMapper<T>) classMetadata.getEntryMapper();
+			if ((entryMapper != null) && entryMapper.isInstantiable()) {
+				instantiator = entryMapper;
+			} else {
+				instantiator = ReflectHelper.getInstantiator(entryClass);
+			}
+			classMetadata.setInstantiator(instantiator);
 		}
 
-		LOG.debug(String.format("LdapProperty: %s, AttributeName: %s, AttributeValue: %s", propertyName,
-				attribute.getName(), Arrays.toString(attribute.getValues())));
+		return instantiator;
+	}
 
-		Class<?> parameterType = ReflectHelper.getSetterType(propertyValueSetter);
-		if (parameterType.equals(String.class)) {
-			Object value = attribute.getValue();
-			if (value instanceof Date) {
-				value = encodeTime((Date) value);
-			}
-			propertyValueSetter.set(entry, String.valueOf(value));
-		} else if (parameterType.equals(Boolean.class) || parameterType.equals(Boolean.TYPE)) {
-			propertyValueSetter.set(entry, toBooleanValue(attribute));
-		} else if (parameterType.equals(Integer.class) || parameterType.equals(Integer.TYPE)) {
-			propertyValueSetter.set(entry, toIntegerValue(attribute));
-		} else if (parameterType.equals(Long.class) || parameterType.equals(Long.TYPE)) {
-			propertyValueSetter.set(entry, toLongValue(attribute));
-		} else if (parameterType.equals(Date.class)) {
-			if (attribute.getValue() == null) {
-				propertyValueSetter.set(entry, null);
-			} else {
-				propertyValueSetter.set(entry, attribute.getValue() instanceof Date ? (Date) attribute.getValue() : decodeTime(String.valueOf(attribute.getValue())));
-			}
-		} else if (parameterType.equals(String[].class)) {
-			propertyValueSetter.set(entry, attribute.getStringValues());
-		} else if (ReflectHelper.assignableFrom(parameterType, List.class)) {
-			if (jsonObject) {
-				Object[] values = attribute.getValues();
-				List<Object> jsonValues = new ArrayList<Object>(values.length);
-
-				for (Object value : values) {
-					Object jsonValue = convertJsonToValue(ReflectHelper.getListType(propertyValueSetter), value);
-					jsonValues.add(jsonValue);
-				}
-				propertyValueSetter.set(entry, jsonValues);
-			} else {
-				List<?> resultValues = attributeToTypedList(ReflectHelper.getListType(propertyValueSetter), attribute);
-				propertyValueSetter.set(entry, resultValues);
-			}
-		} else if (ReflectHelper.assignableFrom(parameterType, AttributeEnum.class)) {
-			try {
-				propertyValueSetter.set(entry, parameterType.getMethod("resolveByValue", String.class)
-						.invoke(parameterType.getEnumConstants()[0], attribute.getValue()));
-			} catch (Exception ex) {
-				throw new MappingException("Failed to resolve Enum '" + parameterType + "' by value '" + attribute.getValue() + "'", ex);
+	private <T> Getter findGetter(Class<T> entryClass, String propertyName) {
+		try {
+			return getGetter(entryClass, propertyName);
+		} catch (PropertyNotFoundException ex) {
+			return null;
+		}
+	}
+
+	private <T> Setter findSetter(Class<T> entryClass, String propertyName) {
+		try {
+			return getSetter(entryClass, propertyName);
+		} catch (PropertyNotFoundException ex) {
+			return null;
+		}
+	}
+
+	protected <T> Getter getGetter(Class<T> entryClass, String propertyName) {
+		EntryClassMetadata classMetadata = EntryClassMetadata.forClass(entryClass);
+		ConcurrentMap<String, Getter> classGetters = classMetadata.getGetters();
+
+		Getter getter = classGetters.get(propertyName);
+		if (getter == null) {
+			EntryMapper<?> entryMapper = classMetadata.getEntryMapper();
+			if (entryMapper != null) {
+				getter = entryMapper.getGetter(propertyName);
 			}
-		} else if (ReflectHelper.assignableFrom(parameterType, AttributeEnum[].class)) {
-			Class<?> itemType = parameterType.getComponentType();
-			Method enumResolveByValue;
-			try {
-				enumResolveByValue = itemType.getMethod("resolveByValue", String.class);
-			} catch (Exception ex) {
-				throw new MappingException("Failed to resolve Enum '" + parameterType + "' by value '" + Arrays.toString(attribute.getValues()) + "'",
-						ex);
+			if (getter == null) {
+				getter = ReflectHelper.getGetter(entryClass, propertyName);
 			}
 
-			Object[] attributeValues = attribute.getValues();
-			AttributeEnum[] ldapEnums = (AttributeEnum[]) ReflectHelper.createArray(itemType, attributeValues.length);
-			for (int i = 0; i < attributeValues.length; i++) {
-				try {
-					ldapEnums[i] = (AttributeEnum) enumResolveByValue.invoke(itemType.getEnumConstants()[0],
-							attributeValues[i]);
-				} catch (Exception ex) {
-					throw new MappingException(
-							"Failed to resolve Enum '" + parameterType + "' by value '" + Arrays.toString(attribute.getValues()) + "'", ex);
-				}
+			Getter existingGetter = classGetters.putIfAbsent(propertyName, getter);
+			if (existingGetter != null) {
+				getter = existingGetter;
 			}
-			propertyValueSetter.set(entry, ldapEnums);
-		} else if (jsonObject) {
-			Object stringValue = attribute.getValue();
-			Object jsonValue = convertJsonToValue(parameterType, stringValue);
-			propertyValueSetter.set(entry, jsonValue);
-		} else {
-			throw new MappingException("Entry property '" + propertyName
-					+ "' should has setter with String, Boolean, Integer, Long, Date, String[], List<String>, AttributeEnum or AttributeEnum[]"
-					+ " parameter type or has annotation JsonObject");
 		}
+
+		return getter;
 	}
-	
-	private List<?> attributeToTypedList(Class<?> listType, AttributeData attributeData) {
-		if (listType.equals(String.class)) {
-			ArrayList<String> result = new ArrayList<String>();
-			for (Object value : attributeData.getValues()) {
-				String resultValue;
-				if (value instanceof Date) {
-					resultValue = encodeTime((Date) value);
-				} else {
-					resultValue = String.valueOf(value);
-				}
 
-				result.add(resultValue);
+	protected <T> Setter getSetter(Class<T> entryClass, String propertyName) {
+		EntryClassMetadata classMetadata = EntryClassMetadata.forClass(entryClass);
+		ConcurrentMap<String, Setter> classSetters = classMetadata.getSetters();
+
+		Setter setter = classSetters.get(propertyName);
+		if (setter == null) {
+			EntryMapper<?> entryMapper = classMetadata.getEntryMapper();
+			if (entryMapper != null) {
+				setter = entryMapper.getSetter(propertyName);
+			}
+			if (setter == null) {
+				setter = ReflectHelper.getSetter(entryClass, propertyName);
+			}
+
+			Setter existingSetter = classSetters.putIfAbsent(propertyName, setter);
+			if (existingSetter != null) {
+				setter = existingSetter;
 			}
-			
-			return result;
 		}
 
-		return Arrays.asList(attributeData.getValues());
+		return setter;
 	}
 
-	private Boolean toBooleanValue(AttributeData attribute) {
-		Boolean propertyValue = null;
-		Object propertyValueObject = attribute.getValue();
-		if (propertyValueObject != null) {
-			if (propertyValueObject instanceof Boolean) {
-				propertyValue = (Boolean) propertyValueObject;
-			} else {
-				propertyValue = Boolean.valueOf(String.valueOf(propertyValueObject));
-			}
+	private AttributeData getAttributeData(String propertyName, Getter propertyNameGetter, Getter propertyValueGetter,
+			Object entry, boolean multiValued, boolean jsonObject) {
+		Object ldapAttributeName = propertyNameGetter.get(entry);
+		if (ldapAttributeName == null) {
+			return null;
 		}
-		return propertyValue;
+
+		return getAttributeData(propertyName, ldapAttributeName.toString(), propertyValueGetter, entry, multiValued, jsonObject);
 	}
 
-	private Integer toIntegerValue(AttributeData attribute) {
-		Integer propertyValue = null;
-		Object propertyValueObject = attribute.getValue();
-		if (propertyValueObject != null) {
-			if (propertyValueObject instanceof Integer) {
-				propertyValue = (Integer) propertyValueObject;
-			} else if (propertyValueObject instanceof Long) {
-					propertyValue = ((Long) propertyValueObject).intValue();
-			} else {
-				propertyValue = Integer.valueOf(String.valueOf(propertyValueObject));
-			}
+	private void setPropertyValue(String propertyName, Setter propertyValueSetter, Object entry,
+			AttributeData attribute, boolean jsonObject) {
+		if (attribute == null) {
+			return;
 		}
-		return propertyValue;
+
+		PropertyValueConverter converter = PropertyValueConverter.forType(propertyName, propertyValueSetter,
+				ReflectHelper.getSetterType(propertyValueSetter), jsonObject);
+		setPropertyValue(propertyName, propertyValueSetter, converter, entry, attribute);
 	}
 
-	private Long toLongValue(AttributeData attribute) {
-		Long propertyValue = null;
-		Object propertyValueObject = attribute.getValue();
-		if (propertyValueObject != null) {
-			if (propertyValueObject instanceof Long) {
-				propertyValue = (Long) propertyValueObject;
-			} else if (propertyValueObject instanceof Integer) {
-				propertyValue = ((Integer) propertyValueObject).longValue();
-			} else {
-				propertyValue = Long.valueOf(String.valueOf(propertyValueObject));
-			}
+	private void setPropertyValue(String propertyName, Setter propertyValueSetter, PropertyValueConverter converter, Object entry,
+			AttributeData attribute) {
+		if (attribute == null) {
+			return;
 		}
-		return propertyValue;
+
+		if (LOG.isDebugEnabled()) {
+			LOG.debug(String.format("LdapProperty: %s, AttributeName: %s, AttributeValue: %s", propertyName,
+					attribute.getName(), Arrays.toString(attribute.getValues())));
+		}
+
+		propertyValueSetter.set(entry, converter.convert(this, attribute));
 	}
 
 	protected Object convertJsonToValue(Class<?> parameterType, Object propertyValue) {
@@ -1868,7 +3320,7 @@ public abstract class BaseEntryManager implements PersistenceEntryManager {
 
 		Object result;
 		try {
-			result = ReflectHelper.createObjectByDefaultConstructor(classType);
+			result = getInstantiator(classType).newInstance();
 		} catch (Exception ex) {
 			throw new MappingException(String.format("Entry %s should has default constructor", classType));
 		}
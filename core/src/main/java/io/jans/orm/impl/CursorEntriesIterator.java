@@ -0,0 +1,53 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.impl;
+
+import java.util.List;
+
+import io.jans.orm.exception.EntryPersistenceException;
+import io.jans.orm.exception.operation.SearchException;
+import io.jans.orm.operation.SearchCursor;
+
+/**
+ * Iterates over rows of one open search. Cursor is opened on first read and
+ * it's kept open until all rows were read or iterator is closed
+ *
+ * @param <R> Type of row returned by persistence layer
+ * @param <T> Type of entry
+ */
+public abstract class CursorEntriesIterator<R, T> extends PagedEntriesIterator<R, T> {
+
+	private SearchCursor<R> cursor;
+
+	protected CursorEntriesIterator(int pageSize) {
+		super(pageSize);
+	}
+
+	protected abstract SearchCursor<R> openCursor() throws SearchException;
+
+	@Override
+	protected List<R> loadPage(int start, int count) {
+		try {
+			if (cursor == null) {
+				cursor = openCursor();
+			}
+
+			return cursor.next(count);
+		} catch (SearchException ex) {
+			throw new EntryPersistenceException("Failed to read next entries", ex);
+		}
+	}
+
+	@Override
+	protected void closeSearch() {
+		if (cursor != null) {
+			cursor.close();
+			cursor = null;
+		}
+	}
+
+}
@@ -0,0 +1,447 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import io.jans.orm.event.DeleteNotifier;
+import io.jans.orm.model.AttributeData;
+
+/**
+ * Second level cache of entries loaded by DN. It keeps attributes loaded from
+ * DB by (entry class, DN, requested attributes). DNs are compared ignoring
+ * case. Cache is bounded by size (least recently used entries are evicted
+ * first) and by TTL.
+ *
+ * Entries are invalidated by DN. Invalidation removes entries of DN and all
+ * entries under it. Entry which was loaded while invalidation happened is not
+ * added to cache because it might be loaded before modification
+ */
+public class EntryCache implements DeleteNotifier {
+
+	public static final int DEFAULT_MAX_SIZE = 1000;
+	public static final long DEFAULT_TTL = 60 * 1000L;
+
+	// Cached entries grouped by lower case DN
+	private final ConcurrentMap<String, ConcurrentMap<CacheKey, CachedEntry>> entries = new ConcurrentHashMap<String, ConcurrentMap<CacheKey, CachedEntry>>();
+
+	// Lower case DNs of cached entries by each of their parent DNs
+	private final ConcurrentMap<String, Set<String>> dnsByParentDn = new ConcurrentHashMap<String, Set<String>>();
+
+	private final AtomicInteger size = new AtomicInteger();
+	private final AtomicLong invalidationStamp = new AtomicLong();
+	private final ReentrantLock evictionLock = new ReentrantLock();
+
+	private volatile int maxSize;
+	private volatile long ttl;
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder putCount = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+	private final LongAdder expirationCount = new LongAdder();
+	private final LongAdder invalidationCount = new LongAdder();
+
+	public EntryCache() {
+		this(DEFAULT_MAX_SIZE, DEFAULT_TTL);
+	}
+
+	/**
+	 * @param maxSize
+	 *            Maximum count of cached entries. 0 disables cache
+	 * @param ttl
+	 *            Time to live of cached entry in milliseconds
+	 */
+	public EntryCache(int maxSize, long ttl) {
+		this.maxSize = maxSize;
+		this.ttl = ttl;
+	}
+
+	public boolean isEnabled() {
+		return (maxSize > 0) && (ttl > 0);
+	}
+
+	/**
+	 * Stamp which should be taken before loading entry from DB and passed to
+	 * {@link #put(Class, String, String[], List, long)}
+	 */
+	public long getInvalidationStamp() {
+		return invalidationStamp.get();
+	}
+
+	/**
+	 * Get cached attributes of entry
+	 *
+	 * @return Cached attributes or null if there is no entry in cache. Caller
+	 *         should not modify returned attributes
+	 */
+	public List<AttributeData> get(Class<?> entryClass, String dn, String[] returnAttributes) {
+		String dnLowerCase = dn.toLowerCase();
+		ConcurrentMap<CacheKey, CachedEntry> dnEntries = entries.get(dnLowerCase);
+		if (dnEntries == null) {
+			missCount.increment();
+			return null;
+		}
+
+		CacheKey key = new CacheKey(entryClass, dnLowerCase, returnAttributes);
+		CachedEntry cachedEntry = dnEntries.get(key);
+		if (cachedEntry == null) {
+			missCount.increment();
+			return null;
+		}
+
+		if (cachedEntry.expiresAt <= System.currentTimeMillis()) {
+			removeEntry(dnLowerCase, key, cachedEntry, expirationCount);
+			missCount.increment();
+			return null;
+		}
+
+		cachedEntry.lastAccess = System.nanoTime();
+		hitCount.increment();
+
+		return cachedEntry.attributes;
+	}
+
+	/**
+	 * Put attributes loaded from DB to cache. Attributes are not added if cache
+	 * was invalidated after stamp was taken
+	 */
+	public void put(Class<?> entryClass, String dn, String[] returnAttributes, List<AttributeData> attributes, long stamp) {
+		if (!isEnabled()) {
+			return;
+		}
+
+		String dnLowerCase = dn.toLowerCase();
+		CacheKey key = new CacheKey(entryClass, dnLowerCase, returnAttributes);
+		CachedEntry cachedEntry = new CachedEntry(attributes, System.currentTimeMillis() + ttl);
+
+		entries.compute(dnLowerCase, (k, dnEntries) -> {
+			ConcurrentMap<CacheKey, CachedEntry> result = dnEntries;
+			if (result == null) {
+				addToParentDns(dnLowerCase);
+				result = new ConcurrentHashMap<CacheKey, CachedEntry>(2);
+			}
+
+			// Invalidation changes stamp before it looks up DNs under invalidated DN. Hence
+			// check after adding DN to parents guarantees that invalidation finds this entry
+			if (stamp != invalidationStamp.get()) {
+				return removeIfEmpty(dnLowerCase, result);
+			}
+
+			if (result.put(key, cachedEntry) == null) {
+				size.incrementAndGet();
+			}
+			putCount.increment();
+
+			return result;
+		});
+
+		if (size.get() > maxSize) {
+			evict();
+		}
+	}
+
+	/**
+	 * Remove entries with specified DN and entries under it
+	 */
+	public void invalidate(String dn) {
+		if (dn == null) {
+			return;
+		}
+
+		invalidationStamp.incrementAndGet();
+		invalidationCount.increment();
+
+		String dnLowerCase = dn.toLowerCase();
+		removeDn(dnLowerCase);
+
+		Set<String> childDns = dnsByParentDn.get(dnLowerCase);
+		if (childDns != null) {
+			for (String childDn : childDns) {
+				removeDn(childDn);
+			}
+		}
+	}
+
+	public void clear() {
+		invalidationStamp.incrementAndGet();
+		entries.clear();
+		dnsByParentDn.clear();
+		size.set(0);
+	}
+
+	@Override
+	public void onBeforeRemove(String dn) {
+		invalidate(dn);
+	}
+
+	@Override
+	public void onAfterRemove(String dn) {
+		invalidate(dn);
+	}
+
+	/*
+	 * Remove least recently used entries. Few more entries than needed are
+	 * removed to not sort entries on each put into full cache
+	 */
+	private void evict() {
+		if (!evictionLock.tryLock()) {
+			return;
+		}
+
+		try {
+			int currentMaxSize = maxSize;
+			int count = size.get() - currentMaxSize;
+			if (count <= 0) {
+				return;
+			}
+			count += currentMaxSize / 16;
+
+			List<EvictionCandidate> candidates = new ArrayList<EvictionCandidate>(size.get());
+			for (Map.Entry<String, ConcurrentMap<CacheKey, CachedEntry>> dnEntries : entries.entrySet()) {
+				for (Map.Entry<CacheKey, CachedEntry> entry : dnEntries.getValue().entrySet()) {
+					candidates.add(new EvictionCandidate(dnEntries.getKey(), entry.getKey(), entry.getValue()));
+				}
+			}
+			candidates.sort(Comparator.comparingLong(candidate -> candidate.lastAccess));
+
+			for (int i = 0; (i < count) && (i < candidates.size()); i++) {
+				EvictionCandidate candidate = candidates.get(i);
+				removeEntry(candidate.dnLowerCase, candidate.key, candidate.entry, evictionCount);
+			}
+		} finally {
+			evictionLock.unlock();
+		}
+	}
+
+	private void removeEntry(String dnLowerCase, CacheKey key, CachedEntry cachedEntry, LongAdder counter) {
+		entries.computeIfPresent(dnLowerCase, (k, dnEntries) -> {
+			if (dnEntries.remove(key, cachedEntry)) {
+				size.decrementAndGet();
+				counter.increment();
+			}
+
+			return removeIfEmpty(dnLowerCase, dnEntries);
+		});
+	}
+
+	private void removeDn(String dnLowerCase) {
+		entries.computeIfPresent(dnLowerCase, (k, dnEntries) -> {
+			size.addAndGet(-dnEntries.size());
+			removeFromParentDns(dnLowerCase);
+
+			return null;
+		});
+	}
+
+	private ConcurrentMap<CacheKey, CachedEntry> removeIfEmpty(String dnLowerCase, ConcurrentMap<CacheKey, CachedEntry> dnEntries) {
+		if (dnEntries.isEmpty()) {
+			removeFromParentDns(dnLowerCase);
+			return null;
+		}
+
+		return dnEntries;
+	}
+
+	private void addToParentDns(String dnLowerCase) {
+		for (int pos = nextParentDn(dnLowerCase, 0); pos != -1; pos = nextParentDn(dnLowerCase, pos)) {
+			dnsByParentDn.compute(dnLowerCase.substring(pos), (parentDn, childDns) -> {
+				Set<String> result = childDns;
+				if (result == null) {
+					result = ConcurrentHashMap.newKeySet();
+				}
+				result.add(dnLowerCase);
+
+				return result;
+			});
+		}
+	}
+
+	private void removeFromParentDns(String dnLowerCase) {
+		for (int pos = nextParentDn(dnLowerCase, 0); pos != -1; pos = nextParentDn(dnLowerCase, pos)) {
+			dnsByParentDn.computeIfPresent(dnLowerCase.substring(pos), (parentDn, childDns) -> {
+				childDns.remove(dnLowerCase);
+
+				return childDns.isEmpty() ? null : childDns;
+			});
+		}
+	}
+
+	/*
+	 * Start of parent DN after first not escaped comma starting from specified
+	 * position. Spaces after comma are skipped
+	 */
+	private static int nextParentDn(String dn, int from) {
+		for (int pos = from; pos < dn.length(); pos++) {
+			char ch = dn.charAt(pos);
+			if (ch == '\\') {
+				pos++;
+			} else if (ch == ',') {
+				pos++;
+				while ((pos < dn.length()) && (dn.charAt(pos) == ' ')) {
+					pos++;
+				}
+
+				return pos < dn.length() ? pos : -1;
+			}
+		}
+
+		return -1;
+	}
+
+	public int size() {
+		return size.get();
+	}
+
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	public void setMaxSize(int maxSize) {
+		this.maxSize = maxSize;
+		if (maxSize <= 0) {
+			clear();
+		} else if (size.get() > maxSize) {
+			evict();
+		}
+	}
+
+	public long getTtl() {
+		return ttl;
+	}
+
+	public void setTtl(long ttl) {
+		this.ttl = ttl;
+	}
+
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	public double getHitRatio() {
+		long hits = hitCount.sum();
+		long requests = hits + missCount.sum();
+
+		return requests == 0 ? 0.0 : (double) hits / requests;
+	}
+
+	public long getPutCount() {
+		return putCount.sum();
+	}
+
+	public long getEvictionCount() {
+		return evictionCount.sum();
+	}
+
+	public long getExpirationCount() {
+		return expirationCount.sum();
+	}
+
+	public long getInvalidationCount() {
+		return invalidationCount.sum();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("EntryCache [size=%s, maxSize=%s, ttl=%s, hits=%s, misses=%s, puts=%s, evictions=%s, expirations=%s, invalidations=%s]",
+				size(), maxSize, ttl, getHitCount(), getMissCount(), getPutCount(), getEvictionCount(), getExpirationCount(),
+				getInvalidationCount());
+	}
+
+	private static final class CacheKey {
+
+		private final Class<?> entryClass;
+		private final String dnLowerCase;
+		private final String returnAttributes;
+		private final int hashCode;
+
+		private CacheKey(Class<?> entryClass, String dnLowerCase, String[] returnAttributes) {
+			this.entryClass = entryClass;
+			this.dnLowerCase = dnLowerCase;
+			this.returnAttributes = toKey(returnAttributes);
+			this.hashCode = 31 * (31 * entryClass.hashCode() + dnLowerCase.hashCode()) + this.returnAttributes.hashCode();
+		}
+
+		private static String toKey(String[] returnAttributes) {
+			if ((returnAttributes == null) || (returnAttributes.length == 0)) {
+				return "";
+			}
+
+			String[] names = new String[returnAttributes.length];
+			for (int i = 0; i < returnAttributes.length; i++) {
+				names[i] = returnAttributes[i].toLowerCase();
+			}
+			Arrays.sort(names);
+
+			return String.join(",", names);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof CacheKey)) {
+				return false;
+			}
+
+			CacheKey other = (CacheKey) obj;
+
+			return (entryClass == other.entryClass) && dnLowerCase.equals(other.dnLowerCase) && returnAttributes.equals(other.returnAttributes);
+		}
+	}
+
+	private static final class CachedEntry {
+
+		private final List<AttributeData> attributes;
+		private final long expiresAt;
+		private volatile long lastAccess = System.nanoTime();
+
+		private CachedEntry(List<AttributeData> attributes, long expiresAt) {
+			this.attributes = attributes;
+			this.expiresAt = expiresAt;
+		}
+	}
+
+	private static final class EvictionCandidate {
+
+		private final String dnLowerCase;
+		private final CacheKey key;
+		private final CachedEntry entry;
+		private final long lastAccess;
+
+		private EvictionCandidate(String dnLowerCase, CacheKey key, CachedEntry entry) {
+			this.dnLowerCase = dnLowerCase;
+			this.key = key;
+			this.entry = entry;
+			// Access time can change while candidates are sorted
+			this.lastAccess = entry.lastAccess;
+		}
+	}
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.impl;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache of filters converted to persistence specific templates. Template is
+ * stored by key of filter shape and contains parameter slots instead of
+ * assertion values. Cache is bounded by size, least recently used templates are
+ * evicted first
+ */
+public class FilterTemplateCache<T> {
+
+	/**
+	 * System property with maximum count of cached templates per converter. 0
+	 * disables cache
+	 */
+	public static final String FILTER_TEMPLATE_CACHE_SIZE = "jans.orm.filter_template_cache.size";
+
+	public static final int DEFAULT_MAX_SIZE = 1000;
+
+	private final Object lock = new Object();
+
+	private final LinkedHashMap<String, T> templates = new LinkedHashMap<String, T>(16, 0.75f, true);
+
+	private volatile int maxSize;
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+
+	public FilterTemplateCache() {
+		this(Integer.getInteger(FILTER_TEMPLATE_CACHE_SIZE, DEFAULT_MAX_SIZE));
+	}
+
+	/**
+	 * @param maxSize
+	 *            Maximum count of cached templates. 0 disables cache
+	 */
+	public FilterTemplateCache(int maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	public boolean isEnabled() {
+		return maxSize > 0;
+	}
+
+	/**
+	 * @return Cached template or null if there is no template in cache
+	 */
+	public T get(String key) {
+		synchronized (lock) {
+			T template = templates.get(key);
+			if (template == null) {
+				missCount.increment();
+			} else {
+				hitCount.increment();
+			}
+
+			return template;
+		}
+	}
+
+	public void put(String key, T template) {
+		if (!isEnabled()) {
+			return;
+		}
+
+		synchronized (lock) {
+			templates.put(key, template);
+
+			Iterator<String> eldestKeys = templates.keySet().iterator();
+			while (templates.size() > maxSize) {
+				eldestKeys.next();
+				eldestKeys.remove();
+				evictionCount.increment();
+			}
+		}
+	}
+
+	public void clear() {
+		synchronized (lock) {
+			templates.clear();
+		}
+	}
+
+	public int size() {
+		synchronized (lock) {
+			return templates.size();
+		}
+	}
+
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	public void setMaxSize(int maxSize) {
+		this.maxSize = maxSize;
+		if (maxSize <= 0) {
+			clear();
+		}
+	}
+
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	public long getEvictionCount() {
+		return evictionCount.sum();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("FilterTemplateCache [size=%s, maxSize=%s, hits=%s, misses=%s, evictions=%s]", size(), maxSize, getHitCount(),
+				getMissCount(), getEvictionCount());
+	}
+
+}
@@ -6,6 +6,15 @@
 
 package io.jans.orm.impl;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
 import io.jans.orm.exception.KeyConversionException;
 import io.jans.orm.impl.model.ParsedKey;
 import io.jans.orm.util.StringHelper;
@@ -16,15 +25,37 @@ import io.jans.orm.util.StringHelper;
  * @author Yuriy Movchan Date: 05/30/2018
  */
 public class GenericKeyConverter {
-	
+
+	/**
+	 * System property with maximum count of cached parsed DNs per converter.
+	 * Default value 0 disables cache
+	 */
+	public static final String KEY_CACHE_SIZE = "jans.orm.key_cache.size";
+
 	private boolean useAllRdn;
 
+	private final ConcurrentMap<String, CachedKey> parsedKeys = new ConcurrentHashMap<String, CachedKey>();
+	private final ReentrantLock evictionLock = new ReentrantLock();
+	private volatile int maxCacheSize;
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+
 	public GenericKeyConverter() {
-		this.useAllRdn = true;
+		this(true);
 	}
 
 	public GenericKeyConverter(boolean useAllRdn) {
+		this(useAllRdn, Integer.getInteger(KEY_CACHE_SIZE, 0));
+	}
+
+	/**
+	 * @param maxCacheSize
+	 *            Maximum count of cached parsed DNs. 0 disables cache
+	 */
+	public GenericKeyConverter(boolean useAllRdn, int maxCacheSize) {
 		this.useAllRdn = useAllRdn;
+		this.maxCacheSize = maxCacheSize;
 	}
 
     public ParsedKey convertToKey(String dn) {
@@ -32,22 +63,107 @@ public class GenericKeyConverter {
             throw new KeyConversionException("Failed to convert empty DN to Key");
         }
 
-        StringBuilder result = new StringBuilder();
-        String[] tokens = dn.split(",");
+        if (maxCacheSize <= 0) {
+        	return parseKey(dn);
+        }
+
+        CachedKey cachedKey = parsedKeys.get(dn);
+        if (cachedKey != null) {
+        	cachedKey.lastAccess = System.nanoTime();
+        	hitCount.increment();
+        	return cachedKey.parsedKey;
+        }
+        missCount.increment();
+
+        ParsedKey parsedKey = parseKey(dn);
+        parsedKeys.put(dn, new CachedKey(parsedKey));
+        if (parsedKeys.size() > maxCacheSize) {
+        	evict();
+        }
+
+        return parsedKey;
+    }
 
+	/*
+	 * Remove least recently used keys. Few more keys than needed are removed to
+	 * not sort keys on each put into full cache
+	 */
+	private void evict() {
+		if (!evictionLock.tryLock()) {
+			return;
+		}
+
+		try {
+			int currentMaxSize = maxCacheSize;
+			int count = parsedKeys.size() - currentMaxSize;
+			if (count <= 0) {
+				return;
+			}
+			count += currentMaxSize / 16;
+
+			List<EvictionCandidate> candidates = new ArrayList<EvictionCandidate>(parsedKeys.size());
+			for (Map.Entry<String, CachedKey> entry : parsedKeys.entrySet()) {
+				candidates.add(new EvictionCandidate(entry.getKey(), entry.getValue()));
+			}
+			candidates.sort(Comparator.comparingLong(candidate -> candidate.lastAccess));
+
+			for (int i = 0; (i < count) && (i < candidates.size()); i++) {
+				EvictionCandidate candidate = candidates.get(i);
+				parsedKeys.remove(candidate.dn, candidate.cachedKey);
+			}
+		} finally {
+			evictionLock.unlock();
+		}
+	}
+
+	/**
+	 * Single pass over DN. Escaped commas are part of value. Values are not
+	 * unescaped, so keys of existing entries don't change. Like before empty RDNs
+	 * at the end of DN are ignored and names and values are not trimmed
+	 */
+    private ParsedKey parseKey(String dn) {
+        int length = dn.length();
+
+        // Values of RDNs which are part of key in DN order
+        List<String> values = new ArrayList<String>(4);
         String orgInum = null;
         String attributeName = null;
-        for (String token : tokens) {
-            int pos = token.indexOf("=");
-            if (pos == -1) {
+
+        int pos = 0;
+        while (pos < length) {
+            int rdnStart = pos;
+            int nameEnd = -1;
+            while (pos < length) {
+                char ch = dn.charAt(pos);
+                if (ch == '\\') {
+                    pos += 2;
+                    continue;
+                }
+                if (ch == ',') {
+                    break;
+                }
+                if ((ch == '=') && (nameEnd == -1)) {
+                    nameEnd = pos;
+                }
+                pos++;
+            }
+            int rdnEnd = Math.min(pos, length);
+            // Skip separator
+            pos++;
+
+            if (nameEnd == -1) {
+                if ((rdnStart == rdnEnd) && isSeparatorsOnly(dn, rdnEnd)) {
+                    break;
+                }
                 throw new KeyConversionException("Failed to convert empty DN to Key");
             }
 
-            String name = token.substring(0, pos);
+            String name = dn.substring(rdnStart, nameEnd);
             if (attributeName == null) {
-            	attributeName = name;
+                attributeName = name;
             }
-            String value = token.substring(pos + 1, token.length());
+
+            String value = dn.substring(nameEnd + 1, rdnEnd);
             if (StringHelper.equalsIgnoreCase(name, "o")) {
                 if (!StringHelper.equalsIgnoreCase(value, "jans")) {
                     orgInum = value;
@@ -55,20 +171,89 @@ public class GenericKeyConverter {
                 continue;
             }
 
-            result.insert(0, "_" + value);
+            values.add(value);
             if (!useAllRdn) {
-            	break;
+                break;
             }
         }
 
-        String key = result.toString();
-        if (key.length() == 0) {
+        String key;
+        if (values.isEmpty()) {
             key = "_";
+        } else if (values.size() == 1) {
+            key = values.get(0);
         } else {
-            key = key.substring(1);
+            // Key contains values in reverse order
+            StringBuilder result = new StringBuilder(length);
+            for (int i = values.size() - 1; i >= 0; i--) {
+                result.append(values.get(i));
+                if (i > 0) {
+                    result.append('_');
+                }
+            }
+            key = result.toString();
         }
 
         return new ParsedKey(key, attributeName, orgInum);
     }
 
+    private boolean isSeparatorsOnly(String dn, int start) {
+        for (int i = start; i < dn.length(); i++) {
+            if (dn.charAt(i) != ',') {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+	public int getCacheSize() {
+		return parsedKeys.size();
+	}
+
+	public int getMaxCacheSize() {
+		return maxCacheSize;
+	}
+
+	public void setMaxCacheSize(int maxCacheSize) {
+		this.maxCacheSize = maxCacheSize;
+		if (maxCacheSize <= 0) {
+			parsedKeys.clear();
+		} else if (parsedKeys.size() > maxCacheSize) {
+			evict();
+		}
+	}
+
+	public long getCacheHitCount() {
+		return hitCount.sum();
+	}
+
+	public long getCacheMissCount() {
+		return missCount.sum();
+	}
+
+	private static final class CachedKey {
+
+		private final ParsedKey parsedKey;
+		private volatile long lastAccess = System.nanoTime();
+
+		private CachedKey(ParsedKey parsedKey) {
+			this.parsedKey = parsedKey;
+		}
+	}
+
+	private static final class EvictionCandidate {
+
+		private final String dn;
+		private final CachedKey cachedKey;
+		private final long lastAccess;
+
+		private EvictionCandidate(String dn, CachedKey cachedKey) {
+			this.dn = dn;
+			this.cachedKey = cachedKey;
+			// Access time can change while candidates are sorted
+			this.lastAccess = cachedKey.lastAccess;
+		}
+	}
+
 }
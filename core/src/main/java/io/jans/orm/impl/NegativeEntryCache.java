@@ -0,0 +1,231 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.impl;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Short living cache of DNs which don't exist in DB. It allows to skip DB
+ * request on repeated lookups of absent entries. Absent DN is remembered per
+ * entry class and it's invalidated when entry with this DN is added
+ */
+public class NegativeEntryCache {
+
+	public static final int DEFAULT_MAX_SIZE = 10000;
+	public static final long DEFAULT_TTL = 0L;
+
+	// Absent entries grouped by lower case DN to allow invalidate DN in any case
+	private final ConcurrentMap<String, ConcurrentMap<AbsentEntryKey, Long>> absentEntries = new ConcurrentHashMap<String, ConcurrentMap<AbsentEntryKey, Long>>();
+	private final AtomicInteger size = new AtomicInteger();
+	private final AtomicLong invalidationStamp = new AtomicLong();
+
+	private volatile int maxSize;
+	private volatile long ttl;
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder putCount = new LongAdder();
+	private final LongAdder invalidationCount = new LongAdder();
+
+	/**
+	 * @param maxSize
+	 *            Maximum count of remembered absent entries
+	 * @param ttl
+	 *            Time in milliseconds during which entry is considered as absent.
+	 *            0 disables cache
+	 */
+	public NegativeEntryCache(int maxSize, long ttl) {
+		this.maxSize = maxSize;
+		this.ttl = ttl;
+	}
+
+	public boolean isEnabled() {
+		return (maxSize > 0) && (ttl > 0);
+	}
+
+	/**
+	 * Stamp which should be taken before lookup and passed to
+	 * {@link #put(Class, String, long)}
+	 */
+	public long getInvalidationStamp() {
+		return invalidationStamp.get();
+	}
+
+	/**
+	 * Check if entry was not found recently
+	 */
+	public boolean isAbsent(Class<?> entryClass, String dn) {
+		ConcurrentMap<AbsentEntryKey, Long> dnEntries = absentEntries.get(dn.toLowerCase());
+		if (dnEntries == null) {
+			return false;
+		}
+
+		// Expired entries are removed when cache is full
+		Long expiresAt = dnEntries.get(new AbsentEntryKey(entryClass, dn));
+		if ((expiresAt == null) || (expiresAt <= System.currentTimeMillis())) {
+			return false;
+		}
+
+		hitCount.increment();
+		return true;
+	}
+
+	/**
+	 * Remember that entry doesn't exist. Entry is not remembered if DN was
+	 * invalidated after stamp was taken
+	 */
+	public void put(Class<?> entryClass, String dn, long stamp) {
+		if (!isEnabled()) {
+			return;
+		}
+
+		if (size.get() >= maxSize) {
+			removeExpired();
+			if (size.get() >= maxSize) {
+				return;
+			}
+		}
+
+		AbsentEntryKey key = new AbsentEntryKey(entryClass, dn);
+		Long expiresAt = System.currentTimeMillis() + ttl;
+
+		// Invalidation changes stamp before removal of DN entries. Hence check inside compute
+		// guarantees that entry is not added after concurrent invalidation
+		absentEntries.compute(dn.toLowerCase(), (dnLowerCase, dnEntries) -> {
+			if (stamp != invalidationStamp.get()) {
+				return dnEntries;
+			}
+
+			ConcurrentMap<AbsentEntryKey, Long> result = dnEntries;
+			if (result == null) {
+				result = new ConcurrentHashMap<AbsentEntryKey, Long>(2);
+			}
+			if (result.put(key, expiresAt) == null) {
+				size.incrementAndGet();
+			}
+			putCount.increment();
+
+			return result;
+		});
+	}
+
+	/**
+	 * Forget absent entries with specified DN
+	 */
+	public void invalidate(String dn) {
+		if (dn == null) {
+			return;
+		}
+
+		invalidationStamp.incrementAndGet();
+		invalidationCount.increment();
+
+		ConcurrentMap<AbsentEntryKey, Long> dnEntries = absentEntries.remove(dn.toLowerCase());
+		if (dnEntries != null) {
+			size.addAndGet(-dnEntries.size());
+		}
+	}
+
+	public void clear() {
+		invalidationStamp.incrementAndGet();
+		absentEntries.clear();
+		size.set(0);
+	}
+
+	private void removeExpired() {
+		long now = System.currentTimeMillis();
+		for (String dnLowerCase : absentEntries.keySet()) {
+			absentEntries.computeIfPresent(dnLowerCase, (key, dnEntries) -> {
+				for (Iterator<Long> it = dnEntries.values().iterator(); it.hasNext();) {
+					if (it.next() <= now) {
+						it.remove();
+						size.decrementAndGet();
+					}
+				}
+
+				return dnEntries.isEmpty() ? null : dnEntries;
+			});
+		}
+	}
+
+	public int size() {
+		return size.get();
+	}
+
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	public void setMaxSize(int maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	public long getTtl() {
+		return ttl;
+	}
+
+	public void setTtl(long ttl) {
+		this.ttl = ttl;
+		if (ttl <= 0) {
+			clear();
+		}
+	}
+
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	public long getPutCount() {
+		return putCount.sum();
+	}
+
+	public long getInvalidationCount() {
+		return invalidationCount.sum();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("NegativeEntryCache [size=%s, maxSize=%s, ttl=%s, hits=%s, puts=%s, invalidations=%s]", size(), maxSize, ttl,
+				getHitCount(), getPutCount(), getInvalidationCount());
+	}
+
+	private static final class AbsentEntryKey {
+
+		private final Class<?> entryClass;
+		private final String dn;
+
+		private AbsentEntryKey(Class<?> entryClass, String dn) {
+			this.entryClass = entryClass;
+			this.dn = dn;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * entryClass.hashCode() + dn.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof AbsentEntryKey)) {
+				return false;
+			}
+
+			AbsentEntryKey other = (AbsentEntryKey) obj;
+
+			return (entryClass == other.entryClass) && dn.equals(other.dn);
+		}
+	}
+
+}
@@ -0,0 +1,131 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.impl;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Iterates over search result page by page. Next page is loaded when all
+ * entries of current page were consumed. Entries are created from loaded rows
+ * one by one
+ *
+ * @param <R> Type of row returned by persistence layer
+ * @param <T> Type of entry
+ */
+public abstract class PagedEntriesIterator<R, T> implements Iterator<T>, AutoCloseable {
+
+	public static final int DEFAULT_PAGE_SIZE = 100;
+
+	private final int pageSize;
+
+	private Iterator<R> page = Collections.emptyIterator();
+	private int loadedCount;
+	private boolean lastPage;
+	private boolean closed;
+
+	protected PagedEntriesIterator(int pageSize) {
+		this.pageSize = pageSize > 0 ? pageSize : DEFAULT_PAGE_SIZE;
+	}
+
+	/**
+	 * Load next page of rows
+	 *
+	 * @param start
+	 *            Count of already loaded rows
+	 * @param count
+	 *            Page size
+	 */
+	protected abstract List<R> loadPage(int start, int count);
+
+	protected abstract T createEntry(R row);
+
+	/**
+	 * Check if there are more rows after loaded page
+	 */
+	protected boolean isLastPage(List<R> rows) {
+		return rows.size() < pageSize;
+	}
+
+	/**
+	 * Release resources used by search. It's called once when iteration is
+	 * finished or iterator is closed
+	 */
+	protected void closeSearch() {
+	}
+
+	public int getPageSize() {
+		return pageSize;
+	}
+
+	@Override
+	public boolean hasNext() {
+		while (!page.hasNext()) {
+			if (closed) {
+				return false;
+			}
+
+			if (lastPage) {
+				close();
+				return false;
+			}
+
+			List<R> rows;
+			try {
+				rows = loadPage(loadedCount, pageSize);
+			} catch (RuntimeException ex) {
+				close();
+				throw ex;
+			}
+
+			if (rows == null) {
+				rows = Collections.emptyList();
+			}
+
+			loadedCount += rows.size();
+			lastPage = rows.isEmpty() || isLastPage(rows);
+			page = rows.iterator();
+		}
+
+		return true;
+	}
+
+	@Override
+	public T next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+
+		return createEntry(page.next());
+	}
+
+	@Override
+	public void close() {
+		if (closed) {
+			return;
+		}
+
+		closed = true;
+		page = Collections.emptyIterator();
+		closeSearch();
+	}
+
+	/**
+	 * Sequential stream of entries. Closing stream closes this iterator
+	 */
+	public Stream<T> stream() {
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+				.onClose(this::close);
+	}
+
+}
@@ -0,0 +1,311 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.jans.orm.annotation.AttributeEnum;
+import io.jans.orm.exception.MappingException;
+import io.jans.orm.model.AttributeData;
+import io.jans.orm.reflect.property.Setter;
+import io.jans.orm.reflect.util.ReflectHelper;
+
+/**
+ * Converts attribute loaded from DB to value of entry property. Converter is
+ * selected once by property type. Time and JSON conversions are delegated to
+ * entry manager because they depend on persistence layer
+ */
+public abstract class PropertyValueConverter {
+
+	private static final ClassValue<Map<String, AttributeEnum>> ENUM_VALUES = new ClassValue<Map<String, AttributeEnum>>() {
+		@Override
+		protected Map<String, AttributeEnum> computeValue(Class<?> type) {
+			Object[] enumConstants = type.getEnumConstants();
+			if (enumConstants == null) {
+				return Collections.emptyMap();
+			}
+
+			Map<String, AttributeEnum> values = new HashMap<String, AttributeEnum>(enumConstants.length * 2);
+			for (Object enumConstant : enumConstants) {
+				AttributeEnum attributeEnum = (AttributeEnum) enumConstant;
+				values.putIfAbsent(attributeEnum.getValue(), attributeEnum);
+			}
+
+			return values;
+		}
+	};
+
+	public abstract Object convert(BaseEntryManager entryManager, AttributeData attribute);
+
+	/**
+	 * Select converter for property with given setter parameter type
+	 */
+	public static PropertyValueConverter forType(String propertyName, Setter setter, Class<?> parameterType, boolean jsonObject) {
+		if (parameterType.equals(String.class)) {
+			return STRING_CONVERTER;
+		} else if (parameterType.equals(Boolean.class) || parameterType.equals(Boolean.TYPE)) {
+			return BOOLEAN_CONVERTER;
+		} else if (parameterType.equals(Integer.class) || parameterType.equals(Integer.TYPE)) {
+			return INTEGER_CONVERTER;
+		} else if (parameterType.equals(Long.class) || parameterType.equals(Long.TYPE)) {
+			return LONG_CONVERTER;
+		} else if (parameterType.equals(Date.class)) {
+			return DATE_CONVERTER;
+		} else if (parameterType.equals(String[].class)) {
+			return STRING_ARRAY_CONVERTER;
+		} else if (ReflectHelper.assignableFrom(parameterType, List.class)) {
+			return new ListConverter(setter, jsonObject);
+		} else if (ReflectHelper.assignableFrom(parameterType, AttributeEnum.class)) {
+			return new EnumConverter(parameterType);
+		} else if (ReflectHelper.assignableFrom(parameterType, AttributeEnum[].class)) {
+			return new EnumArrayConverter(parameterType);
+		} else if (jsonObject) {
+			return new JsonConverter(parameterType);
+		}
+
+		return new UnsupportedTypeConverter(propertyName);
+	}
+
+	private static final PropertyValueConverter STRING_CONVERTER = new PropertyValueConverter() {
+		@Override
+		public Object convert(BaseEntryManager entryManager, AttributeData attribute) {
+			Object value = attribute.getValue();
+			if (value instanceof Date) {
+				value = entryManager.encodeTime((Date) value);
+			}
+
+			return String.valueOf(value);
+		}
+	};
+
+	private static final PropertyValueConverter BOOLEAN_CONVERTER = new PropertyValueConverter() {
+		@Override
+		public Object convert(BaseEntryManager entryManager, AttributeData attribute) {
+			Object value = attribute.getValue();
+			if (value == null) {
+				return null;
+			}
+
+			if (value instanceof Boolean) {
+				return value;
+			}
+
+			return Boolean.valueOf(String.valueOf(value));
+		}
+	};
+
+	private static final PropertyValueConverter INTEGER_CONVERTER = new PropertyValueConverter() {
+		@Override
+		public Object convert(BaseEntryManager entryManager, AttributeData attribute) {
+			Object value = attribute.getValue();
+			if (value == null) {
+				return null;
+			}
+
+			if (value instanceof Integer) {
+				return value;
+			} else if (value instanceof Long) {
+				return ((Long) value).intValue();
+			}
+
+			return Integer.valueOf(String.valueOf(value));
+		}
+	};
+
+	private static final PropertyValueConverter LONG_CONVERTER = new PropertyValueConverter() {
+		@Override
+		public Object convert(BaseEntryManager entryManager, AttributeData attribute) {
+			Object value = attribute.getValue();
+			if (value == null) {
+				return null;
+			}
+
+			if (value instanceof Long) {
+				return value;
+			} else if (value instanceof Integer) {
+				return ((Integer) value).longValue();
+			}
+
+			return Long.valueOf(String.valueOf(value));
+		}
+	};
+
+	private static final PropertyValueConverter DATE_CONVERTER = new PropertyValueConverter() {
+		@Override
+		public Object convert(BaseEntryManager entryManager, AttributeData attribute) {
+			Object value = attribute.getValue();
+			if (value == null) {
+				return null;
+			}
+
+			if (value instanceof Date) {
+				return value;
+			}
+
+			return entryManager.decodeTime(String.valueOf(value));
+		}
+	};
+
+	private static final PropertyValueConverter STRING_ARRAY_CONVERTER = new PropertyValueConverter() {
+		@Override
+		public Object convert(BaseEntryManager entryManager, AttributeData attribute) {
+			return attribute.getStringValues();
+		}
+	};
+
+	private static final class ListConverter extends PropertyValueConverter {
+
+		private final Setter setter;
+		private final boolean jsonObject;
+
+		// Resolved on first conversion because it fails for not parameterized lists
+		private Class<?> listType;
+
+		private ListConverter(Setter setter, boolean jsonObject) {
+			this.setter = setter;
+			this.jsonObject = jsonObject;
+		}
+
+		@Override
+		public Object convert(BaseEntryManager entryManager, AttributeData attribute) {
+			Class<?> itemType = this.listType;
+			if (itemType == null) {
+				itemType = ReflectHelper.getListType(setter);
+				this.listType = itemType;
+			}
+
+			Object[] values = attribute.getValues();
+			if (jsonObject) {
+				List<Object> jsonValues = new ArrayList<Object>(values.length);
+				for (Object value : values) {
+					jsonValues.add(entryManager.convertJsonToValue(itemType, value));
+				}
+
+				return jsonValues;
+			}
+
+			if (itemType.equals(String.class)) {
+				List<String> result = new ArrayList<String>(values.length);
+				for (Object value : values) {
+					if (value instanceof Date) {
+						result.add(entryManager.encodeTime((Date) value));
+					} else {
+						result.add(String.valueOf(value));
+					}
+				}
+
+				return result;
+			}
+
+			return Arrays.asList(values);
+		}
+	}
+
+	private static final class EnumConverter extends PropertyValueConverter {
+
+		private final Class<?> enumType;
+		private final Map<String, AttributeEnum> values;
+
+		private EnumConverter(Class<?> enumType) {
+			this.enumType = enumType;
+			this.values = ENUM_VALUES.get(enumType);
+		}
+
+		@Override
+		public Object convert(BaseEntryManager entryManager, AttributeData attribute) {
+			Object value = attribute.getValue();
+			AttributeEnum result = values.get(value);
+			if (result != null) {
+				return result;
+			}
+
+			try {
+				return resolveByValue(enumType, value);
+			} catch (Exception ex) {
+				throw new MappingException("Failed to resolve Enum '" + enumType + "' by value '" + value + "'", ex);
+			}
+		}
+	}
+
+	private static final class EnumArrayConverter extends PropertyValueConverter {
+
+		private final Class<?> arrayType;
+		private final Class<?> enumType;
+		private final Map<String, AttributeEnum> values;
+
+		private EnumArrayConverter(Class<?> arrayType) {
+			this.arrayType = arrayType;
+			this.enumType = arrayType.getComponentType();
+			this.values = ENUM_VALUES.get(enumType);
+		}
+
+		@Override
+		public Object convert(BaseEntryManager entryManager, AttributeData attribute) {
+			Object[] attributeValues = attribute.getValues();
+			AttributeEnum[] result = (AttributeEnum[]) ReflectHelper.createArray(enumType, attributeValues.length);
+			for (int i = 0; i < attributeValues.length; i++) {
+				AttributeEnum attributeEnum = values.get(attributeValues[i]);
+				if (attributeEnum == null) {
+					try {
+						attributeEnum = (AttributeEnum) resolveByValue(enumType, attributeValues[i]);
+					} catch (Exception ex) {
+						throw new MappingException(
+								"Failed to resolve Enum '" + arrayType + "' by value '" + Arrays.toString(attributeValues) + "'", ex);
+					}
+				}
+				result[i] = attributeEnum;
+			}
+
+			return result;
+		}
+	}
+
+	private static final class JsonConverter extends PropertyValueConverter {
+
+		private final Class<?> parameterType;
+
+		private JsonConverter(Class<?> parameterType) {
+			this.parameterType = parameterType;
+		}
+
+		@Override
+		public Object convert(BaseEntryManager entryManager, AttributeData attribute) {
+			return entryManager.convertJsonToValue(parameterType, attribute.getValue());
+		}
+	}
+
+	private static final class UnsupportedTypeConverter extends PropertyValueConverter {
+
+		private final String propertyName;
+
+		private UnsupportedTypeConverter(String propertyName) {
+			this.propertyName = propertyName;
+		}
+
+		@Override
+		public Object convert(BaseEntryManager entryManager, AttributeData attribute) {
+			throw new MappingException("Entry property '" + propertyName
+					+ "' should has setter with String, Boolean, Integer, Long, Date, String[], List<String>, AttributeEnum or AttributeEnum[]"
+					+ " parameter type or has annotation JsonObject");
+		}
+	}
+
+	/*
+	 * Value is not in map of enum values. Let enum resolve it, it might support aliases or ignore case
+	 */
+	private static Object resolveByValue(Class<?> enumType, Object value) {
+		AttributeEnum firstEnumConstant = (AttributeEnum) enumType.getEnumConstants()[0];
+		return firstEnumConstant.resolveByValue((String) value);
+	}
+
+}
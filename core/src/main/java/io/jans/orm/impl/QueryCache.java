@@ -0,0 +1,370 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.impl;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.jans.orm.impl.model.EntrySnapshot;
+import io.jans.orm.model.SearchScope;
+import io.jans.orm.search.filter.Filter;
+
+/**
+ * Cache of search results. Results are stored as DN and attributes of found
+ * entries. Memory is bounded by total count of cached entries, least recently
+ * used results are evicted first.
+ *
+ * Invalidation is coarse. Any write of entry class removes all cached results
+ * of this class and of classes which have common object class with it
+ */
+public class QueryCache {
+
+	public static final int DEFAULT_MAX_SIZE = 0;
+	public static final long DEFAULT_TTL = 60 * 1000L;
+
+	private final Object lock = new Object();
+
+	private final LinkedHashMap<QueryKey, CachedResult> results = new LinkedHashMap<QueryKey, CachedResult>(16, 0.75f, true);
+	private final Map<Class<?>, Set<QueryKey>> keysByClass = new HashMap<Class<?>, Set<QueryKey>>();
+	private final Map<Class<?>, Set<String>> objectClassesByClass = new HashMap<Class<?>, Set<String>>();
+	private long invalidationStamp;
+	private int size;
+
+	private volatile int maxSize;
+	private volatile long ttl;
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder putCount = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+	private final LongAdder expirationCount = new LongAdder();
+	private final LongAdder invalidationCount = new LongAdder();
+
+	/**
+	 * @param maxSize
+	 *            Maximum total count of entries in cached results. 0 disables
+	 *            cache
+	 * @param ttl
+	 *            Time to live of cached result in milliseconds
+	 */
+	public QueryCache(int maxSize, long ttl) {
+		this.maxSize = maxSize;
+		this.ttl = ttl;
+	}
+
+	public boolean isEnabled() {
+		return (maxSize > 0) && (ttl > 0);
+	}
+
+	public static QueryKey createKey(String baseDN, Class<?> entryClass, Filter filter, SearchScope scope, String[] returnAttributes,
+			int start, int count) {
+		return new QueryKey(baseDN, entryClass, filter, scope, returnAttributes, start, count);
+	}
+
+	/**
+	 * Stamp which should be taken before search and passed to
+	 * {@link #put(QueryKey, String[], List, long)}
+	 */
+	public long getInvalidationStamp() {
+		synchronized (lock) {
+			return invalidationStamp;
+		}
+	}
+
+	/**
+	 * Get cached result
+	 *
+	 * @return Snapshots of found entries or null if there is no result in cache.
+	 *         Caller should not modify returned snapshots
+	 */
+	public List<EntrySnapshot> get(QueryKey key) {
+		long now = System.currentTimeMillis();
+
+		synchronized (lock) {
+			CachedResult cachedResult = results.get(key);
+			if (cachedResult == null) {
+				missCount.increment();
+				return null;
+			}
+
+			if (cachedResult.expiresAt <= now) {
+				removeResult(key);
+				expirationCount.increment();
+				missCount.increment();
+				return null;
+			}
+
+			hitCount.increment();
+			return cachedResult.entries;
+		}
+	}
+
+	/**
+	 * Put search result to cache. Result is not added if cache was invalidated
+	 * after stamp was taken or if it's bigger than cache
+	 *
+	 * @param objectClasses
+	 *            Object classes of entry class. They are used to invalidate
+	 *            result on write of other entry classes with the same object
+	 *            classes
+	 */
+	public void put(QueryKey key, String[] objectClasses, List<EntrySnapshot> entries, long stamp) {
+		int weight = Math.max(1, entries.size());
+		if (!isEnabled() || (weight > maxSize)) {
+			return;
+		}
+
+		CachedResult cachedResult = new CachedResult(entries, weight, System.currentTimeMillis() + ttl);
+
+		synchronized (lock) {
+			if (stamp != invalidationStamp) {
+				return;
+			}
+
+			CachedResult previousResult = results.put(key, cachedResult);
+			if (previousResult == null) {
+				keysByClass.computeIfAbsent(key.entryClass, k -> new HashSet<QueryKey>()).add(key);
+				objectClassesByClass.computeIfAbsent(key.entryClass, k -> toLowerCaseSet(objectClasses));
+			} else {
+				size -= previousResult.weight;
+			}
+			size += weight;
+			putCount.increment();
+
+			Iterator<Map.Entry<QueryKey, CachedResult>> eldestResults = results.entrySet().iterator();
+			while (size > maxSize) {
+				Map.Entry<QueryKey, CachedResult> eldestResult = eldestResults.next();
+				eldestResults.remove();
+				size -= eldestResult.getValue().weight;
+				removeKeyByClass(eldestResult.getKey());
+				evictionCount.increment();
+			}
+		}
+	}
+
+	/**
+	 * Remove results of entry class and of classes which have common object class
+	 * with it
+	 */
+	public void invalidate(Class<?> entryClass, String[] objectClasses) {
+		Set<String> invalidateObjectClasses = toLowerCaseSet(objectClasses);
+
+		synchronized (lock) {
+			invalidationStamp++;
+			invalidationCount.increment();
+
+			for (Iterator<Map.Entry<Class<?>, Set<QueryKey>>> it = keysByClass.entrySet().iterator(); it.hasNext();) {
+				Map.Entry<Class<?>, Set<QueryKey>> classKeys = it.next();
+				Class<?> cachedClass = classKeys.getKey();
+				if ((cachedClass == entryClass)
+						|| !Collections.disjoint(objectClassesByClass.get(cachedClass), invalidateObjectClasses)) {
+					for (QueryKey key : classKeys.getValue()) {
+						size -= results.remove(key).weight;
+					}
+					objectClassesByClass.remove(cachedClass);
+					it.remove();
+				}
+			}
+		}
+	}
+
+	public void clear() {
+		synchronized (lock) {
+			invalidationStamp++;
+			invalidationCount.increment();
+
+			results.clear();
+			keysByClass.clear();
+			objectClassesByClass.clear();
+			size = 0;
+		}
+	}
+
+	private void removeResult(QueryKey key) {
+		CachedResult cachedResult = results.remove(key);
+		if (cachedResult != null) {
+			size -= cachedResult.weight;
+			removeKeyByClass(key);
+		}
+	}
+
+	private void removeKeyByClass(QueryKey key) {
+		Set<QueryKey> classKeys = keysByClass.get(key.entryClass);
+		if ((classKeys != null) && classKeys.remove(key) && classKeys.isEmpty()) {
+			keysByClass.remove(key.entryClass);
+			objectClassesByClass.remove(key.entryClass);
+		}
+	}
+
+	private static Set<String> toLowerCaseSet(String[] values) {
+		if ((values == null) || (values.length == 0)) {
+			return Collections.emptySet();
+		}
+
+		Set<String> result = new HashSet<String>(values.length * 2);
+		for (String value : values) {
+			result.add(value.toLowerCase());
+		}
+
+		return result;
+	}
+
+	/**
+	 * Count of cached entries in all cached results
+	 */
+	public int size() {
+		synchronized (lock) {
+			return size;
+		}
+	}
+
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	public void setMaxSize(int maxSize) {
+		this.maxSize = maxSize;
+		if (maxSize <= 0) {
+			clear();
+		}
+	}
+
+	public long getTtl() {
+		return ttl;
+	}
+
+	public void setTtl(long ttl) {
+		this.ttl = ttl;
+	}
+
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	public long getPutCount() {
+		return putCount.sum();
+	}
+
+	public long getEvictionCount() {
+		return evictionCount.sum();
+	}
+
+	public long getExpirationCount() {
+		return expirationCount.sum();
+	}
+
+	public long getInvalidationCount() {
+		return invalidationCount.sum();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("QueryCache [size=%s, maxSize=%s, ttl=%s, hits=%s, misses=%s, puts=%s, evictions=%s, expirations=%s, invalidations=%s]",
+				size(), maxSize, ttl, getHitCount(), getMissCount(), getPutCount(), getEvictionCount(), getExpirationCount(),
+				getInvalidationCount());
+	}
+
+	public static final class QueryKey {
+
+		private final String baseDN;
+		private final Class<?> entryClass;
+		private final String filter;
+		private final SearchScope scope;
+		private final String returnAttributes;
+		private final int start;
+		private final int count;
+		private final int hashCode;
+
+		private QueryKey(String baseDN, Class<?> entryClass, Filter filter, SearchScope scope, String[] returnAttributes, int start,
+				int count) {
+			this.baseDN = baseDN;
+			this.entryClass = entryClass;
+			this.filter = filter == null ? "" : filter.toCanonicalString();
+			this.scope = scope;
+			this.returnAttributes = toKey(returnAttributes);
+			this.start = start;
+			this.count = count;
+
+			int result = baseDN.hashCode();
+			result = 31 * result + entryClass.hashCode();
+			result = 31 * result + this.filter.hashCode();
+			result = 31 * result + (scope == null ? 0 : scope.hashCode());
+			result = 31 * result + this.returnAttributes.hashCode();
+			result = 31 * result + start;
+			result = 31 * result + count;
+			this.hashCode = result;
+		}
+
+		private static String toKey(String[] returnAttributes) {
+			if ((returnAttributes == null) || (returnAttributes.length == 0)) {
+				return "";
+			}
+
+			String[] names = new String[returnAttributes.length];
+			for (int i = 0; i < returnAttributes.length; i++) {
+				names[i] = returnAttributes[i].toLowerCase();
+			}
+			Arrays.sort(names);
+
+			return String.join(",", names);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof QueryKey)) {
+				return false;
+			}
+
+			QueryKey other = (QueryKey) obj;
+
+			return (hashCode == other.hashCode) && (entryClass == other.entryClass) && (scope == other.scope) && (start == other.start)
+					&& (count == other.count) && baseDN.equals(other.baseDN) && filter.equals(other.filter)
+					&& returnAttributes.equals(other.returnAttributes);
+		}
+
+		@Override
+		public String toString() {
+			return String.format("QueryKey [baseDN=%s, entryClass=%s, filter=%s, scope=%s, returnAttributes=%s, start=%s, count=%s]", baseDN,
+					entryClass.getName(), filter, scope, returnAttributes, start, count);
+		}
+	}
+
+	private static final class CachedResult {
+
+		private final List<EntrySnapshot> entries;
+		private final int weight;
+		private final long expiresAt;
+
+		private CachedResult(List<EntrySnapshot> entries, int weight, long expiresAt) {
+			this.entries = entries;
+			this.weight = weight;
+			this.expiresAt = expiresAt;
+		}
+	}
+
+}
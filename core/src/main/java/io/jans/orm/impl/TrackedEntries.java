@@ -0,0 +1,85 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.impl;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import io.jans.orm.impl.model.EntrySnapshot;
+
+/**
+ * Snapshots of tracked entries. Entries are compared by identity and held by
+ * weak references, so snapshot is released together with entry
+ */
+public class TrackedEntries {
+
+	private final ConcurrentMap<EntryReference, EntrySnapshot> snapshots = new ConcurrentHashMap<EntryReference, EntrySnapshot>();
+	private final ReferenceQueue<Object> queue = new ReferenceQueue<Object>();
+
+	public void put(Object entry, EntrySnapshot snapshot) {
+		expungeStaleEntries();
+		snapshots.put(new EntryReference(entry, queue), snapshot);
+	}
+
+	public EntrySnapshot get(Object entry) {
+		return snapshots.get(new EntryReference(entry, null));
+	}
+
+	public EntrySnapshot remove(Object entry) {
+		expungeStaleEntries();
+		return snapshots.remove(new EntryReference(entry, null));
+	}
+
+	public int size() {
+		expungeStaleEntries();
+		return snapshots.size();
+	}
+
+	public void clear() {
+		snapshots.clear();
+	}
+
+	private void expungeStaleEntries() {
+		Reference<?> reference;
+		while ((reference = queue.poll()) != null) {
+			snapshots.remove(reference);
+		}
+	}
+
+	private static final class EntryReference extends WeakReference<Object> {
+
+		private final int hashCode;
+
+		private EntryReference(Object entry, ReferenceQueue<Object> queue) {
+			super(entry, queue);
+			this.hashCode = System.identityHashCode(entry);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof EntryReference)) {
+				return false;
+			}
+
+			Object entry = get();
+			return (entry != null) && (entry == ((EntryReference) obj).get());
+		}
+	}
+
+}
@@ -0,0 +1,227 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.jans.orm.exception.EntryPersistenceException;
+import io.jans.orm.model.BulkOperationResult;
+import io.jans.orm.operation.UnitOfWork;
+
+/**
+ * Buffer of write operations of one thread. Only last operation is kept for
+ * each DN:
+ * <ul>
+ * <li>few merges of one entry become one merge. Each merged instance is
+ * compared with entry in DB and their modifications are combined, so changes of
+ * few loaded copies of entry are not lost</li>
+ * <li>merge after persist becomes persist of last entry state</li>
+ * <li>remove replaces buffered merge and discards buffered persist</li>
+ * </ul>
+ * If operation can't be combined with buffered one (e.g. persist after remove)
+ * buffer is flushed first. Operations which failed to flush stay in buffer
+ * until next flush or rollback
+ */
+public class UnitOfWorkImpl implements UnitOfWork {
+
+	enum OperationType {
+		PERSIST, MERGE, REMOVE
+	}
+
+	static final class PendingOperation {
+
+		private final OperationType type;
+		private final String dn;
+		private final List<Object> entries;
+		private final Class<?> entryClass;
+		private final boolean configurationUpdate;
+
+		private PendingOperation(OperationType type, String dn, List<Object> entries, Class<?> entryClass, boolean configurationUpdate) {
+			this.type = type;
+			this.dn = dn;
+			this.entries = entries;
+			this.entryClass = entryClass;
+			this.configurationUpdate = configurationUpdate;
+		}
+
+		OperationType getType() {
+			return type;
+		}
+
+		String getDn() {
+			return dn;
+		}
+
+		/**
+		 * Last buffered instance of entry
+		 */
+		Object getEntry() {
+			return entries.isEmpty() ? null : entries.get(entries.size() - 1);
+		}
+
+		/**
+		 * Merged instances of entry in order of merge
+		 */
+		List<Object> getEntries() {
+			return entries;
+		}
+
+		Class<?> getEntryClass() {
+			return entryClass;
+		}
+
+		boolean isConfigurationUpdate() {
+			return configurationUpdate;
+		}
+	}
+
+	private final BaseEntryManager entryManager;
+
+	// Buffered operations by lower case DN in order of first operation with DN
+	private final Map<String, PendingOperation> pendingOperations = new LinkedHashMap<String, PendingOperation>();
+
+	private boolean active = true;
+	private boolean rollbackOnly;
+
+	UnitOfWorkImpl(BaseEntryManager entryManager) {
+		this.entryManager = entryManager;
+	}
+
+	void persist(String dn, Object entry) {
+		String key = dn.toLowerCase();
+		if (pendingOperations.containsKey(key)) {
+			flush();
+		}
+
+		pendingOperations.put(key, new PendingOperation(OperationType.PERSIST, dn, Collections.singletonList(entry), entry.getClass(), false));
+	}
+
+	void merge(String dn, Object entry, boolean configurationUpdate) {
+		String key = dn.toLowerCase();
+		PendingOperation pendingOperation = pendingOperations.get(key);
+		if ((pendingOperation != null) && (OperationType.REMOVE == pendingOperation.getType())) {
+			flush();
+			pendingOperation = null;
+		}
+
+		OperationType type = pendingOperation == null ? OperationType.MERGE : pendingOperation.getType();
+		List<Object> entries;
+		if ((pendingOperation == null) || (OperationType.PERSIST == type)) {
+			entries = Collections.singletonList(entry);
+		} else {
+			// Other instance of entry might contain changes which this instance doesn't have
+			entries = new ArrayList<Object>(pendingOperation.getEntries().size() + 1);
+			for (Object pendingEntry : pendingOperation.getEntries()) {
+				if (pendingEntry != entry) {
+					entries.add(pendingEntry);
+				}
+			}
+			entries.add(entry);
+		}
+		pendingOperations.put(key, new PendingOperation(type, dn, entries, entry.getClass(), configurationUpdate));
+	}
+
+	void remove(String dn, Class<?> entryClass) {
+		String key = dn.toLowerCase();
+		PendingOperation pendingOperation = pendingOperations.get(key);
+		if ((pendingOperation != null) && (OperationType.PERSIST == pendingOperation.getType())) {
+			// Entry was not added yet
+			pendingOperations.remove(key);
+			return;
+		}
+
+		pendingOperations.put(key, new PendingOperation(OperationType.REMOVE, dn, Collections.emptyList(), entryClass, false));
+	}
+
+	@Override
+	public void flush() {
+		if (!active) {
+			throw new IllegalStateException("Unit of work is not active");
+		}
+
+		if (pendingOperations.isEmpty()) {
+			return;
+		}
+
+		List<PendingOperation> operations = new ArrayList<PendingOperation>(pendingOperations.values());
+
+		// Operations which were not written stay in buffer
+		BulkOperationResult<PendingOperation> result = entryManager.flush(operations);
+		for (PendingOperation operation : result.getSucceededEntries()) {
+			pendingOperations.remove(operation.getDn().toLowerCase());
+		}
+
+		if (result.hasFailures()) {
+			List<BulkOperationResult.Failure<PendingOperation>> failures = result.getFailures();
+			EntryPersistenceException ex = new EntryPersistenceException(
+					String.format("Failed to flush %s of %s operations", failures.size(), operations.size()), failures.get(0).getError());
+			for (int i = 1; i < failures.size(); i++) {
+				ex.addSuppressed(failures.get(i).getError());
+			}
+
+			throw ex;
+		}
+	}
+
+	@Override
+	public void rollback() {
+		pendingOperations.clear();
+		end();
+	}
+
+	@Override
+	public boolean isActive() {
+		return active;
+	}
+
+	@Override
+	public boolean isRollbackOnly() {
+		return rollbackOnly;
+	}
+
+	@Override
+	public void setRollbackOnly() {
+		this.rollbackOnly = true;
+	}
+
+	public int getPendingCount() {
+		return pendingOperations.size();
+	}
+
+	@Override
+	public void close() {
+		if (!active) {
+			return;
+		}
+
+		if (rollbackOnly) {
+			rollback();
+			return;
+		}
+
+		try {
+			flush();
+		} finally {
+			end();
+		}
+	}
+
+	private void end() {
+		active = false;
+		entryManager.endUnitOfWork(this);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("UnitOfWorkImpl [active=%s, pending=%s]", active, pendingOperations.size());
+	}
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.impl;
+
+import javax.persistence.EntityTransaction;
+import javax.persistence.RollbackException;
+
+import io.jans.orm.PersistenceEntryManager;
+import io.jans.orm.operation.UnitOfWork;
+
+/**
+ * Transaction API over unit of work of current thread. Commit sends buffered
+ * operations to DB with one write. It's atomic if backend supports transactions
+ */
+public class UnitOfWorkTransaction implements EntityTransaction {
+
+	private final PersistenceEntryManager entryManager;
+
+	public UnitOfWorkTransaction(PersistenceEntryManager entryManager) {
+		this.entryManager = entryManager;
+	}
+
+	@Override
+	public void begin() {
+		if (isActive()) {
+			throw new IllegalStateException("Transaction is already active");
+		}
+
+		entryManager.beginUnitOfWork();
+	}
+
+	@Override
+	public void commit() {
+		UnitOfWork unitOfWork = getActiveUnitOfWork();
+		if (unitOfWork.isRollbackOnly()) {
+			unitOfWork.rollback();
+			throw new RollbackException("Transaction is marked for rollback");
+		}
+
+		try {
+			unitOfWork.close();
+		} catch (RuntimeException ex) {
+			throw new RollbackException("Failed to commit transaction", ex);
+		}
+	}
+
+	@Override
+	public void rollback() {
+		getActiveUnitOfWork().rollback();
+	}
+
+	@Override
+	public void setRollbackOnly() {
+		getActiveUnitOfWork().setRollbackOnly();
+	}
+
+	@Override
+	public boolean getRollbackOnly() {
+		return getActiveUnitOfWork().isRollbackOnly();
+	}
+
+	@Override
+	public boolean isActive() {
+		return entryManager.getUnitOfWork() != null;
+	}
+
+	private UnitOfWork getActiveUnitOfWork() {
+		UnitOfWork unitOfWork = entryManager.getUnitOfWork();
+		if (unitOfWork == null) {
+			throw new IllegalStateException("Transaction is not active");
+		}
+
+		return unitOfWork;
+	}
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.impl.model;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import io.jans.orm.annotation.AttributeName;
+import io.jans.orm.annotation.AttributesList;
+import io.jans.orm.reflect.property.PropertyAnnotation;
+import io.jans.orm.reflect.property.Setter;
+
+/**
+ * Resolved mapping of entry property with {@link AttributesList} annotation.
+ * Setters are null if entry or list item has no such property
+ */
+public final class AttributesListMapping {
+
+	private final PropertyAnnotation propertyAnnotation;
+	private final String propertyName;
+	private final AttributesList attributesListAnnotation;
+	private final Map<String, AttributeName> attributesConfiguration;
+
+	private final Setter setter;
+	private final Class<?> itemType;
+	private final Setter itemNameSetter;
+	private final Setter itemValueSetter;
+	private final Setter itemMultiValuedSetter;
+
+	public AttributesListMapping(PropertyAnnotation propertyAnnotation, AttributesList attributesListAnnotation, Setter setter,
+			Class<?> itemType, Setter itemNameSetter, Setter itemValueSetter, Setter itemMultiValuedSetter) {
+		this.propertyAnnotation = propertyAnnotation;
+		this.propertyName = propertyAnnotation.getPropertyName();
+		this.attributesListAnnotation = attributesListAnnotation;
+		this.setter = setter;
+		this.itemType = itemType;
+		this.itemNameSetter = itemNameSetter;
+		this.itemValueSetter = itemValueSetter;
+		this.itemMultiValuedSetter = itemMultiValuedSetter;
+
+		Map<String, AttributeName> attributesConfiguration = new HashMap<String, AttributeName>();
+		for (AttributeName attributeConfiguration : attributesListAnnotation.attributesConfiguration()) {
+			attributesConfiguration.put(attributeConfiguration.name(), attributeConfiguration);
+		}
+		this.attributesConfiguration = Collections.unmodifiableMap(attributesConfiguration);
+	}
+
+	public PropertyAnnotation getPropertyAnnotation() {
+		return propertyAnnotation;
+	}
+
+	public String getPropertyName() {
+		return propertyName;
+	}
+
+	public AttributesList getAttributesListAnnotation() {
+		return attributesListAnnotation;
+	}
+
+	/**
+	 * Configuration of list attributes by attribute name
+	 */
+	public Map<String, AttributeName> getAttributesConfiguration() {
+		return attributesConfiguration;
+	}
+
+	public Setter getSetter() {
+		return setter;
+	}
+
+	/**
+	 * Type of list items or null if property has no setter with specified element type
+	 */
+	public Class<?> getItemType() {
+		return itemType;
+	}
+
+	public Setter getItemNameSetter() {
+		return itemNameSetter;
+	}
+
+	public Setter getItemValueSetter() {
+		return itemValueSetter;
+	}
+
+	public Setter getItemMultiValuedSetter() {
+		return itemMultiValuedSetter;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("AttributesListMapping [propertyName=%s, itemType=%s]", propertyName, itemType);
+	}
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.impl.model;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import io.jans.orm.reflect.property.EntryMapper;
+import io.jans.orm.reflect.property.Getter;
+import io.jans.orm.reflect.property.Instantiator;
+import io.jans.orm.reflect.property.PropertyAnnotation;
+import io.jans.orm.reflect.property.Setter;
+import io.jans.orm.reflect.util.ReflectHelper;
+
+/**
+ * Reflection metadata of entry class. There is one instance per class which is
+ * shared by all entry managers. Lookups don't require locking or key building
+ */
+public final class EntryClassMetadata {
+
+	private static final ClassValue<EntryClassMetadata> REGISTRY = new ClassValue<EntryClassMetadata>() {
+		@Override
+		protected EntryClassMetadata computeValue(Class<?> type) {
+			return new EntryClassMetadata(type);
+		}
+	};
+
+	private final Class<?> entryClass;
+
+	private final ConcurrentMap<String, List<PropertyAnnotation>> annotations = new ConcurrentHashMap<String, List<PropertyAnnotation>>(4);
+	private final ConcurrentMap<String, Getter> getters = new ConcurrentHashMap<String, Getter>();
+	private final ConcurrentMap<String, Setter> setters = new ConcurrentHashMap<String, Setter>();
+
+	private final EntryMapper<?> entryMapper;
+
+	private volatile EntryMapping entryMapping;
+	private volatile Instantiator<?> instantiator;
+
+	private EntryClassMetadata(Class<?> entryClass) {
+		this.entryClass = entryClass;
+		this.entryMapper = ReflectHelper.getEntryMapper(entryClass);
+	}
+
+	public static EntryClassMetadata forClass(Class<?> entryClass) {
+		return REGISTRY.get(entryClass);
+	}
+
+	public Class<?> getEntryClass() {
+		return entryClass;
+	}
+
+	/**
+	 * Compile time generated mapper or null if there is no mapper for this class
+	 */
+	public EntryMapper<?> getEntryMapper() {
+		return entryMapper;
+	}
+
+	/**
+	 * Properties annotations grouped by category
+	 */
+	public ConcurrentMap<String, List<PropertyAnnotation>> getAnnotations() {
+		return annotations;
+	}
+
+	/**
+	 * Getters by property name
+	 */
+	public ConcurrentMap<String, Getter> getGetters() {
+		return getters;
+	}
+
+	/**
+	 * Setters by property name
+	 */
+	public ConcurrentMap<String, Setter> getSetters() {
+		return setters;
+	}
+
+	public EntryMapping getEntryMapping() {
+		return entryMapping;
+	}
+
+	public void setEntryMapping(EntryMapping entryMapping) {
+		this.entryMapping = entryMapping;
+	}
+
+	public Instantiator<?> getInstantiator() {
+		return instantiator;
+	}
+
+	public void setInstantiator(Instantiator<?> instantiator) {
+		this.instantiator = instantiator;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("EntryClassMetadata [entryClass=%s, entryMapper=%s, annotations=%s, getters=%s, setters=%s]",
+				entryClass.getName(), entryMapper, annotations.keySet(), getters.size(), setters.size());
+	}
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.impl.model;
+
+import java.util.List;
+
+import io.jans.orm.reflect.property.PropertyAnnotation;
+
+/**
+ * Immutable mapping plan of entry class. It's built once per entry class and
+ * allows to read and write entries without annotations lookup per property
+ */
+public final class EntryMapping {
+
+	private final Class<?> entryClass;
+	private final List<PropertyAnnotation> propertiesAnnotations;
+
+	private final PropertyMapping[] attributeProperties;
+	private final AttributesListMapping[] attributesListProperties;
+
+	public EntryMapping(Class<?> entryClass, List<PropertyAnnotation> propertiesAnnotations, PropertyMapping[] attributeProperties,
+			AttributesListMapping[] attributesListProperties) {
+		this.entryClass = entryClass;
+		this.propertiesAnnotations = propertiesAnnotations;
+		this.attributeProperties = attributeProperties;
+		this.attributesListProperties = attributesListProperties;
+	}
+
+	public Class<?> getEntryClass() {
+		return entryClass;
+	}
+
+	/**
+	 * List of properties annotations which was used to build this mapping
+	 */
+	public List<PropertyAnnotation> getPropertiesAnnotations() {
+		return propertiesAnnotations;
+	}
+
+	/**
+	 * Properties with AttributeName annotation in properties annotations order
+	 */
+	public PropertyMapping[] getAttributeProperties() {
+		return attributeProperties;
+	}
+
+	/**
+	 * Properties with AttributesList annotation in properties annotations order
+	 */
+	public AttributesListMapping[] getAttributesListProperties() {
+		return attributesListProperties;
+	}
+
+	public boolean hasAttributesList() {
+		return attributesListProperties.length > 0;
+	}
+
+}
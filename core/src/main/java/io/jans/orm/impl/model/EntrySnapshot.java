@@ -0,0 +1,44 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.impl.model;
+
+import java.util.List;
+
+import io.jans.orm.model.AttributeData;
+
+/**
+ * Persisted state of loaded entry. It's used by merge to find entry
+ * modifications without loading entry from DB and by query cache to recreate
+ * found entries
+ */
+public final class EntrySnapshot {
+
+	private final String dn;
+	private final List<AttributeData> attributes;
+
+	public EntrySnapshot(String dn, List<AttributeData> attributes) {
+		this.dn = dn;
+		this.attributes = attributes;
+	}
+
+	public String getDn() {
+		return dn;
+	}
+
+	/**
+	 * Not empty attributes of entry including objectClass
+	 */
+	public List<AttributeData> getAttributes() {
+		return attributes;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("EntrySnapshot [dn=%s, attributes=%s]", dn, attributes);
+	}
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.impl.model;
+
+import java.util.List;
+
+import io.jans.orm.model.AttributeDataModification;
+
+/**
+ * Entry modifications prepared for bulk merge. Backend sets error if it failed
+ * to update entry
+ */
+public class MergeEntry {
+
+	private final String dn;
+	private final String[] objectClasses;
+	private final List<AttributeDataModification> attributeDataModifications;
+	private final Integer expiration;
+	private final boolean trackChanges;
+
+	private Exception error;
+
+	public MergeEntry(String dn, String[] objectClasses, List<AttributeDataModification> attributeDataModifications, Integer expiration,
+			boolean trackChanges) {
+		this.dn = dn;
+		this.objectClasses = objectClasses;
+		this.attributeDataModifications = attributeDataModifications;
+		this.expiration = expiration;
+		this.trackChanges = trackChanges;
+	}
+
+	public String getDn() {
+		return dn;
+	}
+
+	public String[] getObjectClasses() {
+		return objectClasses;
+	}
+
+	public List<AttributeDataModification> getAttributeDataModifications() {
+		return attributeDataModifications;
+	}
+
+	public Integer getExpiration() {
+		return expiration;
+	}
+
+	/**
+	 * Snapshot of entry should be recreated after successful update
+	 */
+	public boolean isTrackChanges() {
+		return trackChanges;
+	}
+
+	public Exception getError() {
+		return error;
+	}
+
+	public void setError(Exception error) {
+		this.error = error;
+	}
+
+	@Override
+	public String toString() {
+		return "MergeEntry [dn=" + dn + ", error=" + error + "]";
+	}
+
+}
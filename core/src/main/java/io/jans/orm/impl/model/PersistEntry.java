@@ -0,0 +1,62 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.impl.model;
+
+import java.util.List;
+
+import io.jans.orm.model.AttributeData;
+
+/**
+ * Entry prepared for bulk persist. Backend sets error if it failed to add
+ * entry
+ */
+public class PersistEntry {
+
+	private final String dn;
+	private final String[] objectClasses;
+	private final List<AttributeData> attributes;
+	private final Integer expiration;
+
+	private Exception error;
+
+	public PersistEntry(String dn, String[] objectClasses, List<AttributeData> attributes, Integer expiration) {
+		this.dn = dn;
+		this.objectClasses = objectClasses;
+		this.attributes = attributes;
+		this.expiration = expiration;
+	}
+
+	public String getDn() {
+		return dn;
+	}
+
+	public String[] getObjectClasses() {
+		return objectClasses;
+	}
+
+	public List<AttributeData> getAttributes() {
+		return attributes;
+	}
+
+	public Integer getExpiration() {
+		return expiration;
+	}
+
+	public Exception getError() {
+		return error;
+	}
+
+	public void setError(Exception error) {
+		this.error = error;
+	}
+
+	@Override
+	public String toString() {
+		return "PersistEntry [dn=" + dn + ", error=" + error + "]";
+	}
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.impl.model;
+
+import io.jans.orm.annotation.AttributeName;
+import io.jans.orm.impl.PropertyValueConverter;
+import io.jans.orm.reflect.property.Getter;
+import io.jans.orm.reflect.property.PropertyAnnotation;
+import io.jans.orm.reflect.property.Setter;
+
+/**
+ * Resolved mapping of entry property with {@link AttributeName} annotation
+ */
+public final class PropertyMapping {
+
+	private final PropertyAnnotation propertyAnnotation;
+	private final String propertyName;
+	private final AttributeName attributeAnnotation;
+
+	private final String attributeName;
+	private final String attributeNameLowerCase;
+
+	private final Getter getter;
+	private final Setter setter;
+	private final Class<?> parameterType;
+	private final PropertyValueConverter converter;
+
+	private final boolean multiValued;
+	private final boolean jsonObject;
+
+	public PropertyMapping(PropertyAnnotation propertyAnnotation, AttributeName attributeAnnotation, String attributeName,
+			Getter getter, Setter setter, Class<?> parameterType, PropertyValueConverter converter, boolean multiValued, boolean jsonObject) {
+		this.propertyAnnotation = propertyAnnotation;
+		this.propertyName = propertyAnnotation.getPropertyName();
+		this.attributeAnnotation = attributeAnnotation;
+		this.attributeName = attributeName;
+		this.attributeNameLowerCase = attributeName.toLowerCase();
+		this.getter = getter;
+		this.setter = setter;
+		this.parameterType = parameterType;
+		this.converter = converter;
+		this.multiValued = multiValued;
+		this.jsonObject = jsonObject;
+	}
+
+	public PropertyAnnotation getPropertyAnnotation() {
+		return propertyAnnotation;
+	}
+
+	public String getPropertyName() {
+		return propertyName;
+	}
+
+	public AttributeName getAttributeAnnotation() {
+		return attributeAnnotation;
+	}
+
+	public String getAttributeName() {
+		return attributeName;
+	}
+
+	public String getAttributeNameLowerCase() {
+		return attributeNameLowerCase;
+	}
+
+	public Getter getGetter() {
+		return getter;
+	}
+
+	public Setter getSetter() {
+		return setter;
+	}
+
+	public Class<?> getParameterType() {
+		return parameterType;
+	}
+
+	/**
+	 * Converter of loaded attribute to property value or null if property has no setter
+	 */
+	public PropertyValueConverter getConverter() {
+		return converter;
+	}
+
+	public boolean isMultiValued() {
+		return multiValued;
+	}
+
+	public boolean isJsonObject() {
+		return jsonObject;
+	}
+
+	public boolean isIgnoreDuringRead() {
+		return attributeAnnotation.ignoreDuringRead();
+	}
+
+	public boolean isIgnoreDuringUpdate() {
+		return attributeAnnotation.ignoreDuringUpdate();
+	}
+
+	public boolean isUpdateOnly() {
+		return attributeAnnotation.updateOnly();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("PropertyMapping [propertyName=%s, attributeName=%s, parameterType=%s, multiValued=%s, jsonObject=%s]",
+				propertyName, attributeName, parameterType, multiValued, jsonObject);
+	}
+
+}
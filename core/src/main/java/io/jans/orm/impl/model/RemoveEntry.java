@@ -0,0 +1,46 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.impl.model;
+
+/**
+ * Entry prepared for bulk remove. Backend sets error if it failed to remove
+ * entry
+ */
+public class RemoveEntry {
+
+	private final String dn;
+	private final String[] objectClasses;
+
+	private Exception error;
+
+	public RemoveEntry(String dn, String[] objectClasses) {
+		this.dn = dn;
+		this.objectClasses = objectClasses;
+	}
+
+	public String getDn() {
+		return dn;
+	}
+
+	public String[] getObjectClasses() {
+		return objectClasses;
+	}
+
+	public Exception getError() {
+		return error;
+	}
+
+	public void setError(Exception error) {
+		this.error = error;
+	}
+
+	@Override
+	public String toString() {
+		return "RemoveEntry [dn=" + dn + ", error=" + error + "]";
+	}
+
+}
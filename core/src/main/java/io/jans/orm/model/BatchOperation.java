@@ -19,4 +19,12 @@ public interface BatchOperation<T> {
 
     void performAction(List<T> entries);
 
+    /**
+     * Count of pages which can be loaded in background while performAction processes current page.
+     * Default value 0 means that next page is requested after performAction finished
+     */
+    default int getPrefetchPages() {
+        return 0;
+    }
+
 }
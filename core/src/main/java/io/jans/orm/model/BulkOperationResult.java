@@ -0,0 +1,79 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of bulk operation. It contains entries which were processed
+ * successfully and entries which failed with their errors
+ */
+public class BulkOperationResult<T> {
+
+	private final List<T> succeededEntries = new ArrayList<T>();
+	private final List<Failure<T>> failures = new ArrayList<Failure<T>>();
+
+	public void addSucceeded(T entry) {
+		succeededEntries.add(entry);
+	}
+
+	public void addFailure(T entry, Exception error) {
+		failures.add(new Failure<T>(entry, error));
+	}
+
+	public List<T> getSucceededEntries() {
+		return Collections.unmodifiableList(succeededEntries);
+	}
+
+	public List<Failure<T>> getFailures() {
+		return Collections.unmodifiableList(failures);
+	}
+
+	public int getSucceededCount() {
+		return succeededEntries.size();
+	}
+
+	public int getFailedCount() {
+		return failures.size();
+	}
+
+	public boolean hasFailures() {
+		return !failures.isEmpty();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("BulkOperationResult [succeeded=%s, failed=%s]", getSucceededCount(), getFailedCount());
+	}
+
+	public static final class Failure<T> {
+
+		private final T entry;
+		private final Exception error;
+
+		private Failure(T entry, Exception error) {
+			this.entry = entry;
+			this.error = error;
+		}
+
+		public T getEntry() {
+			return entry;
+		}
+
+		public Exception getError() {
+			return error;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("Failure [entry=%s, error=%s]", entry, error);
+		}
+	}
+
+}
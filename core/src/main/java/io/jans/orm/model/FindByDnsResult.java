@@ -0,0 +1,46 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.model;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of lookup of entries by list of DNs. Found entries are in order of
+ * requested DNs
+ */
+public class FindByDnsResult<T> {
+
+	private final List<T> entries;
+	private final List<String> missingDns;
+
+	public FindByDnsResult(List<T> entries, List<String> missingDns) {
+		this.entries = Collections.unmodifiableList(entries);
+		this.missingDns = Collections.unmodifiableList(missingDns);
+	}
+
+	public List<T> getEntries() {
+		return entries;
+	}
+
+	/**
+	 * DNs of entries which don't exist
+	 */
+	public List<String> getMissingDns() {
+		return missingDns;
+	}
+
+	public boolean hasMissingDns() {
+		return !missingDns.isEmpty();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("FindByDnsResult [entries=%s, missingDns=%s]", entries.size(), missingDns);
+	}
+
+}
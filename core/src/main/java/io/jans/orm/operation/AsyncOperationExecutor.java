@@ -0,0 +1,144 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.operation;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executes blocking persistence operations on bounded pool of threads and
+ * returns their results as futures. Count of threads and count of queued
+ * operations are limited. Operation which doesn't fit into queue is completed
+ * exceptionally with {@link RejectedExecutionException}. It's used for
+ * operations which backend can't execute with own async API and for creation
+ * of entries from results of backend async API
+ */
+public class AsyncOperationExecutor {
+
+	public interface Operation<V> {
+
+		V execute() throws Exception;
+
+	}
+
+	private static final AtomicInteger POOL_NUMBER = new AtomicInteger(1);
+
+	private final int threads;
+	private final int queueSize;
+
+	private volatile ThreadPoolExecutor executor;
+	private volatile boolean shutdown;
+
+	/**
+	 * @param threads
+	 *            Maximum count of threads which execute operations
+	 * @param queueSize
+	 *            Maximum count of operations which wait for free thread
+	 */
+	public AsyncOperationExecutor(int threads, int queueSize) {
+		this.threads = Math.max(1, threads);
+		this.queueSize = Math.max(1, queueSize);
+	}
+
+	public <V> CompletableFuture<V> execute(Operation<V> operation) {
+		CompletableFuture<V> future = new CompletableFuture<V>();
+		try {
+			getExecutor().execute(() -> {
+				if (future.isDone()) {
+					return;
+				}
+
+				try {
+					future.complete(operation.execute());
+				} catch (Throwable ex) {
+					future.completeExceptionally(ex);
+				}
+			});
+		} catch (RejectedExecutionException ex) {
+			future.completeExceptionally(ex);
+		}
+
+		return future;
+	}
+
+	/*
+	 * Threads are started on first async operation only
+	 */
+	private ThreadPoolExecutor getExecutor() {
+		ThreadPoolExecutor result = this.executor;
+		if (result != null) {
+			return result;
+		}
+
+		synchronized (this) {
+			if (shutdown) {
+				throw new RejectedExecutionException("Async operation executor was shut down");
+			}
+
+			if (this.executor == null) {
+				ThreadPoolExecutor newExecutor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+						new ArrayBlockingQueue<Runnable>(queueSize), new AsyncThreadFactory());
+				newExecutor.allowCoreThreadTimeOut(true);
+				this.executor = newExecutor;
+			}
+
+			return this.executor;
+		}
+	}
+
+	public void shutdown() {
+		synchronized (this) {
+			shutdown = true;
+			if (executor != null) {
+				executor.shutdown();
+			}
+		}
+	}
+
+	public int getThreads() {
+		return threads;
+	}
+
+	public int getQueueSize() {
+		return queueSize;
+	}
+
+	public int getActiveCount() {
+		ThreadPoolExecutor currentExecutor = this.executor;
+		return currentExecutor == null ? 0 : currentExecutor.getActiveCount();
+	}
+
+	public int getQueuedCount() {
+		ThreadPoolExecutor currentExecutor = this.executor;
+		return currentExecutor == null ? 0 : currentExecutor.getQueue().size();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("AsyncOperationExecutor [threads=%s, queueSize=%s, active=%s, queued=%s]", threads, queueSize,
+				getActiveCount(), getQueuedCount());
+	}
+
+	private static final class AsyncThreadFactory implements ThreadFactory {
+
+		private final int poolNumber = POOL_NUMBER.getAndIncrement();
+		private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "jans-orm-async-" + poolNumber + "-" + threadNumber.getAndIncrement());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+
+}
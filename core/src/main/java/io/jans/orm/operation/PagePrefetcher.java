@@ -0,0 +1,225 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.operation;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.jans.orm.exception.operation.SearchException;
+
+/**
+ * Supplies pages of batch search. If prefetch is enabled next pages are loaded
+ * in background while current page is processed. Count of pages loaded in
+ * advance is limited by prefetch pages count. If there is no free thread in
+ * executor pages are loaded on request in caller thread
+ */
+public final class PagePrefetcher<P> implements AutoCloseable {
+
+	private static final AtomicInteger POOL_NUMBER = new AtomicInteger(1);
+
+	public interface PageLoader<P> {
+
+		/**
+		 * Load next page
+		 *
+		 * @return Loaded page or null if there are no more pages
+		 */
+		P loadPage() throws SearchException;
+
+	}
+
+	private final PageLoader<P> pageLoader;
+	private final boolean prefetch;
+
+	private final BlockingQueue<LoadedPage<P>> pages;
+	private final Semaphore freePages;
+	private final CountDownLatch producerFinished;
+
+	private volatile boolean closed;
+	private boolean finished;
+
+	private PagePrefetcher(PageLoader<P> pageLoader, int prefetchPages, Executor executor) {
+		this.pageLoader = pageLoader;
+		this.pages = new LinkedBlockingQueue<LoadedPage<P>>();
+		this.freePages = new Semaphore(prefetchPages);
+		this.producerFinished = new CountDownLatch(1);
+
+		this.prefetch = (prefetchPages > 0) && (executor != null) && startProducer(executor);
+	}
+
+	/**
+	 * Create page supplier
+	 *
+	 * @param prefetchPages
+	 *            Count of pages which can be loaded in advance. 0 means that
+	 *            page is loaded on request in caller thread
+	 * @param executor
+	 *            Executor which loads pages in advance. If it's null or it
+	 *            rejects task pages are loaded in caller thread
+	 */
+	public static <P> PagePrefetcher<P> create(PageLoader<P> pageLoader, int prefetchPages, Executor executor) {
+		return new PagePrefetcher<P>(pageLoader, prefetchPages, executor);
+	}
+
+	/**
+	 * Create bounded executor for page loading. Executor doesn't queue tasks, it
+	 * starts up to specified count of threads and rejects other tasks. Owner
+	 * should shut it down
+	 */
+	public static ThreadPoolExecutor newExecutor(int threads) {
+		int poolNumber = POOL_NUMBER.getAndIncrement();
+		AtomicInteger threadNumber = new AtomicInteger(1);
+		ThreadFactory threadFactory = (runnable) -> {
+			Thread thread = new Thread(runnable, "jans-orm-page-prefetch-" + poolNumber + "-" + threadNumber.getAndIncrement());
+			thread.setDaemon(true);
+			return thread;
+		};
+
+		return new ThreadPoolExecutor(0, Math.max(1, threads), 60L, TimeUnit.SECONDS, new SynchronousQueue<Runnable>(), threadFactory);
+	}
+
+	private boolean startProducer(Executor executor) {
+		try {
+			executor.execute(this::produce);
+			return true;
+		} catch (RejectedExecutionException ex) {
+			return false;
+		}
+	}
+
+	public boolean isPrefetch() {
+		return prefetch;
+	}
+
+	/**
+	 * Get next page
+	 *
+	 * @return Next page or null if there are no more pages
+	 */
+	public P nextPage() throws SearchException {
+		if (finished || closed) {
+			return null;
+		}
+
+		if (!prefetch) {
+			P page = pageLoader.loadPage();
+			finished = page == null;
+
+			return page;
+		}
+
+		LoadedPage<P> loadedPage;
+		try {
+			loadedPage = pages.take();
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new SearchException("Interrupted while waiting for next page", ex);
+		}
+
+		if (loadedPage.error != null) {
+			finished = true;
+			rethrow(loadedPage.error);
+		}
+
+		if (loadedPage.page == null) {
+			finished = true;
+			return null;
+		}
+
+		// Allow to load one more page in advance
+		freePages.release();
+
+		return loadedPage.page;
+	}
+
+	/**
+	 * Stop loading pages. Method returns after background page loading finished
+	 */
+	@Override
+	public void close() {
+		if (closed) {
+			return;
+		}
+
+		closed = true;
+		finished = true;
+		if (!prefetch) {
+			return;
+		}
+
+		// Unblock producer if it waits for free page
+		freePages.release(Integer.MAX_VALUE / 2);
+
+		boolean interrupted = false;
+		while (true) {
+			try {
+				producerFinished.await();
+				break;
+			} catch (InterruptedException ex) {
+				interrupted = true;
+			}
+		}
+
+		pages.clear();
+
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void produce() {
+		try {
+			while (!closed) {
+				freePages.acquireUninterruptibly();
+				if (closed) {
+					break;
+				}
+
+				P page = pageLoader.loadPage();
+				pages.add(new LoadedPage<P>(page, null));
+				if (page == null) {
+					break;
+				}
+			}
+		} catch (SearchException | RuntimeException | Error ex) {
+			pages.add(new LoadedPage<P>(null, ex));
+		} finally {
+			producerFinished.countDown();
+		}
+	}
+
+	private static void rethrow(Throwable error) throws SearchException {
+		if (error instanceof SearchException) {
+			throw (SearchException) error;
+		}
+		if (error instanceof RuntimeException) {
+			throw (RuntimeException) error;
+		}
+		throw (Error) error;
+	}
+
+	private static final class LoadedPage<P> {
+
+		private final P page;
+		private final Throwable error;
+
+		private LoadedPage(P page, Throwable error) {
+			this.page = page;
+			this.error = error;
+		}
+	}
+
+}
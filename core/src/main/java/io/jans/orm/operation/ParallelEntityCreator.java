@@ -0,0 +1,180 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.operation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import io.jans.orm.exception.MappingException;
+
+/**
+ * Creates entries of large search results on bounded pool of threads. Results
+ * with less entries than threshold are created in caller thread. Entries are
+ * split into chunks. Chunk which pool can't accept because all threads are busy
+ * is created in caller thread, so caller never waits for free thread. Order of
+ * entries is kept. Parallel creation is disabled if threshold is 0
+ */
+public class ParallelEntityCreator {
+
+	private static final AtomicInteger POOL_NUMBER = new AtomicInteger(1);
+
+	private final int threads;
+	private volatile int threshold;
+
+	private volatile ThreadPoolExecutor executor;
+	private volatile boolean shutdown;
+
+	/**
+	 * @param threads
+	 *            Maximum count of threads which create entries in addition to
+	 *            caller thread
+	 * @param threshold
+	 *            Minimal count of entries which are created in parallel. 0
+	 *            disables parallel creation
+	 */
+	public ParallelEntityCreator(int threads, int threshold) {
+		this.threads = Math.max(0, threads);
+		this.threshold = threshold;
+	}
+
+	public boolean isParallel(int count) {
+		int currentThreshold = threshold;
+		return (currentThreshold > 0) && (count >= currentThreshold) && (threads > 0) && !shutdown;
+	}
+
+	public <S, T> List<T> create(List<S> sources, Function<S, T> creator) {
+		int count = sources.size();
+		if (!isParallel(count)) {
+			return createChunk(sources, creator);
+		}
+
+		// Caller thread creates first chunk
+		int chunkCount = Math.min(threads + 1, count);
+		int chunkSize = (count + chunkCount - 1) / chunkCount;
+
+		List<Future<List<T>>> futures = new ArrayList<Future<List<T>>>(chunkCount - 1);
+		List<List<T>> chunkResults = new ArrayList<List<T>>(chunkCount);
+		for (int start = chunkSize; start < count; start += chunkSize) {
+			List<S> chunk = sources.subList(start, Math.min(start + chunkSize, count));
+			try {
+				futures.add(getExecutor().submit(() -> createChunk(chunk, creator)));
+				chunkResults.add(null);
+			} catch (RejectedExecutionException ex) {
+				futures.add(null);
+				chunkResults.add(createChunk(chunk, creator));
+			}
+		}
+
+		List<T> results = new ArrayList<T>(count);
+		results.addAll(createChunk(sources.subList(0, Math.min(chunkSize, count)), creator));
+		for (int i = 0; i < futures.size(); i++) {
+			Future<List<T>> future = futures.get(i);
+			results.addAll(future == null ? chunkResults.get(i) : getChunk(future));
+		}
+
+		return results;
+	}
+
+	private static <S, T> List<T> createChunk(List<S> sources, Function<S, T> creator) {
+		List<T> results = new ArrayList<T>(sources.size());
+		for (S source : sources) {
+			results.add(creator.apply(source));
+		}
+
+		return results;
+	}
+
+	private static <T> List<T> getChunk(Future<List<T>> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new MappingException("Interrupted while creating entries", ex);
+		} catch (ExecutionException ex) {
+			Throwable cause = ex.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+
+			throw new MappingException("Failed to create entries", cause);
+		}
+	}
+
+	/*
+	 * Threads are started on first parallel creation only. Executor doesn't queue
+	 * chunks, it rejects them if all threads are busy
+	 */
+	private ThreadPoolExecutor getExecutor() {
+		ThreadPoolExecutor result = this.executor;
+		if (result != null) {
+			return result;
+		}
+
+		synchronized (this) {
+			if (shutdown) {
+				throw new RejectedExecutionException("Entity creation executor was shut down");
+			}
+
+			if (this.executor == null) {
+				int poolNumber = POOL_NUMBER.getAndIncrement();
+				AtomicInteger threadNumber = new AtomicInteger(1);
+				ThreadFactory threadFactory = (runnable) -> {
+					Thread thread = new Thread(runnable, "jans-orm-create-entities-" + poolNumber + "-" + threadNumber.getAndIncrement());
+					thread.setDaemon(true);
+					return thread;
+				};
+
+				this.executor = new ThreadPoolExecutor(0, threads, 60L, TimeUnit.SECONDS, new SynchronousQueue<Runnable>(), threadFactory);
+			}
+
+			return this.executor;
+		}
+	}
+
+	public void shutdown() {
+		synchronized (this) {
+			shutdown = true;
+			if (executor != null) {
+				executor.shutdown();
+			}
+		}
+	}
+
+	public int getThreads() {
+		return threads;
+	}
+
+	public int getThreshold() {
+		return threshold;
+	}
+
+	/**
+	 * Set minimal count of entries which are created in parallel. 0 disables
+	 * parallel creation
+	 */
+	public void setThreshold(int threshold) {
+		this.threshold = threshold;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("ParallelEntityCreator [threads=%s, threshold=%s]", threads, threshold);
+	}
+
+}
@@ -0,0 +1,210 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.operation;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Coalesces concurrent identical read requests. First caller executes request
+ * and other callers with the same operation and key wait for its result
+ * instead of sending own request to DB. Result is shared only while request is
+ * in progress, it's not cached.
+ *
+ * Requests can be bound to DN. After modification of DN requests of this DN
+ * and DNs under it which are in progress should be invalidated. Callers which
+ * come after invalidation don't join requests started before modification
+ */
+public class RequestCoalescer {
+
+	public interface Request<V, E extends Exception> {
+
+		V execute() throws E;
+
+	}
+
+	private final ConcurrentMap<RequestKey, CompletableFuture<Object>> inFlightRequests = new ConcurrentHashMap<RequestKey, CompletableFuture<Object>>();
+
+	private volatile boolean enabled;
+
+	private final LongAdder executedCount = new LongAdder();
+	private final LongAdder coalescedCount = new LongAdder();
+	private final LongAdder invalidatedCount = new LongAdder();
+
+	public RequestCoalescer(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Execute request or wait for result of identical request which is in
+	 * progress. Result might be shared between threads, so caller should not
+	 * modify it
+	 *
+	 * @param operation
+	 *            Operation name
+	 * @param key
+	 *            Request parameters. It should implement equals and hashCode
+	 */
+	public <V, E extends Exception> V execute(String operation, Object key, Request<V, E> request) throws E {
+		return execute(operation, null, key, request);
+	}
+
+	/**
+	 * Execute request of specified DN or wait for result of identical request
+	 * which is in progress and was not invalidated
+	 *
+	 * @param dn
+	 *            DN which request reads. Null if request is not bound to DN
+	 */
+	@SuppressWarnings("unchecked")
+	public <V, E extends Exception> V execute(String operation, String dn, Object key, Request<V, E> request) throws E {
+		if (!enabled) {
+			executedCount.increment();
+			return request.execute();
+		}
+
+		RequestKey requestKey = new RequestKey(operation, dn, key);
+		CompletableFuture<Object> future = new CompletableFuture<Object>();
+		CompletableFuture<Object> inFlightRequest = inFlightRequests.putIfAbsent(requestKey, future);
+		if (inFlightRequest != null) {
+			coalescedCount.increment();
+			try {
+				return (V) inFlightRequest.join();
+			} catch (CompletionException ex) {
+				throw (E) rethrow(ex.getCause());
+			}
+		}
+
+		executedCount.increment();
+		try {
+			V result = request.execute();
+			future.complete(result);
+
+			return result;
+		} catch (Exception | Error ex) {
+			future.completeExceptionally(ex);
+			throw ex;
+		} finally {
+			inFlightRequests.remove(requestKey, future);
+		}
+	}
+
+	/**
+	 * Stop sharing results of requests of DN and DNs under it which are in
+	 * progress. Callers which already wait for these requests get their results
+	 */
+	public void invalidate(String dn) {
+		if ((dn == null) || inFlightRequests.isEmpty()) {
+			return;
+		}
+
+		// Only requests which are in progress are checked
+		String dnLowerCase = dn.toLowerCase();
+		String childSuffix = "," + dnLowerCase;
+		for (Map.Entry<RequestKey, CompletableFuture<Object>> inFlightRequest : inFlightRequests.entrySet()) {
+			String requestDn = inFlightRequest.getKey().dnLowerCase;
+			if ((requestDn != null) && (requestDn.equals(dnLowerCase) || requestDn.endsWith(childSuffix))) {
+				if (inFlightRequests.remove(inFlightRequest.getKey(), inFlightRequest.getValue())) {
+					invalidatedCount.increment();
+				}
+			}
+		}
+	}
+
+	/*
+	 * Unchecked exceptions are thrown as is. Checked exception is returned to let caller throw it
+	 */
+	private static Exception rethrow(Throwable error) {
+		if (error instanceof RuntimeException) {
+			throw (RuntimeException) error;
+		}
+		if (error instanceof Error) {
+			throw (Error) error;
+		}
+
+		return (Exception) error;
+	}
+
+	/**
+	 * Count of requests which were sent to DB
+	 */
+	public long getExecutedCount() {
+		return executedCount.sum();
+	}
+
+	/**
+	 * Count of requests which got result of identical request in progress
+	 */
+	public long getCoalescedCount() {
+		return coalescedCount.sum();
+	}
+
+	/**
+	 * Count of requests in progress which were invalidated by modification of DN
+	 */
+	public long getInvalidatedCount() {
+		return invalidatedCount.sum();
+	}
+
+	public int getInFlightCount() {
+		return inFlightRequests.size();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("RequestCoalescer [enabled=%s, executed=%s, coalesced=%s, invalidated=%s, inFlight=%s]", enabled,
+				getExecutedCount(), getCoalescedCount(), getInvalidatedCount(), getInFlightCount());
+	}
+
+	private static final class RequestKey {
+
+		private final String operation;
+		private final String dnLowerCase;
+		private final Object key;
+		private final int hashCode;
+
+		private RequestKey(String operation, String dn, Object key) {
+			this.operation = operation;
+			this.dnLowerCase = dn == null ? null : dn.toLowerCase();
+			this.key = key;
+			this.hashCode = 31 * operation.hashCode() + key.hashCode();
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof RequestKey)) {
+				return false;
+			}
+
+			RequestKey other = (RequestKey) obj;
+
+			return operation.equals(other.operation) && key.equals(other.key);
+		}
+	}
+
+}
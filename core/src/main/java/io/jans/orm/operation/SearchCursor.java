@@ -0,0 +1,36 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.operation;
+
+import java.util.List;
+
+import io.jans.orm.exception.operation.SearchException;
+
+/**
+ * Open search which returns rows on demand. Cursor holds DB resources until
+ * all rows were read or cursor is closed
+ *
+ * @param <R> Type of row returned by persistence layer
+ */
+public interface SearchCursor<R> extends AutoCloseable {
+
+	/**
+	 * Read next rows
+	 *
+	 * @param count
+	 *            Maximum count of rows to read
+	 * @return Next rows or empty list if there are no more rows
+	 */
+	List<R> next(int count) throws SearchException;
+
+	/**
+	 * Release DB resources. Cursor can be closed more than once
+	 */
+	@Override
+	void close();
+
+}
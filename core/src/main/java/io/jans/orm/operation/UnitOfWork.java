@@ -0,0 +1,45 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.operation;
+
+/**
+ * Scope in which persist, merge and remove operations of current thread are
+ * buffered instead of sending them to DB. Operations with one DN are coalesced
+ * and all of them are sent to DB with one write on flush or close. SQL and
+ * Spanner write them in one transaction.
+ *
+ * Entries which are loaded inside scope don't contain buffered changes
+ */
+public interface UnitOfWork extends AutoCloseable {
+
+	/**
+	 * Send buffered operations to DB. Unit of work stays active. Operations
+	 * which were not written stay buffered
+	 */
+	void flush();
+
+	/**
+	 * Discard buffered operations and end unit of work
+	 */
+	void rollback();
+
+	boolean isActive();
+
+	/**
+	 * Mark unit of work so that close discards buffered operations
+	 */
+	void setRollbackOnly();
+
+	boolean isRollbackOnly();
+
+	/**
+	 * Send buffered operations to DB and end unit of work
+	 */
+	@Override
+	void close();
+
+}
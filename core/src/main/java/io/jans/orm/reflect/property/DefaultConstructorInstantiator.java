@@ -0,0 +1,134 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.reflect.property;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.jans.orm.exception.BasePersistenceException;
+import io.jans.orm.exception.MappingException;
+import io.jans.orm.exception.PropertyNotFoundException;
+import io.jans.orm.reflect.util.ReflectHelper;
+
+/**
+ * Creates instances by default constructor. Constructor is resolved once. New
+ * instances are created via {@link Supplier} generated with
+ * {@link LambdaMetafactory} or {@link MethodHandle} when it's possible.
+ * Otherwise {@link Constructor#newInstance(Object...)} is used.
+ */
+public final class DefaultConstructorInstantiator<T> implements Instantiator<T> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultConstructorInstantiator.class);
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodType SUPPLIER_FACTORY_TYPE = MethodType.methodType(Supplier.class);
+    private static final MethodType SUPPLIER_SAM_TYPE = MethodType.methodType(Object.class);
+
+    private final Class<T> clazz;
+    private final Constructor<T> constructor;
+    private final Supplier<Object> supplier;
+
+    private DefaultConstructorInstantiator(Class<T> clazz, Constructor<T> constructor, Supplier<Object> supplier) {
+        this.clazz = clazz;
+        this.constructor = constructor;
+        this.supplier = supplier;
+    }
+
+    public static <T> DefaultConstructorInstantiator<T> create(Class<T> clazz, boolean useMethodHandle) throws PropertyNotFoundException {
+        Constructor<T> constructor = ReflectHelper.getDefaultConstructor(clazz);
+        if (constructor == null) {
+            throw new PropertyNotFoundException("Object class [" + clazz.getName() + "] is abstract and can't be instantiated");
+        }
+
+        Supplier<Object> supplier = null;
+        if (useMethodHandle) {
+            try {
+                supplier = createSupplier(constructor);
+            } catch (Throwable ex) {
+                LOG.debug("Failed to create method handle instantiator for class {}. Using reflection instead", clazz.getName(), ex);
+            }
+        }
+
+        return new DefaultConstructorInstantiator<T>(clazz, constructor, supplier);
+    }
+
+    public T newInstance() throws BasePersistenceException {
+        if (supplier == null) {
+            try {
+                return constructor.newInstance(ReflectHelper.NO_PARAMS);
+            } catch (InvocationTargetException ex) {
+                throw new MappingException("Exception occurred inside constructor of " + clazz.getName(), ex.getCause());
+            } catch (ReflectiveOperationException ex) {
+                throw new MappingException("Failed to create instance of " + clazz.getName(), ex);
+            }
+        }
+
+        try {
+            return clazz.cast(supplier.get());
+        } catch (RuntimeException ex) {
+            throw new MappingException("Exception occurred inside constructor of " + clazz.getName(), ex);
+        }
+    }
+
+    public Class<T> getInstanceClass() {
+        return clazz;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Supplier<Object> createSupplier(Constructor<?> constructor) throws Throwable {
+        MethodHandle methodHandle = LOOKUP.unreflectConstructor(constructor);
+
+        Class<?> clazz = constructor.getDeclaringClass();
+        if (ReflectHelper.isPublic(clazz, constructor) && isVisible(clazz)) {
+            CallSite callSite = LambdaMetafactory.metafactory(LOOKUP, "get", SUPPLIER_FACTORY_TYPE, SUPPLIER_SAM_TYPE,
+                    methodHandle, methodHandle.type());
+
+            return (Supplier<Object>) callSite.getTarget().invoke();
+        }
+
+        final MethodHandle genericMethodHandle = methodHandle.asType(SUPPLIER_SAM_TYPE);
+
+        return new Supplier<Object>() {
+            public Object get() {
+                try {
+                    return (Object) genericMethodHandle.invokeExact();
+                } catch (RuntimeException | Error ex) {
+                    throw ex;
+                } catch (Throwable ex) {
+                    throw new IllegalStateException(ex);
+                }
+            }
+        };
+    }
+
+    /*
+     * Generated class calls constructor directly. Hence class should be visible from ORM class loader
+     */
+    private static boolean isVisible(Class<?> clazz) {
+        try {
+            return Class.forName(clazz.getName(), false, DefaultConstructorInstantiator.class.getClassLoader()) == clazz;
+        } catch (ClassNotFoundException | LinkageError ex) {
+            return false;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultConstructorInstantiator(" + clazz.getName() + ')';
+    }
+
+}
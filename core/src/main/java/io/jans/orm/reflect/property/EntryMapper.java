@@ -0,0 +1,53 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.reflect.property;
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compile time generated mapper of entry class. It allows to access entry
+ * properties without reflective scanning of class hierarchy.
+ * <p/>
+ * Mapper of class <code>pkg.Outer$Entry</code> is class
+ * <code>pkg.Outer_Entry_EntryMapper</code> with public default constructor.
+ */
+public interface EntryMapper<T> extends Instantiator<T> {
+
+    String MAPPER_CLASS_SUFFIX = "_EntryMapper";
+
+    /**
+     * Get properties annotations of entry class and it super classes.
+     *
+     * @param allowedAnnotations
+     *            Annotations to return
+     * @return Map of property name to list of allowed annotations. Properties
+     *         without allowed annotations are skipped
+     */
+    Map<String, List<Annotation>> getPropertiesAnnotations(Class<?>... allowedAnnotations);
+
+    /**
+     * Get generated getter of property
+     *
+     * @return Getter or null if there is no generated getter for this property
+     */
+    Getter getGetter(String propertyName);
+
+    /**
+     * Get generated setter of property
+     *
+     * @return Setter or null if there is no generated setter for this property
+     */
+    Setter getSetter(String propertyName);
+
+    /**
+     * Determine if mapper can create new instances of entry class
+     */
+    boolean isInstantiable();
+
+}
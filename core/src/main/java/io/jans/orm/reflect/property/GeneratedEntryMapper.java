@@ -0,0 +1,313 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.reflect.property;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.jans.orm.exception.BasePersistenceException;
+import io.jans.orm.exception.MappingException;
+import io.jans.orm.exception.PropertyAccessException;
+import io.jans.orm.reflect.util.ReflectHelper;
+
+/**
+ * Base class of mappers generated by ORM annotation processor. Generated class
+ * registers entry properties in constructor and implements direct property
+ * access by property index.
+ */
+public abstract class GeneratedEntryMapper<T> implements EntryMapper<T> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(GeneratedEntryMapper.class);
+
+    private final Class<T> entryClass;
+    private final List<GeneratedProperty> properties = new ArrayList<GeneratedProperty>();
+    private final Map<String, GeneratedProperty> propertiesByName = new HashMap<String, GeneratedProperty>();
+
+    protected GeneratedEntryMapper(Class<T> entryClass) {
+        this.entryClass = entryClass;
+    }
+
+    /**
+     * Register property with ORM annotations
+     *
+     * @param propertyName
+     *            The property name
+     * @param fieldClass
+     *            The class which declares property field
+     */
+    protected final GeneratedProperty property(String propertyName, Class<?> fieldClass) {
+        GeneratedProperty property = new GeneratedProperty(this, properties.size(), propertyName, fieldClass);
+        properties.add(property);
+        propertiesByName.put(propertyName, property);
+
+        return property;
+    }
+
+    /**
+     * Get value of property with given index
+     */
+    protected abstract Object get(T entry, int index);
+
+    /**
+     * Set value of property with given index
+     */
+    protected abstract void set(T entry, int index, Object value);
+
+    private Object getValue(Object target, int index) {
+        return get(entryClass.cast(target), index);
+    }
+
+    private void setValue(Object target, int index, Object value) {
+        set(entryClass.cast(target), index, value);
+    }
+
+    public Class<T> getInstanceClass() {
+        return entryClass;
+    }
+
+    public T newInstance() throws BasePersistenceException {
+        throw new MappingException("Object class [" + entryClass.getName() + "] is abstract and can't be instantiated");
+    }
+
+    public boolean isInstantiable() {
+        return false;
+    }
+
+    public Map<String, List<Annotation>> getPropertiesAnnotations(Class<?>... allowedAnnotations) {
+        Map<String, List<Annotation>> result = new HashMap<String, List<Annotation>>();
+        for (GeneratedProperty property : properties) {
+            Field field;
+            try {
+                field = property.fieldClass.getDeclaredField(property.propertyName);
+            } catch (NoSuchFieldException ex) {
+                throw new MappingException("Generated mapper " + getClass().getName() + " doesn't match class " + entryClass.getName()
+                        + ". Field " + property.propertyName + " not found", ex);
+            }
+
+            List<Annotation> annotations = new ArrayList<Annotation>();
+            for (Annotation annotation : field.getAnnotations()) {
+                for (Class<?> allowedAnnotation : allowedAnnotations) {
+                    if (annotation.annotationType().equals(allowedAnnotation)) {
+                        annotations.add(annotation);
+                    }
+                }
+            }
+
+            if (annotations.size() > 0) {
+                result.put(property.propertyName, annotations);
+            }
+        }
+
+        return result;
+    }
+
+    public Getter getGetter(String propertyName) {
+        GeneratedProperty property = propertiesByName.get(propertyName);
+        if (property == null) {
+            return null;
+        }
+
+        return property.getter;
+    }
+
+    public Setter getSetter(String propertyName) {
+        GeneratedProperty property = propertiesByName.get(propertyName);
+        if (property == null) {
+            return null;
+        }
+
+        return property.setter;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + entryClass.getName() + ')';
+    }
+
+    /**
+     * Registered property of generated mapper
+     */
+    protected static final class GeneratedProperty {
+
+        private final GeneratedEntryMapper<?> mapper;
+        private final int index;
+        private final String propertyName;
+        private final Class<?> fieldClass;
+
+        private Getter getter;
+        private Setter setter;
+
+        private GeneratedProperty(GeneratedEntryMapper<?> mapper, int index, String propertyName, Class<?> fieldClass) {
+            this.mapper = mapper;
+            this.index = index;
+            this.propertyName = propertyName;
+            this.fieldClass = fieldClass;
+        }
+
+        /**
+         * Register generated getter of property
+         */
+        public GeneratedProperty getter(Class<?> methodClass, String methodName, Class<?> returnType) {
+            this.getter = new GeneratedGetter(mapper, index, propertyName, methodClass, methodName, returnType);
+            return this;
+        }
+
+        /**
+         * Register generated setter of property
+         */
+        public GeneratedProperty setter(Class<?> methodClass, String methodName, Class<?> parameterType) {
+            this.setter = new GeneratedSetter(mapper, index, propertyName, methodClass, methodName, parameterType);
+            return this;
+        }
+
+    }
+
+    private static Method getDeclaredMethod(GeneratedEntryMapper<?> mapper, Class<?> methodClass, String methodName,
+            Class<?>... parameterTypes) {
+        try {
+            return methodClass.getDeclaredMethod(methodName, parameterTypes);
+        } catch (NoSuchMethodException ex) {
+            throw new MappingException("Generated mapper " + mapper.getClass().getName() + " doesn't match class " + methodClass.getName()
+                    + ". Method " + methodName + " not found", ex);
+        }
+    }
+
+    private static final class GeneratedGetter implements Getter {
+
+        private static final long serialVersionUID = -4107417326733474582L;
+
+        private final transient GeneratedEntryMapper<?> mapper;
+        private final transient int index;
+        private final Class<?> entryClass;
+        private final String propertyName;
+        private final Class<?> methodClass;
+        private final String methodName;
+        private final Class<?> returnType;
+        private transient volatile Method method;
+
+        private GeneratedGetter(GeneratedEntryMapper<?> mapper, int index, String propertyName, Class<?> methodClass, String methodName,
+                Class<?> returnType) {
+            this.mapper = mapper;
+            this.index = index;
+            this.entryClass = mapper.getInstanceClass();
+            this.propertyName = propertyName;
+            this.methodClass = methodClass;
+            this.methodName = methodName;
+            this.returnType = returnType;
+        }
+
+        public Object get(Object target) throws BasePersistenceException {
+            try {
+                return mapper.getValue(target, index);
+            } catch (ClassCastException cce) {
+                LOG.error("ClassCastException in class: " + entryClass.getName() + ", getter method of property: " + propertyName);
+                throw new PropertyAccessException(cce, "IllegalArgumentException occurred calling", false, entryClass, propertyName);
+            } catch (RuntimeException ex) {
+                throw new PropertyAccessException(ex, "Exception occurred inside", false, entryClass, propertyName);
+            }
+        }
+
+        public Class<?> getReturnType() {
+            return returnType;
+        }
+
+        public String getMethodName() {
+            return methodName;
+        }
+
+        public Method getMethod() {
+            if (method == null) {
+                method = getDeclaredMethod(mapper, methodClass, methodName);
+            }
+
+            return method;
+        }
+
+        Object readResolve() {
+            return ReflectHelper.getGetter(entryClass, propertyName);
+        }
+
+        @Override
+        public String toString() {
+            return "GeneratedGetter(" + entryClass.getName() + '.' + propertyName + ')';
+        }
+    }
+
+    private static final class GeneratedSetter implements Setter {
+
+        private static final long serialVersionUID = 6340561203456113960L;
+
+        private final transient GeneratedEntryMapper<?> mapper;
+        private final transient int index;
+        private final Class<?> entryClass;
+        private final String propertyName;
+        private final Class<?> methodClass;
+        private final String methodName;
+        private final Class<?> parameterType;
+        private transient volatile Method method;
+
+        private GeneratedSetter(GeneratedEntryMapper<?> mapper, int index, String propertyName, Class<?> methodClass, String methodName,
+                Class<?> parameterType) {
+            this.mapper = mapper;
+            this.index = index;
+            this.entryClass = mapper.getInstanceClass();
+            this.propertyName = propertyName;
+            this.methodClass = methodClass;
+            this.methodName = methodName;
+            this.parameterType = parameterType;
+        }
+
+        public void set(Object target, Object value) throws BasePersistenceException {
+            try {
+                mapper.setValue(target, index, value);
+            } catch (NullPointerException npe) {
+                if (value == null && parameterType.isPrimitive()) {
+                    throw new PropertyAccessException(npe, "Null value was assigned to a property of primitive type", true, entryClass,
+                            propertyName);
+                } else {
+                    throw new PropertyAccessException(npe, "NullPointerException occurred while calling", true, entryClass, propertyName);
+                }
+            } catch (ClassCastException cce) {
+                LOG.error("ClassCastException in class: " + entryClass.getName() + ", setter method of property: " + propertyName);
+                LOG.error("expected type: " + parameterType.getName() + ", actual value: " + (value == null ? null : value.getClass().getName()));
+                throw new PropertyAccessException(cce, "IllegalArgumentException occurred while calling", true, entryClass, propertyName);
+            } catch (RuntimeException ex) {
+                throw new PropertyAccessException(ex, "Exception occurred inside", true, entryClass, propertyName);
+            }
+        }
+
+        public String getMethodName() {
+            return methodName;
+        }
+
+        public Method getMethod() {
+            if (method == null) {
+                method = getDeclaredMethod(mapper, methodClass, methodName, parameterType);
+            }
+
+            return method;
+        }
+
+        Object readResolve() {
+            return ReflectHelper.getSetter(entryClass, propertyName);
+        }
+
+        @Override
+        public String toString() {
+            return "GeneratedSetter(" + entryClass.getName() + '.' + propertyName + ')';
+        }
+    }
+
+}
@@ -0,0 +1,27 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.reflect.property;
+
+import io.jans.orm.exception.BasePersistenceException;
+
+/**
+ * Creates new instances of a particular class
+ */
+public interface Instantiator<T> {
+    /**
+     * Create new instance by default (no-argument) constructor.
+     *
+     * @return The new instance.
+     * @throws BasePersistenceException
+     */
+    T newInstance() throws BasePersistenceException;
+
+    /**
+     * Get the class of created instances
+     */
+    Class<T> getInstanceClass();
+}
@@ -0,0 +1,278 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.reflect.property;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.jans.orm.exception.BasePersistenceException;
+import io.jans.orm.exception.PropertyAccessException;
+import io.jans.orm.exception.PropertyNotFoundException;
+import io.jans.orm.reflect.util.ReflectHelper;
+
+/**
+ * Accesses property values via a get/set pair without reflective invocation.
+ * Accessors are generated once with {@link LambdaMetafactory} when the
+ * property methods are public and visible to ORM class loader. Otherwise
+ * {@link MethodHandle} is used. If neither can be created it falls back to
+ * {@link BasicPropertyAccessor}.
+ */
+public class MethodHandlePropertyAccessor implements PropertyAccessor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MethodHandlePropertyAccessor.class);
+
+    private static final BasicPropertyAccessor BASIC_PROPERTY_ACCESSOR = new BasicPropertyAccessor();
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodType GETTER_FACTORY_TYPE = MethodType.methodType(Function.class);
+    private static final MethodType GETTER_SAM_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodType SETTER_FACTORY_TYPE = MethodType.methodType(BiConsumer.class);
+    private static final MethodType SETTER_SAM_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    public static final class MethodHandleSetter implements Setter {
+
+        private static final long serialVersionUID = -2218064207931385316L;
+
+        private Class<?> clazz;
+        private final transient Method method;
+        private final transient BiConsumer<Object, Object> consumer;
+        private final String propertyName;
+
+        private MethodHandleSetter(Class<?> clazz, Method method, BiConsumer<Object, Object> consumer, String propertyName) {
+            this.clazz = clazz;
+            this.method = method;
+            this.consumer = consumer;
+            this.propertyName = propertyName;
+        }
+
+        public void set(Object target, Object value) throws BasePersistenceException {
+            try {
+                consumer.accept(target, value);
+            } catch (NullPointerException npe) {
+                if (value == null && method.getParameterTypes()[0].isPrimitive()) {
+                    throw new PropertyAccessException(npe, "Null value was assigned to a property of primitive type", true, clazz,
+                            propertyName);
+                } else {
+                    throw new PropertyAccessException(npe, "NullPointerException occurred while calling", true, clazz, propertyName);
+                }
+            } catch (ClassCastException cce) {
+                LOG.error("ClassCastException in class: " + clazz.getName() + ", setter method of property: " + propertyName);
+                LOG.error("expected type: " + method.getParameterTypes()[0].getName() + ", actual value: "
+                        + (value == null ? null : value.getClass().getName()));
+                throw new PropertyAccessException(cce, "IllegalArgumentException occurred while calling", true, clazz, propertyName);
+            } catch (RuntimeException ex) {
+                throw new PropertyAccessException(ex, "Exception occurred inside", true, clazz, propertyName);
+            }
+        }
+
+        public Method getMethod() {
+            return method;
+        }
+
+        public String getMethodName() {
+            return method.getName();
+        }
+
+        Object readResolve() {
+            return createSetter(clazz, propertyName);
+        }
+
+        @Override
+        public String toString() {
+            return "MethodHandleSetter(" + clazz.getName() + '.' + propertyName + ')';
+        }
+    }
+
+    public static final class MethodHandleGetter implements Getter {
+
+        private static final long serialVersionUID = 5263508364251379044L;
+
+        private Class<?> clazz;
+        private final transient Method method;
+        private final transient Function<Object, Object> function;
+        private final String propertyName;
+
+        private MethodHandleGetter(Class<?> clazz, Method method, Function<Object, Object> function, String propertyName) {
+            this.clazz = clazz;
+            this.method = method;
+            this.function = function;
+            this.propertyName = propertyName;
+        }
+
+        public Object get(Object target) throws BasePersistenceException {
+            try {
+                return function.apply(target);
+            } catch (ClassCastException cce) {
+                LOG.error("ClassCastException in class: " + clazz.getName() + ", getter method of property: " + propertyName);
+                throw new PropertyAccessException(cce, "IllegalArgumentException occurred calling", false, clazz, propertyName);
+            } catch (RuntimeException ex) {
+                throw new PropertyAccessException(ex, "Exception occurred inside", false, clazz, propertyName);
+            }
+        }
+
+        public Class<?> getReturnType() {
+            return method.getReturnType();
+        }
+
+        public Method getMethod() {
+            return method;
+        }
+
+        public String getMethodName() {
+            return method.getName();
+        }
+
+        @Override
+        public String toString() {
+            return "MethodHandleGetter(" + clazz.getName() + '.' + propertyName + ')';
+        }
+
+        Object readResolve() {
+            return createGetter(clazz, propertyName);
+        }
+    }
+
+    public Setter getSetter(Class<?> theClass, String propertyName) throws PropertyNotFoundException {
+        return createSetter(theClass, propertyName);
+    }
+
+    public Getter getGetter(Class<?> theClass, String propertyName) throws PropertyNotFoundException {
+        return createGetter(theClass, propertyName);
+    }
+
+    private static Setter createSetter(Class<?> theClass, String propertyName) throws PropertyNotFoundException {
+        // Use basic accessor to resolve setter method and make it accessible
+        Setter basicSetter = BASIC_PROPERTY_ACCESSOR.getSetter(theClass, propertyName);
+
+        Method method = basicSetter.getMethod();
+        try {
+            return new MethodHandleSetter(theClass, method, createSetterConsumer(method), propertyName);
+        } catch (Throwable ex) {
+            LOG.debug("Failed to create method handle setter for property {} in class {}. Using reflection instead", propertyName,
+                    theClass.getName(), ex);
+            return basicSetter;
+        }
+    }
+
+    private static Getter createGetter(Class<?> theClass, String propertyName) throws PropertyNotFoundException {
+        // Use basic accessor to resolve getter method and make it accessible
+        Getter basicGetter = BASIC_PROPERTY_ACCESSOR.getGetter(theClass, propertyName);
+
+        Method method = basicGetter.getMethod();
+        try {
+            return new MethodHandleGetter(theClass, method, createGetterFunction(method), propertyName);
+        } catch (Throwable ex) {
+            LOG.debug("Failed to create method handle getter for property {} in class {}. Using reflection instead", propertyName,
+                    theClass.getName(), ex);
+            return basicGetter;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> createGetterFunction(Method method) throws Throwable {
+        MethodHandle methodHandle = LOOKUP.unreflect(method);
+
+        if (isFunctionalAccessorAllowed(method)) {
+            CallSite callSite = LambdaMetafactory.metafactory(LOOKUP, "apply", GETTER_FACTORY_TYPE, GETTER_SAM_TYPE,
+                    methodHandle, methodHandle.type().wrap());
+
+            return (Function<Object, Object>) callSite.getTarget().invoke();
+        }
+
+        final MethodHandle genericMethodHandle = methodHandle.asType(GETTER_SAM_TYPE);
+
+        return new Function<Object, Object>() {
+            public Object apply(Object target) {
+                try {
+                    return (Object) genericMethodHandle.invokeExact(target);
+                } catch (RuntimeException | Error ex) {
+                    throw ex;
+                } catch (Throwable ex) {
+                    throw new IllegalStateException(ex);
+                }
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Object> createSetterConsumer(Method method) throws Throwable {
+        MethodHandle methodHandle = LOOKUP.unreflect(method);
+
+        if (isFunctionalAccessorAllowed(method)) {
+            CallSite callSite = LambdaMetafactory.metafactory(LOOKUP, "accept", SETTER_FACTORY_TYPE, SETTER_SAM_TYPE,
+                    methodHandle, methodHandle.type().wrap().changeReturnType(void.class));
+
+            return (BiConsumer<Object, Object>) callSite.getTarget().invoke();
+        }
+
+        final MethodHandle genericMethodHandle = methodHandle.asType(SETTER_SAM_TYPE);
+
+        return new BiConsumer<Object, Object>() {
+            public void accept(Object target, Object value) {
+                try {
+                    genericMethodHandle.invokeExact(target, value);
+                } catch (RuntimeException | Error ex) {
+                    throw ex;
+                } catch (Throwable ex) {
+                    throw new IllegalStateException(ex);
+                }
+            }
+        };
+    }
+
+    /*
+     * Generated class calls property method directly. Hence method and all used types
+     * should be public and visible from ORM class loader
+     */
+    private static boolean isFunctionalAccessorAllowed(Method method) {
+        Class<?> declaringClass = method.getDeclaringClass();
+        if (!ReflectHelper.isPublic(declaringClass, method) || !isVisible(declaringClass)) {
+            return false;
+        }
+
+        if (!isVisible(method.getReturnType())) {
+            return false;
+        }
+
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            if (!isVisible(parameterType)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isVisible(Class<?> clazz) {
+        Class<?> checkClass = clazz;
+        while (checkClass.isArray()) {
+            checkClass = checkClass.getComponentType();
+        }
+
+        if (checkClass.isPrimitive()) {
+            return true;
+        }
+
+        try {
+            return Class.forName(checkClass.getName(), false, MethodHandlePropertyAccessor.class.getClassLoader()) == checkClass;
+        } catch (ClassNotFoundException | LinkageError ex) {
+            return false;
+        }
+    }
+
+}
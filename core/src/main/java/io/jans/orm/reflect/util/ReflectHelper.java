@@ -23,10 +23,14 @@ import java.util.Map.Entry;
 import io.jans.orm.exception.MappingException;
 import io.jans.orm.exception.PropertyNotFoundException;
 import io.jans.orm.reflect.property.DirectPropertyAccessor;
+import io.jans.orm.reflect.property.EntryMapper;
 import io.jans.orm.reflect.property.Setter;
 import io.jans.orm.reflect.property.BasicPropertyAccessor;
 import io.jans.orm.reflect.property.BasicPropertyAnnotationResolver;
+import io.jans.orm.reflect.property.DefaultConstructorInstantiator;
 import io.jans.orm.reflect.property.Getter;
+import io.jans.orm.reflect.property.Instantiator;
+import io.jans.orm.reflect.property.MethodHandlePropertyAccessor;
 import io.jans.orm.reflect.property.PropertyAccessor;
 
 /**
@@ -34,8 +38,25 @@ import io.jans.orm.reflect.property.PropertyAccessor;
  */
 public final class ReflectHelper {
 
+    /**
+     * System property to select property accessor strategy: method_handle (default) or basic
+     */
+    public static final String PROPERTY_ACCESSOR_STRATEGY = "jans.orm.property.accessor";
+    public static final String METHOD_HANDLE_PROPERTY_ACCESSOR_STRATEGY = "method_handle";
+    public static final String BASIC_PROPERTY_ACCESSOR_STRATEGY = "basic";
+
     private static final PropertyAccessor BASIC_PROPERTY_ACCESSOR = new BasicPropertyAccessor();
     private static final PropertyAccessor DIRECT_PROPERTY_ACCESSOR = new DirectPropertyAccessor();
+    private static final PropertyAccessor METHOD_HANDLE_PROPERTY_ACCESSOR = new MethodHandlePropertyAccessor();
+
+    private static final PropertyAccessor PROPERTY_ACCESSOR = getPropertyAccessor(System.getProperty(PROPERTY_ACCESSOR_STRATEGY));
+
+    /**
+     * System property to disable usage of compile time generated entry mappers: true (default) or false
+     */
+    public static final String GENERATED_ENTRY_MAPPERS = "jans.orm.generated.mappers";
+
+    private static final boolean USE_GENERATED_ENTRY_MAPPERS = !"false".equalsIgnoreCase(System.getProperty(GENERATED_ENTRY_MAPPERS));
 
     private static final BasicPropertyAnnotationResolver BASIC_PROPERTY_ANNOTATION_RESOLVER = new BasicPropertyAnnotationResolver();
 
@@ -68,6 +89,21 @@ public final class ReflectHelper {
     private ReflectHelper() {
     }
 
+    /**
+     * Resolve property accessor by strategy name.
+     *
+     * @param strategy
+     *            The strategy name. Unknown or empty name means default strategy
+     * @return The property accessor.
+     */
+    public static PropertyAccessor getPropertyAccessor(String strategy) {
+        if (BASIC_PROPERTY_ACCESSOR_STRATEGY.equalsIgnoreCase(strategy)) {
+            return BASIC_PROPERTY_ACCESSOR;
+        }
+
+        return METHOD_HANDLE_PROPERTY_ACCESSOR;
+    }
+
     /**
      * Encapsulation of getting hold of a class's {@link Object#equals equals}
      * method.
@@ -247,7 +283,7 @@ public final class ReflectHelper {
 
     private static Getter getter(Class<?> clazz, String name) throws MappingException {
         try {
-            return BASIC_PROPERTY_ACCESSOR.getGetter(clazz, name);
+            return PROPERTY_ACCESSOR.getGetter(clazz, name);
         } catch (PropertyNotFoundException pnfe) {
             return DIRECT_PROPERTY_ACCESSOR.getGetter(clazz, name);
         }
@@ -255,15 +291,15 @@ public final class ReflectHelper {
 
     private static Setter setter(Class<?> clazz, String name) throws MappingException {
         try {
-            return BASIC_PROPERTY_ACCESSOR.getSetter(clazz, name);
+            return PROPERTY_ACCESSOR.getSetter(clazz, name);
         } catch (PropertyNotFoundException pnfe) {
             return DIRECT_PROPERTY_ACCESSOR.getSetter(clazz, name);
         }
     }
 
     /**
-     * Directly retrieve the {@link Getter} reference via the
-     * {@link BasicPropertyAccessor}.
+     * Directly retrieve the {@link Getter} reference via the configured
+     * {@link PropertyAccessor}. See {@link #PROPERTY_ACCESSOR_STRATEGY}.
      *
      * @param theClass
      *            The class owning the property
@@ -274,7 +310,7 @@ public final class ReflectHelper {
      *             Indicates we were unable to locate the property.
      */
     public static Getter getGetter(Class<?> theClass, String name) throws MappingException {
-        return BASIC_PROPERTY_ACCESSOR.getGetter(theClass, name);
+        return PROPERTY_ACCESSOR.getGetter(theClass, name);
     }
 
     public static Getter getMethodOrPropertyGetter(Class<?> theClass, String name) throws MappingException {
@@ -282,8 +318,8 @@ public final class ReflectHelper {
     }
 
     /**
-     * Directly retrieve the {@link Setter} reference via the
-     * {@link BasicPropertyAccessor}.
+     * Directly retrieve the {@link Setter} reference via the configured
+     * {@link PropertyAccessor}. See {@link #PROPERTY_ACCESSOR_STRATEGY}.
      *
      * @param theClass
      *            The class owning the property
@@ -294,7 +330,7 @@ public final class ReflectHelper {
      *             Indicates we were unable to locate the property.
      */
     public static Setter getSetter(Class<?> theClass, String name) throws MappingException {
-        return BASIC_PROPERTY_ACCESSOR.getSetter(theClass, name);
+        return PROPERTY_ACCESSOR.getSetter(theClass, name);
     }
 
     public static Setter getMethodOrPropertySetter(Class<?> theClass, String name) throws MappingException {
@@ -332,6 +368,65 @@ public final class ReflectHelper {
         return getDefaultConstructor(clazz).newInstance(NO_PARAMS);
     }
 
+    /**
+     * Get instantiator which creates objects by default constructor. Resolved instantiator
+     * should be cached by caller to avoid constructor lookup per new object.
+     * See {@link #PROPERTY_ACCESSOR_STRATEGY}.
+     *
+     * @param clazz
+     *            The class to instantiate
+     * @return Instantiator for given class
+     * @throws PropertyNotFoundException
+     *             If class is abstract or has no default constructor
+     */
+    public static <T> Instantiator<T> getInstantiator(Class<T> clazz) throws PropertyNotFoundException {
+        return DefaultConstructorInstantiator.create(clazz, PROPERTY_ACCESSOR == METHOD_HANDLE_PROPERTY_ACCESSOR);
+    }
+
+    /**
+     * Find compile time generated mapper of the given class. See
+     * {@link #GENERATED_ENTRY_MAPPERS}.
+     *
+     * @param clazz
+     *            The entry class
+     * @return Generated mapper or null if there is no mapper for this class
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> EntryMapper<T> getEntryMapper(Class<T> clazz) {
+        if (!USE_GENERATED_ENTRY_MAPPERS || clazz.isPrimitive() || clazz.isArray() || (clazz.getClassLoader() == null)) {
+            return null;
+        }
+
+        String className = clazz.getName();
+        int packageIndex = className.lastIndexOf('.');
+        String mapperClassName = className.substring(0, packageIndex + 1) + className.substring(packageIndex + 1).replace('$', '_')
+                + EntryMapper.MAPPER_CLASS_SUFFIX;
+
+        Class<?> mapperClass;
+        try {
+            mapperClass = Class.forName(mapperClassName, true, clazz.getClassLoader());
+        } catch (ClassNotFoundException ex) {
+            return null;
+        }
+
+        if (!EntryMapper.class.isAssignableFrom(mapperClass)) {
+            return null;
+        }
+
+        EntryMapper<T> entryMapper;
+        try {
+            entryMapper = (EntryMapper<T>) mapperClass.getConstructor(NO_PARAM_SIGNATURE).newInstance(NO_PARAMS);
+        } catch (ReflectiveOperationException ex) {
+            throw new MappingException("Failed to create generated mapper " + mapperClassName, ex);
+        }
+
+        if (entryMapper.getInstanceClass() != clazz) {
+            return null;
+        }
+
+        return entryMapper;
+    }
+
     /**
      * Determine if the given class is declared abstract.
      *
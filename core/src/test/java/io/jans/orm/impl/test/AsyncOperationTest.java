@@ -0,0 +1,113 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.impl.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import io.jans.orm.annotation.AttributeName;
+import io.jans.orm.annotation.DN;
+import io.jans.orm.annotation.DataEntry;
+import io.jans.orm.annotation.ObjectClass;
+import io.jans.orm.model.AttributeData;
+import io.jans.orm.reflect.property.PropertyAnnotation;
+
+public class AsyncOperationTest {
+
+	private static final String DN1 = "uid=user1,ou=people,o=jans";
+
+	private static final String BACKEND_THREAD_NAME = "backend-io";
+
+	private InMemoryEntryManager entryManager;
+
+	@BeforeMethod
+	public void init() {
+		// Backend async API completes lookup on own I/O thread
+		entryManager = new InMemoryEntryManager() {
+			@Override
+			protected CompletableFuture<List<AttributeData>> findAsync(String dn, String[] objectClasses,
+					Map<String, PropertyAnnotation> propertiesAnnotationsMap, String... attributes) {
+				CompletableFuture<List<AttributeData>> result = new CompletableFuture<List<AttributeData>>();
+				Thread thread = new Thread(() -> {
+					try {
+						result.complete(find(dn, objectClasses, propertiesAnnotationsMap, attributes));
+					} catch (RuntimeException ex) {
+						result.completeExceptionally(ex);
+					}
+				}, BACKEND_THREAD_NAME);
+				thread.start();
+
+				return result;
+			}
+		};
+		entryManager.putEntry(DN1, new AttributeData("uid", "user1"), new AttributeData("objectClass", new String[] { "jansPerson" }));
+	}
+
+	@AfterMethod
+	public void destroy() {
+		entryManager.destroy();
+	}
+
+	@Test
+	public void entryIsNotCreatedOnBackendThread() throws Exception {
+		TestUser user = entryManager.findAsync(DN1, TestUser.class, null).get(10, TimeUnit.SECONDS);
+
+		assertEquals(user.getUid(), "user1");
+		assertTrue(user.createdBy.startsWith("jans-orm-async-"), user.createdBy);
+		assertEquals(entryManager.findCount.get(), 1);
+	}
+
+	@Test
+	public void foundEntryIsCached() throws Exception {
+		entryManager.findAsync(DN1, TestUser.class, null).get(10, TimeUnit.SECONDS);
+		TestUser user = entryManager.findAsync(DN1, TestUser.class, null).get(10, TimeUnit.SECONDS);
+
+		assertEquals(user.getUid(), "user1");
+		assertEquals(entryManager.findCount.get(), 1);
+	}
+
+	@DataEntry(cacheable = true)
+	@ObjectClass(value = "jansPerson")
+	public static class TestUser {
+
+		@DN
+		private String dn;
+
+		@AttributeName(name = "uid")
+		private String uid;
+
+		private transient String createdBy;
+
+		public String getDn() {
+			return dn;
+		}
+
+		public void setDn(String dn) {
+			this.dn = dn;
+		}
+
+		public String getUid() {
+			return uid;
+		}
+
+		public void setUid(String uid) {
+			this.uid = uid;
+			this.createdBy = Thread.currentThread().getName();
+		}
+
+	}
+
+}
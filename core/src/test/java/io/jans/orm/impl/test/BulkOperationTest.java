@@ -0,0 +1,147 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.impl.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import io.jans.orm.annotation.AttributeName;
+import io.jans.orm.annotation.DN;
+import io.jans.orm.annotation.DataEntry;
+import io.jans.orm.annotation.ObjectClass;
+import io.jans.orm.model.AttributeData;
+import io.jans.orm.model.BulkOperationResult;
+import io.jans.orm.operation.RequestCoalescer;
+
+public class BulkOperationTest {
+
+	private static final String DN1 = "uid=user1,ou=people,o=jans";
+	private static final String NEW_DN = "uid=new,ou=people,o=jans";
+
+	private InMemoryEntryManager entryManager;
+
+	@BeforeMethod
+	public void init() {
+		entryManager = new InMemoryEntryManager();
+		entryManager.getRequestCoalescer().setEnabled(true);
+		entryManager.putEntry(DN1, new AttributeData("uid", "user1"), new AttributeData("objectClass", new String[] { "jansPerson" }));
+	}
+
+	@AfterMethod
+	public void destroy() {
+		entryManager.destroy();
+	}
+
+	@Test
+	public void persistAllInvalidatesLookupInProgress() throws InterruptedException {
+		CountDownLatch release = startLookup(NEW_DN);
+
+		BulkOperationResult<TestUser> result = entryManager.persistAll(Arrays.asList(user(NEW_DN, "new")));
+		assertEquals(result.getSucceededEntries().size(), 1);
+
+		assertLookupInvalidated(release);
+	}
+
+	@Test
+	public void mergeAllInvalidatesLookupInProgress() throws InterruptedException {
+		CountDownLatch release = startLookup(DN1);
+
+		BulkOperationResult<TestUser> result = entryManager.mergeAll(Arrays.asList(user(DN1, "a")));
+		assertEquals(result.getSucceededEntries().size(), 1);
+
+		assertLookupInvalidated(release);
+	}
+
+	@Test
+	public void removeAllInvalidatesLookupInProgress() throws InterruptedException {
+		CountDownLatch release = startLookup(DN1);
+
+		BulkOperationResult<String> result = entryManager.removeAll(TestUser.class, Arrays.asList(DN1));
+		assertEquals(result.getSucceededEntries().size(), 1);
+
+		assertLookupInvalidated(release);
+	}
+
+	private CountDownLatch startLookup(String dn) throws InterruptedException {
+		CountDownLatch release = new CountDownLatch(1);
+		entryManager.findLatch = release;
+		Thread lookup = new Thread(() -> {
+			try {
+				entryManager.find(TestUser.class, dn);
+			} catch (RuntimeException ex) {
+				// Entry might not exist
+			}
+		});
+		lookup.start();
+
+		RequestCoalescer requestCoalescer = entryManager.getRequestCoalescer();
+		for (int i = 0; (i < 500) && (requestCoalescer.getInFlightCount() < 1); i++) {
+			Thread.sleep(10);
+		}
+		assertEquals(requestCoalescer.getInFlightCount(), 1);
+
+		// Only lookup which was started before write waits
+		entryManager.findLatch = null;
+
+		return release;
+	}
+
+	private void assertLookupInvalidated(CountDownLatch release) {
+		RequestCoalescer requestCoalescer = entryManager.getRequestCoalescer();
+		try {
+			// Callers after write don't join lookup started before it
+			assertEquals(requestCoalescer.getInFlightCount(), 0);
+			assertTrue(requestCoalescer.getInvalidatedCount() >= 1);
+		} finally {
+			release.countDown();
+		}
+	}
+
+	private static TestUser user(String dn, String uid) {
+		TestUser user = new TestUser();
+		user.setDn(dn);
+		user.setUid(uid);
+
+		return user;
+	}
+
+	@DataEntry
+	@ObjectClass(value = "jansPerson")
+	public static class TestUser {
+
+		@DN
+		private String dn;
+
+		@AttributeName(name = "uid")
+		private String uid;
+
+		public String getDn() {
+			return dn;
+		}
+
+		public void setDn(String dn) {
+			this.dn = dn;
+		}
+
+		public String getUid() {
+			return uid;
+		}
+
+		public void setUid(String uid) {
+			this.uid = uid;
+		}
+
+	}
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.impl.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.testng.annotations.Test;
+
+import io.jans.orm.exception.EntryPersistenceException;
+import io.jans.orm.exception.operation.SearchException;
+import io.jans.orm.impl.CursorEntriesIterator;
+import io.jans.orm.operation.SearchCursor;
+
+public class CursorEntriesIteratorTest {
+
+	@Test
+	public void readAllRows() {
+		TestCursor cursor = new TestCursor(10, -1);
+		List<String> entries = newIterator(cursor, 3).stream().collect(Collectors.toList());
+
+		assertEquals(entries.size(), 10);
+		assertEquals(entries.get(0), "entry-0");
+		assertEquals(entries.get(9), "entry-9");
+		assertEquals(cursor.openCount, 1);
+		assertEquals(cursor.closeCount, 1);
+	}
+
+	@Test
+	public void cursorIsOpenedOnFirstRead() {
+		TestCursor cursor = new TestCursor(10, -1);
+		Stream<String> stream = newIterator(cursor, 3).stream();
+
+		assertEquals(cursor.openCount, 0);
+		stream.close();
+		assertEquals(cursor.openCount, 0);
+		assertEquals(cursor.closeCount, 0);
+	}
+
+	@Test
+	public void closeStreamEarly() {
+		TestCursor cursor = new TestCursor(1000, -1);
+		try (Stream<String> stream = newIterator(cursor, 10).stream()) {
+			List<String> entries = stream.limit(15).collect(Collectors.toList());
+			assertEquals(entries.size(), 15);
+			assertEquals(cursor.closeCount, 0);
+		}
+
+		assertEquals(cursor.closeCount, 1);
+		// Only rows of two pages were read
+		assertEquals(cursor.readCount, 20);
+	}
+
+	@Test
+	public void closedIteratorDoesNotReadRows() {
+		TestCursor cursor = new TestCursor(1000, -1);
+		CursorEntriesIterator<Integer, String> iterator = newIterator(cursor, 10);
+		assertTrue(iterator.hasNext());
+		iterator.close();
+		iterator.close();
+
+		assertFalse(iterator.hasNext());
+		assertEquals(cursor.closeCount, 1);
+		assertEquals(cursor.readCount, 10);
+	}
+
+	@Test
+	public void cursorIsClosedOnError() {
+		TestCursor cursor = new TestCursor(100, 25);
+		CursorEntriesIterator<Integer, String> iterator = newIterator(cursor, 10);
+		int count = 0;
+		try {
+			while (iterator.hasNext()) {
+				iterator.next();
+				count++;
+			}
+			fail("Read error should be thrown");
+		} catch (EntryPersistenceException ex) {
+			assertTrue(ex.getCause() instanceof SearchException);
+		}
+
+		assertEquals(count, 20);
+		assertEquals(cursor.closeCount, 1);
+		assertFalse(iterator.hasNext());
+	}
+
+	private CursorEntriesIterator<Integer, String> newIterator(TestCursor cursor, int pageSize) {
+		return new CursorEntriesIterator<Integer, String>(pageSize) {
+			@Override
+			protected SearchCursor<Integer> openCursor() {
+				cursor.openCount++;
+				return cursor;
+			}
+
+			@Override
+			protected String createEntry(Integer row) {
+				return "entry-" + row;
+			}
+		};
+	}
+
+	private static final class TestCursor implements SearchCursor<Integer> {
+
+		private final int rowCount;
+		private final int failAt;
+
+		private int readCount;
+		private int openCount;
+		private int closeCount;
+
+		private TestCursor(int rowCount, int failAt) {
+			this.rowCount = rowCount;
+			this.failAt = failAt;
+		}
+
+		@Override
+		public List<Integer> next(int count) throws SearchException {
+			List<Integer> rows = new ArrayList<Integer>();
+			while ((rows.size() < count) && (readCount < rowCount)) {
+				if (readCount == failAt) {
+					throw new SearchException("Failed to read row " + readCount);
+				}
+				rows.add(readCount++);
+			}
+
+			return rows;
+		}
+
+		@Override
+		public void close() {
+			closeCount++;
+		}
+	}
+
+}
@@ -0,0 +1,193 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.impl.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import io.jans.orm.impl.EntryCache;
+import io.jans.orm.model.AttributeData;
+
+public class EntryCacheTest {
+
+	private static final String[] ATTRIBUTES = new String[] { "uid", "displayName" };
+
+	@Test
+	public void hitsAndMissesAreCounted() {
+		EntryCache cache = new EntryCache(10, 60000L);
+		List<AttributeData> attributes = attributes("user1");
+
+		assertNull(cache.get(Object.class, "uid=user1,ou=people,o=jans", ATTRIBUTES));
+		cache.put(Object.class, "uid=user1,ou=people,o=jans", ATTRIBUTES, attributes, cache.getInvalidationStamp());
+
+		assertSame(cache.get(Object.class, "uid=user1,ou=people,o=jans", ATTRIBUTES), attributes);
+		assertSame(cache.get(Object.class, "uid=user1,ou=people,o=jans", new String[] { "displayName", "UID" }), attributes);
+		assertNull(cache.get(Object.class, "uid=user1,ou=people,o=jans", new String[] { "uid" }));
+		assertNull(cache.get(String.class, "uid=user1,ou=people,o=jans", ATTRIBUTES));
+
+		assertEquals(cache.getHitCount(), 2);
+		assertEquals(cache.getMissCount(), 3);
+		assertEquals(cache.getPutCount(), 1);
+		assertEquals(cache.size(), 1);
+	}
+
+	@Test
+	public void dnCaseVariantsShareEntry() {
+		EntryCache cache = new EntryCache(10, 60000L);
+		List<AttributeData> attributes = attributes("user1");
+
+		cache.put(Object.class, "uid=User1,ou=people,o=jans", ATTRIBUTES, attributes, cache.getInvalidationStamp());
+		cache.put(Object.class, "UID=user1,OU=people,o=jans", ATTRIBUTES, attributes, cache.getInvalidationStamp());
+
+		assertEquals(cache.size(), 1);
+		assertSame(cache.get(Object.class, "uid=user1,ou=People,o=Jans", ATTRIBUTES), attributes);
+	}
+
+	@Test
+	public void expiredEntryIsRemoved() throws InterruptedException {
+		EntryCache cache = new EntryCache(10, 50L);
+		cache.put(Object.class, "uid=user1,ou=people,o=jans", ATTRIBUTES, attributes("user1"), cache.getInvalidationStamp());
+		assertNotNull(cache.get(Object.class, "uid=user1,ou=people,o=jans", ATTRIBUTES));
+
+		Thread.sleep(100);
+
+		assertNull(cache.get(Object.class, "uid=user1,ou=people,o=jans", ATTRIBUTES));
+		assertEquals(cache.getExpirationCount(), 1);
+		assertEquals(cache.size(), 0);
+	}
+
+	@Test
+	public void leastRecentlyUsedEntryIsEvicted() throws InterruptedException {
+		EntryCache cache = new EntryCache(3, 60000L);
+		put(cache, "uid=user1,ou=people,o=jans");
+		put(cache, "uid=user2,ou=people,o=jans");
+		put(cache, "uid=user3,ou=people,o=jans");
+
+		Thread.sleep(1);
+		assertNotNull(cache.get(Object.class, "uid=user1,ou=people,o=jans", ATTRIBUTES));
+		put(cache, "uid=user4,ou=people,o=jans");
+
+		assertEquals(cache.size(), 3);
+		assertEquals(cache.getEvictionCount(), 1);
+		assertNull(cache.get(Object.class, "uid=user2,ou=people,o=jans", ATTRIBUTES));
+		assertNotNull(cache.get(Object.class, "uid=user1,ou=people,o=jans", ATTRIBUTES));
+		assertNotNull(cache.get(Object.class, "uid=user3,ou=people,o=jans", ATTRIBUTES));
+		assertNotNull(cache.get(Object.class, "uid=user4,ou=people,o=jans", ATTRIBUTES));
+	}
+
+	@Test
+	public void invalidateRemovesSubtree() {
+		EntryCache cache = new EntryCache(10, 60000L);
+		put(cache, "ou=people,o=jans");
+		put(cache, "uid=user1,ou=people,o=jans");
+		put(cache, "cn=device,uid=user1, ou=people,o=jans");
+		put(cache, "uid=user1,ou=people2,o=jans");
+		put(cache, "uid=user1\\,ou=people,ou=groups,o=jans");
+
+		cache.invalidate("OU=People,o=jans");
+
+		assertNull(cache.get(Object.class, "ou=people,o=jans", ATTRIBUTES));
+		assertNull(cache.get(Object.class, "uid=user1,ou=people,o=jans", ATTRIBUTES));
+		assertNull(cache.get(Object.class, "cn=device,uid=user1, ou=people,o=jans", ATTRIBUTES));
+		assertNotNull(cache.get(Object.class, "uid=user1,ou=people2,o=jans", ATTRIBUTES));
+		assertNotNull(cache.get(Object.class, "uid=user1\\,ou=people,ou=groups,o=jans", ATTRIBUTES));
+		assertEquals(cache.size(), 2);
+		assertEquals(cache.getInvalidationCount(), 1);
+
+		cache.invalidate("o=jans");
+		assertEquals(cache.size(), 0);
+	}
+
+	@Test
+	public void invalidateWithoutParentEntry() {
+		EntryCache cache = new EntryCache(10, 60000L);
+		put(cache, "uid=user1,ou=people,o=jans");
+
+		cache.invalidate("uid=user2,ou=people,o=jans");
+		assertEquals(cache.size(), 1);
+
+		cache.invalidate("ou=people,o=jans");
+		assertEquals(cache.size(), 0);
+
+		// Entry can be added again after invalidation
+		put(cache, "uid=user1,ou=people,o=jans");
+		assertEquals(cache.size(), 1);
+		cache.onAfterRemove("uid=user1,ou=people,o=jans");
+		assertEquals(cache.size(), 0);
+	}
+
+	@Test
+	public void entryLoadedBeforeInvalidationIsNotAdded() {
+		EntryCache cache = new EntryCache(10, 60000L);
+		long stamp = cache.getInvalidationStamp();
+
+		cache.invalidate("uid=user1,ou=people,o=jans");
+		cache.put(Object.class, "uid=user1,ou=people,o=jans", ATTRIBUTES, attributes("user1"), stamp);
+
+		assertNull(cache.get(Object.class, "uid=user1,ou=people,o=jans", ATTRIBUTES));
+		assertEquals(cache.size(), 0);
+		assertEquals(cache.getPutCount(), 0);
+	}
+
+	@Test
+	public void disabledCacheDoesNotKeepEntries() {
+		EntryCache cache = new EntryCache(10, 60000L);
+		put(cache, "uid=user1,ou=people,o=jans");
+		cache.setMaxSize(0);
+		put(cache, "uid=user2,ou=people,o=jans");
+
+		assertEquals(cache.size(), 0);
+		assertNull(cache.get(Object.class, "uid=user1,ou=people,o=jans", ATTRIBUTES));
+	}
+
+	@Test
+	public void concurrentAccessKeepsSizeBounded() throws InterruptedException {
+		EntryCache cache = new EntryCache(100, 60000L);
+		Thread[] threads = new Thread[4];
+		for (int t = 0; t < threads.length; t++) {
+			final int thread = t;
+			threads[t] = new Thread(() -> {
+				for (int i = 0; i < 2000; i++) {
+					String dn = "uid=user" + ((thread * 31 + i) % 500) + ",ou=people,o=jans";
+					if (cache.get(Object.class, dn, ATTRIBUTES) == null) {
+						put(cache, dn);
+					}
+					if (i % 100 == 0) {
+						cache.invalidate(dn);
+					}
+				}
+			});
+			threads[t].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		// Concurrent puts can exceed size while other thread evicts entries. Next put evicts them
+		put(cache, "uid=user,ou=people,o=jans");
+		assertTrue(cache.size() <= 100);
+		cache.invalidate("o=jans");
+		assertEquals(cache.size(), 0);
+	}
+
+	private static void put(EntryCache cache, String dn) {
+		cache.put(Object.class, dn, ATTRIBUTES, attributes(dn), cache.getInvalidationStamp());
+	}
+
+	private static List<AttributeData> attributes(String uid) {
+		return Arrays.asList(new AttributeData("uid", uid));
+	}
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.impl.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import io.jans.orm.annotation.AttributeName;
+import io.jans.orm.annotation.AttributesList;
+import io.jans.orm.annotation.DN;
+import io.jans.orm.annotation.DataEntry;
+import io.jans.orm.annotation.ObjectClass;
+import io.jans.orm.impl.model.AttributesListMapping;
+import io.jans.orm.impl.model.EntryClassMetadata;
+import io.jans.orm.model.AttributeData;
+import io.jans.orm.model.base.CustomAttribute;
+
+public class EntryMappingTest {
+
+	private static final String DN = "uid=user1,ou=people,o=jans";
+
+	private InMemoryEntryManager entryManager;
+
+	@BeforeMethod
+	public void init() {
+		entryManager = new InMemoryEntryManager();
+	}
+
+	@AfterMethod
+	public void destroy() {
+		entryManager.destroy();
+	}
+
+	@Test
+	public void attributesListIsFilledFromPlan() {
+		List<AttributeData> attributes = new ArrayList<AttributeData>();
+		attributes.add(new AttributeData("uid", "user1"));
+		attributes.add(new AttributeData("mail", new Object[] { "a@example.org", "b@example.org" }, true));
+		attributes.add(new AttributeData("secret", "value"));
+
+		TestUser user = entryManager.createEntities(TestUser.class, Collections.singletonMap(DN, attributes)).get(0);
+
+		assertEquals(user.getUid(), "user1");
+		assertEquals(user.getCustomAttributes().size(), 1);
+		CustomAttribute mail = user.getCustomAttributes().get(0);
+		assertEquals(mail.getName(), "mail");
+		assertEquals(mail.getValues(), Arrays.asList("a@example.org", "b@example.org"));
+		assertTrue(mail.isMultiValued());
+	}
+
+	@Test
+	public void attributesListAccessorsAreResolvedOnce() {
+		entryManager.createEntities(TestUser.class, Collections.singletonMap(DN, new ArrayList<AttributeData>()));
+
+		AttributesListMapping[] attributesListProperties = EntryClassMetadata.forClass(TestUser.class).getEntryMapping()
+				.getAttributesListProperties();
+		assertEquals(attributesListProperties.length, 1);
+
+		AttributesListMapping attributesListMapping = attributesListProperties[0];
+		assertEquals(attributesListMapping.getPropertyName(), "customAttributes");
+		assertEquals(attributesListMapping.getItemType(), CustomAttribute.class);
+		assertNotNull(attributesListMapping.getSetter());
+		assertNotNull(attributesListMapping.getItemNameSetter());
+		assertNotNull(attributesListMapping.getItemValueSetter());
+		assertNotNull(attributesListMapping.getItemMultiValuedSetter());
+
+		Map<String, AttributeName> attributesConfiguration = attributesListMapping.getAttributesConfiguration();
+		assertTrue(attributesConfiguration.get("secret").ignoreDuringRead());
+		assertFalse(attributesConfiguration.containsKey("mail"));
+	}
+
+	@DataEntry
+	@ObjectClass(value = "jansPerson")
+	public static class TestUser {
+
+		@DN
+		private String dn;
+
+		@AttributeName(name = "uid")
+		private String uid;
+
+		@AttributesList(name = "name", value = "values", multiValued = "multiValued", attributesConfiguration = {
+				@AttributeName(name = "secret", ignoreDuringRead = true) })
+		private List<CustomAttribute> customAttributes = new ArrayList<CustomAttribute>();
+
+		public String getDn() {
+			return dn;
+		}
+
+		public void setDn(String dn) {
+			this.dn = dn;
+		}
+
+		public String getUid() {
+			return uid;
+		}
+
+		public void setUid(String uid) {
+			this.uid = uid;
+		}
+
+		public List<CustomAttribute> getCustomAttributes() {
+			return customAttributes;
+		}
+
+		public void setCustomAttributes(List<CustomAttribute> customAttributes) {
+			this.customAttributes = customAttributes;
+		}
+
+	}
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.impl.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import io.jans.orm.annotation.AttributeName;
+import io.jans.orm.annotation.DN;
+import io.jans.orm.annotation.DataEntry;
+import io.jans.orm.annotation.ObjectClass;
+import io.jans.orm.model.AttributeData;
+import io.jans.orm.model.FindByDnsResult;
+
+public class FindByDnsTest {
+
+	private static final String DN1 = "uid=user1,ou=people,o=jans";
+	private static final String DN2 = "uid=user2,ou=people,o=jans";
+	private static final String DN3 = "uid=user3,ou=people,o=jans";
+	private static final String MISSING_DN = "uid=missing,ou=people,o=jans";
+
+	private InMemoryEntryManager entryManager;
+
+	@BeforeMethod
+	public void init() {
+		entryManager = new InMemoryEntryManager();
+		entryManager.getNegativeEntryCache().setTtl(60000L);
+		putUser(DN1, "user1");
+		putUser(DN2, "user2");
+		putUser(DN3, "user3");
+	}
+
+	@AfterMethod
+	public void destroy() {
+		entryManager.destroy();
+	}
+
+	@Test
+	public void entriesAreReturnedInOrderOfDns() {
+		FindByDnsResult<TestUser> result = entryManager.findByDns(TestUser.class, Arrays.asList(DN3, DN1, DN2), null);
+
+		assertEquals(result.getEntries().size(), 3);
+		assertEquals(result.getEntries().get(0).getUid(), "user3");
+		assertEquals(result.getEntries().get(1).getUid(), "user1");
+		assertEquals(result.getEntries().get(2).getUid(), "user2");
+		assertEquals(result.getMissingDns().size(), 0);
+		assertEquals(entryManager.findByDnsCount.get(), 1);
+	}
+
+	@Test
+	public void duplicateDnIsLoadedOnce() {
+		FindByDnsResult<TestUser> result = entryManager.findByDns(TestUser.class, Arrays.asList(DN1, DN2, DN1, MISSING_DN, MISSING_DN), null);
+
+		// Each requested DN has entry in result
+		assertEquals(result.getEntries().size(), 3);
+		assertEquals(result.getEntries().get(0).getUid(), "user1");
+		assertEquals(result.getEntries().get(1).getUid(), "user2");
+		assertSame(result.getEntries().get(2), result.getEntries().get(0));
+		assertEquals(result.getMissingDns(), Collections.singletonList(MISSING_DN));
+		assertEquals(entryManager.findByDnsCount.get(), 1);
+	}
+
+	@Test
+	public void missingDnsAreReported() {
+		FindByDnsResult<TestUser> result = entryManager.findByDns(TestUser.class, Arrays.asList(MISSING_DN, DN2), null);
+
+		assertEquals(result.getEntries().size(), 1);
+		assertEquals(result.getEntries().get(0).getUid(), "user2");
+		assertTrue(result.hasMissingDns());
+		assertEquals(result.getMissingDns(), Collections.singletonList(MISSING_DN));
+	}
+
+	@Test
+	public void cachedEntriesAreNotLoaded() {
+		entryManager.findByDns(TestUser.class, Arrays.asList(DN1, MISSING_DN), null);
+		assertEquals(entryManager.findByDnsCount.get(), 1);
+
+		// Found entry is in entry cache and missing DN in negative cache
+		FindByDnsResult<TestUser> result = entryManager.findByDns(TestUser.class, Arrays.asList(DN1, MISSING_DN), null);
+		assertEquals(entryManager.findByDnsCount.get(), 1);
+		assertEquals(result.getEntries().get(0).getUid(), "user1");
+		assertEquals(result.getMissingDns(), Collections.singletonList(MISSING_DN));
+
+		// Only not cached DN is loaded
+		result = entryManager.findByDns(TestUser.class, Arrays.asList(DN1, DN2), null);
+		assertEquals(entryManager.findByDnsCount.get(), 2);
+		assertEquals(result.getEntries().size(), 2);
+
+		// Single lookup uses entries loaded by DNs
+		assertEquals(entryManager.find(TestUser.class, DN2).getUid(), "user2");
+		assertEquals(entryManager.findCount.get(), 0);
+	}
+
+	@Test
+	public void persistedEntryIsNotReportedAsMissing() {
+		entryManager.findByDns(TestUser.class, Arrays.asList(MISSING_DN), null);
+
+		TestUser user = new TestUser();
+		user.setDn(MISSING_DN);
+		user.setUid("missing");
+		entryManager.persist(user);
+
+		FindByDnsResult<TestUser> result = entryManager.findByDns(TestUser.class, Arrays.asList(MISSING_DN), null);
+		assertEquals(result.getEntries().size(), 1);
+		assertEquals(result.getMissingDns().size(), 0);
+	}
+
+	private void putUser(String dn, String uid) {
+		entryManager.putEntry(dn, new AttributeData("uid", uid), new AttributeData("objectClass", new String[] { "jansPerson" }));
+	}
+
+	@DataEntry(cacheable = true)
+	@ObjectClass(value = "jansPerson")
+	public static class TestUser {
+
+		@DN
+		private String dn;
+
+		@AttributeName(name = "uid")
+		private String uid;
+
+		public String getDn() {
+			return dn;
+		}
+
+		public void setDn(String dn) {
+			this.dn = dn;
+		}
+
+		public String getUid() {
+			return uid;
+		}
+
+		public void setUid(String uid) {
+			this.uid = uid;
+		}
+
+	}
+
+}
@@ -0,0 +1,156 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.impl.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import org.testng.annotations.Test;
+
+import io.jans.orm.exception.KeyConversionException;
+import io.jans.orm.impl.GenericKeyConverter;
+import io.jans.orm.impl.model.ParsedKey;
+
+public class GenericKeyConverterTest {
+
+	@Test
+	public void keyIsBuiltFromRdnValues() {
+		GenericKeyConverter converter = new GenericKeyConverter(true, 0);
+
+		ParsedKey parsedKey = converter.convertToKey("uid=user1,ou=people,o=jans");
+		assertEquals(parsedKey.getKey(), "people_user1");
+		assertEquals(parsedKey.getName(), "uid");
+		assertNull(parsedKey.getInum());
+
+		parsedKey = converter.convertToKey("inum=1234,ou=clients,o=org1,o=jans");
+		assertEquals(parsedKey.getKey(), "clients_1234");
+		assertEquals(parsedKey.getInum(), "org1");
+
+		assertEquals(converter.convertToKey("o=jans").getKey(), "_");
+	}
+
+	@Test
+	public void escapedCommaIsPartOfValue() {
+		GenericKeyConverter converter = new GenericKeyConverter(true, 0);
+
+		// Values are not unescaped to keep keys of existing entries
+		ParsedKey parsedKey = converter.convertToKey("uid=user\\,1,ou=people,o=jans");
+		assertEquals(parsedKey.getKey(), "people_user\\,1");
+		assertEquals(parsedKey.getName(), "uid");
+
+		assertEquals(converter.convertToKey("uid=user\\\\,ou=people,o=jans").getKey(), "people_user\\\\");
+	}
+
+	@Test
+	public void hexEscapeIsNotDecoded() {
+		GenericKeyConverter converter = new GenericKeyConverter(true, 0);
+
+		assertEquals(converter.convertToKey("uid=user\\2C1,ou=people,o=jans").getKey(), "people_user\\2C1");
+		assertEquals(converter.convertToKey("cn=\\C3\\A9,ou=people,o=jans").getKey(), "people_\\C3\\A9");
+	}
+
+	@Test
+	public void trailingSeparatorsAreIgnored() {
+		GenericKeyConverter converter = new GenericKeyConverter(true, 0);
+
+		assertEquals(converter.convertToKey("uid=user1,ou=people,o=jans,").getKey(), "people_user1");
+		assertEquals(converter.convertToKey("uid=user1,ou=people,o=jans,,").getKey(), "people_user1");
+		assertEquals(converter.convertToKey(",,,").getKey(), "_");
+	}
+
+	@Test
+	public void invalidDnIsRejected() {
+		GenericKeyConverter converter = new GenericKeyConverter(true, 0);
+
+		assertKeyConversionException(converter, "");
+		assertKeyConversionException(converter, "uid=user1,,ou=people,o=jans");
+		assertKeyConversionException(converter, "uid=user1,people,o=jans");
+		assertKeyConversionException(converter, "uid=user1,ou=people,o=jans, ");
+	}
+
+	@Test
+	public void firstRdnOnlyIsUsed() {
+		GenericKeyConverter converter = new GenericKeyConverter(false, 0);
+
+		assertEquals(converter.convertToKey("uid=user1,ou=people,o=jans").getKey(), "user1");
+		assertEquals(converter.convertToKey("uid=user\\,1,ou=people,o=jans").getKey(), "user\\,1");
+
+		ParsedKey parsedKey = converter.convertToKey("o=org1,inum=1234,ou=clients,o=jans");
+		assertEquals(parsedKey.getKey(), "1234");
+		assertEquals(parsedKey.getInum(), "org1");
+	}
+
+	@Test
+	public void parsedKeysAreCached() {
+		GenericKeyConverter converter = new GenericKeyConverter(true, 10);
+
+		ParsedKey parsedKey = converter.convertToKey("uid=user1,ou=people,o=jans");
+		assertSame(converter.convertToKey("uid=user1,ou=people,o=jans"), parsedKey);
+		assertEquals(converter.getCacheHitCount(), 1);
+		assertEquals(converter.getCacheMissCount(), 1);
+		assertEquals(converter.getCacheSize(), 1);
+
+		converter.setMaxCacheSize(0);
+		assertEquals(converter.getCacheSize(), 0);
+		assertEquals(converter.convertToKey("uid=user1,ou=people,o=jans").getKey(), "people_user1");
+		assertEquals(converter.getCacheSize(), 0);
+	}
+
+	@Test
+	public void cacheSizeIsBounded() throws InterruptedException {
+		GenericKeyConverter converter = new GenericKeyConverter(true, 3);
+		converter.convertToKey("uid=user1,ou=people,o=jans");
+		converter.convertToKey("uid=user2,ou=people,o=jans");
+		converter.convertToKey("uid=user3,ou=people,o=jans");
+
+		Thread.sleep(1);
+		converter.convertToKey("uid=user1,ou=people,o=jans");
+		converter.convertToKey("uid=user4,ou=people,o=jans");
+		assertEquals(converter.getCacheSize(), 3);
+
+		// Recently used key is still in cache
+		long hitCount = converter.getCacheHitCount();
+		converter.convertToKey("uid=user1,ou=people,o=jans");
+		assertEquals(converter.getCacheHitCount(), hitCount + 1);
+	}
+
+	@Test
+	public void concurrentAccessKeepsSizeBounded() throws InterruptedException {
+		GenericKeyConverter converter = new GenericKeyConverter(true, 100);
+		Thread[] threads = new Thread[4];
+		for (int t = 0; t < threads.length; t++) {
+			final int thread = t;
+			threads[t] = new Thread(() -> {
+				for (int i = 0; i < 2000; i++) {
+					int user = (thread * 31 + i) % 500;
+					assertEquals(converter.convertToKey("uid=user" + user + ",ou=people,o=jans").getKey(), "people_user" + user);
+				}
+			});
+			threads[t].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		// Concurrent puts can exceed size while other thread evicts keys. Next put evicts them
+		converter.convertToKey("uid=user,ou=people,o=jans");
+		assertTrue(converter.getCacheSize() <= 100);
+		assertEquals(converter.getCacheHitCount() + converter.getCacheMissCount(), 8001);
+	}
+
+	private static void assertKeyConversionException(GenericKeyConverter converter, String dn) {
+		try {
+			converter.convertToKey(dn);
+		} catch (KeyConversionException ex) {
+			return;
+		}
+		throw new AssertionError("Key conversion exception should be thrown for DN: " + dn);
+	}
+
+}
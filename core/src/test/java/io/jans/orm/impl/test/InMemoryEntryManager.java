@@ -0,0 +1,312 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.impl.test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import io.jans.orm.PersistenceEntryManager;
+import io.jans.orm.event.DeleteNotifier;
+import io.jans.orm.exception.EntryPersistenceException;
+import io.jans.orm.exception.operation.EntryNotFoundException;
+import io.jans.orm.impl.BaseEntryManager;
+import io.jans.orm.impl.model.MergeEntry;
+import io.jans.orm.impl.model.PersistEntry;
+import io.jans.orm.impl.model.RemoveEntry;
+import io.jans.orm.model.AttributeData;
+import io.jans.orm.model.AttributeDataModification;
+import io.jans.orm.model.AttributeDataModification.AttributeModificationType;
+import io.jans.orm.model.BatchOperation;
+import io.jans.orm.model.PagedResult;
+import io.jans.orm.model.SearchScope;
+import io.jans.orm.model.SortOrder;
+import io.jans.orm.operation.PersistenceOperationService;
+import io.jans.orm.reflect.property.PropertyAnnotation;
+import io.jans.orm.search.filter.Filter;
+import io.jans.orm.util.StringHelper;
+
+/**
+ * Entry manager which keeps entries in memory. It counts backend requests
+ */
+public class InMemoryEntryManager extends BaseEntryManager {
+
+	private final Map<String, List<AttributeData>> entries = new ConcurrentHashMap<String, List<AttributeData>>();
+
+	final AtomicInteger findCount = new AtomicInteger();
+	final AtomicInteger findByDnsCount = new AtomicInteger();
+	final AtomicInteger persistCount = new AtomicInteger();
+	final AtomicInteger mergeCount = new AtomicInteger();
+	final AtomicInteger removeCount = new AtomicInteger();
+	final AtomicInteger writeCount = new AtomicInteger();
+
+	boolean entryClassRequiredForRemove;
+
+	// Lookups wait for latch if it's set
+	volatile CountDownLatch findLatch;
+
+	void putEntry(String dn, AttributeData... attributes) {
+		List<AttributeData> entryAttributes = new ArrayList<AttributeData>();
+		for (AttributeData attribute : attributes) {
+			entryAttributes.add(attribute);
+		}
+		entries.put(StringHelper.toLowerCase(dn), entryAttributes);
+	}
+
+	boolean containsEntry(String dn) {
+		return entries.containsKey(StringHelper.toLowerCase(dn));
+	}
+
+	Object getAttributeValue(String dn, String name) {
+		for (AttributeData attribute : lookup(dn)) {
+			if (StringHelper.equalsIgnoreCase(attribute.getName(), name)) {
+				return attribute.getValue();
+			}
+		}
+
+		return null;
+	}
+
+	@Override
+	protected List<AttributeData> find(String dn, String[] objectClasses, Map<String, PropertyAnnotation> propertiesAnnotationsMap,
+			String... attributes) {
+		findCount.incrementAndGet();
+		CountDownLatch latch = findLatch;
+		if (latch != null) {
+			try {
+				latch.await();
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		return lookup(dn);
+	}
+
+	@Override
+	protected Map<String, List<AttributeData>> findByDns(List<String> dns, String[] objectClasses,
+			Map<String, PropertyAnnotation> propertiesAnnotationsMap, String... attributes) {
+		findByDnsCount.incrementAndGet();
+
+		Map<String, List<AttributeData>> result = new HashMap<String, List<AttributeData>>();
+		for (String dn : dns) {
+			List<AttributeData> entryAttributes = entries.get(StringHelper.toLowerCase(dn));
+			if (entryAttributes != null) {
+				result.put(dn, new ArrayList<AttributeData>(entryAttributes));
+			}
+		}
+
+		return result;
+	}
+
+	private List<AttributeData> lookup(String dn) {
+		List<AttributeData> entryAttributes = entries.get(StringHelper.toLowerCase(dn));
+		if (entryAttributes == null) {
+			String message = String.format("Failed to find entry: '%s'", dn);
+			throw new EntryPersistenceException(message, new EntryNotFoundException(message));
+		}
+
+		return new ArrayList<AttributeData>(entryAttributes);
+	}
+
+	@Override
+	protected void persist(String dn, String[] objectClasses, List<AttributeData> attributes, Integer expiration) {
+		persistCount.incrementAndGet();
+		if (entries.putIfAbsent(StringHelper.toLowerCase(dn), new ArrayList<AttributeData>(attributes)) != null) {
+			throw new EntryPersistenceException(String.format("Entry already exists: '%s'", dn));
+		}
+	}
+
+	@Override
+	protected <T> void removeByDn(String dn, String[] objectClasses) {
+		removeCount.incrementAndGet();
+		entries.remove(StringHelper.toLowerCase(dn));
+	}
+
+	@Override
+	protected boolean isEntryClassRequiredForRemove() {
+		return entryClassRequiredForRemove;
+	}
+
+	@Override
+	protected void merge(String dn, String[] objectClasses, List<AttributeDataModification> attributeDataModifications, Integer expiration) {
+		mergeCount.incrementAndGet();
+		List<AttributeData> entryAttributes = lookup(dn);
+		for (AttributeDataModification modification : attributeDataModifications) {
+			AttributeData attribute = modification.getAttribute() == null ? modification.getOldAttribute() : modification.getAttribute();
+			entryAttributes.removeIf(entryAttribute -> StringHelper.equalsIgnoreCase(entryAttribute.getName(), attribute.getName()));
+			if (AttributeModificationType.REMOVE != modification.getModificationType()) {
+				entryAttributes.add(attribute);
+			}
+		}
+		entries.put(StringHelper.toLowerCase(dn), entryAttributes);
+	}
+
+	@Override
+	protected void write(List<PersistEntry> persistEntries, List<MergeEntry> mergeEntries, List<RemoveEntry> removeEntries) {
+		writeCount.incrementAndGet();
+		super.write(persistEntries, mergeEntries, removeEntries);
+	}
+
+	@Override
+	protected <T> void updateMergeChanges(String baseDn, T entry, boolean isConfigurationUpdate, Class<?> entryClass,
+			Map<String, AttributeData> attributesFromLdapMap, List<AttributeDataModification> attributeDataModifications, boolean forceUpdate) {
+	}
+
+	@Override
+	protected <T> void removeRecursivelyFromDn(String primaryKey, String[] objectClasses) {
+		throw new UnsupportedOperationException("Method not implemented.");
+	}
+
+	@Override
+	protected <T> boolean contains(String baseDN, String[] objectClasses, Class<T> entryClass, List<PropertyAnnotation> propertiesAnnotations,
+			Filter filter, String[] ldapReturnAttributes) {
+		throw new UnsupportedOperationException("Method not implemented.");
+	}
+
+	@Override
+	protected Object getNativeDateAttributeValue(Date dateValue) {
+		return dateValue;
+	}
+
+	@Override
+	protected Date decodeTime(String date) {
+		throw new UnsupportedOperationException("Method not implemented.");
+	}
+
+	@Override
+	protected String encodeTime(Date date) {
+		throw new UnsupportedOperationException("Method not implemented.");
+	}
+
+	@Override
+	public boolean authenticate(String primaryKey, String password) {
+		throw new UnsupportedOperationException("Method not implemented.");
+	}
+
+	@Override
+	public <T> boolean authenticate(String primaryKey, Class<T> entryClass, String password) {
+		throw new UnsupportedOperationException("Method not implemented.");
+	}
+
+	@Override
+	public <T> boolean authenticate(String baseDN, Class<T> entryClass, String userName, String password) {
+		throw new UnsupportedOperationException("Method not implemented.");
+	}
+
+	@Override
+	public Void merge(Object entry) {
+		return merge(entry, false, false, null);
+	}
+
+	@Override
+	public void remove(Object entry) {
+		throw new UnsupportedOperationException("Method not implemented.");
+	}
+
+	@Override
+	public <T> int remove(String primaryKey, Class<T> entryClass, Filter filter, int count) {
+		throw new UnsupportedOperationException("Method not implemented.");
+	}
+
+	@Override
+	public <T> int countEntries(String primaryKey, Class<T> entryClass, Filter filter) {
+		throw new UnsupportedOperationException("Method not implemented.");
+	}
+
+	@Override
+	public <T> int countEntries(String primaryKey, Class<T> entryClass, Filter filter, SearchScope scope) {
+		throw new UnsupportedOperationException("Method not implemented.");
+	}
+
+	@Override
+	public <T> List<T> findEntries(String baseDN, Class<T> entryClass, Filter filter, SearchScope scope, String[] ldapReturnAttributes,
+			BatchOperation<T> batchOperation, int start, int count, int chunkSize) {
+		throw new UnsupportedOperationException("Method not implemented.");
+	}
+
+	@Override
+	public <T> PagedResult<T> findPagedEntries(String baseDN, Class<T> entryClass, Filter filter, String[] ldapReturnAttributes, String sortBy,
+			SortOrder sortOrder, int start, int count, int chunkSize) {
+		throw new UnsupportedOperationException("Method not implemented.");
+	}
+
+	@Override
+	public <T> Stream<T> streamEntries(String baseDN, Class<T> entryClass, Filter filter, SearchScope scope, String[] ldapReturnAttributes,
+			int pageSize) {
+		throw new UnsupportedOperationException("Method not implemented.");
+	}
+
+	@Override
+	public List<AttributeData> exportEntry(String dn) {
+		return lookup(dn);
+	}
+
+	@Override
+	public void addDeleteSubscriber(DeleteNotifier subscriber) {
+	}
+
+	@Override
+	public void removeDeleteSubscriber(DeleteNotifier subscriber) {
+	}
+
+	@Override
+	public boolean hasBranchesSupport(String primaryKey) {
+		return false;
+	}
+
+	@Override
+	public boolean hasExpirationSupport(String primaryKey) {
+		return false;
+	}
+
+	@Override
+	public String getPersistenceType() {
+		return "memory";
+	}
+
+	@Override
+	public String getPersistenceType(String primaryKey) {
+		return getPersistenceType();
+	}
+
+	@Override
+	public Date decodeTime(String primaryKey, String date) {
+		return decodeTime(date);
+	}
+
+	@Override
+	public String encodeTime(String primaryKey, Date date) {
+		return encodeTime(date);
+	}
+
+	@Override
+	public PersistenceOperationService getOperationService() {
+		return null;
+	}
+
+	@Override
+	public PersistenceEntryManager getPersistenceEntryManager(String persistenceType) {
+		return this;
+	}
+
+	@Override
+	public boolean destroy() {
+		shutdownAsyncOperationExecutor();
+		shutdownPrefetchExecutor();
+		shutdownParallelEntityCreator();
+
+		return true;
+	}
+
+}
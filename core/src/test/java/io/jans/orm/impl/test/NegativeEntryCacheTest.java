@@ -0,0 +1,102 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.impl.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import org.testng.annotations.Test;
+
+import io.jans.orm.impl.NegativeEntryCache;
+
+public class NegativeEntryCacheTest {
+
+	private static final String DN = "uid=user1,ou=people,o=jans";
+
+	@Test
+	public void absentEntryIsRemembered() {
+		NegativeEntryCache cache = new NegativeEntryCache(10, 60000L);
+		assertFalse(cache.isAbsent(Object.class, DN));
+
+		cache.put(Object.class, DN, cache.getInvalidationStamp());
+
+		assertTrue(cache.isAbsent(Object.class, DN));
+		assertFalse(cache.isAbsent(String.class, DN));
+		assertEquals(cache.getHitCount(), 1);
+		assertEquals(cache.size(), 1);
+	}
+
+	@Test
+	public void absentEntryExpires() throws InterruptedException {
+		NegativeEntryCache cache = new NegativeEntryCache(10, 50L);
+		cache.put(Object.class, DN, cache.getInvalidationStamp());
+		assertTrue(cache.isAbsent(Object.class, DN));
+
+		Thread.sleep(100);
+
+		assertFalse(cache.isAbsent(Object.class, DN));
+	}
+
+	@Test
+	public void cacheIsDisabledByDefaultTtl() {
+		NegativeEntryCache cache = new NegativeEntryCache(NegativeEntryCache.DEFAULT_MAX_SIZE, NegativeEntryCache.DEFAULT_TTL);
+		assertFalse(cache.isEnabled());
+
+		cache.put(Object.class, DN, cache.getInvalidationStamp());
+		assertFalse(cache.isAbsent(Object.class, DN));
+	}
+
+	@Test
+	public void persistInvalidatesAbsentEntry() {
+		NegativeEntryCache cache = new NegativeEntryCache(10, 60000L);
+		cache.put(Object.class, DN, cache.getInvalidationStamp());
+		cache.put(String.class, DN, cache.getInvalidationStamp());
+
+		// Entry manager invalidates DN of persisted entry
+		cache.invalidate("UID=User1,ou=people,o=jans");
+
+		assertFalse(cache.isAbsent(Object.class, DN));
+		assertFalse(cache.isAbsent(String.class, DN));
+		assertEquals(cache.size(), 0);
+		assertEquals(cache.getInvalidationCount(), 1);
+	}
+
+	@Test
+	public void lookupBeforePersistIsNotRemembered() {
+		NegativeEntryCache cache = new NegativeEntryCache(10, 60000L);
+
+		// Lookup started and didn't find entry
+		long stamp = cache.getInvalidationStamp();
+
+		// Entry was persisted before lookup result was remembered
+		cache.invalidate(DN);
+		cache.put(Object.class, DN, stamp);
+
+		assertFalse(cache.isAbsent(Object.class, DN));
+		assertEquals(cache.getPutCount(), 0);
+	}
+
+	@Test
+	public void sizeIsBounded() throws InterruptedException {
+		NegativeEntryCache cache = new NegativeEntryCache(2, 50L);
+		cache.put(Object.class, "uid=user1,ou=people,o=jans", cache.getInvalidationStamp());
+		cache.put(Object.class, "uid=user2,ou=people,o=jans", cache.getInvalidationStamp());
+		cache.put(Object.class, "uid=user3,ou=people,o=jans", cache.getInvalidationStamp());
+
+		assertEquals(cache.size(), 2);
+		assertFalse(cache.isAbsent(Object.class, "uid=user3,ou=people,o=jans"));
+
+		// Expired entries are removed when cache is full
+		Thread.sleep(100);
+		cache.put(Object.class, "uid=user3,ou=people,o=jans", cache.getInvalidationStamp());
+
+		assertEquals(cache.size(), 1);
+		assertTrue(cache.isAbsent(Object.class, "uid=user3,ou=people,o=jans"));
+	}
+
+}
@@ -0,0 +1,201 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.impl.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import io.jans.orm.exception.operation.SearchException;
+import io.jans.orm.operation.PagePrefetcher;
+import io.jans.orm.operation.PagePrefetcher.PageLoader;
+
+public class PagePrefetcherTest {
+
+	private ThreadPoolExecutor executor;
+
+	@BeforeClass
+	public void init() {
+		executor = PagePrefetcher.newExecutor(2);
+	}
+
+	@AfterClass
+	public void destroy() {
+		executor.shutdown();
+	}
+
+	@Test
+	public void pagesAreReturnedInOrder() throws SearchException {
+		TestLoader loader = new TestLoader(20, -1);
+		List<Integer> result = new ArrayList<Integer>();
+		try (PagePrefetcher<Integer> pages = PagePrefetcher.create(loader, 3, executor)) {
+			assertTrue(pages.isPrefetch());
+
+			Integer page;
+			while ((page = pages.nextPage()) != null) {
+				result.add(page);
+			}
+		}
+
+		assertEquals(result.size(), 20);
+		for (int i = 0; i < 20; i++) {
+			assertEquals(result.get(i), Integer.valueOf(i));
+		}
+	}
+
+	@Test
+	public void lookAheadIsBounded() throws Exception {
+		TestLoader loader = new TestLoader(100, -1);
+		try (PagePrefetcher<Integer> pages = PagePrefetcher.create(loader, 2, executor)) {
+			assertEquals(pages.nextPage(), Integer.valueOf(0));
+
+			// Producer loads pages 1 and 2 and waits for consumer
+			loader.awaitLoaded(3);
+			Thread.sleep(100);
+			assertEquals(loader.loadCount.get(), 3);
+
+			assertEquals(pages.nextPage(), Integer.valueOf(1));
+			loader.awaitLoaded(4);
+			Thread.sleep(100);
+			assertEquals(loader.loadCount.get(), 4);
+		}
+	}
+
+	@Test
+	public void errorIsPropagated() {
+		TestLoader loader = new TestLoader(100, 5);
+		int count = 0;
+		try (PagePrefetcher<Integer> pages = PagePrefetcher.create(loader, 3, executor)) {
+			while (pages.nextPage() != null) {
+				count++;
+			}
+			fail("Load error should be thrown");
+		} catch (SearchException ex) {
+			assertEquals(ex.getMessage(), "Failed to load page 5");
+		}
+
+		assertEquals(count, 5);
+	}
+
+	@Test
+	public void closeStopsLoading() throws SearchException {
+		TestLoader loader = new TestLoader(1000, -1);
+		PagePrefetcher<Integer> pages = PagePrefetcher.create(loader, 2, executor);
+		assertEquals(pages.nextPage(), Integer.valueOf(0));
+		pages.close();
+
+		// Producer was finished in close
+		int loaded = loader.loadCount.get();
+		assertTrue(loaded <= 4);
+		assertNull(pages.nextPage());
+		assertEquals(loader.loadCount.get(), loaded);
+	}
+
+	@Test
+	public void pagesAreLoadedInCallerThreadWithoutFreeThread() throws SearchException {
+		ThreadPoolExecutor singleThreadExecutor = PagePrefetcher.newExecutor(1);
+		try {
+			TestLoader firstLoader = new TestLoader(1000, -1);
+			try (PagePrefetcher<Integer> first = PagePrefetcher.create(firstLoader, 1, singleThreadExecutor)) {
+				assertTrue(first.isPrefetch());
+
+				TestLoader secondLoader = new TestLoader(3, -1);
+				try (PagePrefetcher<Integer> second = PagePrefetcher.create(secondLoader, 1, singleThreadExecutor)) {
+					assertFalse(second.isPrefetch());
+					assertEquals(secondLoader.loadCount.get(), 0);
+
+					assertEquals(second.nextPage(), Integer.valueOf(0));
+					assertEquals(secondLoader.threads.get(0), Thread.currentThread());
+				}
+			}
+		} finally {
+			singleThreadExecutor.shutdown();
+		}
+	}
+
+	@Test
+	public void executorIsBounded() {
+		ThreadPoolExecutor boundedExecutor = PagePrefetcher.newExecutor(3);
+		try {
+			assertEquals(boundedExecutor.getMaximumPoolSize(), 3);
+			assertEquals(boundedExecutor.getPoolSize(), 0);
+		} finally {
+			boundedExecutor.shutdown();
+		}
+	}
+
+	@Test
+	public void shutDownExecutorLoadsInCallerThread() throws SearchException {
+		ThreadPoolExecutor stoppedExecutor = PagePrefetcher.newExecutor(1);
+		stoppedExecutor.shutdown();
+
+		TestLoader loader = new TestLoader(2, -1);
+		try (PagePrefetcher<Integer> pages = PagePrefetcher.create(loader, 2, stoppedExecutor)) {
+			assertFalse(pages.isPrefetch());
+			assertEquals(pages.nextPage(), Integer.valueOf(0));
+			assertEquals(pages.nextPage(), Integer.valueOf(1));
+			assertNull(pages.nextPage());
+		}
+	}
+
+	private static final class TestLoader implements PageLoader<Integer> {
+
+		private final int pageCount;
+		private final int failAt;
+
+		private final AtomicInteger loadCount = new AtomicInteger();
+		private final List<Thread> threads = new ArrayList<Thread>();
+		private final List<CountDownLatch> loaded = new ArrayList<CountDownLatch>();
+
+		private TestLoader(int pageCount, int failAt) {
+			this.pageCount = pageCount;
+			this.failAt = failAt;
+			for (int i = 0; i < 10; i++) {
+				loaded.add(new CountDownLatch(i));
+			}
+		}
+
+		@Override
+		public Integer loadPage() throws SearchException {
+			int page = loadCount.get();
+			synchronized (threads) {
+				threads.add(Thread.currentThread());
+			}
+			if (page == failAt) {
+				throw new SearchException("Failed to load page " + page);
+			}
+			if (page >= pageCount) {
+				return null;
+			}
+
+			loadCount.incrementAndGet();
+			for (CountDownLatch latch : loaded) {
+				latch.countDown();
+			}
+
+			return page;
+		}
+
+		private void awaitLoaded(int count) throws InterruptedException {
+			assertTrue(loaded.get(count).await(5, TimeUnit.SECONDS));
+		}
+	}
+
+}
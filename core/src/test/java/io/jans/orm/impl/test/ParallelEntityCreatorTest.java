@@ -0,0 +1,167 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.impl.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.testng.annotations.Test;
+
+import io.jans.orm.annotation.AttributeName;
+import io.jans.orm.annotation.DN;
+import io.jans.orm.annotation.DataEntry;
+import io.jans.orm.annotation.ObjectClass;
+import io.jans.orm.impl.BaseEntryManager;
+import io.jans.orm.model.AttributeData;
+import io.jans.orm.operation.ParallelEntityCreator;
+
+public class ParallelEntityCreatorTest {
+
+	@Test
+	public void orderOfEntriesIsKept() {
+		ParallelEntityCreator creator = new ParallelEntityCreator(3, 10);
+		try {
+			assertTrue(creator.isParallel(100));
+
+			List<Integer> results = creator.create(numbers(1000), number -> number * 2);
+
+			assertEquals(results.size(), 1000);
+			for (int i = 0; i < results.size(); i++) {
+				assertEquals(results.get(i).intValue(), i * 2);
+			}
+		} finally {
+			creator.shutdown();
+		}
+	}
+
+	@Test
+	public void smallResultIsCreatedInCallerThread() {
+		ParallelEntityCreator creator = new ParallelEntityCreator(3, 10);
+		try {
+			assertFalse(creator.isParallel(9));
+
+			Set<Thread> threads = ConcurrentHashMap.newKeySet();
+			creator.create(numbers(9), number -> threads.add(Thread.currentThread()));
+
+			assertEquals(threads, Collections.singleton(Thread.currentThread()));
+		} finally {
+			creator.shutdown();
+		}
+	}
+
+	@Test
+	public void parallelCreationIsDisabledByDefault() {
+		ParallelEntityCreator creator = new ParallelEntityCreator(3, 0);
+		assertFalse(creator.isParallel(100000));
+
+		creator.setThreshold(10);
+		assertTrue(creator.isParallel(10));
+
+		// Caller thread creates all entries after shutdown
+		creator.shutdown();
+		assertFalse(creator.isParallel(10));
+		assertEquals(creator.create(numbers(20), number -> number).size(), 20);
+	}
+
+	@Test
+	public void creationErrorIsPropagated() {
+		ParallelEntityCreator creator = new ParallelEntityCreator(3, 10);
+		try {
+			creator.create(numbers(100), number -> {
+				if (number == 90) {
+					throw new IllegalStateException("Failed to create entry " + number);
+				}
+				return number;
+			});
+			fail("Creation error should be thrown");
+		} catch (IllegalStateException ex) {
+			assertEquals(ex.getMessage(), "Failed to create entry 90");
+		} finally {
+			creator.shutdown();
+		}
+	}
+
+	@Test
+	public void entriesAreCreatedInParallel() {
+		InMemoryEntryManager entryManager;
+		System.setProperty(BaseEntryManager.PARALLEL_CREATE_ENTITIES_THREADS, "3");
+		try {
+			entryManager = new InMemoryEntryManager();
+		} finally {
+			System.clearProperty(BaseEntryManager.PARALLEL_CREATE_ENTITIES_THREADS);
+		}
+
+		try {
+			entryManager.getParallelEntityCreator().setThreshold(2);
+			assertTrue(entryManager.getParallelEntityCreator().isParallel(500));
+
+			Map<String, List<AttributeData>> entriesAttributes = new LinkedHashMap<String, List<AttributeData>>();
+			for (int i = 0; i < 500; i++) {
+				entriesAttributes.put("uid=user" + i + ",ou=people,o=jans", new ArrayList<AttributeData>(Arrays.asList(new AttributeData("uid", "user" + i))));
+			}
+
+			List<TestUser> users = entryManager.createEntities(TestUser.class, entriesAttributes);
+
+			assertEquals(users.size(), 500);
+			for (int i = 0; i < users.size(); i++) {
+				assertEquals(users.get(i).getDn(), "uid=user" + i + ",ou=people,o=jans");
+				assertEquals(users.get(i).getUid(), "user" + i);
+			}
+		} finally {
+			entryManager.destroy();
+		}
+	}
+
+	private static List<Integer> numbers(int count) {
+		List<Integer> numbers = new ArrayList<Integer>(count);
+		for (int i = 0; i < count; i++) {
+			numbers.add(i);
+		}
+
+		return numbers;
+	}
+
+	@DataEntry
+	@ObjectClass(value = "jansPerson")
+	public static class TestUser {
+
+		@DN
+		private String dn;
+
+		@AttributeName(name = "uid")
+		private String uid;
+
+		public String getDn() {
+			return dn;
+		}
+
+		public void setDn(String dn) {
+			this.dn = dn;
+		}
+
+		public String getUid() {
+			return uid;
+		}
+
+		public void setUid(String uid) {
+			this.uid = uid;
+		}
+
+	}
+
+}
@@ -0,0 +1,198 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.impl.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import io.jans.orm.exception.operation.SearchException;
+import io.jans.orm.operation.RequestCoalescer;
+
+public class RequestCoalescerTest {
+
+	private static final String DN = "uid=user1,ou=people,o=jans";
+
+	private ExecutorService executor;
+
+	@BeforeClass
+	public void init() {
+		executor = Executors.newCachedThreadPool();
+	}
+
+	@AfterClass
+	public void destroy() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void concurrentRequestsShareOneExecution() throws Exception {
+		RequestCoalescer coalescer = new RequestCoalescer(true);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger executions = new AtomicInteger();
+		String value = "value";
+
+		Future<String> leader = submit(coalescer, DN, () -> {
+			executions.incrementAndGet();
+			release.await();
+			return value;
+		});
+		awaitInFlight(coalescer, 1);
+
+		List<Future<String>> followers = new ArrayList<Future<String>>();
+		for (int i = 0; i < 5; i++) {
+			followers.add(submit(coalescer, DN, () -> {
+				executions.incrementAndGet();
+				return "other";
+			}));
+		}
+		awaitCoalesced(coalescer, 5);
+		release.countDown();
+
+		assertSame(leader.get(5, TimeUnit.SECONDS), value);
+		for (Future<String> follower : followers) {
+			assertSame(follower.get(5, TimeUnit.SECONDS), value);
+		}
+		assertEquals(executions.get(), 1);
+		assertEquals(coalescer.getExecutedCount(), 1);
+		assertEquals(coalescer.getInFlightCount(), 0);
+	}
+
+	@Test
+	public void errorIsPropagatedToAllCallers() throws Exception {
+		RequestCoalescer coalescer = new RequestCoalescer(true);
+		CountDownLatch release = new CountDownLatch(1);
+
+		Future<String> leader = submit(coalescer, DN, () -> {
+			release.await();
+			throw new SearchException("Failed to find entry");
+		});
+		awaitInFlight(coalescer, 1);
+
+		Future<String> follower = submit(coalescer, DN, () -> "value");
+		awaitCoalesced(coalescer, 1);
+		release.countDown();
+
+		assertSearchException(leader);
+		assertSearchException(follower);
+		assertEquals(coalescer.getInFlightCount(), 0);
+
+		// Failed request is not shared with next callers
+		assertEquals(coalescer.execute("find", DN, DN, () -> "value"), "value");
+	}
+
+	@Test
+	public void readAfterWriteDoesNotJoinOlderRequest() throws Exception {
+		RequestCoalescer coalescer = new RequestCoalescer(true);
+		CountDownLatch release = new CountDownLatch(1);
+
+		// Lookup started before write
+		Future<String> leader = submit(coalescer, DN, () -> {
+			release.await();
+			return "old";
+		});
+		awaitInFlight(coalescer, 1);
+
+		// Write of DN was finished
+		coalescer.invalidate("UID=user1,ou=people,o=jans");
+		assertEquals(coalescer.getInvalidatedCount(), 1);
+		assertEquals(coalescer.getInFlightCount(), 0);
+
+		assertEquals(coalescer.execute("find", DN, DN, () -> "new"), "new");
+		release.countDown();
+
+		assertEquals(leader.get(5, TimeUnit.SECONDS), "old");
+		assertEquals(coalescer.getCoalescedCount(), 0);
+		assertEquals(coalescer.getExecutedCount(), 2);
+	}
+
+	@Test
+	public void invalidateAffectsDnSubtreeOnly() throws Exception {
+		RequestCoalescer coalescer = new RequestCoalescer(true);
+		CountDownLatch release = new CountDownLatch(1);
+
+		submit(coalescer, DN, () -> {
+			release.await();
+			return "child";
+		});
+		submit(coalescer, "uid=user1,ou=people2,o=jans", () -> {
+			release.await();
+			return "other";
+		});
+		awaitInFlight(coalescer, 2);
+
+		coalescer.invalidate("ou=people,o=jans");
+		assertEquals(coalescer.getInFlightCount(), 1);
+		release.countDown();
+	}
+
+	@Test
+	public void disabledCoalescerExecutesEachRequest() throws Exception {
+		RequestCoalescer coalescer = new RequestCoalescer(false);
+		AtomicInteger executions = new AtomicInteger();
+		for (int i = 0; i < 3; i++) {
+			coalescer.execute("find", DN, DN, () -> executions.incrementAndGet());
+		}
+
+		assertEquals(executions.get(), 3);
+		assertEquals(coalescer.getExecutedCount(), 3);
+		assertEquals(coalescer.getCoalescedCount(), 0);
+	}
+
+	private Future<String> submit(RequestCoalescer coalescer, String dn, RequestCoalescer.Request<String, Exception> request) {
+		CompletableFuture<String> result = new CompletableFuture<String>();
+		executor.execute(() -> {
+			try {
+				result.complete(coalescer.execute("find", dn, dn, request));
+			} catch (Throwable ex) {
+				result.completeExceptionally(ex);
+			}
+		});
+
+		return result;
+	}
+
+	private static void assertSearchException(Future<String> future) throws Exception {
+		try {
+			future.get(5, TimeUnit.SECONDS);
+			fail("Search exception should be thrown");
+		} catch (ExecutionException ex) {
+			assertTrue(ex.getCause() instanceof SearchException);
+		}
+	}
+
+	private static void awaitInFlight(RequestCoalescer coalescer, int count) throws InterruptedException {
+		for (int i = 0; (i < 500) && (coalescer.getInFlightCount() < count); i++) {
+			Thread.sleep(10);
+		}
+		assertEquals(coalescer.getInFlightCount(), count);
+	}
+
+	private static void awaitCoalesced(RequestCoalescer coalescer, int count) throws InterruptedException {
+		for (int i = 0; (i < 500) && (coalescer.getCoalescedCount() < count); i++) {
+			Thread.sleep(10);
+		}
+		assertEquals(coalescer.getCoalescedCount(), count);
+	}
+
+}
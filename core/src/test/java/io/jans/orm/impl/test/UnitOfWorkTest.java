@@ -0,0 +1,268 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.impl.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import io.jans.orm.annotation.AttributeName;
+import io.jans.orm.annotation.DN;
+import io.jans.orm.annotation.DataEntry;
+import io.jans.orm.annotation.ObjectClass;
+import io.jans.orm.exception.EntryPersistenceException;
+import io.jans.orm.impl.UnitOfWorkImpl;
+import io.jans.orm.model.AttributeData;
+
+public class UnitOfWorkTest {
+
+	private static final String DN1 = "uid=user1,ou=people,o=jans";
+	private static final String DN2 = "uid=user2,ou=people,o=jans";
+	private static final String DN3 = "uid=user3,ou=people,o=jans";
+	private static final String NEW_DN = "uid=new,ou=people,o=jans";
+	private static final String MISSING_DN = "uid=missing,ou=people,o=jans";
+
+	private InMemoryEntryManager entryManager;
+
+	@BeforeMethod
+	public void init() {
+		entryManager = new InMemoryEntryManager();
+		putUser(DN1, "user1");
+		putUser(DN2, "user2");
+		putUser(DN3, "user3");
+	}
+
+	@AfterMethod
+	public void destroy() {
+		if (entryManager.getUnitOfWork() != null) {
+			entryManager.getUnitOfWork().rollback();
+		}
+		entryManager.destroy();
+	}
+
+	@Test
+	public void mergesOfOneEntryAreWrittenOnce() {
+		UnitOfWorkImpl unitOfWork = (UnitOfWorkImpl) entryManager.beginUnitOfWork();
+		TestUser user = user(DN1, "a");
+		entryManager.merge(user);
+		user.setUid("b");
+		entryManager.merge(user);
+		user.setUid("c");
+		entryManager.merge(user);
+		assertEquals(unitOfWork.getPendingCount(), 1);
+
+		unitOfWork.close();
+
+		assertEquals(entryManager.writeCount.get(), 1);
+		assertEquals(entryManager.mergeCount.get(), 1);
+		assertEquals(entryManager.getAttributeValue(DN1, "uid"), "c");
+		assertFalse(unitOfWork.isActive());
+	}
+
+	@Test
+	public void untrackedEntriesAreLoadedWithOneRequest() {
+		UnitOfWorkImpl unitOfWork = (UnitOfWorkImpl) entryManager.beginUnitOfWork();
+		entryManager.merge(user(DN1, "a"));
+		entryManager.merge(user(DN2, "b"));
+		entryManager.merge(user(DN3, "c"));
+
+		unitOfWork.flush();
+
+		assertEquals(entryManager.findByDnsCount.get(), 1);
+		assertEquals(entryManager.findCount.get(), 0);
+		assertEquals(entryManager.mergeCount.get(), 3);
+		assertEquals(entryManager.getAttributeValue(DN2, "uid"), "b");
+		assertEquals(unitOfWork.getPendingCount(), 0);
+	}
+
+	@Test
+	public void allOperationsAreWrittenWithOneWrite() {
+		UnitOfWorkImpl unitOfWork = (UnitOfWorkImpl) entryManager.beginUnitOfWork();
+		entryManager.persist(user(NEW_DN, "new"));
+		entryManager.merge(user(DN1, "a"));
+		entryManager.remove(DN2, TestUser.class);
+		assertFalse(entryManager.containsEntry(NEW_DN));
+
+		unitOfWork.flush();
+
+		assertEquals(entryManager.writeCount.get(), 1);
+		assertTrue(entryManager.containsEntry(NEW_DN));
+		assertEquals(entryManager.getAttributeValue(DN1, "uid"), "a");
+		assertFalse(entryManager.containsEntry(DN2));
+		assertTrue(unitOfWork.isActive());
+	}
+
+	@Test
+	public void persistBeforeRemoveIsDiscarded() {
+		UnitOfWorkImpl unitOfWork = (UnitOfWorkImpl) entryManager.beginUnitOfWork();
+		entryManager.persist(user(NEW_DN, "new"));
+		entryManager.remove(NEW_DN, TestUser.class);
+		assertEquals(unitOfWork.getPendingCount(), 0);
+
+		unitOfWork.flush();
+
+		assertEquals(entryManager.writeCount.get(), 0);
+		assertFalse(entryManager.containsEntry(NEW_DN));
+	}
+
+	@Test
+	public void failedOperationStaysPending() {
+		UnitOfWorkImpl unitOfWork = (UnitOfWorkImpl) entryManager.beginUnitOfWork();
+		entryManager.persist(user(DN1, "duplicate"));
+		entryManager.persist(user(NEW_DN, "new"));
+
+		assertFlushFails(unitOfWork);
+
+		// Backend without transactions keeps entries which were written
+		assertTrue(entryManager.containsEntry(NEW_DN));
+		assertEquals(unitOfWork.getPendingCount(), 1);
+
+		assertFlushFails(unitOfWork);
+		assertEquals(entryManager.writeCount.get(), 2);
+
+		unitOfWork.rollback();
+		assertEquals(unitOfWork.getPendingCount(), 0);
+		assertEquals(entryManager.getAttributeValue(DN1, "uid"), "user1");
+	}
+
+	@Test
+	public void nothingIsWrittenIfOperationCantBePrepared() {
+		UnitOfWorkImpl unitOfWork = (UnitOfWorkImpl) entryManager.beginUnitOfWork();
+		entryManager.persist(user(NEW_DN, "new"));
+		entryManager.merge(user(MISSING_DN, "missing"));
+
+		assertFlushFails(unitOfWork);
+
+		assertEquals(entryManager.writeCount.get(), 0);
+		assertFalse(entryManager.containsEntry(NEW_DN));
+		assertEquals(unitOfWork.getPendingCount(), 2);
+	}
+
+	@Test
+	public void changesOfFewInstancesOfEntryAreCombined() {
+		UnitOfWorkImpl unitOfWork = (UnitOfWorkImpl) entryManager.beginUnitOfWork();
+		TestUser user = entryManager.find(TestUser.class, DN1);
+		user.setUid("a");
+		entryManager.merge(user);
+
+		// Lookup in unit of work returns entry from DB without buffered changes
+		TestUser staleUser = entryManager.find(TestUser.class, DN1);
+		assertEquals(staleUser.getUid(), "user1");
+		staleUser.setDisplayName("b");
+		entryManager.merge(staleUser);
+		assertEquals(unitOfWork.getPendingCount(), 1);
+
+		unitOfWork.flush();
+
+		assertEquals(entryManager.mergeCount.get(), 1);
+		assertEquals(entryManager.getAttributeValue(DN1, "uid"), "a");
+		assertEquals(entryManager.getAttributeValue(DN1, "displayName"), "b");
+	}
+
+	@Test
+	public void laterInstanceWinsForSameAttribute() {
+		UnitOfWorkImpl unitOfWork = (UnitOfWorkImpl) entryManager.beginUnitOfWork();
+		TestUser user = entryManager.find(TestUser.class, DN1);
+		TestUser otherUser = entryManager.find(TestUser.class, DN1);
+		user.setUid("a");
+		user.setDisplayName("a");
+		entryManager.merge(user);
+		otherUser.setDisplayName("b");
+		entryManager.merge(otherUser);
+
+		unitOfWork.flush();
+
+		assertEquals(entryManager.getAttributeValue(DN1, "uid"), "a");
+		assertEquals(entryManager.getAttributeValue(DN1, "displayName"), "b");
+	}
+
+	@Test
+	public void removeWithoutEntryClassIsRejectedBeforeBuffering() {
+		entryManager.entryClassRequiredForRemove = true;
+		UnitOfWorkImpl unitOfWork = (UnitOfWorkImpl) entryManager.beginUnitOfWork();
+		entryManager.merge(user(DN1, "a"));
+		try {
+			entryManager.remove(DN2);
+			fail("Remove without entry class should be rejected");
+		} catch (UnsupportedOperationException ex) {
+			// Expected
+		}
+
+		unitOfWork.flush();
+
+		assertEquals(entryManager.getAttributeValue(DN1, "uid"), "a");
+		assertTrue(entryManager.containsEntry(DN2));
+		assertEquals(unitOfWork.getPendingCount(), 0);
+	}
+
+	private static void assertFlushFails(UnitOfWorkImpl unitOfWork) {
+		try {
+			unitOfWork.flush();
+			fail("Flush should fail");
+		} catch (EntryPersistenceException ex) {
+			assertTrue(ex.getMessage().startsWith("Failed to flush 1 of"));
+		}
+	}
+
+	private void putUser(String dn, String uid) {
+		entryManager.putEntry(dn, new AttributeData("uid", uid), new AttributeData("displayName", uid),
+				new AttributeData("objectClass", new String[] { "jansPerson" }));
+	}
+
+	private static TestUser user(String dn, String uid) {
+		TestUser user = new TestUser();
+		user.setDn(dn);
+		user.setUid(uid);
+
+		return user;
+	}
+
+	@DataEntry
+	@ObjectClass(value = "jansPerson")
+	public static class TestUser {
+
+		@DN
+		private String dn;
+
+		@AttributeName(name = "uid")
+		private String uid;
+
+		@AttributeName(name = "displayName")
+		private String displayName;
+
+		public String getDn() {
+			return dn;
+		}
+
+		public void setDn(String dn) {
+			this.dn = dn;
+		}
+
+		public String getUid() {
+			return uid;
+		}
+
+		public void setUid(String uid) {
+			this.uid = uid;
+		}
+
+		public String getDisplayName() {
+			return displayName;
+		}
+
+		public void setDisplayName(String displayName) {
+			this.displayName = displayName;
+		}
+
+	}
+
+}
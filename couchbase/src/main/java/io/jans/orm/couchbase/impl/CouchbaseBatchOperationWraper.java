@@ -13,6 +13,7 @@ import io.jans.orm.reflect.property.PropertyAnnotation;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * Couchbase batch operation wrapper
@@ -43,6 +44,14 @@ public class CouchbaseBatchOperationWraper<T> {
         return batchOperation;
     }
 
+    public Executor getPrefetchExecutor() {
+        if (couchbaseEntryManager == null) {
+            return null;
+        }
+
+        return couchbaseEntryManager.getPrefetchExecutor();
+    }
+
     public List<T> createEntities(List<N1qlQueryRow> searchResult) {
         if (couchbaseEntryManager == null) {
             return new ArrayList<T>(0);
@@ -14,12 +14,15 @@ import java.time.Instant;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import javax.inject.Inject;
 
@@ -45,10 +48,17 @@ import io.jans.orm.exception.AuthenticationException;
 import io.jans.orm.exception.EntryDeleteException;
 import io.jans.orm.exception.EntryPersistenceException;
 import io.jans.orm.exception.MappingException;
+import io.jans.orm.exception.operation.DeleteException;
+import io.jans.orm.exception.operation.EntryNotFoundException;
+import io.jans.orm.exception.operation.PersistenceException;
 import io.jans.orm.exception.operation.SearchException;
 import io.jans.orm.impl.BaseEntryManager;
 import io.jans.orm.impl.GenericKeyConverter;
+import io.jans.orm.impl.CursorEntriesIterator;
+import io.jans.orm.impl.PagedEntriesIterator;
 import io.jans.orm.impl.model.ParsedKey;
+import io.jans.orm.impl.model.MergeEntry;
+import io.jans.orm.impl.model.PersistEntry;
 import io.jans.orm.model.AttributeData;
 import io.jans.orm.model.AttributeDataModification;
 import io.jans.orm.model.AttributeDataModification.AttributeModificationType;
@@ -57,6 +67,7 @@ import io.jans.orm.model.DefaultBatchOperation;
 import io.jans.orm.model.PagedResult;
 import io.jans.orm.model.SearchScope;
 import io.jans.orm.model.SortOrder;
+import io.jans.orm.operation.SearchCursor;
 import io.jans.orm.reflect.property.PropertyAnnotation;
 import io.jans.orm.reflect.util.ReflectHelper;
 import io.jans.orm.search.filter.Filter;
@@ -86,10 +97,15 @@ public class CouchbaseEntryManager extends BaseEntryManager implements Serializa
         this.operationService = operationService;
         this.FILTER_CONVERTER = new CouchbaseFilterConverter(this);
         subscribers = new LinkedList<DeleteNotifier>();
+        subscribers.add(getEntryCache());
     }
 
     @Override
     public boolean destroy() {
+        shutdownAsyncOperationExecutor();
+        shutdownPrefetchExecutor();
+        shutdownParallelEntityCreator();
+
         if (this.operationService == null) {
             return true;
         }
@@ -167,6 +183,80 @@ public class CouchbaseEntryManager extends BaseEntryManager implements Serializa
 
     @Override
     protected void persist(String dn, String[] objectClasses, List<AttributeData> attributes, Integer expiration) {
+        JsonObject jsonObject = toPersistJsonObject(dn, attributes);
+
+        // Persist entry
+        try {
+            boolean result = getOperationService().addEntry(toCouchbaseKey(dn).getKey(), jsonObject, expiration);
+            if (!result) {
+                throw new EntryPersistenceException(String.format("Failed to persist entry: %s", dn));
+            }
+        } catch (Exception ex) {
+            throw new EntryPersistenceException(String.format("Failed to persist entry: %s", dn), ex);
+        }
+    }
+
+    @Override
+    protected CompletableFuture<Void> persistAsync(String dn, String[] objectClasses, List<AttributeData> attributes, Integer expiration) {
+        CompletableFuture<Boolean> result;
+        try {
+            JsonObject jsonObject = toPersistJsonObject(dn, attributes);
+            result = getOperationService().addEntryAsync(toCouchbaseKey(dn).getKey(), jsonObject, expiration);
+        } catch (RuntimeException ex) {
+            return failedFuture(new EntryPersistenceException(String.format("Failed to persist entry: %s", dn), ex));
+        }
+
+        return result.handle((added, ex) -> {
+            if (ex != null) {
+                throw new EntryPersistenceException(String.format("Failed to persist entry: %s", dn), unwrapCompletionException(ex));
+            }
+            if (!added) {
+                throw new EntryPersistenceException(String.format("Failed to persist entry: %s", dn));
+            }
+
+            return null;
+        });
+    }
+
+    @Override
+    protected void persist(List<PersistEntry> persistEntries) {
+        List<PersistEntry> batchEntries = new ArrayList<PersistEntry>(persistEntries.size());
+        List<String> keys = new ArrayList<String>(persistEntries.size());
+        List<JsonObject> jsonObjects = new ArrayList<JsonObject>(persistEntries.size());
+        List<Integer> expirations = new ArrayList<Integer>(persistEntries.size());
+        for (PersistEntry persistEntry : persistEntries) {
+            String dn = persistEntry.getDn();
+            try {
+                String key = toCouchbaseKey(dn).getKey();
+                JsonObject jsonObject = toPersistJsonObject(dn, persistEntry.getAttributes());
+
+                batchEntries.add(persistEntry);
+                keys.add(key);
+                jsonObjects.add(jsonObject);
+                expirations.add(persistEntry.getExpiration());
+            } catch (Exception ex) {
+                persistEntry.setError(new EntryPersistenceException(String.format("Failed to persist entry: %s", dn), ex));
+            }
+        }
+
+        if (batchEntries.isEmpty()) {
+            return;
+        }
+
+        try {
+            Map<Integer, PersistenceException> errors = getOperationService().addEntries(keys, jsonObjects, expirations);
+            for (Map.Entry<Integer, PersistenceException> error : errors.entrySet()) {
+                PersistEntry persistEntry = batchEntries.get(error.getKey());
+                persistEntry.setError(new EntryPersistenceException(String.format("Failed to persist entry: %s", persistEntry.getDn()), error.getValue()));
+            }
+        } catch (Exception ex) {
+            for (PersistEntry persistEntry : batchEntries) {
+                persistEntry.setError(new EntryPersistenceException(String.format("Failed to persist entry: %s", persistEntry.getDn()), ex));
+            }
+        }
+    }
+
+    private JsonObject toPersistJsonObject(String dn, List<AttributeData> attributes) {
         JsonObject jsonObject = JsonObject.create();
         for (AttributeData attribute : attributes) {
             String attributeName = attribute.getName();
@@ -201,67 +291,105 @@ public class CouchbaseEntryManager extends BaseEntryManager implements Serializa
         }
         jsonObject.put(CouchbaseOperationService.DN, dn);
 
-        // Persist entry
-        try {
-            boolean result = getOperationService().addEntry(toCouchbaseKey(dn).getKey(), jsonObject, expiration);
-            if (!result) {
-                throw new EntryPersistenceException(String.format("Failed to persist entry: %s", dn));
-            }
-        } catch (Exception ex) {
-            throw new EntryPersistenceException(String.format("Failed to persist entry: %s", dn), ex);
-        }
+        return jsonObject;
     }
 
     @Override
     public void merge(String dn, String[] objectClasses, List<AttributeDataModification> attributeDataModifications, Integer expirationValue) {
         // Update entry
         try {
-            List<MutationSpec> modifications = new ArrayList<MutationSpec>(attributeDataModifications.size());
-            for (AttributeDataModification attributeDataModification : attributeDataModifications) {
-                AttributeData attribute = attributeDataModification.getAttribute();
-                AttributeData oldAttribute = attributeDataModification.getOldAttribute();
-
-                String attributeName = null;
-                Object[] attributeValues = null;
-                Boolean multiValued = null;
-                if (attribute != null) {
-                    attributeName = attribute.getName();
-                    attributeValues = attribute.getValues();
-                    multiValued = attribute.getMultiValued();
+            List<MutationSpec> modifications = toMutationSpecs(attributeDataModifications);
+            if (modifications.size() > 0) {
+                boolean result = getOperationService().updateEntry(toCouchbaseKey(dn).getKey(), modifications, expirationValue);
+                if (!result) {
+                    throw new EntryPersistenceException(String.format("Failed to update entry: %s", dn));
                 }
+            }
+        } catch (Exception ex) {
+            throw new EntryPersistenceException(String.format("Failed to update entry: %s", dn), ex);
+        }
+    }
 
-                String oldAttributeName = null;
-                Object[] oldAttributeValues = null;
-                if (oldAttribute != null) {
-                    oldAttributeName = oldAttribute.getName();
-                    oldAttributeValues = oldAttribute.getValues();
+    @Override
+    protected void merge(List<MergeEntry> mergeEntries) {
+        List<MergeEntry> batchEntries = new ArrayList<MergeEntry>(mergeEntries.size());
+        List<String> keys = new ArrayList<String>(mergeEntries.size());
+        List<List<MutationSpec>> entriesModifications = new ArrayList<List<MutationSpec>>(mergeEntries.size());
+        List<Integer> expirations = new ArrayList<Integer>(mergeEntries.size());
+        for (MergeEntry mergeEntry : mergeEntries) {
+            String dn = mergeEntry.getDn();
+            try {
+                List<MutationSpec> modifications = toMutationSpecs(mergeEntry.getAttributeDataModifications());
+                if (modifications.isEmpty()) {
+                    continue;
                 }
 
-                MutationSpec modification = null;
-                if (AttributeModificationType.ADD.equals(attributeDataModification.getModificationType())) {
-                    modification = createModification(Mutation.DICT_ADD, toInternalAttribute(attributeName), multiValued, attributeValues);
-                } else {
-                    if (AttributeModificationType.REMOVE.equals(attributeDataModification.getModificationType())) {
-                        modification = createModification(Mutation.DELETE, toInternalAttribute(oldAttributeName), multiValued, oldAttributeValues);
-                    } else if (AttributeModificationType.REPLACE.equals(attributeDataModification.getModificationType())) {
-                        modification = createModification(Mutation.REPLACE, toInternalAttribute(attributeName), multiValued, attributeValues);
-                    }
-                }
+                batchEntries.add(mergeEntry);
+                keys.add(toCouchbaseKey(dn).getKey());
+                entriesModifications.add(modifications);
+                expirations.add(mergeEntry.getExpiration());
+            } catch (Exception ex) {
+                mergeEntry.setError(new EntryPersistenceException(String.format("Failed to update entry: %s", dn), ex));
+            }
+        }
 
-                if (modification != null) {
-                    modifications.add(modification);
-                }
+        if (batchEntries.isEmpty()) {
+            return;
+        }
+
+        // Update entries with parallel async sub-document mutations
+        try {
+            Map<Integer, PersistenceException> errors = getOperationService().updateEntries(keys, entriesModifications, expirations);
+            for (Map.Entry<Integer, PersistenceException> error : errors.entrySet()) {
+                MergeEntry mergeEntry = batchEntries.get(error.getKey());
+                mergeEntry.setError(new EntryPersistenceException(String.format("Failed to update entry: %s", mergeEntry.getDn()), error.getValue()));
+            }
+        } catch (Exception ex) {
+            for (MergeEntry mergeEntry : batchEntries) {
+                mergeEntry.setError(new EntryPersistenceException(String.format("Failed to update entry: %s", mergeEntry.getDn()), ex));
             }
+        }
+    }
 
-            if (modifications.size() > 0) {
-                boolean result = getOperationService().updateEntry(toCouchbaseKey(dn).getKey(), modifications, expirationValue);
-                if (!result) {
-                    throw new EntryPersistenceException(String.format("Failed to update entry: %s", dn));
+    private List<MutationSpec> toMutationSpecs(List<AttributeDataModification> attributeDataModifications) {
+        List<MutationSpec> modifications = new ArrayList<MutationSpec>(attributeDataModifications.size());
+        for (AttributeDataModification attributeDataModification : attributeDataModifications) {
+            AttributeData attribute = attributeDataModification.getAttribute();
+            AttributeData oldAttribute = attributeDataModification.getOldAttribute();
+
+            String attributeName = null;
+            Object[] attributeValues = null;
+            Boolean multiValued = null;
+            if (attribute != null) {
+                attributeName = attribute.getName();
+                attributeValues = attribute.getValues();
+                multiValued = attribute.getMultiValued();
+            }
+
+            String oldAttributeName = null;
+            Object[] oldAttributeValues = null;
+            if (oldAttribute != null) {
+                oldAttributeName = oldAttribute.getName();
+                oldAttributeValues = oldAttribute.getValues();
+            }
+
+            MutationSpec modification = null;
+            if (AttributeModificationType.ADD.equals(attributeDataModification.getModificationType())) {
+                modification = createModification(Mutation.DICT_ADD, toInternalAttribute(attributeName), multiValued, attributeValues);
+            } else {
+                if (AttributeModificationType.REMOVE.equals(attributeDataModification.getModificationType())) {
+                    modification = createModification(Mutation.DELETE, toInternalAttribute(oldAttributeName), multiValued, oldAttributeValues);
+                } else if (AttributeModificationType.REPLACE.equals(attributeDataModification.getModificationType())) {
+                    modification = createModification(Mutation.REPLACE, toInternalAttribute(attributeName), multiValued, attributeValues);
                 }
             }
-        } catch (Exception ex) {
-            throw new EntryPersistenceException(String.format("Failed to update entry: %s", dn), ex);
+
+            if (modification != null) {
+                modifications.add(modification);
+            }
         }
+
+        return modifications;
     }
 
     @Override
@@ -280,6 +408,69 @@ public class CouchbaseEntryManager extends BaseEntryManager implements Serializa
         }
     }
 
+    @Override
+    protected CompletableFuture<Void> removeByDnAsync(String dn, String[] objectClasses) {
+        CompletableFuture<Boolean> result;
+        try {
+            for (DeleteNotifier subscriber : subscribers) {
+                subscriber.onBeforeRemove(dn);
+            }
+            result = getOperationService().deleteAsync(toCouchbaseKey(dn).getKey());
+        } catch (Exception ex) {
+            return failedFuture(new EntryDeleteException(String.format("Failed to remove entry: %s", dn), ex));
+        }
+
+        return result.handle((deleted, ex) -> {
+            if (ex != null) {
+                throw new EntryDeleteException(String.format("Failed to remove entry: %s", dn), unwrapCompletionException(ex));
+            }
+
+            try {
+                for (DeleteNotifier subscriber : subscribers) {
+                    subscriber.onAfterRemove(dn);
+                }
+            } catch (Exception subscriberEx) {
+                throw new EntryDeleteException(String.format("Failed to remove entry: %s", dn), subscriberEx);
+            }
+
+            return null;
+        });
+    }
+
+    @Override
+    protected Map<String, Exception> removeByDns(List<String> dns, String[] objectClasses) {
+        Map<String, Exception> errors = new HashMap<String, Exception>();
+        try {
+            List<String> keys = new ArrayList<String>(dns.size());
+            for (String dn : dns) {
+                for (DeleteNotifier subscriber : subscribers) {
+                    subscriber.onBeforeRemove(dn);
+                }
+                keys.add(toCouchbaseKey(dn).getKey());
+            }
+
+            // Remove entries with parallel async removes
+            Map<Integer, DeleteException> deleteErrors = getOperationService().delete(keys);
+            for (int i = 0; i < dns.size(); i++) {
+                String dn = dns.get(i);
+                DeleteException deleteError = deleteErrors.get(i);
+                if (deleteError == null) {
+                    for (DeleteNotifier subscriber : subscribers) {
+                        subscriber.onAfterRemove(dn);
+                    }
+                } else {
+                    errors.put(dn, new EntryDeleteException(String.format("Failed to remove entry: %s", dn), deleteError));
+                }
+            }
+        } catch (Exception ex) {
+            for (String dn : dns) {
+                errors.put(dn, new EntryDeleteException(String.format("Failed to remove entry: %s", dn), ex));
+            }
+        }
+
+        return errors;
+    }
+
     @Override
     public <T> void removeRecursivelyFromDn(String dn, String[] objectClasses) {
         try {
@@ -302,7 +493,11 @@ public class CouchbaseEntryManager extends BaseEntryManager implements Serializa
 		}
 
 		// Remove entries by filter
-		return removeImpl(dn, entryClass, filter, count);
+		try {
+			return removeImpl(dn, entryClass, filter, count);
+		} finally {
+			invalidateCaches(dn, entryClass);
+		}
 	}
 
     protected <T> int removeImpl(String dn, Class<T> entryClass, Filter filter, int count) {
@@ -362,7 +557,61 @@ public class CouchbaseEntryManager extends BaseEntryManager implements Serializa
             throw new EntryPersistenceException(String.format("Failed to find entry: %s", dn), ex);
         }
 
-        throw new EntryPersistenceException(String.format("Failed to find entry: %s", dn));
+        throw new EntryPersistenceException(String.format("Failed to find entry: %s", dn),
+        		new EntryNotFoundException(String.format("Failed to lookup entry by key: '%s'", dn)));
+    }
+
+    @Override
+    protected CompletableFuture<List<AttributeData>> findAsync(String dn, String[] objectClasses, Map<String, PropertyAnnotation> propertiesAnnotationsMap, String... ldapReturnAttributes) {
+        CompletableFuture<JsonObject> result;
+        try {
+            // Load entry with async bucket API
+            result = getOperationService().lookupAsync(toCouchbaseKey(dn).getKey(), toInternalAttributes(ldapReturnAttributes));
+        } catch (RuntimeException ex) {
+            return failedFuture(new EntryPersistenceException(String.format("Failed to find entry: %s", dn), ex));
+        }
+
+        return result.handle((entry, ex) -> {
+            if (ex != null) {
+                throw new EntryPersistenceException(String.format("Failed to find entry: %s", dn), unwrapCompletionException(ex));
+            }
+
+            List<AttributeData> attributes = getAttributeDataList(entry);
+            if (attributes == null) {
+                throw new EntryPersistenceException(String.format("Failed to find entry: %s", dn),
+                        new EntryNotFoundException(String.format("Failed to lookup entry by key: '%s'", dn)));
+            }
+
+            return attributes;
+        });
+    }
+
+    @Override
+    protected Map<String, List<AttributeData>> findByDns(List<String> dns, String[] objectClasses, Map<String, PropertyAnnotation> propertiesAnnotationsMap, String... ldapReturnAttributes) {
+        try {
+            // Load entries with parallel KV gets
+            Map<String, List<String>> dnsByKey = new LinkedHashMap<String, List<String>>();
+            for (String dn : dns) {
+                dnsByKey.computeIfAbsent(toCouchbaseKey(dn).getKey(), k -> new ArrayList<String>(1)).add(dn);
+            }
+
+            Map<String, JsonObject> entriesByKey = getOperationService().lookup(new ArrayList<String>(dnsByKey.keySet()), toInternalAttributes(ldapReturnAttributes));
+
+            Map<String, List<AttributeData>> result = new HashMap<String, List<AttributeData>>();
+            for (Map.Entry<String, JsonObject> entryByKey : entriesByKey.entrySet()) {
+                List<String> keyDns = dnsByKey.get(entryByKey.getKey());
+                List<AttributeData> attributes = getAttributeDataList(entryByKey.getValue());
+                if ((keyDns != null) && (attributes != null)) {
+                    for (String dn : keyDns) {
+                        result.put(dn, attributes);
+                    }
+                }
+            }
+
+            return result;
+        } catch (Exception ex) {
+            throw new EntryPersistenceException(String.format("Failed to find entries: %s", dns), ex);
+        }
     }
 
     @Override
@@ -379,6 +628,7 @@ public class CouchbaseEntryManager extends BaseEntryManager implements Serializa
         }
 
         List<T> entries = createEntities(baseDN, entryClass, searchResult);
+        trackEntries(entryClass, entries, ldapReturnAttributes);
 
         return entries;
     }
@@ -404,11 +654,64 @@ public class CouchbaseEntryManager extends BaseEntryManager implements Serializa
         }
 
         List<T> entries = createEntities(baseDN, entryClass, searchResult);
+        trackEntries(entryClass, entries, ldapReturnAttributes);
         result.setEntries(entries);
 
         return result;
     }
 
+    @Override
+    public <T> Stream<T> streamEntries(String baseDN, Class<T> entryClass, Filter filter, SearchScope scope, String[] ldapReturnAttributes,
+            int pageSize) {
+        if (StringHelper.isEmptyString(baseDN)) {
+            throw new MappingException("Base DN to find entries is null");
+        }
+
+        // Check entry class
+        checkEntryClass(entryClass, false);
+        String[] objectClasses = getTypeObjectClasses(entryClass);
+
+        List<PropertyAnnotation> propertiesAnnotations = getEntryPropertyAnnotations(entryClass);
+        String[] currentLdapReturnAttributes = ldapReturnAttributes;
+        if (ArrayHelper.isEmpty(currentLdapReturnAttributes)) {
+            currentLdapReturnAttributes = getAttributes(null, propertiesAnnotations, false);
+        }
+        String[] internalReturnAttributes = toInternalAttributes(currentLdapReturnAttributes);
+
+        Filter searchFilter;
+        if (objectClasses.length > 0) {
+            searchFilter = addObjectClassFilter(filter, objectClasses);
+        } else {
+            searchFilter = filter;
+        }
+
+        Map<String, PropertyAnnotation> propertiesAnnotationsMap = prepareEntryPropertiesTypes(entryClass, propertiesAnnotations);
+        ParsedKey keyWithInum = toCouchbaseKey(baseDN);
+        ConvertedExpression convertedExpression;
+		try {
+			convertedExpression = toCouchbaseFilter(searchFilter, propertiesAnnotationsMap);
+		} catch (SearchException ex) {
+            throw new EntryPersistenceException(String.format("Failed to convert filter %s to expression", searchFilter));
+		}
+
+        // Pages are ordered by document key and each page continues after last key of previous one.
+        // Default sort of entry class is not applied to streams
+        PagedEntriesIterator<JsonObject, T> entriesIterator = new CursorEntriesIterator<JsonObject, T>(pageSize) {
+            @Override
+            protected SearchCursor<JsonObject> openCursor() throws SearchException {
+                return getOperationService().searchCursor(keyWithInum.getKey(), getScanConsistency(convertedExpression), convertedExpression.expression(),
+                        scope, internalReturnAttributes);
+            }
+
+            @Override
+            protected T createEntry(JsonObject entry) {
+                return createEntities(entryClass, propertiesAnnotations, keyWithInum, entry).get(0);
+            }
+        };
+
+        return entriesIterator.stream();
+    }
+
     protected <T> PagedResult<JsonObject> findEntriesImpl(String baseDN, Class<T> entryClass, Filter filter, SearchScope scope,
             String[] ldapReturnAttributes, String sortBy, SortOrder sortOrder, BatchOperation<T> batchOperation, SearchReturnDataType returnDataType, int start,
             int count, int chunkSize) {
@@ -669,7 +972,8 @@ public class CouchbaseEntryManager extends BaseEntryManager implements Serializa
     @Override
     public <T> boolean authenticate(String bindDn, Class<T> entryClass, String password) {
         try {
-            return getOperationService().authenticate(toCouchbaseKey(bindDn).getKey(), escapeValue(password), null);
+            return authenticate(bindDn, entryClass, password,
+            		() -> getOperationService().authenticate(toCouchbaseKey(bindDn).getKey(), escapeValue(password), null));
         } catch (Exception ex) {
             throw new AuthenticationException(String.format("Failed to authenticate DN: %s", bindDn), ex);
         }
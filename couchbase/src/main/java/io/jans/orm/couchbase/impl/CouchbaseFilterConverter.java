@@ -7,6 +7,7 @@
 package io.jans.orm.couchbase.impl;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -24,10 +25,13 @@ import io.jans.orm.annotation.AttributeEnum;
 import io.jans.orm.annotation.AttributeName;
 import io.jans.orm.couchbase.model.ConvertedExpression;
 import io.jans.orm.exception.operation.SearchException;
+import io.jans.orm.impl.FilterTemplateCache;
 import io.jans.orm.ldap.impl.LdapFilterConverter;
 import io.jans.orm.reflect.property.PropertyAnnotation;
 import io.jans.orm.reflect.util.ReflectHelper;
 import io.jans.orm.search.filter.Filter;
+import io.jans.orm.search.filter.FilterOptimizer;
+import io.jans.orm.search.filter.FilterShape;
 import io.jans.orm.search.filter.FilterType;
 import io.jans.orm.util.ArrayHelper;
 import io.jans.orm.util.Pair;
@@ -43,11 +47,34 @@ public class CouchbaseFilterConverter {
     private static final Logger LOG = LoggerFactory.getLogger(CouchbaseFilterConverter.class);
     
     private LdapFilterConverter ldapFilterConverter = new LdapFilterConverter();
+    private FilterOptimizer filterOptimizer = new FilterOptimizer();
+
+    // Delimiter of parameter slot in template string
+    private static final char TEMPLATE_SLOT_DELIMITER = '\0';
 
 	private CouchbaseEntryManager couchbaseEntryManager;
 
+	private final FilterTemplateCache<FilterTemplate> templateCache;
+
+	// Not null only in converter which builds template
+	private final FilterShape templateShape;
+	private final List<TemplateValue> templateParameters;
+	private final Map<Filter, Integer> templateNodeAliases;
+
     public CouchbaseFilterConverter(CouchbaseEntryManager couchbaseEntryManager) {
     	this.couchbaseEntryManager = couchbaseEntryManager;
+    	this.templateCache = new FilterTemplateCache<FilterTemplate>();
+    	this.templateShape = null;
+    	this.templateParameters = null;
+    	this.templateNodeAliases = null;
+	}
+
+    private CouchbaseFilterConverter(CouchbaseEntryManager couchbaseEntryManager, FilterShape templateShape) {
+    	this.couchbaseEntryManager = couchbaseEntryManager;
+    	this.templateCache = null;
+    	this.templateShape = templateShape;
+    	this.templateParameters = new ArrayList<TemplateValue>();
+    	this.templateNodeAliases = new IdentityHashMap<Filter, Integer>();
 	}
 
 	public ConvertedExpression convertToCouchbaseFilter(Filter genericFilter, Map<String, PropertyAnnotation> propertiesAnnotationsMap) throws SearchException {
@@ -55,6 +82,120 @@ public class CouchbaseFilterConverter {
     }
 
     public ConvertedExpression convertToCouchbaseFilter(Filter genericFilter, Map<String, PropertyAnnotation> propertiesAnnotationsMap, Function<? super Filter, Boolean> processor) throws SearchException {
+    	Filter optimizedFilter = filterOptimizer.optimize(genericFilter);
+
+    	// Processor should see each filter, so filters with processor are not cached
+    	FilterShape shape = null;
+    	if ((processor == null) && templateCache.isEnabled()) {
+    		shape = FilterShape.of(optimizedFilter);
+    	}
+
+    	if (shape == null) {
+    		return convertToCouchbaseFilterImpl(optimizedFilter, propertiesAnnotationsMap, processor);
+    	}
+
+    	String templateKey = buildTemplateKey(shape, propertiesAnnotationsMap);
+    	FilterTemplate template = templateCache.get(templateKey);
+    	if (template == null) {
+    		CouchbaseFilterConverter templateConverter = new CouchbaseFilterConverter(couchbaseEntryManager, shape);
+    		ConvertedExpression convertedExpression = templateConverter.convertToCouchbaseFilterImpl(optimizedFilter, propertiesAnnotationsMap, null);
+
+    		template = new FilterTemplate(convertedExpression.expression().toString(), templateConverter.templateParameters,
+    				convertedExpression.consistency());
+    		templateCache.put(templateKey, template);
+    	}
+
+    	// Expression is string, so values are rendered into template string
+    	StringBuilder expression = new StringBuilder(template.segments[0]);
+    	for (int i = 0; i < template.slots.length; i++) {
+    		expression.append(template.parameters.get(template.slots[i]).get(shape));
+    		expression.append(template.segments[i + 1]);
+    	}
+
+    	return ConvertedExpression.build(Expression.x(expression.toString()), template.consistency);
+    }
+
+	private String buildTemplateKey(FilterShape shape, Map<String, PropertyAnnotation> propertiesAnnotationsMap) {
+		StringBuilder key = new StringBuilder(shape.getKey());
+
+		// Conversion depends on attribute types of entry. Multi valued attributes
+		// are converted with additional attribute name with '_' suffix
+		for (String attributeName : shape.getAttributeNames()) {
+			appendAttributeFlags(key, attributeName, propertiesAnnotationsMap);
+			appendAttributeFlags(key, toInternalAttribute(attributeName) + "_", propertiesAnnotationsMap);
+		}
+
+		return key.toString();
+	}
+
+	private void appendAttributeFlags(StringBuilder key, String attributeName, Map<String, PropertyAnnotation> propertiesAnnotationsMap) {
+		Boolean isMultiValuedDetected = determineMultiValuedByType(attributeName, propertiesAnnotationsMap);
+		key.append(isMultiValuedDetected == null ? '-' : (isMultiValuedDetected ? 'M' : 'S'));
+		key.append(isRequiredConsistency(attributeName, propertiesAnnotationsMap) ? 'C' : '-');
+	}
+
+	/**
+	 * In template mode returns parameter slot instead of value
+	 */
+	private Expression buildValueExpression(Filter filter, ValueBuilder valueBuilder) throws SearchException {
+		if (templateShape == null) {
+			return valueBuilder.build(filter);
+		}
+
+		int nodeIndex = getTemplateNodeIndex(filter);
+
+		return addTemplateParameter(shape -> valueBuilder.build(shape.getNode(nodeIndex)).toString());
+	}
+
+	private Expression addTemplateParameter(TemplateValue templateValue) {
+		templateParameters.add(templateValue);
+
+		return Expression.x(TEMPLATE_SLOT_DELIMITER + Integer.toString(templateParameters.size() - 1) + TEMPLATE_SLOT_DELIMITER);
+	}
+
+	private int getTemplateNodeIndex(Filter filter) throws SearchException {
+		Integer nodeIndex = templateNodeAliases.get(filter);
+		if (nodeIndex == null) {
+			nodeIndex = templateShape.indexOf(filter);
+		}
+
+		if (nodeIndex == -1) {
+			throw new SearchException(String.format("Filter '%s' is not part of template filter", filter));
+		}
+
+		return nodeIndex;
+	}
+
+	private Expression buildInExpression(Expression path, List<Filter> eqFilters) throws SearchException {
+		if (templateShape == null) {
+			return path.in(buildInValues(eqFilters));
+		}
+
+		int[] nodeIndexes = new int[eqFilters.size()];
+		for (int i = 0; i < nodeIndexes.length; i++) {
+			nodeIndexes[i] = getTemplateNodeIndex(eqFilters.get(i));
+		}
+
+		return path.in(addTemplateParameter(shape -> {
+			List<Filter> shapeFilters = new ArrayList<Filter>(nodeIndexes.length);
+			for (int nodeIndex : nodeIndexes) {
+				shapeFilters.add(shape.getNode(nodeIndex));
+			}
+
+			return buildInValues(shapeFilters).toString();
+		}));
+	}
+
+	private JsonArray buildInValues(List<Filter> eqFilters) {
+		JsonArray jsonArrayValues = JsonArray.create();
+		for (Filter eqFilter : eqFilters) {
+			jsonArrayValues.add(eqFilter.getAssertionValue());
+		}
+
+		return jsonArrayValues;
+	}
+
+    private ConvertedExpression convertToCouchbaseFilterImpl(Filter genericFilter, Map<String, PropertyAnnotation> propertiesAnnotationsMap, Function<? super Filter, Boolean> processor) throws SearchException {
         Filter currentGenericFilter = genericFilter;
 
         FilterType type = currentGenericFilter.getType();
@@ -80,7 +221,7 @@ public class CouchbaseFilterConverter {
             	String joinOrAttributeName = null;
                 for (int i = 0; i < genericFilters.length; i++) {
                 	Filter tmpFilter = genericFilters[i];
-                    expFilters[i] = convertToCouchbaseFilter(tmpFilter, propertiesAnnotationsMap, processor);
+                    expFilters[i] = convertToCouchbaseFilterImpl(tmpFilter, propertiesAnnotationsMap, processor);
 
                     // Check if we can replace OR with IN
                 	if (!canJoinOrFilters) {
@@ -133,16 +274,10 @@ public class CouchbaseFilterConverter {
                     }
 
                     if (canJoinOrFilters) {
-                		JsonArray jsonArrayValues = JsonArray.create();
-                    	Filter lastEqFilter = null;
-                		for (Filter eqFilter : joinOrFilters) {
-                			lastEqFilter = eqFilter;
-
-                			jsonArrayValues.add(eqFilter.getAssertionValue());
-            			}
+                    	Filter lastEqFilter = joinOrFilters.get(joinOrFilters.size() - 1);
 
                 		Expression exp = Expression
-                                .par(buildPath(lastEqFilter, propertiesAnnotationsMap, processor).getFirst().in(jsonArrayValues));
+                                .par(buildInExpression(buildPath(lastEqFilter, propertiesAnnotationsMap, processor).getFirst(), joinOrFilters));
                         return ConvertedExpression.build(exp, requiredConsistency);
                 	} else {
 	                    Expression result = expFilters[0].expression();
@@ -224,32 +359,15 @@ public class CouchbaseFilterConverter {
         }
 
         if (FilterType.SUBSTRING == type) {
-            StringBuilder like = new StringBuilder();
-            if (currentGenericFilter.getSubInitial() != null) {
-                like.append(currentGenericFilter.getSubInitial());
-            }
-            like.append("%");
-
-            String[] subAny = currentGenericFilter.getSubAny();
-            if ((subAny != null) && (subAny.length > 0)) {
-                for (String any : subAny) {
-                    like.append(any);
-                    like.append("%");
-                }
-            }
-
-            if (currentGenericFilter.getSubFinal() != null) {
-                like.append(currentGenericFilter.getSubFinal());
-            }
         	String internalAttribute = toInternalAttribute(currentGenericFilter);
 			Pair<Expression, Expression> pairExpression = buildPath(currentGenericFilter, propertiesAnnotationsMap, processor);
             if (isMultiValue(currentGenericFilter, propertiesAnnotationsMap)) {
             	return ConvertedExpression.build(
             			Collections.anyIn(internalAttribute + "_", pairExpression.getFirst()).
-            			satisfies(pairExpression.getSecond().like(Expression.s(escapeValue(like.toString())))),
+            			satisfies(pairExpression.getSecond().like(buildValueExpression(currentGenericFilter, this::buildLikeExpression))),
             			requiredConsistency);
             } else {
-            	return ConvertedExpression.build(pairExpression.getSecond().like(Expression.s(escapeValue(like.toString()))), requiredConsistency);
+            	return ConvertedExpression.build(pairExpression.getSecond().like(buildValueExpression(currentGenericFilter, this::buildLikeExpression)), requiredConsistency);
             }
         }
 
@@ -293,7 +411,11 @@ public class CouchbaseFilterConverter {
 		return couchbaseEntryManager.toInternalAttribute(attributeName);
 	}
 
-	private Expression buildTypedExpression(Filter currentGenericFilter) {
+	private Expression buildTypedExpression(Filter currentGenericFilter) throws SearchException {
+		return buildValueExpression(currentGenericFilter, this::buildTypedValueExpression);
+	}
+
+	private Expression buildTypedValueExpression(Filter currentGenericFilter) {
 		if (currentGenericFilter.getAssertionValue() instanceof Boolean) {
 			return Expression.x((Boolean) currentGenericFilter.getAssertionValue());
 		} else if (currentGenericFilter.getAssertionValue() instanceof Integer) {
@@ -305,6 +427,28 @@ public class CouchbaseFilterConverter {
 		return Expression.s(escapeValue(currentGenericFilter.getAssertionValue()));
 	}
 
+	private Expression buildLikeExpression(Filter filter) {
+        StringBuilder like = new StringBuilder();
+        if (filter.getSubInitial() != null) {
+            like.append(filter.getSubInitial());
+        }
+        like.append("%");
+
+        String[] subAny = filter.getSubAny();
+        if ((subAny != null) && (subAny.length > 0)) {
+            for (String any : subAny) {
+                like.append(any);
+                like.append("%");
+            }
+        }
+
+        if (filter.getSubFinal() != null) {
+            like.append(filter.getSubFinal());
+        }
+
+        return Expression.s(escapeValue(like.toString()));
+	}
+
 	private Pair<Expression, Expression> buildPath(Filter genericFilter, Map<String, PropertyAnnotation> propertiesAnnotationsMap, Function<? super Filter, Boolean> processor) throws SearchException {
 		boolean hasSubFilters = ArrayHelper.isNotEmpty(genericFilter.getFilters());
 		boolean isMultiValue = isMultiValue(genericFilter, propertiesAnnotationsMap);
@@ -318,14 +462,18 @@ public class CouchbaseFilterConverter {
 			if (hasSubFilters) {
 	    		Filter clonedFilter = genericFilter.getFilters()[0].clone();
 	    		clonedFilter.setAttributeName(internalAttribute + "_");
+	    		if (templateShape != null) {
+	    			// Clone has the same values as original filter
+	    			templateNodeAliases.put(clonedFilter, getTemplateNodeIndex(genericFilter.getFilters()[0]));
+	    		}
 	
-	    		innerExpression = convertToCouchbaseFilter(clonedFilter, propertiesAnnotationsMap, processor).expression();
+	    		innerExpression = convertToCouchbaseFilterImpl(clonedFilter, propertiesAnnotationsMap, processor).expression();
 			} else {
 				innerExpression = Expression.path(Expression.path(internalAttribute + "_"));
 			}
 		} else {
 			if (hasSubFilters) {
-				innerExpression = convertToCouchbaseFilter(genericFilter.getFilters()[0], propertiesAnnotationsMap, processor).expression();
+				innerExpression = convertToCouchbaseFilterImpl(genericFilter.getFilters()[0], propertiesAnnotationsMap, processor).expression();
 			} else {
 				innerExpression = Expression.path(Expression.path(internalAttribute));
 			}
@@ -356,11 +504,14 @@ public class CouchbaseFilterConverter {
 	}
 
 	private boolean isRequiredConsistency(Filter filter, Map<String, PropertyAnnotation> propertiesAnnotationsMap) {
+		return isRequiredConsistency(filter.getAttributeName(), propertiesAnnotationsMap);
+	}
+
+	private boolean isRequiredConsistency(String attributeName, Map<String, PropertyAnnotation> propertiesAnnotationsMap) {
 		if (propertiesAnnotationsMap == null) {
 			return false;
 		}
 
-		String attributeName = filter.getAttributeName();
     	PropertyAnnotation propertyAnnotation = propertiesAnnotationsMap.get(attributeName);
 		if ((propertyAnnotation == null) || (propertyAnnotation.getParameterType() == null)) {
 			return false;
@@ -384,4 +535,47 @@ public class CouchbaseFilterConverter {
 		return result;
 	}
 
+	public FilterTemplateCache<?> getTemplateCache() {
+		return templateCache;
+	}
+
+	@FunctionalInterface
+	private interface ValueBuilder {
+		Expression build(Filter filter) throws SearchException;
+	}
+
+	/**
+	 * Rendered value of template parameter for filter with template shape
+	 */
+	@FunctionalInterface
+	private interface TemplateValue {
+		String get(FilterShape shape) throws SearchException;
+	}
+
+	private static final class FilterTemplate {
+
+		// Literal parts of template string around parameter slots
+		private final String[] segments;
+		private final int[] slots;
+		private final List<TemplateValue> parameters;
+		private final boolean consistency;
+
+		private FilterTemplate(String template, List<TemplateValue> parameters, boolean consistency) {
+			String[] parts = template.split(String.valueOf(TEMPLATE_SLOT_DELIMITER), -1);
+
+			this.segments = new String[parts.length / 2 + 1];
+			this.slots = new int[parts.length / 2];
+			for (int i = 0; i < parts.length; i++) {
+				if (i % 2 == 0) {
+					segments[i / 2] = parts[i];
+				} else {
+					slots[i / 2] = Integer.parseInt(parts[i]);
+				}
+			}
+
+			this.parameters = parameters;
+			this.consistency = consistency;
+		}
+	}
+
 }
@@ -7,8 +7,11 @@
 package io.jans.orm.couchbase.operation;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import io.jans.orm.operation.PersistenceOperationService;
+import io.jans.orm.operation.SearchCursor;
 import io.jans.orm.couchbase.impl.CouchbaseBatchOperationWraper;
 import io.jans.orm.couchbase.model.SearchReturnDataType;
 import io.jans.orm.couchbase.operation.impl.CouchbaseConnectionProvider;
@@ -46,18 +49,73 @@ public interface CouchbaseOperationService extends PersistenceOperationService {
     boolean addEntry(String key, JsonObject atts) throws DuplicateEntryException, PersistenceException;
 	boolean addEntry(String key, JsonObject jsonObject, Integer expiration) throws DuplicateEntryException, PersistenceException;
 
+	/**
+	 * Upsert document with async bucket API without waiting for response
+	 *
+	 * @return Future which is completed exceptionally with PersistenceException
+	 */
+	CompletableFuture<Boolean> addEntryAsync(String key, JsonObject jsonObject, Integer expiration);
+
+	/**
+	 * Upsert documents in parallel with async bucket API
+	 *
+	 * @return Errors of documents which were not added by index of document
+	 */
+	Map<Integer, PersistenceException> addEntries(List<String> keys, List<JsonObject> jsonObjects, List<Integer> expirations) throws PersistenceException;
+
     boolean updateEntry(String key, List<MutationSpec> mods, Integer expiration) throws UnsupportedOperationException, PersistenceException;
 
+	/**
+	 * Mutate documents in parallel with async bucket API
+	 *
+	 * @return Errors of documents which were not updated by index of document
+	 */
+	Map<Integer, PersistenceException> updateEntries(List<String> keys, List<? extends List<MutationSpec>> entriesMods, List<Integer> expirations) throws PersistenceException;
+
     boolean delete(String key) throws EntryNotFoundException;
+
+	/**
+	 * Remove documents in parallel with async bucket API
+	 *
+	 * @return Errors of documents which were not removed by index of document
+	 */
+	/**
+	 * Remove document with async bucket API without waiting for response
+	 *
+	 * @return Future which is completed exceptionally with EntryNotFoundException
+	 */
+	CompletableFuture<Boolean> deleteAsync(String key);
+
+	Map<Integer, DeleteException> delete(List<String> keys) throws DeleteException;
 	int delete(String key, ScanConsistency scanConsistency, Expression expression, int count) throws DeleteException;
     boolean deleteRecursively(String key) throws EntryNotFoundException, SearchException;
 
     JsonObject lookup(String key, ScanConsistency scanConsistency, String... attributes) throws SearchException;
 
+    /**
+     * Get documents in parallel with async bucket API
+     *
+     * @return Found documents by key
+     */
+    Map<String, JsonObject> lookup(List<String> keys, String... attributes) throws SearchException;
+
+    /**
+     * Get document with async bucket API without waiting for response. Future is completed by SDK thread
+     *
+     * @return Future which is completed exceptionally with SearchException if document doesn't exist
+     */
+    CompletableFuture<JsonObject> lookupAsync(String key, String... attributes);
+
     <O> PagedResult<JsonObject> search(String key, ScanConsistency scanConsistency, Expression expression, SearchScope scope,
             String[] attributes, Sort[] orderBy, CouchbaseBatchOperationWraper<O> batchOperationWraper, SearchReturnDataType returnDataType,
             int start, int count, int pageSize) throws SearchException;
 
+    /**
+     * Open search which loads rows in pages ordered by document key
+     */
+    SearchCursor<JsonObject> searchCursor(String key, ScanConsistency scanConsistency, Expression expression, SearchScope scope,
+            String[] attributes) throws SearchException;
+
     String[] createStoragePassword(String[] passwords);
 
     boolean isBinaryAttribute(String attribute);
@@ -10,12 +10,16 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -41,6 +45,7 @@ import com.couchbase.client.java.query.dsl.path.LimitPath;
 import com.couchbase.client.java.query.dsl.path.MutateLimitPath;
 import com.couchbase.client.java.query.dsl.path.OffsetPath;
 import com.couchbase.client.java.query.dsl.path.ReturningPath;
+import com.couchbase.client.java.subdoc.AsyncMutateInBuilder;
 import com.couchbase.client.java.subdoc.DocumentFragment;
 import com.couchbase.client.java.subdoc.MutateInBuilder;
 import com.couchbase.client.java.subdoc.MutationSpec;
@@ -61,9 +66,13 @@ import io.jans.orm.exception.operation.SearchException;
 import io.jans.orm.model.BatchOperation;
 import io.jans.orm.model.PagedResult;
 import io.jans.orm.model.SearchScope;
+import io.jans.orm.operation.PagePrefetcher;
+import io.jans.orm.operation.PagePrefetcher.PageLoader;
+import io.jans.orm.operation.SearchCursor;
 import io.jans.orm.operation.auth.PasswordEncryptionHelper;
 import io.jans.orm.util.ArrayHelper;
 import io.jans.orm.util.StringHelper;
+import rx.Observable;
 
 /**
  * Base service which performs all supported Couchbase operations
@@ -74,6 +83,8 @@ public class CouchbaseOperationServiceImpl implements CouchbaseOperationService
 
     private static final Logger LOG = LoggerFactory.getLogger(CouchbaseOperationServiceImpl.class);
 
+    private static final String CURSOR_KEY = "jans_cursor_key";
+
     private Properties props;
     private CouchbaseConnectionProvider connectionProvider;
 
@@ -187,12 +198,7 @@ public class CouchbaseOperationServiceImpl implements CouchbaseOperationService
 
 	private boolean addEntryImpl(BucketMapping bucketMapping, String key, JsonObject jsonObject, Integer expiration) throws PersistenceException {
 		try {
-			JsonDocument jsonDocument; 
-			if (expiration == null) {
-	            jsonDocument = JsonDocument.create(key, jsonObject);
-			} else {
-	            jsonDocument = JsonDocument.create(key, expiration, jsonObject);
-			}
+			JsonDocument jsonDocument = createJsonDocument(key, jsonObject, expiration);
 
 			JsonDocument result = bucketMapping.getBucket().upsert(jsonDocument);
             if (result != null) {
@@ -206,6 +212,67 @@ public class CouchbaseOperationServiceImpl implements CouchbaseOperationService
         return false;
 	}
 
+    @Override
+    public CompletableFuture<Boolean> addEntryAsync(String key, JsonObject jsonObject, Integer expiration) {
+        Instant startTime = OperationDurationUtil.instance().now();
+
+        BucketMapping bucketMapping = connectionProvider.getBucketMappingByKey(key);
+        CompletableFuture<Boolean> result = new CompletableFuture<Boolean>();
+		bucketMapping.getBucket().async().upsert(createJsonDocument(key, jsonObject, expiration)).lastOrDefault(null)
+			.subscribe(doc -> result.complete(doc != null),
+					ex -> result.completeExceptionally(new PersistenceException("Failed to add entry", ex)));
+
+        return result.whenComplete((added, ex) -> {
+            Duration duration = OperationDurationUtil.instance().duration(startTime);
+            OperationDurationUtil.instance().logDebug("Couchbase operation: add async, duration: {}, bucket: {}, key: {}, json: {}", duration, bucketMapping.getBucketName(), key, jsonObject);
+        });
+    }
+
+	private JsonDocument createJsonDocument(String key, JsonObject jsonObject, Integer expiration) {
+		if (expiration == null) {
+			return JsonDocument.create(key, jsonObject);
+		}
+
+		return JsonDocument.create(key, expiration, jsonObject);
+	}
+
+    @Override
+    public Map<Integer, PersistenceException> addEntries(List<String> keys, List<JsonObject> jsonObjects, List<Integer> expirations) throws PersistenceException {
+        Instant startTime = OperationDurationUtil.instance().now();
+
+        List<BucketMapping> bucketMappings = new ArrayList<BucketMapping>(keys.size());
+        List<JsonDocument> jsonDocuments = new ArrayList<JsonDocument>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+        	bucketMappings.add(connectionProvider.getBucketMappingByKey(keys.get(i)));
+        	jsonDocuments.add(createJsonDocument(keys.get(i), jsonObjects.get(i), expirations.get(i)));
+        }
+
+        Map<Integer, PersistenceException> errors = addEntriesImpl(bucketMappings, jsonDocuments);
+
+        Duration duration = OperationDurationUtil.instance().duration(startTime);
+        OperationDurationUtil.instance().logDebug("Couchbase operation: add batch, duration: {}, count: {}, errors: {}", duration, keys.size(), errors.size());
+
+        return errors;
+    }
+
+	private Map<Integer, PersistenceException> addEntriesImpl(List<BucketMapping> bucketMappings, List<JsonDocument> jsonDocuments) throws PersistenceException {
+		Map<Integer, PersistenceException> errors = new ConcurrentHashMap<Integer, PersistenceException>();
+		try {
+			// Send all upserts without waiting for responses and wait for all of them at the end
+			Observable.range(0, jsonDocuments.size())
+				.flatMap(i -> bucketMappings.get(i).getBucket().async().upsert(jsonDocuments.get(i))
+						.onErrorResumeNext(ex -> {
+							errors.put(i, new PersistenceException("Failed to add entry", ex));
+							return Observable.empty();
+						}))
+				.toBlocking().lastOrDefault(null);
+		} catch (CouchbaseException ex) {
+			throw new PersistenceException("Failed to add entries", ex);
+		}
+
+		return errors;
+	}
+
     @Deprecated
     protected boolean updateEntry(String key, JsonObject attrs) throws UnsupportedOperationException, PersistenceException {
         List<MutationSpec> mods = new ArrayList<MutationSpec>();
@@ -278,6 +345,71 @@ public class CouchbaseOperationServiceImpl implements CouchbaseOperationService
         }
     }
 
+    @Override
+    public Map<Integer, PersistenceException> updateEntries(List<String> keys, List<? extends List<MutationSpec>> entriesMods, List<Integer> expirations) throws PersistenceException {
+        Instant startTime = OperationDurationUtil.instance().now();
+
+        List<BucketMapping> bucketMappings = new ArrayList<BucketMapping>(keys.size());
+        for (String key : keys) {
+        	bucketMappings.add(connectionProvider.getBucketMappingByKey(key));
+        }
+
+        Map<Integer, PersistenceException> errors = updateEntriesImpl(bucketMappings, keys, entriesMods, expirations);
+
+        Duration duration = OperationDurationUtil.instance().duration(startTime);
+        OperationDurationUtil.instance().logDebug("Couchbase operation: modify batch, duration: {}, count: {}, errors: {}", duration, keys.size(), errors.size());
+
+        return errors;
+    }
+
+	private Map<Integer, PersistenceException> updateEntriesImpl(List<BucketMapping> bucketMappings, List<String> keys, List<? extends List<MutationSpec>> entriesMods,
+			List<Integer> expirations) throws PersistenceException {
+		Map<Integer, PersistenceException> errors = new ConcurrentHashMap<Integer, PersistenceException>();
+		try {
+			// Send all sub-document mutations without waiting for responses and wait for all of them at the end
+			Observable.range(0, keys.size())
+				.flatMap(i -> {
+					AsyncMutateInBuilder builder = bucketMappings.get(i).getBucket().async().mutateIn(keys.get(i));
+					if (expirations.get(i) != null) {
+						builder = builder.withExpiry(expirations.get(i));
+					}
+
+					return addMutations(builder, entriesMods.get(i)).execute()
+						.doOnNext(result -> {
+							if ((result.size() == 0) || !result.status(0).isSuccess()) {
+								errors.put(i, new PersistenceException("Failed to update entry"));
+							}
+						})
+						.onErrorResumeNext(ex -> {
+							errors.put(i, new PersistenceException("Failed to update entry", ex));
+							return Observable.empty();
+						});
+				})
+				.toBlocking().lastOrDefault(null);
+		} catch (CouchbaseException | UnsupportedOperationException ex) {
+			throw new PersistenceException("Failed to update entries", ex);
+		}
+
+		return errors;
+	}
+
+	private AsyncMutateInBuilder addMutations(AsyncMutateInBuilder builder, List<MutationSpec> mods) {
+        for (MutationSpec mod : mods) {
+            Mutation type = mod.type();
+            if (Mutation.DICT_ADD == type) {
+                builder.insert(mod.path(), mod.fragment());
+            } else if (Mutation.REPLACE == type) {
+                builder.replace(mod.path(), mod.fragment());
+            } else if (Mutation.DELETE == type) {
+                builder.remove(mod.path());
+            } else {
+                throw new UnsupportedOperationException("Operation type '" + type + "' is not implemented");
+            }
+        }
+
+        return builder;
+	}
+
     @Override
     public boolean delete(String key) throws EntryNotFoundException {
         Instant startTime = OperationDurationUtil.instance().now();
@@ -301,6 +433,52 @@ public class CouchbaseOperationServiceImpl implements CouchbaseOperationService
         }
 	}
 
+    @Override
+    public CompletableFuture<Boolean> deleteAsync(String key) {
+        Instant startTime = OperationDurationUtil.instance().now();
+
+        BucketMapping bucketMapping = connectionProvider.getBucketMappingByKey(key);
+        CompletableFuture<Boolean> result = new CompletableFuture<Boolean>();
+		bucketMapping.getBucket().async().remove(key).lastOrDefault(null)
+			.subscribe(doc -> result.complete((doc != null) && (doc.id() != null)),
+					ex -> result.completeExceptionally(new EntryNotFoundException("Failed to delete entry", ex)));
+
+        return result.whenComplete((deleted, ex) -> {
+            Duration duration = OperationDurationUtil.instance().duration(startTime);
+            OperationDurationUtil.instance().logDebug("Couchbase operation: delete async, duration: {}, bucket: {}, key: {}", duration, bucketMapping.getBucketName(), key);
+        });
+    }
+
+    @Override
+    public Map<Integer, DeleteException> delete(List<String> keys) throws DeleteException {
+        Instant startTime = OperationDurationUtil.instance().now();
+
+        Map<Integer, DeleteException> errors = deleteImpl(keys);
+
+        Duration duration = OperationDurationUtil.instance().duration(startTime);
+        OperationDurationUtil.instance().logDebug("Couchbase operation: delete batch, duration: {}, count: {}, errors: {}", duration, keys.size(), errors.size());
+
+        return errors;
+    }
+
+	private Map<Integer, DeleteException> deleteImpl(List<String> keys) throws DeleteException {
+		Map<Integer, DeleteException> errors = new ConcurrentHashMap<Integer, DeleteException>();
+		try {
+			// Send all removes without waiting for responses and wait for all of them at the end
+			Observable.range(0, keys.size())
+				.flatMap(i -> connectionProvider.getBucketMappingByKey(keys.get(i)).getBucket().async().remove(keys.get(i))
+						.onErrorResumeNext(ex -> {
+							errors.put(i, new DeleteException("Failed to delete entry", ex));
+							return Observable.empty();
+						}))
+				.toBlocking().lastOrDefault(null);
+		} catch (CouchbaseException ex) {
+			throw new DeleteException("Failed to delete entries", ex);
+		}
+
+		return errors;
+	}
+
     @Override
     public int delete(String key, ScanConsistency scanConsistency, Expression expression, int count) throws DeleteException {
         Instant startTime = OperationDurationUtil.instance().now();
@@ -423,17 +601,7 @@ public class CouchbaseOperationServiceImpl implements CouchbaseOperationService
             } else {
                 JsonDocument doc = bucket.get(key);
                 if (doc != null) {
-                	Set<String> docAtributesKeep = new HashSet<String>(Arrays.asList(attributes));
-//                	docAtributesKeep.add(CouchbaseOperationService.DN);
-
-                	for (Iterator<String> it = doc.content().getNames().iterator(); it.hasNext();) {
-						String docAtribute = (String) it.next();
-						if (!docAtributesKeep.contains(docAtribute)) {
-							it.remove();
-						}
-					}
-
-                	return doc.content();
+                	return retainAttributes(doc.content(), attributes);
                 }
 
 //            	N1qlParams params = N1qlParams.build().consistency(scanConsistency);
@@ -455,6 +623,71 @@ public class CouchbaseOperationServiceImpl implements CouchbaseOperationService
         throw new SearchException("Failed to lookup entry");
 	}
 
+	private JsonObject retainAttributes(JsonObject content, String... attributes) {
+    	Set<String> docAtributesKeep = new HashSet<String>(Arrays.asList(attributes));
+//    	docAtributesKeep.add(CouchbaseOperationService.DN);
+
+    	for (Iterator<String> it = content.getNames().iterator(); it.hasNext();) {
+			String docAtribute = (String) it.next();
+			if (!docAtributesKeep.contains(docAtribute)) {
+				it.remove();
+			}
+		}
+
+    	return content;
+	}
+
+    @Override
+    public Map<String, JsonObject> lookup(List<String> keys, String... attributes) throws SearchException {
+        Instant startTime = OperationDurationUtil.instance().now();
+
+        Map<String, JsonObject> result = lookupImpl(keys, attributes);
+
+        Duration duration = OperationDurationUtil.instance().duration(startTime);
+        OperationDurationUtil.instance().logDebug("Couchbase operation: lookup, duration: {}, keys: {}, attributes: {}", duration, keys, attributes);
+
+        return result;
+    }
+
+	private Map<String, JsonObject> lookupImpl(List<String> keys, String... attributes) throws SearchException {
+		Map<String, JsonObject> result = new HashMap<String, JsonObject>();
+		try {
+			// Send all gets without waiting for responses. Absent documents are not emitted
+			Observable.from(keys)
+				.flatMap(key -> connectionProvider.getBucketMappingByKey(key).getBucket().async().get(key))
+				.toBlocking().forEach(doc -> {
+					JsonObject content = ArrayHelper.isEmpty(attributes) ? doc.content() : retainAttributes(doc.content(), attributes);
+					result.put(doc.id(), content);
+				});
+		} catch (RuntimeException ex) {
+			throw new SearchException("Failed to lookup entries", ex);
+		}
+
+		return result;
+	}
+
+    @Override
+    public CompletableFuture<JsonObject> lookupAsync(String key, String... attributes) {
+        Instant startTime = OperationDurationUtil.instance().now();
+
+        // Scan consistency is not used by key-value get
+        BucketMapping bucketMapping = connectionProvider.getBucketMappingByKey(key);
+        CompletableFuture<JsonObject> result = new CompletableFuture<JsonObject>();
+		bucketMapping.getBucket().async().get(key).lastOrDefault(null).subscribe(doc -> {
+				if (doc == null) {
+					String message = String.format("Failed to lookup entry by key: '%s'", key);
+					result.completeExceptionally(new SearchException(message, new EntryNotFoundException(message)));
+				} else {
+					result.complete(ArrayHelper.isEmpty(attributes) ? doc.content() : retainAttributes(doc.content(), attributes));
+				}
+			}, ex -> result.completeExceptionally(new SearchException("Failed to lookup entry", ex)));
+
+        return result.whenComplete((entry, ex) -> {
+            Duration duration = OperationDurationUtil.instance().duration(startTime);
+            OperationDurationUtil.instance().logDebug("Couchbase operation: lookup async, duration: {}, bucket: {}, key: {}, attributes: {}", duration, bucketMapping.getBucketName(), key, attributes);
+        });
+    }
+
 	@Override
     public <O> PagedResult<JsonObject> search(String key, ScanConsistency scanConsistency, Expression expression, SearchScope scope, String[] attributes, Sort[] orderBy,
                                               CouchbaseBatchOperationWraper<O> batchOperationWraper, SearchReturnDataType returnDataType, int start, int count, int pageSize) throws SearchException {
@@ -516,39 +749,8 @@ public class CouchbaseOperationServiceImpl implements CouchbaseOperationService
             }
         }
 
-        Expression finalExpression = expression;
-        if (enableScopeSupport) { 
-			Expression scopeExpression;
-			if (scope == null) {
-				scopeExpression = null;
-			} else if (SearchScope.BASE == scope) {
-				scopeExpression = Expression.path("META().id").like(Expression.s(key + "%"))
-						.and(Expression.path("META().id").notLike(Expression.s(key + "\\\\_%\\\\_")));
-			} else {
-				scopeExpression = Expression.path("META().id").like(Expression.s(key + "%"));
-			}
-
-			if (scopeExpression != null) {
-				finalExpression = scopeExpression.and(expression);
-			}
-        } else {
-            if (scope != null) {
-            	LOG.debug("Ignoring scope '" + scope + " for expression: " + expression);
-            }
-        }
-
-        String[] select = attributes;
-        if (select == null) {
-            select = new String[] { "jans_doc.*", CouchbaseOperationService.DN };
-        } else if ((select.length == 1) && StringHelper.isEmpty(select[0])) {
-        	// Compatibility with base persistence layer when application pass filter new String[] { "" }
-            select = new String[] { CouchbaseOperationService.DN };
-        } else {
-            boolean hasDn = Arrays.asList(select).contains(CouchbaseOperationService.DN);
-            if (!hasDn) {
-                select = ArrayHelper.arrayMerge(select, new String[] { CouchbaseOperationService.DN });
-            }
-        }
+        Expression finalExpression = buildScopeExpression(key, expression, scope);
+        String[] select = buildSelectAttributes(attributes);
         GroupByPath selectQuery = Select.select(select).from(Expression.i(bucketMapping.getBucketName())).as("jans_doc").where(finalExpression);
 
         LimitPath baseQuery = selectQuery;
@@ -562,50 +764,63 @@ public class CouchbaseOperationServiceImpl implements CouchbaseOperationService
 	        N1qlQueryResult lastResult = null;
 	        if (pageSize > 0) {
 	            boolean collectSearchResult;
-	
-	            Statement query = null;
-	            int currentLimit;
-	            try {
-	                List<N1qlQueryRow> lastSearchResultList;
-	                int resultCount = 0;
-	                do {
-	                    collectSearchResult = true;
-	
-	                    currentLimit = pageSize;
+
+	            final LimitPath pagedQuery = baseQuery;
+	            PageLoader<List<N1qlQueryRow>> pageLoader = new PageLoader<List<N1qlQueryRow>>() {
+	                private int resultCount = 0;
+	                private boolean lastPage = false;
+
+	                @Override
+	                public List<N1qlQueryRow> loadPage() throws SearchException {
+	                    if (lastPage) {
+	                        return null;
+	                    }
+
+	                    int currentLimit = pageSize;
 	                    if (count > 0) {
 	                        currentLimit = Math.min(pageSize, count - resultCount);
 	                    }
-	
-	                    query = baseQuery.limit(currentLimit).offset(start + resultCount);
-	                    LOG.debug("Execution query: '" + query + "'");
-	                    lastResult = bucket.query(N1qlQuery.simple(query, N1qlParams.build().consistency(scanConsistency)));
-	                    if (!lastResult.finalSuccess()) {
-		                    throw new SearchException(String.format("Failed to search entries. Query: '%s'. Error: '%s', Error count: '%d'", query, lastResult.errors(),
-		                            lastResult.info().errorCount()), lastResult.errors().get(0).getInt("code"));
+
+	                    Statement query = null;
+	                    try {
+	                        query = pagedQuery.limit(currentLimit).offset(start + resultCount);
+	                        LOG.debug("Execution query: '" + query + "'");
+	                        N1qlQueryResult pageResult = bucket.query(N1qlQuery.simple(query, N1qlParams.build().consistency(scanConsistency)));
+	                        if (!pageResult.finalSuccess()) {
+	                            throw new SearchException(String.format("Failed to search entries. Query: '%s'. Error: '%s', Error count: '%d'", query, pageResult.errors(),
+	                                    pageResult.info().errorCount()), pageResult.errors().get(0).getInt("code"));
+	                        }
+
+	                        List<N1qlQueryRow> pageSearchResultList = pageResult.allRows();
+
+	                        resultCount += pageSearchResultList.size();
+	                        lastPage = ((count > 0) && (resultCount >= count)) || pageSearchResultList.isEmpty();
+
+	                        return pageSearchResultList;
+	                    } catch (CouchbaseException ex) {
+	                        throw new SearchException("Failed to search entries. Query: '" + query + "'", ex);
 	                    }
-	
-	                    lastSearchResultList = lastResult.allRows();
-	
+	                }
+	            };
+
+	            int prefetchPages = batchOperation == null ? 0 : batchOperation.getPrefetchPages();
+	            try (PagePrefetcher<List<N1qlQueryRow>> pages = PagePrefetcher.create(pageLoader, prefetchPages, batchOperationWraper == null ? null : batchOperationWraper.getPrefetchExecutor())) {
+	                List<N1qlQueryRow> lastSearchResultList;
+	                while ((lastSearchResultList = pages.nextPage()) != null) {
+	                    collectSearchResult = true;
+
 	                    if (batchOperation != null) {
 	                        collectSearchResult = batchOperation.collectSearchResult(lastSearchResultList.size());
 	                    }
 	                    if (collectSearchResult) {
 	                        searchResultList.addAll(lastSearchResultList);
 	                    }
-	
+
 	                    if (batchOperation != null) {
 	                        List<O> entries = batchOperationWraper.createEntities(lastSearchResultList);
 	                        batchOperation.performAction(entries);
 	                    }
-	
-	                    resultCount += lastSearchResultList.size();
-	
-	                    if ((count > 0) && (resultCount >= count)) {
-	                        break;
-	                    }
-	                } while (lastSearchResultList.size() > 0);
-	            } catch (CouchbaseException ex) {
-	                throw new SearchException("Failed to search entries. Query: '" + query + "'", ex);
+	                }
 	            }
 	        } else {
 	            try {
@@ -660,6 +875,59 @@ public class CouchbaseOperationServiceImpl implements CouchbaseOperationService
         return result;
     }
 
+	private Expression buildScopeExpression(String key, Expression expression, SearchScope scope) {
+        Expression finalExpression = expression;
+        if (enableScopeSupport) { 
+			Expression scopeExpression;
+			if (scope == null) {
+				scopeExpression = null;
+			} else if (SearchScope.BASE == scope) {
+				scopeExpression = Expression.path("META().id").like(Expression.s(key + "%"))
+						.and(Expression.path("META().id").notLike(Expression.s(key + "\\\\_%\\\\_")));
+			} else {
+				scopeExpression = Expression.path("META().id").like(Expression.s(key + "%"));
+			}
+
+			if (scopeExpression != null) {
+				finalExpression = scopeExpression.and(expression);
+			}
+        } else {
+            if (scope != null) {
+            	LOG.debug("Ignoring scope '" + scope + " for expression: " + expression);
+            }
+        }
+
+        return finalExpression;
+	}
+
+	private String[] buildSelectAttributes(String[] attributes) {
+        String[] select = attributes;
+        if (select == null) {
+            select = new String[] { "jans_doc.*", CouchbaseOperationService.DN };
+        } else if ((select.length == 1) && StringHelper.isEmpty(select[0])) {
+        	// Compatibility with base persistence layer when application pass filter new String[] { "" }
+            select = new String[] { CouchbaseOperationService.DN };
+        } else {
+            boolean hasDn = Arrays.asList(select).contains(CouchbaseOperationService.DN);
+            if (!hasDn) {
+                select = ArrayHelper.arrayMerge(select, new String[] { CouchbaseOperationService.DN });
+            }
+        }
+
+        return select;
+	}
+
+	@Override
+    public SearchCursor<JsonObject> searchCursor(String key, ScanConsistency scanConsistency, Expression expression, SearchScope scope,
+            String[] attributes) throws SearchException {
+        BucketMapping bucketMapping = connectionProvider.getBucketMappingByKey(key);
+
+        Expression finalExpression = buildScopeExpression(key, expression, scope);
+        String[] select = ArrayHelper.arrayMerge(buildSelectAttributes(attributes), new String[] { "META(jans_doc).id AS " + CURSOR_KEY });
+
+        return new KeysetCursor(bucketMapping, getScanConsistency(scanConsistency, false), finalExpression, select);
+	}
+
     public String[] createStoragePassword(String[] passwords) {
         if (ArrayHelper.isEmpty(passwords)) {
             return passwords;
@@ -756,4 +1024,76 @@ public class CouchbaseOperationServiceImpl implements CouchbaseOperationService
 		return true;
 	}
 
+	/**
+	 * Loads rows in pages ordered by document key. Each page continues after last
+	 * key of previous page, so rows are not skipped or repeated if entries are
+	 * added or removed during iteration
+	 */
+	private final class KeysetCursor implements SearchCursor<JsonObject> {
+
+		private final BucketMapping bucketMapping;
+		private final ScanConsistency scanConsistency;
+		private final Expression expression;
+		private final String[] select;
+
+		private String lastKey;
+		private boolean closed;
+
+		private KeysetCursor(BucketMapping bucketMapping, ScanConsistency scanConsistency, Expression expression, String[] select) {
+			this.bucketMapping = bucketMapping;
+			this.scanConsistency = scanConsistency;
+			this.expression = expression;
+			this.select = select;
+		}
+
+		@Override
+		public List<JsonObject> next(int count) throws SearchException {
+			if (closed) {
+				return new ArrayList<JsonObject>(0);
+			}
+
+			Expression pageExpression = expression;
+			JsonObject parameters = JsonObject.create();
+			if (lastKey != null) {
+				Expression keyExpression = Expression.path("META(jans_doc).id").gt(Expression.x("$lastKey"));
+				pageExpression = pageExpression == null ? keyExpression : keyExpression.and(pageExpression);
+				parameters.put("lastKey", lastKey);
+			}
+
+			Statement query = Select.select(select).from(Expression.i(bucketMapping.getBucketName())).as("jans_doc").where(pageExpression)
+					.orderBy(Sort.asc(Expression.path("META(jans_doc).id"))).limit(count);
+			try {
+				LOG.debug("Execution query: '" + query + "'");
+				N1qlQueryResult pageResult = bucketMapping.getBucket().query(N1qlQuery.parameterized(query, parameters,
+						N1qlParams.build().consistency(scanConsistency)));
+				if (!pageResult.finalSuccess()) {
+					throw new SearchException(String.format("Failed to search entries. Query: '%s'. Error: '%s', Error count: '%d'", query, pageResult.errors(),
+							pageResult.info().errorCount()), pageResult.errors().get(0).getInt("code"));
+				}
+
+				List<N1qlQueryRow> rows = pageResult.allRows();
+				List<JsonObject> result = new ArrayList<JsonObject>(rows.size());
+				for (N1qlQueryRow row : rows) {
+					JsonObject value = row.value();
+					lastKey = value.getString(CURSOR_KEY);
+					value.removeKey(CURSOR_KEY);
+					result.add(value);
+				}
+
+				if (rows.size() < count) {
+					close();
+				}
+
+				return result;
+			} catch (CouchbaseException ex) {
+				throw new SearchException("Failed to search entries. Query: '" + query + "'", ex);
+			}
+		}
+
+		@Override
+		public void close() {
+			closed = true;
+		}
+	}
+
 }
@@ -0,0 +1,210 @@
+package io.jans.orm.couchbase.impl.test;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import io.jans.orm.annotation.AttributeEnum;
+import io.jans.orm.couchbase.impl.CouchbaseFilterConverter;
+import io.jans.orm.couchbase.model.ConvertedExpression;
+import io.jans.orm.exception.operation.SearchException;
+import io.jans.orm.reflect.property.PropertyAnnotation;
+import io.jans.orm.search.filter.Filter;
+import io.jans.orm.search.filter.PreparedFilter;
+
+/**
+ * Checks that filters converted with cached template are equal to filters
+ * converted without cache
+ */
+public class CouchbaseFilterConverterTemplateTest {
+
+	@Test
+	public void checkEqFilters() throws SearchException {
+		assertCachedEqualsConverted(Filter.createEqualityFilter("uid", "test"), Filter.createEqualityFilter("uid", "test2"));
+		assertCachedEqualsConverted(Filter.createEqualityFilter("age", 23), Filter.createEqualityFilter("age", 24));
+		assertCachedEqualsConverted(Filter.createEqualityFilter("age", 23L), Filter.createEqualityFilter("age", 24L));
+		assertCachedEqualsConverted(Filter.createEqualityFilter("enabled", true), Filter.createEqualityFilter("enabled", false));
+		assertCachedEqualsConverted(Filter.createEqualityFilter("added", new Date(1608130698398L)), Filter.createEqualityFilter("added", new Date(1608130699398L)));
+		assertCachedEqualsConverted(Filter.createEqualityFilter("status", TestStatus.ACTIVE), Filter.createEqualityFilter("status", TestStatus.INACTIVE));
+	}
+
+	@Test
+	public void checkMultivaluedFilters() throws SearchException {
+		assertCachedEqualsConverted(Filter.createEqualityFilter("uid", "test").multiValued(), Filter.createEqualityFilter("uid", "test2").multiValued());
+		assertCachedEqualsConverted(Filter.createEqualityFilter("status", TestStatus.ACTIVE).multiValued(),
+				Filter.createEqualityFilter("status", TestStatus.INACTIVE).multiValued());
+		assertCachedEqualsConverted(Filter.createLessOrEqualFilter("age", 23).multiValued(), Filter.createLessOrEqualFilter("age", 24).multiValued());
+		assertCachedEqualsConverted(Filter.createGreaterOrEqualFilter("age", 23).multiValued(), Filter.createGreaterOrEqualFilter("age", 24).multiValued());
+		assertCachedEqualsConverted(Filter.createPresenceFilter("mail").multiValued(), Filter.createPresenceFilter("mail").multiValued());
+		assertCachedEqualsConverted(Filter.createSubstringFilter("uid", "a", new String[] { "b" }, "c").multiValued(),
+				Filter.createSubstringFilter("uid", "d", new String[] { "e" }, "f").multiValued());
+		assertCachedEqualsConverted(Filter.createSubstringFilter(Filter.createLowercaseFilter("uid"), null, new String[] { "test" }, null).multiValued(),
+				Filter.createSubstringFilter(Filter.createLowercaseFilter("uid"), null, new String[] { "test2" }, null).multiValued());
+
+		// Attribute is multi valued by type of entry property
+		Map<String, PropertyAnnotation> propertiesAnnotationsMap = new HashMap<String, PropertyAnnotation>();
+		PropertyAnnotation propertyAnnotation = new PropertyAnnotation("mail", new ArrayList<>());
+		propertyAnnotation.setParameterType(String[].class);
+		propertiesAnnotationsMap.put("mail", propertyAnnotation);
+
+		assertCachedEqualsConverted(Filter.createEqualityFilter("mail", "test@jans.io"), Filter.createEqualityFilter("mail", "test2@jans.io"),
+				propertiesAnnotationsMap);
+	}
+
+	@Test
+	public void checkLeGeFilters() throws SearchException {
+		assertCachedEqualsConverted(Filter.createLessOrEqualFilter("uid", "test"), Filter.createLessOrEqualFilter("uid", "test2"));
+		assertCachedEqualsConverted(Filter.createGreaterOrEqualFilter("age", 23L), Filter.createGreaterOrEqualFilter("age", 24L));
+		assertCachedEqualsConverted(Filter.createGreaterOrEqualFilter("added", new Date(1608130698398L)),
+				Filter.createGreaterOrEqualFilter("added", new Date(1608130699398L)));
+	}
+
+	@Test
+	public void checkPresenceAndSubFilters() throws SearchException {
+		assertCachedEqualsConverted(Filter.createPresenceFilter("mail"), Filter.createPresenceFilter("mail"));
+		assertCachedEqualsConverted(Filter.createSubstringFilter("uid", null, new String[] { "test" }, null),
+				Filter.createSubstringFilter("uid", null, new String[] { "test2" }, null));
+		assertCachedEqualsConverted(Filter.createSubstringFilter(Filter.createLowercaseFilter("uid"), "a", new String[] { "b", "c" }, null),
+				Filter.createSubstringFilter(Filter.createLowercaseFilter("uid"), "d", new String[] { "e", "f" }, null));
+	}
+
+	@Test
+	public void checkJunctionFilters() throws SearchException {
+		assertCachedEqualsConverted(Filter.createNOTFilter(Filter.createEqualityFilter("uid", "test")),
+				Filter.createNOTFilter(Filter.createEqualityFilter("uid", "test2")));
+		assertCachedEqualsConverted(
+				Filter.createANDFilter(Filter.createPresenceFilter("mail"), Filter.createEqualityFilter("uid", "test"), Filter.createLessOrEqualFilter("age", 23)),
+				Filter.createANDFilter(Filter.createPresenceFilter("mail"), Filter.createEqualityFilter("uid", "test2"), Filter.createLessOrEqualFilter("age", 24)));
+		assertCachedEqualsConverted(
+				Filter.createORFilter(Filter.createPresenceFilter("mail"), Filter.createEqualityFilter("uid", "test"), Filter.createLessOrEqualFilter("age", 23)),
+				Filter.createORFilter(Filter.createPresenceFilter("mail"), Filter.createEqualityFilter("uid", "test2"), Filter.createLessOrEqualFilter("age", 24)));
+	}
+
+	@Test
+	public void checkOrJoinFilters() throws SearchException {
+		assertCachedEqualsConverted(
+				Filter.createORFilter(Filter.createEqualityFilter("uid", "test"), Filter.createEqualityFilter("uid", "test2"), Filter.createEqualityFilter("uid", "test3")).multiValued(false),
+				Filter.createORFilter(Filter.createEqualityFilter("uid", "test4"), Filter.createEqualityFilter("uid", "test5"), Filter.createEqualityFilter("uid", "test6")).multiValued(false));
+		assertCachedEqualsConverted(
+				Filter.createORFilter(Filter.createEqualityFilter("uid", "test"), Filter.createEqualityFilter("uid", "test2")),
+				Filter.createORFilter(Filter.createEqualityFilter("uid", "test3"), Filter.createEqualityFilter("uid", "test4")));
+	}
+
+	@Test
+	public void checkPreparedFilters() throws SearchException {
+		PreparedFilter preparedFilter = PreparedFilter.prepare(Filter.createANDFilter(
+				Filter.createORFilter(Filter.createEqualityFilter("uid", PreparedFilter.parameter("uid1")),
+						Filter.createEqualityFilter("uid", PreparedFilter.parameter("uid2"))).multiValued(false),
+				Filter.createLessOrEqualFilter("age", PreparedFilter.parameter("age"))));
+
+		Map<String, Object> values1 = new HashMap<String, Object>();
+		values1.put("uid1", "test");
+		values1.put("uid2", "test2");
+		values1.put("age", 23);
+
+		Map<String, Object> values2 = new HashMap<String, Object>();
+		values2.put("uid1", "test3");
+		values2.put("uid2", "test4");
+		values2.put("age", 24);
+
+		// Second bound filter is converted with template of first one
+		assertCachedEqualsConverted(preparedFilter.bind(values1), preparedFilter.bind(values2));
+	}
+
+	@Test
+	public void checkFiltersOfSameShapeReuseTemplate() throws SearchException {
+		CouchbaseFilterConverter cachedConverter = new CouchbaseFilterConverter(null);
+		CouchbaseFilterConverter converter = new CouchbaseFilterConverter(null);
+		converter.getTemplateCache().setMaxSize(0);
+
+		Filter[] filters = new Filter[16];
+		for (int i = 0; i < filters.length; i++) {
+			filters[i] = Filter.createANDFilter(
+					Filter.createORFilter(Filter.createEqualityFilter("uid", "test" + i), Filter.createEqualityFilter("uid", "user" + i)).multiValued(false),
+					Filter.createSubstringFilter(Filter.createLowercaseFilter("displayName"), null, new String[] { "name" + i }, null),
+					Filter.createLessOrEqualFilter("age", i), Filter.createPresenceFilter("mail"),
+					Filter.createNOTFilter(Filter.createEqualityFilter("status", TestStatus.INACTIVE)));
+		}
+
+		convert(cachedConverter, filters);
+		convert(converter, filters);
+
+		// Only first filter is converted, others are bound to its template
+		assertEquals(cachedConverter.getTemplateCache().getMissCount(), 1);
+		assertEquals(cachedConverter.getTemplateCache().getHitCount(), filters.length - 1);
+		assertEquals(cachedConverter.getTemplateCache().size(), 1);
+
+		// Disabled cache converts each filter
+		assertEquals(converter.getTemplateCache().getMissCount(), 0);
+		assertEquals(converter.getTemplateCache().getHitCount(), 0);
+		assertEquals(converter.getTemplateCache().size(), 0);
+
+		// Filter of other shape gets own template
+		convert(cachedConverter, new Filter[] { Filter.createEqualityFilter("uid", "test") });
+		assertEquals(cachedConverter.getTemplateCache().getMissCount(), 2);
+		assertEquals(cachedConverter.getTemplateCache().size(), 2);
+	}
+
+	private void convert(CouchbaseFilterConverter converter, Filter[] filters) throws SearchException {
+		for (Filter filter : filters) {
+			converter.convertToCouchbaseFilter(filter, null);
+		}
+	}
+
+	private void assertCachedEqualsConverted(Filter filter1, Filter filter2) throws SearchException {
+		assertCachedEqualsConverted(filter1, filter2, null);
+	}
+
+	private void assertCachedEqualsConverted(Filter filter1, Filter filter2, Map<String, PropertyAnnotation> propertiesAnnotationsMap) throws SearchException {
+		CouchbaseFilterConverter cachedConverter = new CouchbaseFilterConverter(null);
+		CouchbaseFilterConverter converter = new CouchbaseFilterConverter(null);
+		converter.getTemplateCache().setMaxSize(0);
+
+		// First filter builds template, second one is bound to it
+		for (Filter filter : new Filter[] { filter1, filter2 }) {
+			ConvertedExpression cachedExpression = cachedConverter.convertToCouchbaseFilter(filter, propertiesAnnotationsMap, null);
+			ConvertedExpression convertedExpression = converter.convertToCouchbaseFilter(filter, propertiesAnnotationsMap, null);
+
+			assertEquals(cachedExpression.expression().toString(), convertedExpression.expression().toString());
+			assertEquals(cachedExpression.consistency(), convertedExpression.consistency());
+		}
+
+		assertEquals(cachedConverter.getTemplateCache().getMissCount(), 1);
+		assertEquals(cachedConverter.getTemplateCache().getHitCount(), 1);
+		assertEquals(converter.getTemplateCache().size(), 0);
+	}
+
+	private enum TestStatus implements AttributeEnum {
+
+		ACTIVE("active"), INACTIVE("inactive");
+
+		private final String value;
+
+		TestStatus(String value) {
+			this.value = value;
+		}
+
+		@Override
+		public String getValue() {
+			return value;
+		}
+
+		@Override
+		public Enum<? extends AttributeEnum> resolveByValue(String value) {
+			for (TestStatus status : values()) {
+				if (status.value.equals(value)) {
+					return status;
+				}
+			}
+
+			return null;
+		}
+
+	}
+
+}
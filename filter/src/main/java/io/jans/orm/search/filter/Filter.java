@@ -6,6 +6,9 @@
 
 package io.jans.orm.search.filter;
 
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Date;
 import java.util.List;
 
 import io.jans.orm.util.ArrayHelper;
@@ -32,6 +35,15 @@ public class Filter {
     private Boolean multiValued;
 	private int multiValuedCount;
 
+    private volatile boolean frozen;
+
+    // Cached when filter is frozen
+    private String canonicalString;
+    private int hash;
+
+    // Set in filters bound by prepared filter. They are optimized already
+    private FilterShape preparedShape;
+
     public Filter(FilterType type) {
         this.type = type;
     }
@@ -146,6 +158,7 @@ public class Filter {
     }
 
     public final void setType(FilterType type) {
+        checkNotFrozen();
         this.type = type;
     }
 
@@ -154,6 +167,7 @@ public class Filter {
     }
 
     public final void setFilters(Filter[] filters) {
+        checkNotFrozen();
         this.filters = filters;
     }
 
@@ -162,6 +176,7 @@ public class Filter {
     }
 
     public final void setFilterString(String filterString) {
+        checkNotFrozen();
         this.filterString = filterString;
     }
 
@@ -170,6 +185,7 @@ public class Filter {
     }
 
     public final void setAttributeName(String attributeName) {
+        checkNotFrozen();
         this.attributeName = attributeName;
     }
 
@@ -178,6 +194,7 @@ public class Filter {
     }
 
     public final void setAssertionValue(Object assertionValue) {
+        checkNotFrozen();
         this.assertionValue = assertionValue;
     }
 
@@ -186,6 +203,7 @@ public class Filter {
     }
 
     public final void setSubInitial(String subInitial) {
+        checkNotFrozen();
         this.subInitial = subInitial;
     }
 
@@ -194,6 +212,7 @@ public class Filter {
     }
 
     public final void setSubAny(String[] subAny) {
+        checkNotFrozen();
         this.subAny = subAny;
     }
 
@@ -202,6 +221,7 @@ public class Filter {
     }
 
     public final void setSubFinal(String subFinal) {
+        checkNotFrozen();
         this.subFinal = subFinal;
     }
 
@@ -218,17 +238,136 @@ public class Filter {
     }
 
     public Filter multiValued(int multiValuedCount) {
+        checkNotFrozen();
         this.multiValued = Boolean.TRUE;
         this.multiValuedCount = multiValuedCount;
         return this;
     }
 
     public Filter multiValued(Boolean multiValued) {
+        checkNotFrozen();
         this.multiValued = multiValued;
         this.multiValuedCount = 1;
         return this;
     }
 
+    /**
+     * Make this filter immutable. Nested filters which are not frozen are replaced
+     * with frozen copies, so filters which caller still references stay mutable.
+     * Frozen filter caches its hash code and canonical string, so it's cheap to use
+     * it as cache key. Arrays returned by getters of frozen filter should not be
+     * modified
+     *
+     * @return This filter
+     */
+    public Filter freeze() {
+        if (this.frozen) {
+            return this;
+        }
+
+        if (this.filters != null) {
+            Filter[] frozenFilters = new Filter[this.filters.length];
+            for (int i = 0; i < this.filters.length; i++) {
+                Filter filter = this.filters[i];
+                if ((filter != null) && !filter.frozen) {
+                    filter = filter.clone().freeze();
+                }
+                frozenFilters[i] = filter;
+            }
+            this.filters = frozenFilters;
+        }
+
+        if (this.subAny != null) {
+            this.subAny = this.subAny.clone();
+        }
+
+        this.assertionValue = copyValue(this.assertionValue);
+
+        this.frozen = true;
+
+        return this;
+    }
+
+    private static Object copyValue(Object value) {
+        if (value instanceof Object[]) {
+            Object[] values = ((Object[]) value).clone();
+            for (int i = 0; i < values.length; i++) {
+                values[i] = copyValue(values[i]);
+            }
+
+            return values;
+        }
+        if (value instanceof byte[]) {
+            return ((byte[]) value).clone();
+        }
+        if (value instanceof Date) {
+            return ((Date) value).clone();
+        }
+
+        return value;
+    }
+
+    public final boolean isFrozen() {
+        return frozen;
+    }
+
+    FilterShape getPreparedShape() {
+        return preparedShape;
+    }
+
+    void setPreparedShape(FilterShape preparedShape) {
+        this.preparedShape = preparedShape;
+    }
+
+    private void checkNotFrozen() {
+        if (this.frozen) {
+            throw new UnsupportedOperationException("Filter is frozen: " + this);
+        }
+    }
+
+    /**
+     * Frozen filters are equal if they have equal canonical strings. Filter which
+     * is not frozen is equal to itself only because it can be changed while it's
+     * in hash based collection. Filter should not be frozen while it's in such
+     * collection
+     *
+     * @see #toCanonicalString()
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if ((obj == null) || (getClass() != obj.getClass())) {
+            return false;
+        }
+
+        Filter other = (Filter) obj;
+        if (!this.frozen || !other.frozen || (hashCode() != other.hashCode())) {
+            return false;
+        }
+
+        return toCanonicalString().equals(other.toCanonicalString());
+    }
+
+    @Override
+    public int hashCode() {
+        if (!this.frozen) {
+            return System.identityHashCode(this);
+        }
+
+        int result = this.hash;
+        if (result == 0) {
+            result = toCanonicalString().hashCode();
+            this.hash = result;
+        }
+
+        return result;
+    }
+
+    /**
+     * Clone is not frozen. It shares nested filters with this filter
+     */
     @Override
 	public Filter clone() {
     	Filter clonedFilter = new Filter(type);
@@ -246,6 +385,88 @@ public class Filter {
     	return clonedFilter;
 	}
 
+    /**
+     * Unambiguous representation of filter which can be used as cache key. Unlike
+     * {@link #toString()} it keeps types of assertion values and multi valued flags.
+     * Operands of AND and OR filters are sorted because their order doesn't change
+     * filter result
+     */
+    public String toCanonicalString() {
+        String result = this.canonicalString;
+        if (result != null) {
+            return result;
+        }
+
+        StringBuilder sb = new StringBuilder();
+        appendCanonicalString(sb);
+        result = sb.toString();
+
+        if (this.frozen) {
+            this.canonicalString = result;
+        }
+
+        return result;
+    }
+
+    private void appendCanonicalString(StringBuilder sb) {
+        sb.append('(').append(this.type);
+        appendCanonicalValue(sb, this.filterString);
+        appendCanonicalValue(sb, this.attributeName);
+        appendCanonicalValue(sb, this.assertionValue);
+        appendCanonicalValue(sb, this.subInitial);
+        appendCanonicalValue(sb, this.subAny);
+        appendCanonicalValue(sb, this.subFinal);
+        if (this.multiValued != null) {
+            sb.append(this.multiValued ? 'M' : 'S').append(this.multiValuedCount);
+        }
+
+        if (this.filters != null) {
+            String[] canonicalFilters = new String[this.filters.length];
+            for (int i = 0; i < this.filters.length; i++) {
+                canonicalFilters[i] = this.filters[i] == null ? "" : this.filters[i].toCanonicalString();
+            }
+            if ((FilterType.AND == this.type) || (FilterType.OR == this.type)) {
+                Arrays.sort(canonicalFilters);
+            }
+
+            sb.append('[');
+            for (String canonicalFilter : canonicalFilters) {
+                sb.append(canonicalFilter);
+            }
+            sb.append(']');
+        }
+
+        sb.append(')');
+    }
+
+    private static void appendCanonicalValue(StringBuilder sb, Object value) {
+        if (value == null) {
+            sb.append('-');
+            return;
+        }
+
+        if (value.getClass().isArray()) {
+            // Arrays of primitives (e.g. binary values) are compared by elements too
+            int length = Array.getLength(value);
+            sb.append('[').append(length);
+            for (int i = 0; i < length; i++) {
+                appendCanonicalValue(sb, Array.get(value, i));
+            }
+            sb.append(']');
+            return;
+        }
+
+        String stringValue;
+        if (value instanceof Date) {
+            stringValue = String.valueOf(((Date) value).getTime());
+        } else {
+            stringValue = value.toString();
+        }
+
+        // Type and length prefix make representation unambiguous
+        sb.append('<').append(value.getClass().getName()).append('>').append(stringValue.length()).append(':').append(stringValue);
+    }
+
 	@Override
     public String toString() {
         if (FilterType.RAW == this.type) {
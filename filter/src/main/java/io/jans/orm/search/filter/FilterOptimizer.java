@@ -0,0 +1,404 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.search.filter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Rewrites filter into equivalent smaller filter before conversion to
+ * persistence specific filter:
+ * <ul>
+ * <li>nested AND/OR filters are flattened</li>
+ * <li>duplicate operands of AND/OR filters are removed. Operands are compared
+ * structurally, so order of their nested operands matters</li>
+ * <li>AND/OR filters with one operand are replaced by this operand</li>
+ * <li>double negation is removed and NOT is pushed into AND/OR filters if
+ * this decreases count of NOT filters</li>
+ * <li>equalities of one attribute in OR filter are grouped into nested OR
+ * filter which converters can replace with IN</li>
+ * </ul>
+ * Filters with multi valued flags or assertion value are not removed from tree.
+ * Input filter is not modified. Unchanged sub trees are reused
+ */
+public class FilterOptimizer {
+
+    private final boolean groupEqualities;
+
+    public FilterOptimizer() {
+        this(true);
+    }
+
+    /**
+     * @param groupEqualities Group equalities of one attribute in OR filters.
+     *                        It's useful for backends which support IN
+     */
+    public FilterOptimizer(boolean groupEqualities) {
+        this.groupEqualities = groupEqualities;
+    }
+
+    public Filter optimize(Filter filter) {
+        if (filter == null) {
+            return null;
+        }
+
+        // Filters bound by prepared filter were optimized when filter was prepared
+        if (filter.getPreparedShape() != null) {
+            return filter;
+        }
+
+        FilterType type = filter.getType();
+        if (FilterType.NOT == type) {
+            return optimizeNot(filter);
+        }
+
+        if ((FilterType.AND == type) || (FilterType.OR == type)) {
+            return optimizeJunction(filter);
+        }
+
+        return filter;
+    }
+
+    private Filter optimizeNot(Filter filter) {
+        if (!isValidNot(filter)) {
+            return filter;
+        }
+
+        Filter operand = filter.getFilters()[0];
+        Filter optimizedOperand = optimize(operand);
+
+        if (!hasFlags(filter)) {
+            Filter negatedFilter = negate(optimizedOperand);
+            if (negatedFilter != null) {
+                return negatedFilter;
+            }
+        }
+
+        if (optimizedOperand == operand) {
+            return filter;
+        }
+
+        return copyFlags(filter, new Filter(FilterType.NOT, optimizedOperand));
+    }
+
+    /**
+     * @return Negation of optimized filter which has less NOT filters than NOT
+     *         over it or null
+     */
+    private Filter negate(Filter filter) {
+        if (hasFlags(filter)) {
+            return null;
+        }
+
+        FilterType type = filter.getType();
+        if (FilterType.NOT == type) {
+            return isValidNot(filter) ? filter.getFilters()[0] : null;
+        }
+
+        if (((FilterType.AND != type) && (FilterType.OR != type)) || !isValidJunction(filter)) {
+            return null;
+        }
+
+        Filter[] filters = filter.getFilters();
+        int notCount = 0;
+        for (Filter operand : filters) {
+            if ((FilterType.NOT == operand.getType()) && !hasFlags(operand) && isValidNot(operand)) {
+                notCount++;
+            }
+        }
+
+        // De Morgan's law adds NOT to each operand which is not NOT
+        if (filters.length - notCount >= notCount + 1) {
+            return null;
+        }
+
+        Filter[] negatedFilters = new Filter[filters.length];
+        for (int i = 0; i < filters.length; i++) {
+            Filter operand = filters[i];
+            if ((FilterType.NOT == operand.getType()) && !hasFlags(operand) && isValidNot(operand)) {
+                negatedFilters[i] = operand.getFilters()[0];
+            } else {
+                negatedFilters[i] = new Filter(FilterType.NOT, operand);
+            }
+        }
+
+        return optimize(new Filter(FilterType.AND == type ? FilterType.OR : FilterType.AND, negatedFilters));
+    }
+
+    private Filter optimizeJunction(Filter filter) {
+        if (!isValidJunction(filter)) {
+            return filter;
+        }
+
+        FilterType type = filter.getType();
+        Filter[] filters = filter.getFilters();
+
+        boolean changed = false;
+        List<Filter> resultFilters = new ArrayList<Filter>(filters.length);
+        for (Filter operand : filters) {
+            Filter optimizedOperand = optimize(operand);
+            if (optimizedOperand != operand) {
+                changed = true;
+            }
+
+            Filter[] operands;
+            if (canFlatten(filter, optimizedOperand)) {
+                operands = optimizedOperand.getFilters();
+                changed = true;
+            } else {
+                operands = new Filter[] { optimizedOperand };
+            }
+
+            for (Filter resultOperand : operands) {
+                resultFilters.add(resultOperand);
+            }
+        }
+
+        List<Filter> uniqueFilters = removeDuplicates(resultFilters);
+        if (uniqueFilters != resultFilters) {
+            resultFilters = uniqueFilters;
+            changed = true;
+        }
+
+        if (groupEqualities && (FilterType.OR == type)) {
+            List<Filter> groupedFilters = groupEqualities(filter, resultFilters);
+            if (groupedFilters != null) {
+                resultFilters = groupedFilters;
+                changed = true;
+            }
+        }
+
+        if ((resultFilters.size() == 1) && !hasFlags(filter)) {
+            return resultFilters.get(0);
+        }
+
+        if (!changed) {
+            return filter;
+        }
+
+        return copyFlags(filter, new Filter(type, resultFilters.toArray(new Filter[0])));
+    }
+
+    /**
+     * @return Operands without duplicates or same list if there are no duplicates
+     */
+    private List<Filter> removeDuplicates(List<Filter> filters) {
+        if (filters.size() < 2) {
+            return filters;
+        }
+
+        // Comparison of two operands is cheaper than hashing them
+        if (filters.size() == 2) {
+            return isSameFilter(filters.get(0), filters.get(1)) ? filters.subList(0, 1) : filters;
+        }
+
+        List<Filter> resultFilters = new ArrayList<Filter>(filters.size());
+        Set<FilterKey> uniqueFilters = new HashSet<FilterKey>();
+        for (Filter filter : filters) {
+            if (uniqueFilters.add(new FilterKey(filter))) {
+                resultFilters.add(filter);
+            }
+        }
+
+        return resultFilters.size() == filters.size() ? filters : resultFilters;
+    }
+
+    /*
+     * Structural comparison. Unlike Filter.equals it works for filters which are not frozen
+     * and doesn't build canonical strings
+     */
+    private static boolean isSameFilter(Filter filter1, Filter filter2) {
+        if (filter1 == filter2) {
+            return true;
+        }
+        if ((filter1 == null) || (filter2 == null)) {
+            return false;
+        }
+
+        if ((filter1.getType() != filter2.getType()) || !Objects.equals(filter1.getAttributeName(), filter2.getAttributeName())
+                || !Objects.deepEquals(filter1.getAssertionValue(), filter2.getAssertionValue())
+                || !Objects.equals(filter1.getMultiValued(), filter2.getMultiValued())
+                || (filter1.getMultiValuedCount() != filter2.getMultiValuedCount())
+                || !Objects.equals(filter1.getFilterString(), filter2.getFilterString())
+                || !Objects.equals(filter1.getSubInitial(), filter2.getSubInitial())
+                || !Arrays.equals(filter1.getSubAny(), filter2.getSubAny())
+                || !Objects.equals(filter1.getSubFinal(), filter2.getSubFinal())) {
+            return false;
+        }
+
+        Filter[] filters1 = filter1.getFilters();
+        Filter[] filters2 = filter2.getFilters();
+        if ((filters1 == null) || (filters2 == null)) {
+            return filters1 == filters2;
+        }
+        if (filters1.length != filters2.length) {
+            return false;
+        }
+
+        for (int i = 0; i < filters1.length; i++) {
+            if (!isSameFilter(filters1[i], filters2[i])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static int structuralHash(Filter filter) {
+        if (filter == null) {
+            return 0;
+        }
+
+        int result = Objects.hash(filter.getType(), filter.getAttributeName(), filter.getMultiValued(), filter.getMultiValuedCount(),
+                filter.getFilterString(), filter.getSubInitial(), filter.getSubFinal());
+        result = 31 * result + Arrays.deepHashCode(new Object[] { filter.getAssertionValue() });
+        result = 31 * result + Arrays.hashCode(filter.getSubAny());
+
+        Filter[] filters = filter.getFilters();
+        if (filters != null) {
+            for (Filter operand : filters) {
+                result = 31 * result + structuralHash(operand);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Hash set key of operand. Hash is calculated once
+     */
+    private static final class FilterKey {
+
+        private final Filter filter;
+        private final int hash;
+
+        private FilterKey(Filter filter) {
+            this.filter = filter;
+            this.hash = structuralHash(filter);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof FilterKey)) {
+                return false;
+            }
+
+            FilterKey other = (FilterKey) obj;
+
+            return (hash == other.hash) && isSameFilter(filter, other.filter);
+        }
+
+    }
+
+    /**
+     * @return Operands with equalities of one attribute grouped into nested OR
+     *         filters or null if there is nothing to group
+     */
+    private List<Filter> groupEqualities(Filter filter, List<Filter> filters) {
+        Map<String, List<Filter>> equalitiesByAttribute = new LinkedHashMap<String, List<Filter>>();
+        for (Filter operand : filters) {
+            if (isSimpleEquality(operand)) {
+                equalitiesByAttribute.computeIfAbsent(operand.getAttributeName(), k -> new ArrayList<Filter>()).add(operand);
+            }
+        }
+
+        boolean hasGroups = false;
+        for (List<Filter> equalities : equalitiesByAttribute.values()) {
+            // OR which contains only equalities of one attribute is already group
+            if ((equalities.size() > 1) && (equalities.size() < filters.size())) {
+                hasGroups = true;
+                break;
+            }
+        }
+
+        if (!hasGroups) {
+            return null;
+        }
+
+        List<Filter> resultFilters = new ArrayList<Filter>(filters.size());
+        for (Filter operand : filters) {
+            if (!isSimpleEquality(operand)) {
+                resultFilters.add(operand);
+                continue;
+            }
+
+            List<Filter> equalities = equalitiesByAttribute.get(operand.getAttributeName());
+            if (equalities.size() == 1) {
+                resultFilters.add(operand);
+            } else if (equalities.get(0) == operand) {
+                // Group inherits multi valued flag which converters use to decide if IN is possible
+                resultFilters.add(copyFlags(filter, new Filter(FilterType.OR, equalities.toArray(new Filter[0]))));
+            }
+        }
+
+        return resultFilters;
+    }
+
+    private boolean canFlatten(Filter filter, Filter operand) {
+        if ((operand.getType() != filter.getType()) || (operand.getAssertionValue() != null) || !isValidJunction(operand)) {
+            return false;
+        }
+
+        return Objects.equals(filter.getMultiValued(), operand.getMultiValued()) && (filter.getMultiValuedCount() == operand.getMultiValuedCount());
+    }
+
+    private boolean isSimpleEquality(Filter filter) {
+        return (FilterType.EQUALITY == filter.getType()) && (filter.getFilters() == null) && (filter.getAttributeName() != null)
+                && (filter.getMultiValued() == null);
+    }
+
+    private boolean isValidNot(Filter filter) {
+        Filter[] filters = filter.getFilters();
+
+        return (filters != null) && (filters.length == 1) && (filters[0] != null);
+    }
+
+    private boolean isValidJunction(Filter filter) {
+        Filter[] filters = filter.getFilters();
+        if ((filters == null) || (filters.length == 0)) {
+            return false;
+        }
+
+        for (Filter operand : filters) {
+            if (operand == null) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private boolean hasFlags(Filter filter) {
+        return (filter.getMultiValued() != null) || (filter.getAssertionValue() != null);
+    }
+
+    private Filter copyFlags(Filter source, Filter target) {
+        if (Boolean.TRUE.equals(source.getMultiValued())) {
+            target.multiValued(source.getMultiValuedCount());
+        } else if (source.getMultiValued() != null) {
+            target.multiValued(source.getMultiValued());
+        }
+        target.setAssertionValue(source.getAssertionValue());
+
+        return target;
+    }
+
+}
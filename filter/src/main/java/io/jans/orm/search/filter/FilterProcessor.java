@@ -17,8 +17,8 @@ import io.jans.orm.util.StringHelper;
  */
 public class FilterProcessor {
 
-	public static final Filter OBJECT_CLASS_EQUALITY_FILTER = Filter.createEqualityFilter("objectClass", null);
-	public static final Filter OBJECT_CLASS_PRESENCE_FILTER = Filter.createPresenceFilter("objectClass");
+	public static final Filter OBJECT_CLASS_EQUALITY_FILTER = Filter.createEqualityFilter("objectClass", null).freeze();
+	public static final Filter OBJECT_CLASS_PRESENCE_FILTER = Filter.createPresenceFilter("objectClass").freeze();
 
 	public Filter excludeFilter(Filter genericFilter, Filter... excludeFilters) {
 		if (genericFilter == null) {
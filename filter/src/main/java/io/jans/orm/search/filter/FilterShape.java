@@ -0,0 +1,169 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.search.filter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Shape of filter: filter tree without assertion values. Filters with equal
+ * shape keys differ in values only, so they can be converted with one template.
+ * Unlike canonical string key keeps order of operands and types of values.
+ * Nodes are numbered in pre-order, so node with the same index of another
+ * filter with the same shape has the same position in tree
+ */
+public final class FilterShape {
+
+    private final String key;
+    private final List<Filter> nodes;
+    private final Set<String> attributeNames;
+
+    private Map<Filter, Integer> nodeIndexes;
+
+    FilterShape(String key, List<Filter> nodes, Set<String> attributeNames) {
+        this.key = key;
+        this.nodes = nodes;
+        this.attributeNames = attributeNames;
+    }
+
+    /**
+     * @return Shape of filter or null if filter contains RAW filters or null
+     *         operands
+     */
+    public static FilterShape of(Filter filter) {
+        if (filter == null) {
+            return null;
+        }
+
+        // Shape of filter bound by prepared filter is built from shape of prepared filter
+        if (filter.getPreparedShape() != null) {
+            return filter.getPreparedShape();
+        }
+
+        return of(filter, null);
+    }
+
+    /**
+     * @param parameterOffsets
+     *            If not null, types of parameter values are not added to key.
+     *            Offsets of key where they should be inserted are added to this
+     *            list in pre-order
+     */
+    static FilterShape of(Filter filter, List<Integer> parameterOffsets) {
+        StringBuilder sb = new StringBuilder();
+        List<Filter> nodes = new ArrayList<Filter>();
+        Set<String> attributeNames = new LinkedHashSet<String>();
+        if (!appendShape(filter, sb, nodes, attributeNames, parameterOffsets)) {
+            return null;
+        }
+
+        return new FilterShape(sb.toString(), nodes, attributeNames);
+    }
+
+    private static boolean appendShape(Filter filter, StringBuilder sb, List<Filter> nodes, Set<String> attributeNames,
+            List<Integer> parameterOffsets) {
+        if ((filter == null) || (FilterType.RAW == filter.getType())) {
+            return false;
+        }
+
+        nodes.add(filter);
+
+        sb.append('(').append(filter.getType().ordinal());
+        appendValue(sb, filter.getAttributeName());
+        if (filter.getAttributeName() != null) {
+            attributeNames.add(filter.getAttributeName());
+        }
+
+        Object assertionValue = filter.getAssertionValue();
+        if ((parameterOffsets != null) && (assertionValue instanceof PreparedFilter.Parameter)) {
+            parameterOffsets.add(sb.length());
+        } else {
+            appendValue(sb, assertionValue == null ? null : assertionValue.getClass().getName());
+        }
+
+        if (filter.getMultiValued() != null) {
+            sb.append(filter.getMultiValued() ? 'M' : 'S').append(filter.getMultiValuedCount());
+        }
+
+        if (FilterType.SUBSTRING == filter.getType()) {
+            sb.append(filter.getSubInitial() == null ? '-' : 'I');
+            sb.append(filter.getSubAny() == null ? -1 : filter.getSubAny().length);
+            sb.append(filter.getSubFinal() == null ? '-' : 'F');
+        }
+
+        Filter[] filters = filter.getFilters();
+        if (filters != null) {
+            sb.append('[');
+            for (Filter operand : filters) {
+                if (!appendShape(operand, sb, nodes, attributeNames, parameterOffsets)) {
+                    return false;
+                }
+            }
+            sb.append(']');
+        }
+
+        sb.append(')');
+
+        return true;
+    }
+
+    static void appendValue(StringBuilder sb, String value) {
+        if (value == null) {
+            sb.append('-');
+        } else {
+            // Length prefix makes key unambiguous
+            sb.append(value.length()).append(':').append(value);
+        }
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public int getNodeCount() {
+        return nodes.size();
+    }
+
+    public Filter getNode(int index) {
+        return nodes.get(index);
+    }
+
+    /**
+     * @return Index of node in pre-order or -1 if node is not part of this filter
+     */
+    public int indexOf(Filter node) {
+        if (nodeIndexes == null) {
+            Map<Filter, Integer> indexes = new IdentityHashMap<Filter, Integer>(nodes.size());
+            for (int i = 0; i < nodes.size(); i++) {
+                indexes.put(nodes.get(i), i);
+            }
+            nodeIndexes = indexes;
+        }
+
+        Integer index = nodeIndexes.get(node);
+
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * @return Attribute names of all nodes in order of first occurrence
+     */
+    public Set<String> getAttributeNames() {
+        return Collections.unmodifiableSet(attributeNames);
+    }
+
+    @Override
+    public String toString() {
+        return "FilterShape [key=" + key + "]";
+    }
+
+}
@@ -0,0 +1,281 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.search.filter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Filter with named parameters instead of assertion values. It's prepared once
+ * and bound with values on each call:
+ *
+ * <pre>
+ * PreparedFilter filter = PreparedFilter.prepare(Filter.createANDFilter(
+ *         Filter.createEqualityFilter("uid", PreparedFilter.parameter("uid")),
+ *         Filter.createGreaterOrEqualFilter("exp", PreparedFilter.parameter("now"))));
+ * ...
+ * Filter boundFilter = filter.bind(values);
+ * </pre>
+ *
+ * Filter is optimized when it's prepared. Bound filters are frozen, share sub
+ * filters without parameters and carry their shape, so converters skip
+ * optimization and shape building and only bind values into cached template.
+ * Parameters are supported in assertion values only
+ *
+ * @see FilterShape
+ */
+public final class PreparedFilter {
+
+    private static final FilterOptimizer filterOptimizer = new FilterOptimizer();
+
+    private final Filter filter;
+    private final Set<String> parameterNames;
+
+    // Nodes of template filter in pre-order with sizes of their sub trees and
+    // flags of nodes which have parameters in sub tree
+    private final Filter[] nodes;
+    private final int[] subtreeSizes;
+    private final boolean[] parameterized;
+
+    // Null if filter has no shape
+    private final FilterShape shape;
+    private final int[] shapeParameterOffsets;
+    private final String[] shapeParameterNames;
+
+    private PreparedFilter(Filter filter, Set<String> parameterNames, List<Filter> nodes, List<Integer> subtreeSizes,
+            List<Boolean> parameterized) {
+        this.filter = filter;
+        this.parameterNames = parameterNames;
+
+        this.nodes = nodes.toArray(new Filter[nodes.size()]);
+        this.subtreeSizes = new int[nodes.size()];
+        this.parameterized = new boolean[nodes.size()];
+        for (int i = 0; i < this.nodes.length; i++) {
+            this.subtreeSizes[i] = subtreeSizes.get(i);
+            this.parameterized[i] = parameterized.get(i);
+        }
+
+        // Types of parameter values are added to shape key of bound filter
+        List<Integer> parameterOffsets = new ArrayList<Integer>();
+        this.shape = FilterShape.of(filter, parameterOffsets);
+        this.shapeParameterOffsets = new int[parameterOffsets.size()];
+        this.shapeParameterNames = new String[parameterOffsets.size()];
+        if (this.shape != null) {
+            int parameterIndex = 0;
+            for (Filter node : this.nodes) {
+                if (node.getAssertionValue() instanceof Parameter) {
+                    this.shapeParameterOffsets[parameterIndex] = parameterOffsets.get(parameterIndex);
+                    this.shapeParameterNames[parameterIndex] = ((Parameter) node.getAssertionValue()).getName();
+                    parameterIndex++;
+                }
+            }
+        }
+    }
+
+    public static Parameter parameter(String name) {
+        return new Parameter(name);
+    }
+
+    /**
+     * Prepare optimized copy of filter. Specified filter is not modified
+     */
+    public static PreparedFilter prepare(Filter filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("Filter is null");
+        }
+
+        // Optimizer doesn't depend on values. Equal parameters have equal values
+        Filter optimizedFilter = filterOptimizer.optimize(filter);
+
+        Set<String> parameterNames = new LinkedHashSet<String>();
+        List<Filter> nodes = new ArrayList<Filter>();
+        List<Integer> subtreeSizes = new ArrayList<Integer>();
+        List<Boolean> parameterized = new ArrayList<Boolean>();
+        Filter template = copy(optimizedFilter, parameterNames, nodes, subtreeSizes, parameterized);
+
+        return new PreparedFilter(template, Collections.unmodifiableSet(parameterNames), nodes, subtreeSizes, parameterized);
+    }
+
+    private static Filter copy(Filter filter, Set<String> parameterNames, List<Filter> nodes, List<Integer> subtreeSizes,
+            List<Boolean> parameterized) {
+        Filter copy = filter.clone();
+
+        // Reserve place of node in pre-order
+        int index = nodes.size();
+        nodes.add(null);
+        subtreeSizes.add(null);
+        parameterized.add(null);
+
+        boolean hasParameters = false;
+        if (filter.getAssertionValue() instanceof Parameter) {
+            if (FilterType.SUBSTRING == filter.getType()) {
+                throw new IllegalArgumentException(String.format("Parameters are not supported in substring filter '%s'", filter));
+            }
+
+            parameterNames.add(((Parameter) filter.getAssertionValue()).getName());
+            hasParameters = true;
+        }
+
+        Filter[] filters = filter.getFilters();
+        if (filters != null) {
+            Filter[] copyFilters = new Filter[filters.length];
+            for (int i = 0; i < filters.length; i++) {
+                if (filters[i] == null) {
+                    continue;
+                }
+
+                int childIndex = nodes.size();
+                copyFilters[i] = copy(filters[i], parameterNames, nodes, subtreeSizes, parameterized);
+                hasParameters |= parameterized.get(childIndex);
+            }
+            copy.setFilters(copyFilters);
+        }
+
+        // Nodes are frozen bottom up, so freeze keeps copied nested nodes
+        nodes.set(index, copy.freeze());
+        subtreeSizes.set(index, nodes.size() - index);
+        parameterized.set(index, hasParameters);
+
+        return copy;
+    }
+
+    /**
+     * @return Frozen filter with parameters
+     */
+    public Filter getFilter() {
+        return filter;
+    }
+
+    public Set<String> getParameterNames() {
+        return parameterNames;
+    }
+
+    public Filter bind(String name, Object value) {
+        return bind(Collections.singletonMap(name, value));
+    }
+
+    /**
+     * @return Frozen filter with values of parameters
+     * @throws IllegalArgumentException
+     *             if value of some parameter is not specified
+     */
+    public Filter bind(Map<String, ?> values) {
+        for (String parameterName : parameterNames) {
+            if (values.get(parameterName) == null) {
+                throw new IllegalArgumentException(String.format("Value of parameter '%s' is not specified", parameterName));
+            }
+        }
+
+        Filter[] boundNodes = this.nodes.clone();
+        Filter boundFilter = bind(0, values, boundNodes);
+
+        if (shape != null) {
+            boundFilter.setPreparedShape(new FilterShape(buildShapeKey(values), Arrays.asList(boundNodes), shape.getAttributeNames()));
+        }
+
+        return boundFilter;
+    }
+
+    private Filter bind(int index, Map<String, ?> values, Filter[] boundNodes) {
+        Filter node = nodes[index];
+        if (!parameterized[index]) {
+            return node;
+        }
+
+        Filter boundNode = node.clone();
+        if (node.getAssertionValue() instanceof Parameter) {
+            boundNode.setAssertionValue(values.get(((Parameter) node.getAssertionValue()).getName()));
+        }
+
+        Filter[] filters = node.getFilters();
+        if (filters != null) {
+            Filter[] boundFilters = new Filter[filters.length];
+            int childIndex = index + 1;
+            for (int i = 0; i < filters.length; i++) {
+                if (filters[i] == null) {
+                    continue;
+                }
+
+                boundFilters[i] = bind(childIndex, values, boundNodes);
+                childIndex += subtreeSizes[childIndex];
+            }
+            boundNode.setFilters(boundFilters);
+        }
+
+        boundNodes[index] = boundNode.freeze();
+
+        return boundNode;
+    }
+
+    private String buildShapeKey(Map<String, ?> values) {
+        String templateKey = shape.getKey();
+        StringBuilder key = new StringBuilder(templateKey.length() + 24 * shapeParameterOffsets.length);
+
+        int start = 0;
+        for (int i = 0; i < shapeParameterOffsets.length; i++) {
+            key.append(templateKey, start, shapeParameterOffsets[i]);
+            FilterShape.appendValue(key, values.get(shapeParameterNames[i]).getClass().getName());
+            start = shapeParameterOffsets[i];
+        }
+        key.append(templateKey, start, templateKey.length());
+
+        return key.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "PreparedFilter [filter=" + filter + ", parameterNames=" + parameterNames + "]";
+    }
+
+    /**
+     * Named placeholder of assertion value
+     */
+    public static final class Parameter {
+
+        private final String name;
+
+        private Parameter(String name) {
+            if ((name == null) || name.isEmpty()) {
+                throw new IllegalArgumentException("Parameter name is empty");
+            }
+
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public int hashCode() {
+            return name.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Parameter)) {
+                return false;
+            }
+
+            return name.equals(((Parameter) obj).name);
+        }
+
+        @Override
+        public String toString() {
+            return "?" + name;
+        }
+    }
+
+}
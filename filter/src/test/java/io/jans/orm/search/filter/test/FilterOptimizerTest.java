@@ -0,0 +1,124 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.search.filter.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import org.testng.annotations.Test;
+
+import io.jans.orm.search.filter.Filter;
+import io.jans.orm.search.filter.FilterOptimizer;
+import io.jans.orm.search.filter.FilterType;
+
+public class FilterOptimizerTest {
+
+	private final FilterOptimizer optimizer = new FilterOptimizer();
+
+	@Test
+	public void nestedJunctionsAreFlattened() {
+		Filter filter = Filter.createANDFilter(eq("uid", "user1"),
+				Filter.createANDFilter(eq("mail", "user1@jans.io"), Filter.createANDFilter(presence("cn"))));
+
+		assertEquals(optimizer.optimize(filter).toString(), "(&(uid=user1)(mail=user1@jans.io)(cn=*))");
+	}
+
+	@Test
+	public void duplicateOperandsAreRemoved() {
+		Filter filter = Filter.createORFilter(eq("uid", "user1"), presence("mail"), eq("uid", "user1"), presence("mail"));
+		assertEquals(new FilterOptimizer(false).optimize(filter).toString(), "(|(uid=user1)(mail=*))");
+
+		// Junction with two operands
+		filter = Filter.createANDFilter(eq("uid", "user1"), eq("uid", "user1"));
+		assertEquals(optimizer.optimize(filter).toString(), "(uid=user1)");
+
+		// Values of different types are not duplicates
+		filter = Filter.createANDFilter(eq("count", 1), eq("count", "1"), eq("count", 1L));
+		assertEquals(optimizer.optimize(filter).getFilters().length, 3);
+
+		// Binary values are compared by content
+		filter = Filter.createANDFilter(eq("photo", new byte[] { 1, 2 }), eq("photo", new byte[] { 1, 2 }), presence("cn"));
+		assertEquals(optimizer.optimize(filter).getFilters().length, 2);
+	}
+
+	@Test
+	public void singleOperandJunctionIsFolded() {
+		Filter uidFilter = eq("uid", "user1");
+
+		assertSame(optimizer.optimize(Filter.createANDFilter(uidFilter)), uidFilter);
+		assertSame(optimizer.optimize(Filter.createORFilter(Filter.createANDFilter(uidFilter))), uidFilter);
+	}
+
+	@Test
+	public void notIsPushedIntoJunction() {
+		Filter uidFilter = eq("uid", "user1");
+		assertSame(optimizer.optimize(Filter.createNOTFilter(Filter.createNOTFilter(uidFilter))), uidFilter);
+
+		// !(!a & !b) has less NOT filters as a | b
+		Filter filter = Filter.createNOTFilter(Filter.createANDFilter(Filter.createNOTFilter(eq("uid", "user1")), Filter.createNOTFilter(presence("mail"))));
+		assertEquals(optimizer.optimize(filter).toString(), "(|(uid=user1)(mail=*))");
+
+		// !(a & b) is kept because De Morgan's law adds NOT filters
+		filter = Filter.createNOTFilter(Filter.createANDFilter(eq("uid", "user1"), presence("mail")));
+		assertSame(optimizer.optimize(filter), filter);
+	}
+
+	@Test
+	public void equalitiesAreGrouped() {
+		Filter filter = Filter.createORFilter(eq("uid", "user1"), presence("mail"), eq("uid", "user2"), eq("cn", "user3"));
+
+		Filter optimizedFilter = optimizer.optimize(filter);
+		assertEquals(optimizedFilter.toString(), "(|(|(uid=user1)(uid=user2))(mail=*)(cn=user3))");
+		assertEquals(optimizedFilter.getFilters()[0].getType(), FilterType.OR);
+
+		// OR of equalities of one attribute is group already
+		filter = Filter.createORFilter(eq("uid", "user1"), eq("uid", "user2"));
+		assertSame(optimizer.optimize(filter), filter);
+
+		filter = Filter.createORFilter(eq("uid", "user1"), presence("mail"), eq("uid", "user2"));
+		assertSame(new FilterOptimizer(false).optimize(filter), filter);
+	}
+
+	@Test
+	public void flaggedFiltersAreKept() {
+		Filter uidFilter = eq("uid", "user1");
+
+		// Multi valued flag is used by converters
+		Filter filter = Filter.createANDFilter(uidFilter).multiValued();
+		Filter optimizedFilter = optimizer.optimize(filter);
+		assertSame(optimizedFilter, filter);
+
+		filter = Filter.createANDFilter(Filter.createANDFilter(uidFilter).multiValued(), presence("mail"));
+		assertEquals(optimizer.optimize(filter).getFilters()[0].getType(), FilterType.AND);
+		assertTrue(optimizer.optimize(filter).getFilters()[0].getMultiValued());
+
+		filter = Filter.createNOTFilter(Filter.createNOTFilter(uidFilter)).multiValued();
+		assertEquals(optimizer.optimize(filter).getType(), FilterType.NOT);
+	}
+
+	@Test
+	public void inputFilterIsNotModified() {
+		Filter nestedFilter = Filter.createANDFilter(eq("mail", "user1@jans.io"), eq("uid", "user1"));
+		Filter filter = Filter.createANDFilter(eq("uid", "user1"), nestedFilter);
+		String filterString = filter.toString();
+
+		optimizer.optimize(filter);
+
+		assertEquals(filter.toString(), filterString);
+		assertEquals(nestedFilter.getFilters().length, 2);
+	}
+
+	private static Filter eq(String attributeName, Object value) {
+		return Filter.createEqualityFilter(attributeName, value);
+	}
+
+	private static Filter presence(String attributeName) {
+		return Filter.createPresenceFilter(attributeName);
+	}
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.search.filter.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.testng.annotations.Test;
+
+import io.jans.orm.search.filter.Filter;
+
+public class FilterTest {
+
+	@Test
+	public void freezeKeepsNestedFiltersOfCallerMutable() {
+		Filter uidFilter = Filter.createEqualityFilter("uid", "user1");
+		Filter filter = Filter.createANDFilter(uidFilter, Filter.createPresenceFilter("mail")).freeze();
+
+		assertTrue(filter.isFrozen());
+		assertFalse(uidFilter.isFrozen());
+		assertNotSame(filter.getFilters()[0], uidFilter);
+		assertTrue(filter.getFilters()[0].isFrozen());
+
+		// Change of caller filter doesn't change frozen filter
+		uidFilter.setAssertionValue("user2");
+		assertEquals(filter.getFilters()[0].getAssertionValue(), "user1");
+	}
+
+	@Test
+	public void frozenNestedFiltersAreShared() {
+		Filter uidFilter = Filter.createEqualityFilter("uid", "user1").freeze();
+		Filter filter = Filter.createNOTFilter(uidFilter).freeze();
+
+		assertSame(filter.getFilters()[0], uidFilter);
+		assertSame(filter.freeze(), filter);
+	}
+
+	@Test
+	public void frozenFilterRejectsChanges() {
+		Filter filter = Filter.createORFilter(Filter.createEqualityFilter("uid", "user1")).freeze();
+
+		assertUnsupported(() -> filter.setAttributeName("mail"));
+		assertUnsupported(() -> filter.setFilters(new Filter[0]));
+		assertUnsupported(() -> filter.getFilters()[0].setAssertionValue("user2"));
+		assertUnsupported(() -> filter.getFilters()[0].multiValued());
+
+		// Clone is mutable
+		Filter clonedFilter = filter.clone();
+		clonedFilter.setType(Filter.createANDFilter().getType());
+		assertFalse(clonedFilter.isFrozen());
+	}
+
+	@Test
+	public void frozenFilterCopiesAssertionValue() {
+		byte[] value = new byte[] { 1, 2, 3 };
+		Date date = new Date(1000L);
+		Filter binaryFilter = Filter.createEqualityFilter("photo", value).freeze();
+		Filter dateFilter = Filter.createGreaterOrEqualFilter("exp", date).freeze();
+		String canonicalString = binaryFilter.toCanonicalString();
+
+		value[0] = 9;
+		date.setTime(2000L);
+
+		assertEquals(binaryFilter.toCanonicalString(), canonicalString);
+		assertEquals(((Date) dateFilter.getAssertionValue()).getTime(), 1000L);
+	}
+
+	@Test
+	public void equalityIgnoresOperandOrder() {
+		Filter filter1 = Filter.createANDFilter(Filter.createEqualityFilter("uid", "user1"), Filter.createPresenceFilter("mail")).freeze();
+		Filter filter2 = Filter.createANDFilter(Filter.createPresenceFilter("mail"), Filter.createEqualityFilter("uid", "user1")).freeze();
+		Filter filter3 = Filter.createORFilter(Filter.createPresenceFilter("mail"), Filter.createEqualityFilter("uid", "user1")).freeze();
+
+		assertEquals(filter1, filter2);
+		assertEquals(filter1.hashCode(), filter2.hashCode());
+		assertNotEquals(filter1, filter3);
+	}
+
+	@Test
+	public void equalityComparesValues() {
+		assertEquals(Filter.createEqualityFilter("photo", new byte[] { 1, 2 }).freeze(), Filter.createEqualityFilter("photo", new byte[] { 1, 2 }).freeze());
+		assertNotEquals(Filter.createEqualityFilter("photo", new byte[] { 1, 2 }).freeze(), Filter.createEqualityFilter("photo", new byte[] { 1, 3 }).freeze());
+		assertNotEquals(Filter.createEqualityFilter("count", 1).freeze(), Filter.createEqualityFilter("count", "1").freeze());
+		assertEquals(Filter.createEqualityFilter("exp", new Date(1000L)).freeze(), Filter.createEqualityFilter("exp", new Date(1000L)).freeze());
+		assertNotEquals(Filter.createEqualityFilter("uid", "user1").multiValued().freeze(), Filter.createEqualityFilter("uid", "user1").freeze());
+	}
+
+	@Test
+	public void hashOfFrozenFilterIsStable() {
+		Filter filter = Filter.createSubstringFilter("uid", "us", new String[] { "e" }, "1").freeze();
+		int hash = filter.hashCode();
+
+		assertEquals(filter.hashCode(), hash);
+		assertEquals(filter.clone().freeze().hashCode(), hash);
+		assertEquals(hash, filter.toCanonicalString().hashCode());
+	}
+
+	@Test
+	public void mutableFilterIsEqualToItselfOnly() {
+		Filter filter1 = Filter.createEqualityFilter("uid", "user1");
+		Filter filter2 = Filter.createEqualityFilter("uid", "user1");
+
+		assertNotEquals(filter1, filter2);
+		assertNotEquals(filter1, filter2.clone().freeze());
+
+		// Filter can be found in hash set after change
+		Set<Filter> filters = new HashSet<Filter>();
+		filters.add(filter1);
+		int hash = filter1.hashCode();
+		filter1.setAssertionValue("user2");
+
+		assertEquals(filter1.hashCode(), hash);
+		assertTrue(filters.contains(filter1));
+		assertFalse(filters.contains(filter2));
+	}
+
+	private static void assertUnsupported(Runnable change) {
+		try {
+			change.run();
+			fail("Frozen filter should not be changed");
+		} catch (UnsupportedOperationException ex) {
+			// Expected
+		}
+	}
+
+}
@@ -0,0 +1,135 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.search.filter.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import io.jans.orm.search.filter.Filter;
+import io.jans.orm.search.filter.FilterOptimizer;
+import io.jans.orm.search.filter.FilterShape;
+import io.jans.orm.search.filter.PreparedFilter;
+
+public class PreparedFilterTest {
+
+	@Test
+	public void parametersAreBound() {
+		Filter filter = Filter.createANDFilter(Filter.createEqualityFilter("uid", PreparedFilter.parameter("uid")),
+				Filter.createGreaterOrEqualFilter("exp", PreparedFilter.parameter("now")), Filter.createPresenceFilter("mail"));
+		String filterString = filter.toString();
+
+		PreparedFilter preparedFilter = PreparedFilter.prepare(filter);
+		assertEquals(preparedFilter.getParameterNames(), new LinkedHashSet<String>(Arrays.asList("uid", "now")));
+
+		Filter boundFilter = preparedFilter.bind(values("uid", "user1", "now", 10));
+		assertEquals(boundFilter.toString(), "(&(uid=user1)(exp>=10)(mail=*))");
+		assertTrue(boundFilter.isFrozen());
+
+		// Prepared and bound filters share sub filters without parameters
+		assertSame(boundFilter.getFilters()[2], preparedFilter.getFilter().getFilters()[2]);
+
+		// Next bind doesn't change previous bound filter
+		Filter boundFilter2 = preparedFilter.bind(values("uid", "user2", "now", 20));
+		assertEquals(boundFilter2.toString(), "(&(uid=user2)(exp>=20)(mail=*))");
+		assertEquals(boundFilter.toString(), "(&(uid=user1)(exp>=10)(mail=*))");
+		assertEquals(filter.toString(), filterString);
+	}
+
+	@Test
+	public void parameterCanBeUsedTwice() {
+		PreparedFilter preparedFilter = PreparedFilter.prepare(Filter.createORFilter(Filter.createEqualityFilter("uid", PreparedFilter.parameter("name")),
+				Filter.createEqualityFilter("displayName", PreparedFilter.parameter("name"))));
+
+		assertEquals(preparedFilter.getParameterNames().size(), 1);
+		assertEquals(preparedFilter.bind("name", "user1").toString(), "(|(uid=user1)(displayName=user1))");
+	}
+
+	@Test
+	public void missingParameterIsRejected() {
+		PreparedFilter preparedFilter = PreparedFilter.prepare(Filter.createANDFilter(Filter.createEqualityFilter("uid", PreparedFilter.parameter("uid")),
+				Filter.createGreaterOrEqualFilter("exp", PreparedFilter.parameter("now"))));
+
+		try {
+			preparedFilter.bind("uid", "user1");
+			fail("Missing parameter should be rejected");
+		} catch (IllegalArgumentException ex) {
+			assertEquals(ex.getMessage(), "Value of parameter 'now' is not specified");
+		}
+
+		try {
+			preparedFilter.bind(values("uid", "user1", "now", null));
+			fail("Null parameter should be rejected");
+		} catch (IllegalArgumentException ex) {
+			assertEquals(ex.getMessage(), "Value of parameter 'now' is not specified");
+		}
+
+		Filter substringFilter = Filter.createSubstringFilter("uid", null, new String[] { "a" }, null);
+		substringFilter.setAssertionValue(PreparedFilter.parameter("uid"));
+		try {
+			PreparedFilter.prepare(substringFilter);
+			fail("Parameter in substring filter should be rejected");
+		} catch (IllegalArgumentException ex) {
+			assertTrue(ex.getMessage().startsWith("Parameters are not supported in substring filter"));
+		}
+	}
+
+	@Test
+	public void boundFilterHasShapeOfEqualFilter() {
+		PreparedFilter preparedFilter = PreparedFilter.prepare(Filter.createANDFilter(Filter.createEqualityFilter("uid", PreparedFilter.parameter("uid")),
+				Filter.createORFilter(Filter.createLessOrEqualFilter("exp", PreparedFilter.parameter("now")), Filter.createPresenceFilter("mail")).multiValued(false)));
+
+		Filter boundFilter = preparedFilter.bind(values("uid", "user1", "now", 10));
+		Filter filter = Filter.createANDFilter(Filter.createEqualityFilter("uid", "user1"),
+				Filter.createORFilter(Filter.createLessOrEqualFilter("exp", 10), Filter.createPresenceFilter("mail")).multiValued(false));
+
+		FilterShape boundShape = FilterShape.of(boundFilter);
+		FilterShape shape = FilterShape.of(filter);
+		assertEquals(boundShape.getKey(), shape.getKey());
+		assertEquals(boundShape.getAttributeNames(), shape.getAttributeNames());
+		assertEquals(boundShape.getNodeCount(), shape.getNodeCount());
+		for (int i = 0; i < shape.getNodeCount(); i++) {
+			assertEquals(boundShape.getNode(i).toString(), shape.getNode(i).toString());
+			assertEquals(boundShape.indexOf(boundShape.getNode(i)), i);
+		}
+
+		// Shape is reused by converters
+		assertSame(FilterShape.of(boundFilter), boundShape);
+
+		// Type of value is part of shape
+		assertNotEquals(FilterShape.of(preparedFilter.bind(values("uid", "user1", "now", 10L))).getKey(), boundShape.getKey());
+	}
+
+	@Test
+	public void boundFilterIsOptimized() {
+		PreparedFilter preparedFilter = PreparedFilter.prepare(Filter.createANDFilter(Filter.createEqualityFilter("uid", PreparedFilter.parameter("uid")),
+				Filter.createANDFilter(Filter.createEqualityFilter("uid", PreparedFilter.parameter("uid")), Filter.createPresenceFilter("mail"))));
+		assertEquals(preparedFilter.getFilter().toString(), "(&(uid=?uid)(mail=*))");
+
+		Filter boundFilter = preparedFilter.bind("uid", "user1");
+		assertEquals(boundFilter.toString(), "(&(uid=user1)(mail=*))");
+		assertSame(new FilterOptimizer().optimize(boundFilter), boundFilter);
+	}
+
+	private static Map<String, Object> values(String name1, Object value1, String name2, Object value2) {
+		Map<String, Object> values = new HashMap<String, Object>();
+		values.put(name1, value1);
+		values.put(name2, value2);
+
+		return values;
+	}
+
+}
@@ -7,12 +7,21 @@
 package io.jans.orm.hybrid.impl;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import io.jans.orm.PersistenceEntryManager;
 import io.jans.orm.event.DeleteNotifier;
@@ -25,9 +34,12 @@ import io.jans.orm.impl.model.ParsedKey;
 import io.jans.orm.model.AttributeData;
 import io.jans.orm.model.AttributeDataModification;
 import io.jans.orm.model.BatchOperation;
+import io.jans.orm.model.BulkOperationResult;
+import io.jans.orm.model.FindByDnsResult;
 import io.jans.orm.model.PagedResult;
 import io.jans.orm.model.SearchScope;
 import io.jans.orm.model.SortOrder;
+import io.jans.orm.operation.UnitOfWork;
 import io.jans.orm.reflect.property.PropertyAnnotation;
 import io.jans.orm.search.filter.Filter;
 import io.jans.orm.util.ArrayHelper;
@@ -161,6 +173,10 @@ public class HybridEntryManager extends BaseEntryManager implements Serializable
 
     @Override
     public boolean destroy() {
+        shutdownAsyncOperationExecutor();
+        shutdownPrefetchExecutor();
+        shutdownParallelEntityCreator();
+
         if (this.persistenceEntryManagers == null) {
             return true;
         }
@@ -206,6 +222,16 @@ public class HybridEntryManager extends BaseEntryManager implements Serializable
     	return persistenceEntryManager.find(primaryKey, entryClass, ldapReturnAttributes);
 	}
 
+	@Override
+	public <T> CompletableFuture<T> findAsync(Object primaryKey, Class<T> entryClass, String[] ldapReturnAttributes) {
+		try {
+			PersistenceEntryManager persistenceEntryManager = getEntryManagerForDn(primaryKey);
+			return persistenceEntryManager.findAsync(primaryKey, entryClass, ldapReturnAttributes);
+		} catch (RuntimeException ex) {
+			return failedFuture(ex);
+		}
+	}
+
     @Override
 	public <T> List<T> findEntries(Object entry) {
         Class<?> entryClass = entry.getClass();
@@ -271,6 +297,13 @@ public class HybridEntryManager extends BaseEntryManager implements Serializable
 	            sortOrder, start, count, chunkSize);
     }
 
+    @Override
+    public <T> Stream<T> streamEntries(String baseDN, Class<T> entryClass, Filter filter, SearchScope scope, String[] ldapReturnAttributes,
+            int pageSize) {
+    	PersistenceEntryManager persistenceEntryManager = getEntryManagerForDn(baseDN);
+		return persistenceEntryManager.streamEntries(baseDN, entryClass, filter, scope, ldapReturnAttributes, pageSize);
+    }
+
 	@Override
 	public boolean hasBranchesSupport(String dn) {
 		PersistenceEntryManager persistenceEntryManager = getEntryManagerForDn(dn);
@@ -356,6 +389,31 @@ public class HybridEntryManager extends BaseEntryManager implements Serializable
     	return persistenceEntryManager.merge(entry);
     }
 
+	@Override
+	public <T> BulkOperationResult<T> mergeAll(Collection<T> entries) {
+		if (entries == null) {
+			throw new MappingException("Entries to merge is null");
+		}
+
+		// Each persistence entry manager updates own entries in batches
+		BulkOperationResult<T> result = new BulkOperationResult<T>();
+		Map<PersistenceEntryManager, List<T>> entriesByManager = new LinkedHashMap<PersistenceEntryManager, List<T>>();
+		for (T entry : entries) {
+			try {
+				Object dnValue = getDNValue(entry, entry.getClass());
+				entriesByManager.computeIfAbsent(getEntryManagerForDn(dnValue), k -> new ArrayList<T>()).add(entry);
+			} catch (RuntimeException ex) {
+				result.addFailure(entry, ex);
+			}
+		}
+
+		for (Entry<PersistenceEntryManager, List<T>> managerEntries : entriesByManager.entrySet()) {
+			addResult(result, managerEntries.getKey().mergeAll(managerEntries.getValue()));
+		}
+
+		return result;
+	}
+
 	@Override
     public void persist(Object entry) {
         Class<?> entryClass = entry.getClass();
@@ -365,6 +423,98 @@ public class HybridEntryManager extends BaseEntryManager implements Serializable
     	persistenceEntryManager.persist(entry);
 	}
 
+	@Override
+	public CompletableFuture<Void> persistAsync(Object entry) {
+		try {
+			Class<?> entryClass = entry.getClass();
+			Object dnValue = getDNValue(entry, entryClass);
+
+			PersistenceEntryManager persistenceEntryManager = getEntryManagerForDn(dnValue);
+			return persistenceEntryManager.persistAsync(entry);
+		} catch (RuntimeException ex) {
+			return failedFuture(ex);
+		}
+	}
+
+	@Override
+	public <T> FindByDnsResult<T> findByDns(Class<T> entryClass, Collection<String> dns, String[] ldapReturnAttributes) {
+		if (dns == null) {
+			throw new MappingException("DNs to find entries is null");
+		}
+
+		// Each persistence entry manager loads own entries
+		Map<PersistenceEntryManager, List<String>> dnsByManager = new LinkedHashMap<PersistenceEntryManager, List<String>>();
+		for (String dn : new LinkedHashSet<String>(dns)) {
+			dnsByManager.computeIfAbsent(getEntryManagerForDn(dn), k -> new ArrayList<String>()).add(dn);
+		}
+
+		Map<String, T> entriesByDn = new HashMap<String, T>();
+		Set<String> missingDns = new HashSet<String>();
+		for (Entry<PersistenceEntryManager, List<String>> managerDns : dnsByManager.entrySet()) {
+			FindByDnsResult<T> managerResult = managerDns.getKey().findByDns(entryClass, managerDns.getValue(), ldapReturnAttributes);
+			missingDns.addAll(managerResult.getMissingDns());
+
+			// Found entries are in order of requested DNs without missing ones
+			Iterator<T> entriesIt = managerResult.getEntries().iterator();
+			for (String dn : managerDns.getValue()) {
+				if (!missingDns.contains(dn) && entriesIt.hasNext()) {
+					entriesByDn.put(dn, entriesIt.next());
+				}
+			}
+		}
+
+		List<T> results = new ArrayList<T>(dns.size());
+		for (String dn : dns) {
+			T entry = entriesByDn.get(dn);
+			if (entry != null) {
+				results.add(entry);
+			}
+		}
+
+		List<String> orderedMissingDns = new ArrayList<String>(missingDns.size());
+		for (String dn : new LinkedHashSet<String>(dns)) {
+			if (missingDns.contains(dn)) {
+				orderedMissingDns.add(dn);
+			}
+		}
+
+		return new FindByDnsResult<T>(results, orderedMissingDns);
+	}
+
+	@Override
+	public <T> BulkOperationResult<T> persistAll(Collection<T> entries, int batchSize) {
+		if (entries == null) {
+			throw new MappingException("Entries to persist is null");
+		}
+
+		// Each persistence entry manager adds own entries in batches
+		BulkOperationResult<T> result = new BulkOperationResult<T>();
+		Map<PersistenceEntryManager, List<T>> entriesByManager = new LinkedHashMap<PersistenceEntryManager, List<T>>();
+		for (T entry : entries) {
+			try {
+				Object dnValue = getDNValue(entry, entry.getClass());
+				entriesByManager.computeIfAbsent(getEntryManagerForDn(dnValue), k -> new ArrayList<T>()).add(entry);
+			} catch (RuntimeException ex) {
+				result.addFailure(entry, ex);
+			}
+		}
+
+		for (Entry<PersistenceEntryManager, List<T>> managerEntries : entriesByManager.entrySet()) {
+			addResult(result, managerEntries.getKey().persistAll(managerEntries.getValue(), batchSize));
+		}
+
+		return result;
+	}
+
+	private <T> void addResult(BulkOperationResult<T> result, BulkOperationResult<T> managerResult) {
+		for (T entry : managerResult.getSucceededEntries()) {
+			result.addSucceeded(entry);
+		}
+		for (BulkOperationResult.Failure<T> failure : managerResult.getFailures()) {
+			result.addFailure(failure.getEntry(), failure.getError());
+		}
+	}
+
 	@Override
     public void remove(Object entry) {
         Class<?> entryClass = entry.getClass();
@@ -374,6 +524,40 @@ public class HybridEntryManager extends BaseEntryManager implements Serializable
     	persistenceEntryManager.remove(entry);
     }
 
+	@Override
+	public <T> BulkOperationResult<String> removeAll(Class<T> entryClass, Collection<String> dns) {
+		if (dns == null) {
+			throw new MappingException("DNs to remove entries is null");
+		}
+
+		// Each persistence entry manager removes own entries in batches
+		BulkOperationResult<String> result = new BulkOperationResult<String>();
+		Map<PersistenceEntryManager, List<String>> dnsByManager = new LinkedHashMap<PersistenceEntryManager, List<String>>();
+		for (String dn : new LinkedHashSet<String>(dns)) {
+			try {
+				dnsByManager.computeIfAbsent(getEntryManagerForDn(dn), k -> new ArrayList<String>()).add(dn);
+			} catch (RuntimeException ex) {
+				result.addFailure(dn, ex);
+			}
+		}
+
+		for (Entry<PersistenceEntryManager, List<String>> managerDns : dnsByManager.entrySet()) {
+			addResult(result, managerDns.getKey().removeAll(entryClass, managerDns.getValue()));
+		}
+
+		return result;
+	}
+
+	@Override
+	public <T> CompletableFuture<Void> removeAsync(String primaryKey, Class<T> entryClass) {
+		try {
+			PersistenceEntryManager persistenceEntryManager = getEntryManagerForDn(primaryKey);
+			return persistenceEntryManager.removeAsync(primaryKey, entryClass);
+		} catch (RuntimeException ex) {
+			return failedFuture(ex);
+		}
+	}
+
 	@Override
 	public <T> void removeByDn(String primaryKey, String[] objectClasses) {
 		PersistenceEntryManager persistenceEntryManager = getEntryManagerForDn(primaryKey);
@@ -403,6 +587,111 @@ public class HybridEntryManager extends BaseEntryManager implements Serializable
     	persistenceEntryManager.removeRecursively(dn);
     }
 
+	@Override
+	protected UnitOfWork createUnitOfWork() {
+		// Operations are delegated to persistence entry managers. Each of them buffers own operations
+		List<UnitOfWork> unitOfWorks = new ArrayList<UnitOfWork>();
+		try {
+			for (PersistenceEntryManager persistenceEntryManager : new LinkedHashSet<PersistenceEntryManager>(persistenceEntryManagers.values())) {
+				unitOfWorks.add(persistenceEntryManager.beginUnitOfWork());
+			}
+		} catch (RuntimeException ex) {
+			for (UnitOfWork unitOfWork : unitOfWorks) {
+				unitOfWork.rollback();
+			}
+			throw ex;
+		}
+
+		return new HybridUnitOfWork(unitOfWorks);
+	}
+
+	private class HybridUnitOfWork implements UnitOfWork {
+
+		private final List<UnitOfWork> unitOfWorks;
+
+		private boolean active = true;
+		private boolean rollbackOnly;
+
+		HybridUnitOfWork(List<UnitOfWork> unitOfWorks) {
+			this.unitOfWorks = unitOfWorks;
+		}
+
+		@Override
+		public void flush() {
+			if (!active) {
+				throw new IllegalStateException("Unit of work is not active");
+			}
+
+			for (UnitOfWork unitOfWork : unitOfWorks) {
+				unitOfWork.flush();
+			}
+		}
+
+		@Override
+		public void rollback() {
+			try {
+				for (UnitOfWork unitOfWork : unitOfWorks) {
+					unitOfWork.rollback();
+				}
+			} finally {
+				end();
+			}
+		}
+
+		@Override
+		public boolean isActive() {
+			return active;
+		}
+
+		@Override
+		public void setRollbackOnly() {
+			this.rollbackOnly = true;
+			for (UnitOfWork unitOfWork : unitOfWorks) {
+				unitOfWork.setRollbackOnly();
+			}
+		}
+
+		@Override
+		public boolean isRollbackOnly() {
+			return rollbackOnly;
+		}
+
+		@Override
+		public void close() {
+			if (!active) {
+				return;
+			}
+
+			// Close all of them even if one failed
+			RuntimeException error = null;
+			try {
+				for (UnitOfWork unitOfWork : unitOfWorks) {
+					try {
+						unitOfWork.close();
+					} catch (RuntimeException ex) {
+						if (error == null) {
+							error = ex;
+						} else {
+							error.addSuppressed(ex);
+						}
+					}
+				}
+			} finally {
+				end();
+			}
+
+			if (error != null) {
+				throw error;
+			}
+		}
+
+		private void end() {
+			active = false;
+			endUnitOfWork(this);
+		}
+
+	}
+
     //*************************************************************************
     // Internal methods which not needed in Hybrid Entry Manager
     //*************************************************************************
@@ -13,6 +13,7 @@ import io.jans.orm.reflect.property.PropertyAnnotation;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * LDAP batch operation wrapper
@@ -43,6 +44,14 @@ public class LdapBatchOperationWraper<T> {
         return batchOperation;
     }
 
+    public Executor getPrefetchExecutor() {
+        if (ldapEntryManager == null) {
+            return null;
+        }
+
+        return ldapEntryManager.getPrefetchExecutor();
+    }
+
     public List<T> createEntities(SearchResult searchResult) {
         if (ldapEntryManager == null) {
             return new ArrayList<T>(0);
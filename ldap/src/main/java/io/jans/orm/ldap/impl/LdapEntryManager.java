@@ -20,6 +20,8 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import org.apache.commons.codec.binary.Base64;
 import io.jans.orm.PersistenceEntryManager;
@@ -32,6 +34,9 @@ import io.jans.orm.exception.EntryPersistenceException;
 import io.jans.orm.exception.operation.SearchException;
 import io.jans.orm.exception.operation.SearchScopeException;
 import io.jans.orm.impl.BaseEntryManager;
+import io.jans.orm.impl.PagedEntriesIterator;
+import io.jans.orm.impl.model.MergeEntry;
+import io.jans.orm.impl.model.PersistEntry;
 import io.jans.orm.ldap.operation.LdapOperationService;
 import io.jans.orm.ldap.operation.impl.LdapOperationServiceImpl;
 import io.jans.orm.model.AttributeData;
@@ -49,13 +54,17 @@ import io.jans.orm.util.StringHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.unboundid.asn1.ASN1OctetString;
 import com.unboundid.ldap.sdk.Attribute;
+import com.unboundid.ldap.sdk.LDAPException;
 import com.unboundid.ldap.sdk.LDAPConnection;
 import com.unboundid.ldap.sdk.Modification;
 import com.unboundid.ldap.sdk.ModificationType;
 import com.unboundid.ldap.sdk.ResultCode;
+import com.unboundid.ldap.sdk.SearchRequest;
 import com.unboundid.ldap.sdk.SearchResult;
 import com.unboundid.ldap.sdk.SearchResultEntry;
+import com.unboundid.ldap.sdk.controls.SimplePagedResultsControl;
 import com.unboundid.util.StaticUtils;
 
 /**
@@ -80,10 +89,15 @@ public class LdapEntryManager extends BaseEntryManager implements Serializable {
     public LdapEntryManager(LdapOperationServiceImpl operationService) {
         this.operationService = operationService;
         this.subscribers = new LinkedList<DeleteNotifier>();
+        this.subscribers.add(getEntryCache());
     }
 
     @Override
     public boolean destroy() {
+        shutdownAsyncOperationExecutor();
+        shutdownPrefetchExecutor();
+        shutdownParallelEntityCreator();
+
         if (this.operationService == null) {
             return true;
         }
@@ -160,6 +174,69 @@ public class LdapEntryManager extends BaseEntryManager implements Serializable {
 
     @Override
     protected void persist(String dn, String[] objectClasses, List<AttributeData> attributes, Integer expiration) {
+        List<Attribute> ldapAttributes = toPersistAttributes(attributes);
+
+        // Persist entry
+        try {
+            boolean result = getOperationService().addEntry(dn, ldapAttributes);
+            if (!result) {
+                throw new EntryPersistenceException(String.format("Failed to persist entry: %s", dn));
+            }
+        } catch (ConnectionException ex) {
+            throw new EntryPersistenceException(String.format("Failed to persist entry: %s", dn), ex.getCause());
+        } catch (Exception ex) {
+            throw new EntryPersistenceException(String.format("Failed to persist entry: %s", dn), ex);
+        }
+    }
+
+    @Override
+    protected CompletableFuture<Void> persistAsync(String dn, String[] objectClasses, List<AttributeData> attributes, Integer expiration) {
+        List<Attribute> ldapAttributes;
+        try {
+            ldapAttributes = toPersistAttributes(attributes);
+        } catch (RuntimeException ex) {
+            return failedFuture(ex);
+        }
+
+        return getOperationService().addEntryAsync(dn, ldapAttributes).handle((result, ex) -> {
+            if (ex != null) {
+                Throwable cause = unwrapCompletionException(ex);
+                throw new EntryPersistenceException(String.format("Failed to persist entry: %s", dn),
+                        cause instanceof ConnectionException ? cause.getCause() : cause);
+            }
+            if (!result) {
+                throw new EntryPersistenceException(String.format("Failed to persist entry: %s", dn));
+            }
+
+            return null;
+        });
+    }
+
+    @Override
+    protected void persist(List<PersistEntry> persistEntries) {
+        List<String> dns = new ArrayList<String>(persistEntries.size());
+        List<List<Attribute>> entriesAttributes = new ArrayList<List<Attribute>>(persistEntries.size());
+        for (PersistEntry persistEntry : persistEntries) {
+            dns.add(persistEntry.getDn());
+            entriesAttributes.add(toPersistAttributes(persistEntry.getAttributes()));
+        }
+
+        try {
+            Map<Integer, Exception> errors = getOperationService().addEntries(dns, entriesAttributes);
+            for (Map.Entry<Integer, Exception> error : errors.entrySet()) {
+                PersistEntry persistEntry = persistEntries.get(error.getKey());
+                Exception ex = error.getValue();
+                Throwable cause = (ex instanceof ConnectionException) && (ex.getCause() != null) ? ex.getCause() : ex;
+                persistEntry.setError(new EntryPersistenceException(String.format("Failed to persist entry: %s", persistEntry.getDn()), cause));
+            }
+        } catch (ConnectionException ex) {
+            for (PersistEntry persistEntry : persistEntries) {
+                persistEntry.setError(new EntryPersistenceException(String.format("Failed to persist entry: %s", persistEntry.getDn()), ex.getCause()));
+            }
+        }
+    }
+
+    private List<Attribute> toPersistAttributes(List<AttributeData> attributes) {
         List<Attribute> ldapAttributes = new ArrayList<Attribute>(attributes.size());
         for (AttributeData attribute : attributes) {
             String attributeName = attribute.getName();
@@ -176,120 +253,164 @@ public class LdapEntryManager extends BaseEntryManager implements Serializable {
             }
         }
 
-        // Persist entry
+        return ldapAttributes;
+    }
+
+    @Override
+    public void merge(String dn, String[] objectClasses, List<AttributeDataModification> attributeDataModifications, Integer expiration) {
+        // Update entry
         try {
-            boolean result = getOperationService().addEntry(dn, ldapAttributes);
-            if (!result) {
-                throw new EntryPersistenceException(String.format("Failed to persist entry: %s", dn));
+            List<Modification> modifications = toLdapModifications(attributeDataModifications);
+            if (modifications.size() > 0) {
+                boolean result = getOperationService().updateEntry(dn, modifications);
+                if (!result) {
+                    throw new EntryPersistenceException(String.format("Failed to update entry: %s", dn));
+                }
             }
         } catch (ConnectionException ex) {
-            throw new EntryPersistenceException(String.format("Failed to persist entry: %s", dn), ex.getCause());
+            throw new EntryPersistenceException(String.format("Failed to update entry: %s", dn), ex.getCause());
         } catch (Exception ex) {
-            throw new EntryPersistenceException(String.format("Failed to persist entry: %s", dn), ex);
+            throw new EntryPersistenceException(String.format("Failed to update entry: %s", dn), ex);
         }
     }
 
     @Override
-    public void merge(String dn, String[] objectClasses, List<AttributeDataModification> attributeDataModifications, Integer expiration) {
-        // Update entry
-        try {
-            List<Modification> modifications = new ArrayList<Modification>(attributeDataModifications.size());
-            for (AttributeDataModification attributeDataModification : attributeDataModifications) {
-                AttributeData attribute = attributeDataModification.getAttribute();
-                AttributeData oldAttribute = attributeDataModification.getOldAttribute();
-
-                String attributeName = null;
-                String[] attributeValues = null;
-                if (attribute != null) {
-                    attributeName = attribute.getName();
-                    attributeValues = attribute.getStringValues();
-                }
+    protected MergeEntry prepareMergeEntry(Object entry) {
+        Class<?> entryClass = entry.getClass();
+        checkEntryClass(entryClass, true);
+        if (isSchemaEntry(entryClass)) {
+            throw new UnsupportedOperationException("Bulk merge of schema entries is not supported");
+        }
+
+        return prepareMergeEntry(entry, false, isConfigurationEntry(entryClass), null);
+    }
 
-                String oldAttributeName = null;
-                String[] oldAttributeValues = null;
-                if (oldAttribute != null) {
-                    oldAttributeName = oldAttribute.getName();
-                    oldAttributeValues = oldAttribute.getStringValues();
+    @Override
+    protected void merge(List<MergeEntry> mergeEntries) {
+        List<MergeEntry> batchEntries = new ArrayList<MergeEntry>(mergeEntries.size());
+        List<String> dns = new ArrayList<String>(mergeEntries.size());
+        List<List<Modification>> entriesModifications = new ArrayList<List<Modification>>(mergeEntries.size());
+        for (MergeEntry mergeEntry : mergeEntries) {
+            try {
+                List<Modification> modifications = toLdapModifications(mergeEntry.getAttributeDataModifications());
+                if (modifications.isEmpty()) {
+                    continue;
                 }
 
-                Modification modification = null;
-                if (AttributeModificationType.ADD.equals(attributeDataModification.getModificationType())) {
-                    modification = createModification(ModificationType.ADD, attributeName, attributeValues);
-                } else {
-                    if (AttributeModificationType.REMOVE.equals(attributeDataModification.getModificationType())) {
-                        modification = createModification(ModificationType.DELETE, oldAttributeName, oldAttributeValues);
-                    } else if (AttributeModificationType.REPLACE.equals(attributeDataModification.getModificationType())) {
-                        if (attributeValues.length == 1) {
-                            modification = createModification(ModificationType.REPLACE, attributeName, attributeValues);
-                        } else {
-                            String[] oldValues = ArrayHelper.arrayClone(oldAttributeValues);
-                            String[] newValues = ArrayHelper.arrayClone(attributeValues);
-
-                            Arrays.sort(oldValues);
-                            Arrays.sort(newValues);
-
-                            boolean[] retainOldValues = new boolean[oldValues.length];
-                            Arrays.fill(retainOldValues, false);
-
-                            List<String> addValues = new ArrayList<String>();
-                            List<String> removeValues = new ArrayList<String>();
-
-                            // Add new values
-                            for (String value : newValues) {
-                                int idx = Arrays.binarySearch(oldValues, value, new Comparator<String>() {
-                                    @Override
-                                    public int compare(String o1, String o2) {
-                                        return o1.toLowerCase().compareTo(o2.toLowerCase());
-                                    }
-                                });
-                                if (idx >= 0) {
-                                    // Old values array contains new value. Retain
-                                    // old value
-                                    retainOldValues[idx] = true;
-                                } else {
-                                    // This is new value
-                                    addValues.add(value);
-                                }
-                            }
+                batchEntries.add(mergeEntry);
+                dns.add(mergeEntry.getDn());
+                entriesModifications.add(modifications);
+            } catch (Exception ex) {
+                mergeEntry.setError(new EntryPersistenceException(String.format("Failed to update entry: %s", mergeEntry.getDn()), ex));
+            }
+        }
 
-                            // Remove values which we don't have in new values
-                            for (int i = 0; i < oldValues.length; i++) {
-                                if (!retainOldValues[i]) {
-                                    removeValues.add(oldValues[i]);
+        if (batchEntries.isEmpty()) {
+            return;
+        }
+
+        // Update entries with pipelined modify requests
+        try {
+            Map<Integer, Exception> errors = getOperationService().updateEntries(dns, entriesModifications);
+            for (Map.Entry<Integer, Exception> error : errors.entrySet()) {
+                MergeEntry mergeEntry = batchEntries.get(error.getKey());
+                mergeEntry.setError(new EntryPersistenceException(String.format("Failed to update entry: %s", mergeEntry.getDn()), error.getValue()));
+            }
+        } catch (Exception ex) {
+            for (MergeEntry mergeEntry : batchEntries) {
+                mergeEntry.setError(new EntryPersistenceException(String.format("Failed to update entry: %s", mergeEntry.getDn()), ex));
+            }
+        }
+    }
+
+    private List<Modification> toLdapModifications(List<AttributeDataModification> attributeDataModifications) {
+        List<Modification> modifications = new ArrayList<Modification>(attributeDataModifications.size());
+        for (AttributeDataModification attributeDataModification : attributeDataModifications) {
+            AttributeData attribute = attributeDataModification.getAttribute();
+            AttributeData oldAttribute = attributeDataModification.getOldAttribute();
+
+            String attributeName = null;
+            String[] attributeValues = null;
+            if (attribute != null) {
+                attributeName = attribute.getName();
+                attributeValues = attribute.getStringValues();
+            }
+
+            String oldAttributeName = null;
+            String[] oldAttributeValues = null;
+            if (oldAttribute != null) {
+                oldAttributeName = oldAttribute.getName();
+                oldAttributeValues = oldAttribute.getStringValues();
+            }
+
+            Modification modification = null;
+            if (AttributeModificationType.ADD.equals(attributeDataModification.getModificationType())) {
+                modification = createModification(ModificationType.ADD, attributeName, attributeValues);
+            } else {
+                if (AttributeModificationType.REMOVE.equals(attributeDataModification.getModificationType())) {
+                    modification = createModification(ModificationType.DELETE, oldAttributeName, oldAttributeValues);
+                } else if (AttributeModificationType.REPLACE.equals(attributeDataModification.getModificationType())) {
+                    if (attributeValues.length == 1) {
+                        modification = createModification(ModificationType.REPLACE, attributeName, attributeValues);
+                    } else {
+                        String[] oldValues = ArrayHelper.arrayClone(oldAttributeValues);
+                        String[] newValues = ArrayHelper.arrayClone(attributeValues);
+
+                        Arrays.sort(oldValues);
+                        Arrays.sort(newValues);
+
+                        boolean[] retainOldValues = new boolean[oldValues.length];
+                        Arrays.fill(retainOldValues, false);
+
+                        List<String> addValues = new ArrayList<String>();
+                        List<String> removeValues = new ArrayList<String>();
+
+                        // Add new values
+                        for (String value : newValues) {
+                            int idx = Arrays.binarySearch(oldValues, value, new Comparator<String>() {
+                                @Override
+                                public int compare(String o1, String o2) {
+                                    return o1.toLowerCase().compareTo(o2.toLowerCase());
                                 }
+                            });
+                            if (idx >= 0) {
+                                // Old values array contains new value. Retain
+                                // old value
+                                retainOldValues[idx] = true;
+                            } else {
+                                // This is new value
+                                addValues.add(value);
                             }
+                        }
 
-                            if (removeValues.size() > 0) {
-                                Modification removeModification = createModification(ModificationType.DELETE, attributeName,
-                                        removeValues.toArray(new String[removeValues.size()]));
-                                modifications.add(removeModification);
+                        // Remove values which we don't have in new values
+                        for (int i = 0; i < oldValues.length; i++) {
+                            if (!retainOldValues[i]) {
+                                removeValues.add(oldValues[i]);
                             }
+                        }
 
-                            if (addValues.size() > 0) {
-                                Modification addModification = createModification(ModificationType.ADD, attributeName,
-                                        addValues.toArray(new String[addValues.size()]));
-                                modifications.add(addModification);
-                            }
+                        if (removeValues.size() > 0) {
+                            Modification removeModification = createModification(ModificationType.DELETE, attributeName,
+                                    removeValues.toArray(new String[removeValues.size()]));
+                            modifications.add(removeModification);
                         }
-                    }
-                }
 
-                if (modification != null) {
-                    modifications.add(modification);
+                        if (addValues.size() > 0) {
+                            Modification addModification = createModification(ModificationType.ADD, attributeName,
+                                    addValues.toArray(new String[addValues.size()]));
+                            modifications.add(addModification);
+                        }
+                    }
                 }
             }
 
-            if (modifications.size() > 0) {
-                boolean result = getOperationService().updateEntry(dn, modifications);
-                if (!result) {
-                    throw new EntryPersistenceException(String.format("Failed to update entry: %s", dn));
-                }
+            if (modification != null) {
+                modifications.add(modification);
             }
-        } catch (ConnectionException ex) {
-            throw new EntryPersistenceException(String.format("Failed to update entry: %s", dn), ex.getCause());
-        } catch (Exception ex) {
-            throw new EntryPersistenceException(String.format("Failed to update entry: %s", dn), ex);
         }
+
+        return modifications;
     }
 
     @Override
@@ -308,6 +429,65 @@ public class LdapEntryManager extends BaseEntryManager implements Serializable {
         }
     }
 
+    @Override
+    protected CompletableFuture<Void> removeByDnAsync(String dn, String[] objectClasses) {
+        try {
+            for (DeleteNotifier subscriber : subscribers) {
+                subscriber.onBeforeRemove(dn);
+            }
+        } catch (Exception ex) {
+            return failedFuture(new EntryDeleteException(String.format("Failed to remove entry: %s", dn), ex));
+        }
+
+        return getOperationService().deleteAsync(dn).handle((result, ex) -> {
+            if (ex != null) {
+                throw new EntryDeleteException(String.format("Failed to remove entry: %s", dn), unwrapCompletionException(ex));
+            }
+
+            try {
+                for (DeleteNotifier subscriber : subscribers) {
+                    subscriber.onAfterRemove(dn);
+                }
+            } catch (Exception subscriberEx) {
+                throw new EntryDeleteException(String.format("Failed to remove entry: %s", dn), subscriberEx);
+            }
+
+            return null;
+        });
+    }
+
+    @Override
+    protected Map<String, Exception> removeByDns(List<String> dns, String[] objectClasses) {
+        Map<String, Exception> errors = new HashMap<String, Exception>();
+        try {
+            for (String dn : dns) {
+                for (DeleteNotifier subscriber : subscribers) {
+                    subscriber.onBeforeRemove(dn);
+                }
+            }
+
+            // Remove entries with pipelined delete requests
+            Map<Integer, Exception> deleteErrors = getOperationService().delete(dns);
+            for (int i = 0; i < dns.size(); i++) {
+                String dn = dns.get(i);
+                Exception deleteError = deleteErrors.get(i);
+                if (deleteError == null) {
+                    for (DeleteNotifier subscriber : subscribers) {
+                        subscriber.onAfterRemove(dn);
+                    }
+                } else {
+                    errors.put(dn, new EntryDeleteException(String.format("Failed to remove entry: %s", dn), deleteError));
+                }
+            }
+        } catch (Exception ex) {
+            for (String dn : dns) {
+                errors.put(dn, new EntryDeleteException(String.format("Failed to remove entry: %s", dn), ex));
+            }
+        }
+
+        return errors;
+    }
+
     @Override
 	public <T> int remove(String baseDN, Class<T> entryClass, Filter filter, int count) {
         if (StringHelper.isEmptyString(baseDN)) {
@@ -408,6 +588,43 @@ public class LdapEntryManager extends BaseEntryManager implements Serializable {
         throw new EntryPersistenceException(String.format("Failed to find entry: %s", dn));
     }
 
+    @Override
+    protected CompletableFuture<List<AttributeData>> findAsync(String dn, String[] objectClasses, Map<String, PropertyAnnotation> propertiesAnnotationsMap, String... ldapReturnAttributes) {
+        // Load entry without waiting for response
+        return getOperationService().lookupAsync(dn, ldapReturnAttributes).handle((entry, ex) -> {
+            if (ex != null) {
+                throw new EntryPersistenceException(String.format("Failed to find entry: %s", dn), unwrapCompletionException(ex));
+            }
+
+            List<AttributeData> result = getAttributeDataList(entry);
+            if (result == null) {
+                throw new EntryPersistenceException(String.format("Failed to find entry: %s", dn));
+            }
+
+            return result;
+        });
+    }
+
+    @Override
+    protected Map<String, List<AttributeData>> findByDns(List<String> dns, String[] objectClasses, Map<String, PropertyAnnotation> propertiesAnnotationsMap, String... ldapReturnAttributes) {
+        try {
+            // Load entries with pipelined lookups
+            Map<String, SearchResultEntry> entries = getOperationService().lookup(dns, ldapReturnAttributes);
+
+            Map<String, List<AttributeData>> result = new HashMap<String, List<AttributeData>>();
+            for (Map.Entry<String, SearchResultEntry> entry : entries.entrySet()) {
+                List<AttributeData> attributes = getAttributeDataList(entry.getValue());
+                if (attributes != null) {
+                    result.put(entry.getKey(), attributes);
+                }
+            }
+
+            return result;
+        } catch (Exception ex) {
+            throw new EntryPersistenceException(String.format("Failed to find entries: %s", dns), ex);
+        }
+    }
+
     @Override
     public <T> List<T> findEntries(String baseDN, Class<T> entryClass, Filter filter, SearchScope scope, String[] ldapReturnAttributes,
             BatchOperation<T> batchOperation, int start, int count, int chunkSize) {
@@ -455,6 +672,8 @@ public class LdapEntryManager extends BaseEntryManager implements Serializable {
         // Default sort if needed
         sortEntriesIfNeeded(entryClass, entries);
 
+        trackEntries(entryClass, entries, ldapReturnAttributes);
+
         return entries;
     }
 
@@ -494,6 +713,7 @@ public class LdapEntryManager extends BaseEntryManager implements Serializable {
         List<T> entries = new ArrayList<T>(0);
         if (searchResultEntries.size() > 0) {
             entries = createEntitiesVirtualListView(entryClass, propertiesAnnotations, searchResultEntries.toArray(new SearchResultEntry[]{}));
+            trackEntries(entryClass, entries, ldapReturnAttributes);
         }
         vlvResponse.setEntries(entries);
 
@@ -501,6 +721,102 @@ public class LdapEntryManager extends BaseEntryManager implements Serializable {
 
     }
 
+    @Override
+    public <T> Stream<T> streamEntries(String baseDN, Class<T> entryClass, Filter filter, SearchScope scope, String[] ldapReturnAttributes,
+            int pageSize) {
+        if (StringHelper.isEmptyString(baseDN)) {
+            throw new MappingException("Base DN to find entries is null");
+        }
+
+        // Check entry class
+        checkEntryClass(entryClass, false);
+        String[] objectClasses = getTypeObjectClasses(entryClass);
+        List<PropertyAnnotation> propertiesAnnotations = getEntryPropertyAnnotations(entryClass);
+        String[] currentLdapReturnAttributes = ldapReturnAttributes;
+        if (ArrayHelper.isEmpty(currentLdapReturnAttributes)) {
+            currentLdapReturnAttributes = getAttributes(null, propertiesAnnotations, false);
+        }
+
+        // Find entries
+        Filter searchFilter;
+        if (objectClasses.length > 0) {
+            searchFilter = addObjectClassFilter(filter, objectClasses);
+        } else {
+            searchFilter = filter;
+        }
+
+        SearchRequest searchRequest;
+        try {
+            searchRequest = new SearchRequest(baseDN, toLdapSearchScope(scope), toLdapFilter(searchFilter), currentLdapReturnAttributes);
+        } catch (Exception ex) {
+            throw new EntryPersistenceException(String.format("Failed to find entries with baseDN: %s, filter: %s", baseDN, searchFilter), ex);
+        }
+
+        // Pages are loaded with simple paged results control. Server keeps search state until last page is loaded
+        // or search is abandoned. Hence connection is not returned to pool until stream is closed
+        PagedEntriesIterator<SearchResultEntry, T> entriesIterator = new PagedEntriesIterator<SearchResultEntry, T>(pageSize) {
+
+            private LDAPConnection connection;
+            private ASN1OctetString cookie;
+
+            @Override
+            protected List<SearchResultEntry> loadPage(int start, int count) {
+                try {
+                    if (connection == null) {
+                        connection = getOperationService().getConnection();
+                    }
+
+                    searchRequest.setControls(new SimplePagedResultsControl(count, cookie));
+                    SearchResult searchResult = connection.search(searchRequest);
+
+                    SimplePagedResultsControl responseControl = SimplePagedResultsControl.get(searchResult);
+                    if ((responseControl != null) && responseControl.moreResultsToReturn()) {
+                        cookie = responseControl.getCookie();
+                    } else {
+                        cookie = null;
+                    }
+
+                    return searchResult.getSearchEntries();
+                } catch (LDAPException ex) {
+                    throw new EntryPersistenceException(String.format("Failed to find entries with baseDN: %s, filter: %s", baseDN, searchFilter), ex);
+                }
+            }
+
+            @Override
+            protected boolean isLastPage(List<SearchResultEntry> rows) {
+                return cookie == null;
+            }
+
+            @Override
+            protected T createEntry(SearchResultEntry searchResultEntry) {
+                return createEntities(entryClass, propertiesAnnotations, searchResultEntry).get(0);
+            }
+
+            @Override
+            protected void closeSearch() {
+                if (connection == null) {
+                    return;
+                }
+
+                try {
+                    if (cookie != null) {
+                        // Request with zero page size abandons paged search
+                        searchRequest.setControls(new SimplePagedResultsControl(0, cookie));
+                        connection.search(searchRequest);
+                    }
+                } catch (LDAPException ex) {
+                    LOG.debug("Failed to abandon paged search with baseDN: {}", baseDN, ex);
+                } finally {
+                    getOperationService().releaseConnection(connection);
+                    connection = null;
+                    cookie = null;
+                }
+            }
+        };
+
+        return entriesIterator.stream();
+    }
+
     @Deprecated
     public <T> List<T> findEntriesVirtualListView(String baseDN, Class<T> entryClass, Filter filter, int start, int count, String sortBy,
             SortOrder sortOrder, PagedResult vlvResponse, String[] ldapReturnAttributes) {
@@ -742,7 +1058,7 @@ public class LdapEntryManager extends BaseEntryManager implements Serializable {
     @Override
     public <T> boolean authenticate(String bindDn, Class<T> entryClass, String password) {
         try {
-            return getOperationService().authenticate(bindDn, password, null);
+            return authenticate(bindDn, entryClass, password, () -> getOperationService().authenticate(bindDn, password, null));
         } catch (Exception ex) {
             throw new AuthenticationException(String.format("Failed to authenticate DN: %s", bindDn), ex);
         }
@@ -10,6 +10,7 @@ import javax.enterprise.context.ApplicationScoped;
 
 import io.jans.orm.exception.operation.SearchException;
 import io.jans.orm.search.filter.Filter;
+import io.jans.orm.search.filter.FilterOptimizer;
 import io.jans.orm.search.filter.FilterType;
 import io.jans.orm.util.ArrayHelper;
 
@@ -21,14 +22,22 @@ import io.jans.orm.util.ArrayHelper;
 @ApplicationScoped
 public class LdapFilterConverter {
 
+    // LDAP has no IN operator. Grouping of equalities makes filter longer
+    private static final FilterOptimizer filterOptimizer = new FilterOptimizer(false);
+
+    // Shared by converters of all backends
+    private static final RawFilterCache rawFilterCache = new RawFilterCache(
+            Integer.getInteger(RawFilterCache.RAW_FILTER_CACHE_SIZE, RawFilterCache.DEFAULT_MAX_SIZE),
+            Integer.getInteger(RawFilterCache.RAW_FILTER_WARNINGS_SIZE, RawFilterCache.DEFAULT_MAX_WARNING_FILTERS));
+
     public com.unboundid.ldap.sdk.Filter convertToLdapFilter(Filter genericFilter) throws SearchException {
+        return convertToLdapFilterImpl(filterOptimizer.optimize(genericFilter));
+    }
+
+    private com.unboundid.ldap.sdk.Filter convertToLdapFilterImpl(Filter genericFilter) throws SearchException {
         FilterType type = genericFilter.getType();
         if (FilterType.RAW == type) {
-            try {
-                return com.unboundid.ldap.sdk.Filter.create(genericFilter.getFilterString());
-            } catch (com.unboundid.ldap.sdk.LDAPException ex) {
-                throw new SearchException("Failed to parse RAW Ldap filter", ex, ex.getResultCode().intValue());
-            }
+            return parseRawLdapFilter(genericFilter.getFilterString()).getLdapFilter();
         }
 
         if ((FilterType.NOT == type) || (FilterType.AND == type) || (FilterType.OR == type)) {
@@ -37,7 +46,7 @@ public class LdapFilterConverter {
 
             if (genericFilters != null) {
                 for (int i = 0; i < genericFilters.length; i++) {
-                    ldapFilters[i] = convertToLdapFilter(genericFilters[i]);
+                    ldapFilters[i] = convertToLdapFilterImpl(genericFilters[i]);
                 }
 
                 if (FilterType.NOT == type) {
@@ -55,7 +64,7 @@ public class LdapFilterConverter {
         	if (ArrayHelper.isEmpty(genericFilter.getFilters())) {
         		attributeName = genericFilter.getAttributeName();
         	} else {
-        		attributeName = convertToLdapFilter(genericFilter.getFilters()[0]).getAttributeName();
+        		attributeName = convertToLdapFilterImpl(genericFilter.getFilters()[0]).getAttributeName();
         	}
             return com.unboundid.ldap.sdk.Filter.createEqualityFilter(attributeName, String.valueOf(genericFilter.getAssertionValue()));
         }
@@ -89,16 +98,51 @@ public class LdapFilterConverter {
         throw new SearchException(String.format("Unknown filter type '%s'", type), com.unboundid.ldap.sdk.ResultCode.PROTOCOL_ERROR_INT_VALUE);
     }
 
+    /**
+     * Returned filter is frozen because it's shared between calls with the same
+     * RAW filter
+     */
     public Filter convertRawLdapFilterToFilter(String rawFilter) throws SearchException {
-    	com.unboundid.ldap.sdk.Filter ldapFilter;
+    	RawFilterCache.CachedFilter cachedFilter = parseRawLdapFilter(rawFilter);
+
+    	// Only non LDAP backends convert RAW filters and they log it as deprecated
+    	rawFilterCache.warning(rawFilter);
+
+    	Filter filter = cachedFilter.getFilter();
+    	if (filter == null) {
+    		filter = convertRawLdapFilterToFilterImpl(cachedFilter.getLdapFilter()).freeze();
+    		cachedFilter.setFilter(filter);
+    	}
+
+        return filter;
+   }
+
+    private RawFilterCache.CachedFilter parseRawLdapFilter(String rawFilter) throws SearchException {
+    	boolean useCache = (rawFilter != null) && rawFilterCache.isEnabled();
+    	if (useCache) {
+    		RawFilterCache.CachedFilter cachedFilter = rawFilterCache.get(rawFilter);
+    		if (cachedFilter != null) {
+    			return cachedFilter;
+    		}
+    	}
+
+    	RawFilterCache.CachedFilter cachedFilter;
         try {
-        	ldapFilter = com.unboundid.ldap.sdk.Filter.create(rawFilter);
+        	cachedFilter = new RawFilterCache.CachedFilter(com.unboundid.ldap.sdk.Filter.create(rawFilter));
         } catch (com.unboundid.ldap.sdk.LDAPException ex) {
             throw new SearchException("Failed to parse RAW Ldap filter", ex, ex.getResultCode().intValue());
         }
 
-        return convertRawLdapFilterToFilterImpl(ldapFilter);
-   }
+        if (useCache) {
+        	rawFilterCache.put(rawFilter, cachedFilter);
+        }
+
+        return cachedFilter;
+    }
+
+    public static RawFilterCache getRawFilterCache() {
+    	return rawFilterCache;
+    }
 
     protected Filter convertRawLdapFilterToFilterImpl(com.unboundid.ldap.sdk.Filter ldapFilter) throws SearchException {
         byte type = ldapFilter.getFilterType();
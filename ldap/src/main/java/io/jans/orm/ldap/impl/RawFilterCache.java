@@ -0,0 +1,252 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.ldap.impl;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.jans.orm.search.filter.Filter;
+
+/**
+ * Cache of parsed RAW LDAP filters by filter string. Cache is bounded by size,
+ * least recently used filters are evicted first.
+ *
+ * Each use of RAW filter by non LDAP backend is logged as deprecated. Cache
+ * counts these warnings per filter string to help find filters which should be
+ * migrated first. Warning counts are kept apart from cached filters, so they
+ * are not lost when filter is evicted. Count of filter strings is bounded too:
+ * when it's full, new filter string replaces one with the fewest warnings and
+ * continues its count (Space-Saving algorithm). So filters with many warnings
+ * stay in counts, and count of filter is at most overestimated by count of
+ * replaced filter
+ */
+public class RawFilterCache {
+
+	/**
+	 * System property with maximum count of cached RAW filters. 0 disables cache
+	 */
+	public static final String RAW_FILTER_CACHE_SIZE = "jans.orm.raw_filter_cache.size";
+
+	public static final int DEFAULT_MAX_SIZE = 1000;
+
+	/**
+	 * System property with maximum count of filter strings with counted warnings
+	 */
+	public static final String RAW_FILTER_WARNINGS_SIZE = "jans.orm.raw_filter_warnings.size";
+
+	public static final int DEFAULT_MAX_WARNING_FILTERS = 1000;
+
+	private final Object lock = new Object();
+
+	private final LinkedHashMap<String, CachedFilter> filters = new LinkedHashMap<String, CachedFilter>(16, 0.75f, true);
+
+	private volatile int maxSize;
+
+	private final Object warningLock = new Object();
+
+	private final HashMap<String, Long> warningCounts = new HashMap<String, Long>();
+
+	private final int maxWarningFilters;
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+	private final LongAdder warningCount = new LongAdder();
+
+	/**
+	 * @param maxSize
+	 *            Maximum count of cached filters. 0 disables cache
+	 */
+	public RawFilterCache(int maxSize) {
+		this(maxSize, DEFAULT_MAX_WARNING_FILTERS);
+	}
+
+	/**
+	 * @param maxSize
+	 *            Maximum count of cached filters. 0 disables cache
+	 * @param maxWarningFilters
+	 *            Maximum count of filter strings with counted warnings. 0 disables
+	 *            counting of warnings per filter string
+	 */
+	public RawFilterCache(int maxSize, int maxWarningFilters) {
+		this.maxSize = maxSize;
+		this.maxWarningFilters = maxWarningFilters;
+	}
+
+	public boolean isEnabled() {
+		return maxSize > 0;
+	}
+
+	/**
+	 * @return Cached filter or null if there is no filter in cache
+	 */
+	public CachedFilter get(String rawFilter) {
+		synchronized (lock) {
+			CachedFilter cachedFilter = filters.get(rawFilter);
+			if (cachedFilter == null) {
+				missCount.increment();
+			} else {
+				hitCount.increment();
+			}
+
+			return cachedFilter;
+		}
+	}
+
+	public void put(String rawFilter, CachedFilter cachedFilter) {
+		if (!isEnabled()) {
+			return;
+		}
+
+		synchronized (lock) {
+			filters.put(rawFilter, cachedFilter);
+
+			Iterator<String> eldestKeys = filters.keySet().iterator();
+			while (filters.size() > maxSize) {
+				eldestKeys.next();
+				eldestKeys.remove();
+				evictionCount.increment();
+			}
+		}
+	}
+
+	/**
+	 * Count deprecation warning of RAW filter use
+	 */
+	public void warning(String rawFilter) {
+		warningCount.increment();
+		if ((rawFilter == null) || (maxWarningFilters <= 0)) {
+			return;
+		}
+
+		synchronized (warningLock) {
+			Long count = warningCounts.get(rawFilter);
+			if (count == null) {
+				count = 0L;
+				if (warningCounts.size() >= maxWarningFilters) {
+					// Replace filter with the fewest warnings. New filter continues its count
+					Map.Entry<String, Long> minEntry = null;
+					for (Map.Entry<String, Long> entry : warningCounts.entrySet()) {
+						if ((minEntry == null) || (entry.getValue() < minEntry.getValue())) {
+							minEntry = entry;
+						}
+					}
+					count = minEntry.getValue();
+					warningCounts.remove(minEntry.getKey());
+				}
+			}
+
+			warningCounts.put(rawFilter, count + 1);
+		}
+	}
+
+	/**
+	 * @return Filter strings with the most warnings and count of warnings in
+	 *         descending order. Filter strings don't have to be in cache
+	 */
+	public Map<String, Long> getHottestFilters(int limit) {
+		List<Map.Entry<String, Long>> counts;
+		synchronized (warningLock) {
+			counts = new ArrayList<Map.Entry<String, Long>>(warningCounts.size());
+			for (Map.Entry<String, Long> entry : warningCounts.entrySet()) {
+				counts.add(new AbstractMap.SimpleImmutableEntry<String, Long>(entry.getKey(), entry.getValue()));
+			}
+		}
+		counts.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+
+		Map<String, Long> result = new LinkedHashMap<String, Long>();
+		for (int i = 0; (i < counts.size()) && (i < limit); i++) {
+			result.put(counts.get(i).getKey(), counts.get(i).getValue());
+		}
+
+		return result;
+	}
+
+	public void clear() {
+		synchronized (lock) {
+			filters.clear();
+		}
+	}
+
+	public int size() {
+		synchronized (lock) {
+			return filters.size();
+		}
+	}
+
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	public int getMaxWarningFilters() {
+		return maxWarningFilters;
+	}
+
+	public void setMaxSize(int maxSize) {
+		this.maxSize = maxSize;
+		if (maxSize <= 0) {
+			clear();
+		}
+	}
+
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	public long getEvictionCount() {
+		return evictionCount.sum();
+	}
+
+	public long getWarningCount() {
+		return warningCount.sum();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("RawFilterCache [size=%s, maxSize=%s, hits=%s, misses=%s, evictions=%s, warnings=%s]", size(), maxSize,
+				getHitCount(), getMissCount(), getEvictionCount(), getWarningCount());
+	}
+
+	/**
+	 * Parsed LDAP filter and filter converted from it. Both of them are immutable
+	 */
+	public static final class CachedFilter {
+
+		private final com.unboundid.ldap.sdk.Filter ldapFilter;
+		private volatile Filter filter;
+
+		public CachedFilter(com.unboundid.ldap.sdk.Filter ldapFilter) {
+			this.ldapFilter = ldapFilter;
+		}
+
+		public com.unboundid.ldap.sdk.Filter getLdapFilter() {
+			return ldapFilter;
+		}
+
+		/**
+		 * @return Frozen converted filter or null if filter was not converted yet
+		 */
+		public Filter getFilter() {
+			return filter;
+		}
+
+		public void setFilter(Filter filter) {
+			this.filter = filter;
+		}
+	}
+
+}
@@ -8,6 +8,8 @@ package io.jans.orm.ldap.operation;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import io.jans.orm.ldap.impl.LdapBatchOperationWraper;
 import io.jans.orm.exception.operation.ConnectionException;
@@ -72,9 +74,26 @@ public interface LdapOperationService extends PersistenceOperationService {
      * @param attributes
      * @return SearchResultEntry
      * @throws ConnectionException
+     * @throws SearchException with EntryNotFoundException cause if entry doesn't exist
      */
     SearchResultEntry lookup(String dn, String... attributes) throws ConnectionException, SearchException;
 
+    /**
+     * Lookup entries in the directory. Base object searches are sent over one
+     * connection without waiting for responses
+     *
+     * @return Found entries by requested DN. Entries which don't exist are not in result
+     */
+    Map<String, SearchResultEntry> lookup(List<String> dns, String... attributes) throws ConnectionException, SearchException;
+
+    /**
+     * Lookup entry without waiting for response. Future is completed by thread which
+     * reads responses of connection
+     *
+     * @return Future which is completed exceptionally with SearchException if entry doesn't exist
+     */
+    CompletableFuture<SearchResultEntry> lookupAsync(String dn, String... attributes);
+
     /**
      * Use this method to add new entry
      *
@@ -91,6 +110,20 @@ public interface LdapOperationService extends PersistenceOperationService {
      */
     boolean addEntry(String dn, Collection<Attribute> atts) throws DuplicateEntryException, ConnectionException;
 
+    /**
+     * Add entry without waiting for response
+     *
+     * @return Future which is completed exceptionally with DuplicateEntryException or ConnectionException
+     */
+    CompletableFuture<Boolean> addEntryAsync(String dn, Collection<Attribute> atts);
+
+    /**
+     * Pipeline add requests over one connection and wait for all responses
+     *
+     * @return Errors of entries which were not added by index of entry
+     */
+    Map<Integer, Exception> addEntries(List<String> dns, List<? extends Collection<Attribute>> entriesAttributes) throws ConnectionException;
+
     /**
      * This method is used to update set of attributes for an entry
      *
@@ -102,6 +135,13 @@ public interface LdapOperationService extends PersistenceOperationService {
      */
     boolean updateEntry(String dn, List<Modification> modifications) throws DuplicateEntryException, ConnectionException;
 
+    /**
+     * Send modify requests over one connection without waiting for responses
+     *
+     * @return Errors of entries which were not updated by index of entry
+     */
+    Map<Integer, Exception> updateEntries(List<String> dns, List<? extends List<Modification>> entriesModifications) throws ConnectionException;
+
     /**
      * Delete entry from the directory
      *
@@ -110,6 +150,20 @@ public interface LdapOperationService extends PersistenceOperationService {
      */
     boolean delete(String dn) throws ConnectionException;
 
+    /**
+     * Delete entry without waiting for response
+     *
+     * @return Future which is completed with false if entry wasn't deleted
+     */
+    CompletableFuture<Boolean> deleteAsync(String dn);
+
+    /**
+     * Send delete requests over one connection without waiting for responses
+     *
+     * @return Errors of entries which were not removed by index of entry
+     */
+    Map<Integer, Exception> delete(List<String> dns) throws ConnectionException;
+
     /**
      * Delete entry from the directory
      *
@@ -18,6 +18,8 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import io.jans.orm.ldap.exception.InvalidSimplePageControlException;
 import io.jans.orm.ldap.impl.LdapBatchOperationWraper;
@@ -29,11 +31,14 @@ import io.jans.orm.exception.MappingException;
 import io.jans.orm.exception.extension.PersistenceExtension;
 import io.jans.orm.exception.operation.ConnectionException;
 import io.jans.orm.exception.operation.DuplicateEntryException;
+import io.jans.orm.exception.operation.EntryNotFoundException;
 import io.jans.orm.exception.operation.SearchException;
 import io.jans.orm.ldap.operation.LdapOperationService;
 import io.jans.orm.model.BatchOperation;
 import io.jans.orm.model.PagedResult;
 import io.jans.orm.model.SortOrder;
+import io.jans.orm.operation.PagePrefetcher;
+import io.jans.orm.operation.PagePrefetcher.PageLoader;
 import io.jans.orm.operation.auth.PasswordEncryptionHelper;
 import io.jans.orm.operation.auth.PasswordEncryptionMethod;
 import io.jans.orm.util.ArrayHelper;
@@ -43,6 +48,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.unboundid.asn1.ASN1OctetString;
+import com.unboundid.ldap.sdk.AddRequest;
+import com.unboundid.ldap.sdk.AsyncRequestID;
+import com.unboundid.ldap.sdk.AsyncResultListener;
+import com.unboundid.ldap.sdk.AsyncSearchResultListener;
 import com.unboundid.ldap.sdk.Attribute;
 import com.unboundid.ldap.sdk.BindResult;
 import com.unboundid.ldap.sdk.Control;
@@ -312,9 +321,9 @@ public class LdapOperationServiceImpl implements LdapOperationService {
                     	simplePagedResponse = scrollSimplePagedResultsControl(ldapConnection, dn, filter, scope, controls, start); 
                         cookie = simplePagedResponse.getCookie();
                     } catch (InvalidSimplePageControlException ex) {
-                        throw new LDAPSearchException(ex.getResultCode(), "Failed to scroll to specified start", ex);
+                        throw new LDAPSearchException(ex.getResultCode(), String.format("Failed to scroll to specified start: %d", start), ex);
                     } catch (LDAPException ex) {
-                        throw new LDAPSearchException(ex.getResultCode(), "Failed to scroll to specified start", ex);
+                        throw new LDAPSearchException(ex.getResultCode(), String.format("Failed to scroll to specified start: %d", start), ex);
                     }
                 }
                 
@@ -325,41 +334,70 @@ public class LdapOperationServiceImpl implements LdapOperationService {
                             searchResultEntries.size(), searchResultReferences.size(), searchResultTemp.getResponseControls());
                 }
 
-                do {
-                    collectSearchResult = true;
-                    searchRequest.setControls(new Control[] {new SimplePagedResultsControl(searchLimit, cookie)});
-                    setControls(searchRequest, controls);
-                    searchResult = ldapConnection.search(searchRequest);
+                final LDAPConnection pageConnection = ldapConnection;
+                final ASN1OctetString startCookie = cookie;
+                final int pageSizeLimit = searchLimit;
+                PageLoader<SearchResult> pageLoader = new PageLoader<SearchResult>() {
+                    private ASN1OctetString pageCookie = startCookie;
+                    private boolean lastPage = false;
+
+                    @Override
+                    public SearchResult loadPage() throws SearchException {
+                        if (lastPage) {
+                            return null;
+                        }
 
-                    if (ldapBatchOperation != null) {
-                        collectSearchResult = ldapBatchOperation.collectSearchResult(searchResult.getEntryCount());
-                    }
-                    if (collectSearchResult) {
-                        searchResultList.add(searchResult);
-                        searchResultEntries.addAll(searchResult.getSearchEntries());
-                        searchResultReferences.addAll(searchResult.getSearchReferences());
-                    }
+                        SearchResult pageSearchResult;
+                        try {
+                            searchRequest.setControls(new Control[] {new SimplePagedResultsControl(pageSizeLimit, pageCookie)});
+                            setControls(searchRequest, controls);
+                            pageSearchResult = pageConnection.search(searchRequest);
+                        } catch (LDAPException ex) {
+                            throw new SearchException("Failed to load next page of search results", ex, ex.getResultCode().intValue());
+                        }
 
-                    if (ldapBatchOperation != null) {
-                        List<T> entries = batchOperationWraper.createEntities(searchResult);
-                        ldapBatchOperation.performAction(entries);
-                    }
-                    cookie = null;
-                    try {
-                        SimplePagedResultsControl c = SimplePagedResultsControl.get(searchResult);
-                        if (c != null) {
-                            cookie = c.getCookie();
+                        pageCookie = null;
+                        try {
+                            SimplePagedResultsControl c = SimplePagedResultsControl.get(pageSearchResult);
+                            if (c != null) {
+                                pageCookie = c.getCookie();
+                            }
+                        } catch (LDAPException ex) {
+                            LOG.error("Error while accessing cookies" + ex.getMessage());
                         }
-                    } catch (LDAPException ex) {
-                        LOG.error("Error while accessing cookies" + ex.getMessage());
+
+                        lastPage = useSizeLimit || (pageCookie == null) || (pageCookie.getValueLength() == 0);
+
+                        return pageSearchResult;
                     }
+                };
+
+                collectSearchResult = true;
+                int prefetchPages = ldapBatchOperation == null ? 0 : ldapBatchOperation.getPrefetchPages();
+                try (PagePrefetcher<SearchResult> pages = PagePrefetcher.create(pageLoader, prefetchPages, batchOperationWraper == null ? null : batchOperationWraper.getPrefetchExecutor())) {
+                    SearchResult pageSearchResult;
+                    while ((pageSearchResult = pages.nextPage()) != null) {
+                        searchResult = pageSearchResult;
+                        collectSearchResult = true;
+
+                        if (ldapBatchOperation != null) {
+                            collectSearchResult = ldapBatchOperation.collectSearchResult(searchResult.getEntryCount());
+                        }
+                        if (collectSearchResult) {
+                            searchResultList.add(searchResult);
+                            searchResultEntries.addAll(searchResult.getSearchEntries());
+                            searchResultReferences.addAll(searchResult.getSearchReferences());
+                        }
 
-                    if (useSizeLimit) {
-                        break;
+                        if (ldapBatchOperation != null) {
+                            List<T> entries = batchOperationWraper.createEntities(searchResult);
+                            ldapBatchOperation.performAction(entries);
+                        }
                     }
-                } while ((cookie != null) && (cookie.getValueLength() > 0));
+                }
             } catch (LDAPException ex) {
-                throw new SearchException("Failed to scroll to specified start", ex, ex.getResultCode().intValue());
+                // Connection or scroll to start failed
+                throw new SearchException(ex.getMessage(), ex, ex.getResultCode().intValue());
             } finally {
                 if (ldapConnection != null) {
                     getConnectionPool().releaseConnection(ldapConnection);
@@ -627,7 +665,126 @@ public class LdapOperationServiceImpl implements LdapOperationService {
             throw new ConnectionException("Failed to lookup entry", ex);
         }
 
-        throw new SearchException(String.format("Failed to lookup entry by DN: '%s'", dn));
+        String message = String.format("Failed to lookup entry by DN: '%s'", dn);
+        throw new SearchException(message, new EntryNotFoundException(message));
+    }
+
+    @Override
+    public Map<String, SearchResultEntry> lookup(List<String> dns, String... attributes) throws ConnectionException, SearchException {
+        Instant startTime = OperationDurationUtil.instance().now();
+
+        Map<String, SearchResultEntry> result = lookupImpl(dns, attributes);
+
+        Duration duration = OperationDurationUtil.instance().duration(startTime);
+        OperationDurationUtil.instance().logDebug("LDAP operation: lookup batch, duration: {}, count: {}, found: {}, attributes: {}", duration, dns.size(), result.size(), attributes);
+
+        return result;
+    }
+
+    private Map<String, SearchResultEntry> lookupImpl(List<String> dns, String... attributes) throws ConnectionException, SearchException {
+        LDAPConnection connection;
+        try {
+            connection = connectionProvider.getConnection();
+        } catch (LDAPException ex) {
+            throw new ConnectionException("Failed to get connection from pool", ex);
+        }
+
+        Map<String, SearchResultEntry> result = new HashMap<String, SearchResultEntry>();
+        LDAPException connectionError = null;
+        try {
+            // Send all base object searches over one connection without waiting for responses
+            List<LookupResultListener> listeners = new ArrayList<LookupResultListener>(dns.size());
+            List<AsyncRequestID> requestIds = new ArrayList<AsyncRequestID>(dns.size());
+            Filter filter = Filter.createPresenceFilter("objectClass");
+            for (String dn : dns) {
+                LookupResultListener listener = new LookupResultListener();
+                try {
+                    requestIds.add(connection.asyncSearch(new SearchRequest(listener, dn, SearchScope.BASE, filter, attributes)));
+                } catch (LDAPException ex) {
+                    connectionError = ex;
+                    throw new ConnectionException("Failed to send lookup request", ex);
+                }
+                listeners.add(listener);
+            }
+
+            int processed = 0;
+            try {
+                for (; processed < requestIds.size(); processed++) {
+                    SearchResult searchResult;
+                    try {
+                        searchResult = requestIds.get(processed).get();
+                    } catch (ExecutionException ex) {
+                        throw new ConnectionException("Failed to lookup entry", ex.getCause());
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        throw new ConnectionException("Interrupted while waiting for lookup result", ex);
+                    }
+
+                    if (ResultCode.SUCCESS.equals(searchResult.getResultCode())) {
+                        SearchResultEntry entry = listeners.get(processed).getEntry();
+                        if (entry != null) {
+                            result.put(dns.get(processed), entry);
+                        }
+                    } else if (!ResultCode.NO_SUCH_OBJECT.equals(searchResult.getResultCode())) {
+                        throw new SearchException(String.format("Failed to lookup entry by DN: '%s'", dns.get(processed)), searchResult.getResultCode().intValue());
+                    }
+                }
+            } finally {
+                if (processed < requestIds.size()) {
+                    // Responses of remaining requests can still arrive, hence connection should not return to pool as healthy
+                    connectionError = abandonRequests(connection, requestIds.subList(processed, requestIds.size()));
+                }
+            }
+        } finally {
+            if (connectionError == null) {
+                connectionProvider.releaseConnection(connection);
+            } else {
+                connectionProvider.releaseConnection(connection, connectionError);
+            }
+        }
+
+        return result;
+    }
+
+    private LDAPException abandonRequests(LDAPConnection connection, List<AsyncRequestID> requestIds) {
+        for (AsyncRequestID requestId : requestIds) {
+            if (requestId.isDone()) {
+                continue;
+            }
+
+            try {
+                connection.abandon(requestId);
+            } catch (LDAPException ex) {
+                LOG.debug("Failed to abandon request: {}", requestId, ex);
+            }
+        }
+
+        return new LDAPException(ResultCode.LOCAL_ERROR, String.format("Lookup failed with %d pipelined requests not processed", requestIds.size()));
+    }
+
+    @Override
+    public CompletableFuture<SearchResultEntry> lookupAsync(String dn, String... attributes) {
+        Instant startTime = OperationDurationUtil.instance().now();
+
+        CompletableFuture<SearchResultEntry> result = executeAsync("lookup",
+                (connection, listener) -> connection.asyncSearch(new SearchRequest(listener, dn, SearchScope.BASE, Filter.createPresenceFilter("objectClass"), attributes)),
+                (ldapResult, entry) -> {
+                    if (ResultCode.SUCCESS.equals(ldapResult.getResultCode())) {
+                        if (entry != null) {
+                            return entry;
+                        }
+                    } else if (!ResultCode.NO_SUCH_OBJECT.equals(ldapResult.getResultCode())) {
+                        throw new SearchException(String.format("Failed to lookup entry by DN: '%s'", dn), ldapResult.getResultCode().intValue());
+                    }
+
+                    String message = String.format("Failed to lookup entry by DN: '%s'", dn);
+                    throw new SearchException(message, new EntryNotFoundException(message));
+                });
+
+        return result.whenComplete((entry, ex) -> {
+            Duration duration = OperationDurationUtil.instance().duration(startTime);
+            OperationDurationUtil.instance().logDebug("LDAP operation: lookup async, duration: {}, dn: {}, attributes: {}", duration, dn, attributes);
+        });
     }
 
     @Override
@@ -653,24 +810,185 @@ public class LdapOperationServiceImpl implements LdapOperationService {
                 return true;
             }
         } catch (final LDAPException ex) {
-            int errorCode = ex.getResultCode().intValue();
-            if (errorCode == ResultCode.ENTRY_ALREADY_EXISTS_INT_VALUE) {
-                throw new DuplicateEntryException();
+            throwAddException(ex);
+        }
+
+        return false;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> addEntryAsync(String dn, Collection<Attribute> attributes) {
+        Instant startTime = OperationDurationUtil.instance().now();
+
+        if (this.persistenceExtension != null) {
+            updateUserPasswordAttribute(attributes);
+        }
+
+        CompletableFuture<Boolean> result = executeAsync("add",
+                (connection, listener) -> connection.asyncAdd(new AddRequest(dn, attributes), listener),
+                (ldapResult, entry) -> {
+                    if (!ResultCode.SUCCESS.equals(ldapResult.getResultCode())) {
+                        throwAddException(new LDAPException(ldapResult));
+                    }
+
+                    return true;
+                });
+
+        return result.whenComplete((added, ex) -> {
+            Duration duration = OperationDurationUtil.instance().duration(startTime);
+            OperationDurationUtil.instance().logDebug("LDAP operation: add async, duration: {}, dn: {}, attributes: {}", duration, dn, attributes);
+        });
+    }
+
+    private void throwAddException(LDAPException ex) throws DuplicateEntryException {
+        int errorCode = ex.getResultCode().intValue();
+        if (errorCode == ResultCode.ENTRY_ALREADY_EXISTS_INT_VALUE) {
+            throw new DuplicateEntryException();
+        }
+        if (errorCode == ResultCode.INSUFFICIENT_ACCESS_RIGHTS_INT_VALUE) {
+            throw new ConnectionException("LDAP config error: insufficient access rights.", ex);
+        }
+        if (errorCode == ResultCode.TIME_LIMIT_EXCEEDED_INT_VALUE) {
+            throw new ConnectionException("LDAP Error: time limit exceeded", ex);
+        }
+        if (errorCode == ResultCode.OBJECT_CLASS_VIOLATION_INT_VALUE) {
+            throw new ConnectionException("LDAP config error: schema violation contact LDAP admin.", ex);
+        }
+
+        throw new ConnectionException("Error adding entry to directory. LDAP error number " + errorCode, ex);
+    }
+
+    @Override
+    public Map<Integer, Exception> addEntries(List<String> dns, List<? extends Collection<Attribute>> entriesAttributes) throws ConnectionException {
+        Instant startTime = OperationDurationUtil.instance().now();
+
+        Map<Integer, Exception> errors = addEntriesImpl(dns, entriesAttributes);
+
+        Duration duration = OperationDurationUtil.instance().duration(startTime);
+        OperationDurationUtil.instance().logDebug("LDAP operation: add batch, duration: {}, count: {}, errors: {}", duration, dns.size(), errors.size());
+
+        return errors;
+    }
+
+    private Map<Integer, Exception> addEntriesImpl(List<String> dns, List<? extends Collection<Attribute>> entriesAttributes) throws ConnectionException {
+        return executePipelined("add", dns.size(), (connection, i) -> {
+            Collection<Attribute> attributes = entriesAttributes.get(i);
+            if (this.persistenceExtension != null) {
+                updateUserPasswordAttribute(attributes);
             }
-            if (errorCode == ResultCode.INSUFFICIENT_ACCESS_RIGHTS_INT_VALUE) {
-                throw new ConnectionException("LDAP config error: insufficient access rights.", ex);
+
+            return connection.asyncAdd(new AddRequest(dns.get(i), attributes), null);
+        }, this::throwAddException);
+    }
+
+    private interface AsyncRequestSender {
+
+        AsyncRequestID send(LDAPConnection connection, int index) throws LDAPException;
+
+    }
+
+    private interface ResultErrorHandler {
+
+        void throwException(LDAPException ex) throws Exception;
+
+    }
+
+    /*
+     * Send all requests over one connection without waiting for responses and wait for all of them at the end
+     */
+    private Map<Integer, Exception> executePipelined(String operation, int count, AsyncRequestSender sender, ResultErrorHandler errorHandler) throws ConnectionException {
+        Map<Integer, Exception> errors = new HashMap<Integer, Exception>();
+
+        LDAPConnection connection;
+        try {
+            connection = connectionProvider.getConnection();
+        } catch (LDAPException ex) {
+            throw new ConnectionException("Failed to get connection from pool", ex);
+        }
+
+        List<AsyncRequestID> requestIds = new ArrayList<AsyncRequestID>(count);
+        LDAPException connectionError = null;
+        try {
+            for (int i = 0; i < count; i++) {
+                if (connectionError == null) {
+                    try {
+                        requestIds.add(sender.send(connection, i));
+                        continue;
+                    } catch (LDAPException ex) {
+                        connectionError = ex;
+                    }
+                }
+
+                requestIds.add(null);
+                errors.put(i, new ConnectionException(String.format("Failed to send %s request", operation), connectionError));
             }
-            if (errorCode == ResultCode.TIME_LIMIT_EXCEEDED_INT_VALUE) {
-                throw new ConnectionException("LDAP Error: time limit exceeded", ex);
+
+            for (int i = 0; i < requestIds.size(); i++) {
+                AsyncRequestID requestId = requestIds.get(i);
+                if (requestId == null) {
+                    continue;
+                }
+
+                try {
+                    LDAPResult result = requestId.get();
+                    if (result.getResultCode() != ResultCode.SUCCESS) {
+                        errorHandler.throwException(new LDAPException(result));
+                    }
+                } catch (ExecutionException ex) {
+                    errors.put(i, new ConnectionException(String.format("Failed to execute %s request", operation), ex.getCause()));
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    errors.put(i, new ConnectionException(String.format("Interrupted while waiting for %s result", operation), ex));
+                } catch (Exception ex) {
+                    errors.put(i, ex);
+                }
             }
-            if (errorCode == ResultCode.OBJECT_CLASS_VIOLATION_INT_VALUE) {
-                throw new ConnectionException("LDAP config error: schema violation contact LDAP admin.", ex);
+        } finally {
+            if (connectionError == null) {
+                connectionProvider.releaseConnection(connection);
+            } else {
+                connectionProvider.releaseConnection(connection, connectionError);
             }
+        }
+
+        return errors;
+    }
+
+    private interface AsyncOperationSender {
+
+        AsyncRequestID send(LDAPConnection connection, AsyncOperationListener<?> listener) throws LDAPException;
+
+    }
+
+    private interface AsyncResultHandler<V> {
+
+        V handle(LDAPResult result, SearchResultEntry entry) throws Exception;
 
-            throw new ConnectionException("Error adding entry to directory. LDAP error number " + errorCode, ex);
+    }
+
+    /*
+     * Send request over pooled connection without waiting for response. Connection is returned to pool when result is received
+     */
+    private <V> CompletableFuture<V> executeAsync(String operation, AsyncOperationSender sender, AsyncResultHandler<V> resultHandler) {
+        CompletableFuture<V> result = new CompletableFuture<V>();
+
+        LDAPConnection connection;
+        try {
+            connection = connectionProvider.getConnection();
+        } catch (LDAPException ex) {
+            result.completeExceptionally(new ConnectionException("Failed to get connection from pool", ex));
+            return result;
         }
 
-        return false;
+        AsyncOperationListener<V> listener = new AsyncOperationListener<V>(connectionProvider, connection, result, resultHandler);
+        try {
+            sender.send(connection, listener);
+        } catch (LDAPException ex) {
+            connectionProvider.releaseConnection(connection, ex);
+            result.completeExceptionally(new ConnectionException(String.format("Failed to send %s request", operation), ex));
+        }
+
+        return result;
     }
 
     @Deprecated
@@ -729,19 +1047,43 @@ public class LdapOperationServiceImpl implements LdapOperationService {
             modifyResult = getConnectionPool().modify(modifyRequest);
             return ResultCode.SUCCESS.equals(modifyResult.getResultCode());
         } catch (final LDAPException ex) {
-            int errorCode = ex.getResultCode().intValue();
-            if (errorCode == ResultCode.INSUFFICIENT_ACCESS_RIGHTS_INT_VALUE) {
-                throw new ConnectionException("LDAP config error: insufficient access rights.", ex);
-            }
-            if (errorCode == ResultCode.TIME_LIMIT_EXCEEDED_INT_VALUE) {
-                throw new ConnectionException("LDAP Error: time limit exceeded", ex);
-            }
-            if (errorCode == ResultCode.OBJECT_CLASS_VIOLATION_INT_VALUE) {
-                throw new ConnectionException("LDAP config error: schema violation contact LDAP admin.", ex);
-            }
+            throwModifyException(ex);
+            return false;
+        }
+    }
 
-            throw new ConnectionException("Error updating entry in directory. LDAP error number " + errorCode, ex);
+    private void throwModifyException(LDAPException ex) throws ConnectionException {
+        int errorCode = ex.getResultCode().intValue();
+        if (errorCode == ResultCode.INSUFFICIENT_ACCESS_RIGHTS_INT_VALUE) {
+            throw new ConnectionException("LDAP config error: insufficient access rights.", ex);
+        }
+        if (errorCode == ResultCode.TIME_LIMIT_EXCEEDED_INT_VALUE) {
+            throw new ConnectionException("LDAP Error: time limit exceeded", ex);
+        }
+        if (errorCode == ResultCode.OBJECT_CLASS_VIOLATION_INT_VALUE) {
+            throw new ConnectionException("LDAP config error: schema violation contact LDAP admin.", ex);
         }
+
+        throw new ConnectionException("Error updating entry in directory. LDAP error number " + errorCode, ex);
+    }
+
+    @Override
+    public Map<Integer, Exception> updateEntries(List<String> dns, List<? extends List<Modification>> entriesModifications) throws ConnectionException {
+        Instant startTime = OperationDurationUtil.instance().now();
+
+        Map<Integer, Exception> errors = executePipelined("modify", dns.size(), (connection, i) -> {
+            List<Modification> modifications = entriesModifications.get(i);
+            if (this.persistenceExtension != null) {
+                updateUserPasswordModification(modifications);
+            }
+
+            return connection.asyncModify(new ModifyRequest(dns.get(i), modifications), null);
+        }, this::throwModifyException);
+
+        Duration duration = OperationDurationUtil.instance().duration(startTime);
+        OperationDurationUtil.instance().logDebug("LDAP operation: modify batch, duration: {}, count: {}, errors: {}", duration, dns.size(), errors.size());
+
+        return errors;
     }
 
     @Override
@@ -766,6 +1108,36 @@ public class LdapOperationServiceImpl implements LdapOperationService {
         }
     }
 
+    @Override
+    public CompletableFuture<Boolean> deleteAsync(String dn) {
+        Instant startTime = OperationDurationUtil.instance().now();
+
+        CompletableFuture<Boolean> result = executeAsync("delete",
+                (connection, listener) -> connection.asyncDelete(new DeleteRequest(dn), listener),
+                (ldapResult, entry) -> ResultCode.SUCCESS.equals(ldapResult.getResultCode()));
+
+        return result.whenComplete((deleted, ex) -> {
+            Duration duration = OperationDurationUtil.instance().duration(startTime);
+            OperationDurationUtil.instance().logDebug("LDAP operation: delete async, duration: {}, dn: {}", duration, dn);
+        });
+    }
+
+    @Override
+    public Map<Integer, Exception> delete(List<String> dns) throws ConnectionException {
+        Instant startTime = OperationDurationUtil.instance().now();
+
+        Map<Integer, Exception> errors = executePipelined("delete", dns.size(),
+                (connection, i) -> connection.asyncDelete(new DeleteRequest(dns.get(i)), null),
+                ex -> {
+                    throw new ConnectionException("Failed to delete entry", ex);
+                });
+
+        Duration duration = OperationDurationUtil.instance().duration(startTime);
+        OperationDurationUtil.instance().logDebug("LDAP operation: delete batch, duration: {}, count: {}, errors: {}", duration, dns.size(), errors.size());
+
+        return errors;
+    }
+
     @Override
     public boolean deleteRecursively(String dn) throws ConnectionException {
         Instant startTime = OperationDurationUtil.instance().now();
@@ -1091,6 +1463,83 @@ public class LdapOperationServiceImpl implements LdapOperationService {
 		return true;
 	}
 
+    private static class LookupResultListener implements AsyncSearchResultListener {
+
+        private static final long serialVersionUID = -3519458437108045361L;
+
+        private volatile SearchResultEntry entry;
+
+        @Override
+        public void searchEntryReturned(SearchResultEntry searchEntry) {
+            this.entry = searchEntry;
+        }
+
+        @Override
+        public void searchReferenceReturned(SearchResultReference searchReference) {
+        }
+
+        @Override
+        public void searchResultReceived(AsyncRequestID requestID, SearchResult searchResult) {
+        }
+
+        public SearchResultEntry getEntry() {
+            return entry;
+        }
+    }
+
+    private static class AsyncOperationListener<V> implements AsyncResultListener, AsyncSearchResultListener {
+
+        private static final long serialVersionUID = 2206129186187543212L;
+
+        private final transient LdapConnectionProvider connectionProvider;
+        private final transient LDAPConnection connection;
+        private final transient CompletableFuture<V> result;
+        private final transient AsyncResultHandler<V> resultHandler;
+
+        private volatile SearchResultEntry entry;
+
+        private AsyncOperationListener(LdapConnectionProvider connectionProvider, LDAPConnection connection, CompletableFuture<V> result,
+                AsyncResultHandler<V> resultHandler) {
+            this.connectionProvider = connectionProvider;
+            this.connection = connection;
+            this.result = result;
+            this.resultHandler = resultHandler;
+        }
+
+        @Override
+        public void searchEntryReturned(SearchResultEntry searchEntry) {
+            this.entry = searchEntry;
+        }
+
+        @Override
+        public void searchReferenceReturned(SearchResultReference searchReference) {
+        }
+
+        @Override
+        public void searchResultReceived(AsyncRequestID requestID, SearchResult searchResult) {
+            complete(searchResult);
+        }
+
+        @Override
+        public void ldapResultReceived(AsyncRequestID requestID, LDAPResult ldapResult) {
+            complete(ldapResult);
+        }
+
+        private void complete(LDAPResult ldapResult) {
+            if (ldapResult.getResultCode().isConnectionUsable()) {
+                connectionProvider.releaseConnection(connection);
+            } else {
+                connectionProvider.releaseConnection(connection, new LDAPException(ldapResult));
+            }
+
+            try {
+                result.complete(resultHandler.handle(ldapResult, entry));
+            } catch (Exception ex) {
+                result.completeExceptionally(ex);
+            }
+        }
+    }
+
     private class SimplePagedResponse {
 
 		private ASN1OctetString cookie;
@@ -0,0 +1,101 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.ldap.impl.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import io.jans.orm.ldap.impl.RawFilterCache;
+
+public class RawFilterCacheTest {
+
+	private static final String FILTER1 = "(uid=user1)";
+	private static final String FILTER2 = "(uid=user2)";
+	private static final String FILTER3 = "(uid=user3)";
+
+	@Test
+	public void leastRecentlyUsedFilterIsEvicted() {
+		RawFilterCache cache = new RawFilterCache(2);
+		cache.put(FILTER1, new RawFilterCache.CachedFilter(null));
+		cache.put(FILTER2, new RawFilterCache.CachedFilter(null));
+		assertNotNull(cache.get(FILTER1));
+
+		cache.put(FILTER3, new RawFilterCache.CachedFilter(null));
+
+		assertEquals(cache.size(), 2);
+		assertNull(cache.get(FILTER2));
+		assertNotNull(cache.get(FILTER1));
+		assertEquals(cache.getEvictionCount(), 1);
+		assertEquals(cache.getHitCount(), 2);
+		assertEquals(cache.getMissCount(), 1);
+	}
+
+	@Test
+	public void warningsAreKeptAfterEviction() {
+		RawFilterCache cache = new RawFilterCache(1);
+		cache.put(FILTER1, new RawFilterCache.CachedFilter(null));
+		for (int i = 0; i < 3; i++) {
+			cache.warning(FILTER1);
+		}
+
+		cache.put(FILTER2, new RawFilterCache.CachedFilter(null));
+		cache.warning(FILTER2);
+
+		assertNull(cache.get(FILTER1));
+		Map<String, Long> hottestFilters = cache.getHottestFilters(10);
+		assertEquals(hottestFilters.size(), 2);
+		assertEquals(hottestFilters.get(FILTER1), Long.valueOf(3));
+		assertEquals(hottestFilters.get(FILTER2), Long.valueOf(1));
+		assertEquals(hottestFilters.keySet().iterator().next(), FILTER1);
+		assertEquals(cache.getWarningCount(), 4);
+	}
+
+	@Test
+	public void warningsAreCountedWithDisabledCache() {
+		RawFilterCache cache = new RawFilterCache(0);
+		cache.put(FILTER1, new RawFilterCache.CachedFilter(null));
+		cache.warning(FILTER1);
+
+		assertEquals(cache.size(), 0);
+		assertEquals(cache.getHottestFilters(10), Collections.singletonMap(FILTER1, 1L));
+	}
+
+	@Test
+	public void warningCountsAreBounded() {
+		RawFilterCache cache = new RawFilterCache(10, 2);
+		for (int i = 0; i < 5; i++) {
+			cache.warning(FILTER1);
+		}
+		cache.warning(FILTER2);
+
+		// Filter with the fewest warnings is replaced. New filter continues its count
+		cache.warning(FILTER3);
+
+		Map<String, Long> hottestFilters = cache.getHottestFilters(10);
+		assertEquals(hottestFilters.size(), 2);
+		assertEquals(hottestFilters.get(FILTER1), Long.valueOf(5));
+		assertEquals(hottestFilters.get(FILTER3), Long.valueOf(2));
+		assertEquals(cache.getHottestFilters(1), Collections.singletonMap(FILTER1, 5L));
+		assertEquals(cache.getWarningCount(), 7);
+	}
+
+	@Test
+	public void warningCountsCanBeDisabled() {
+		RawFilterCache cache = new RawFilterCache(10, 0);
+		cache.warning(FILTER1);
+
+		assertEquals(cache.getHottestFilters(10).size(), 0);
+		assertEquals(cache.getWarningCount(), 1);
+	}
+
+}
@@ -8,6 +8,7 @@ package io.jans.orm.cloud.spanner.impl;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import io.jans.orm.model.BatchOperation;
 import io.jans.orm.model.EntryData;
@@ -42,6 +43,14 @@ public class SpannerBatchOperationWraper<T> {
         return batchOperation;
     }
 
+    public Executor getPrefetchExecutor() {
+        if (SqlEntryManager == null) {
+            return null;
+        }
+
+        return SqlEntryManager.getPrefetchExecutor();
+    }
+
     public List<T> createEntities(List<EntryData> entryDataList) {
         if (SqlEntryManager == null) {
             return new ArrayList<T>(0);
@@ -10,11 +10,14 @@ import java.io.Serializable;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import javax.inject.Inject;
 
@@ -23,6 +26,7 @@ import org.slf4j.LoggerFactory;
 
 import io.jans.orm.PersistenceEntryManager;
 import io.jans.orm.cloud.spanner.model.ConvertedExpression;
+import io.jans.orm.cloud.spanner.model.EntryWrite;
 import io.jans.orm.cloud.spanner.model.SearchReturnDataType;
 import io.jans.orm.cloud.spanner.model.TableMapping;
 import io.jans.orm.cloud.spanner.operation.SpannerOperationService;
@@ -31,10 +35,17 @@ import io.jans.orm.exception.AuthenticationException;
 import io.jans.orm.exception.EntryDeleteException;
 import io.jans.orm.exception.EntryPersistenceException;
 import io.jans.orm.exception.MappingException;
+import io.jans.orm.exception.operation.DeleteException;
+import io.jans.orm.exception.operation.PersistenceException;
 import io.jans.orm.exception.operation.SearchException;
 import io.jans.orm.impl.BaseEntryManager;
 import io.jans.orm.impl.GenericKeyConverter;
+import io.jans.orm.impl.CursorEntriesIterator;
+import io.jans.orm.impl.PagedEntriesIterator;
 import io.jans.orm.impl.model.ParsedKey;
+import io.jans.orm.impl.model.MergeEntry;
+import io.jans.orm.impl.model.PersistEntry;
+import io.jans.orm.impl.model.RemoveEntry;
 import io.jans.orm.model.AttributeData;
 import io.jans.orm.model.AttributeDataModification;
 import io.jans.orm.model.AttributeDataModification.AttributeModificationType;
@@ -44,6 +55,7 @@ import io.jans.orm.model.PagedResult;
 import io.jans.orm.model.SearchScope;
 import io.jans.orm.model.Sort;
 import io.jans.orm.model.SortOrder;
+import io.jans.orm.operation.SearchCursor;
 import io.jans.orm.reflect.property.PropertyAnnotation;
 import io.jans.orm.search.filter.Filter;
 import io.jans.orm.search.filter.FilterProcessor;
@@ -78,10 +90,15 @@ public class SpannerEntryManager extends BaseEntryManager implements Serializabl
         this.filterConverter = new SpannerFilterConverter(operationService);
         this.filterProcessor = new FilterProcessor();
         subscribers = new LinkedList<DeleteNotifier>();
+        subscribers.add(getEntryCache());
     }
 
     @Override
     public boolean destroy() {
+        shutdownAsyncOperationExecutor();
+        shutdownPrefetchExecutor();
+        shutdownParallelEntityCreator();
+
         if (this.operationService == null) {
             return true;
         }
@@ -174,7 +191,71 @@ public class SpannerEntryManager extends BaseEntryManager implements Serializabl
 
     @Override
     protected void persist(String dn, String[] objectClasses, List<AttributeData> attributes, Integer expiration) {
-    	ArrayList<AttributeData> resultAttributes = new ArrayList<>(attributes.size() + 1);
+    	List<AttributeData> resultAttributes = toPersistAttributes(attributes);
+
+        // Persist entry
+        try {
+        	ParsedKey parsedKey = toSQLKey(dn);
+            resultAttributes.add(new AttributeData(SpannerOperationService.DN, dn));
+            resultAttributes.add(new AttributeData(SpannerOperationService.DOC_ID, parsedKey.getKey()));
+
+            boolean result = getOperationService().addEntry(parsedKey.getKey(), objectClasses[0], resultAttributes);
+            if (!result) {
+                throw new EntryPersistenceException(String.format("Failed to persist entry: '%s'", dn));
+            }
+        } catch (Exception ex) {
+            throw new EntryPersistenceException(String.format("Failed to persist entry: '%s'", dn), ex);
+        }
+    }
+
+    @Override
+    protected void persist(List<PersistEntry> persistEntries) {
+        // Mutations of all entries of one table are written at once
+        Map<String, List<PersistEntry>> entriesByObjectClass = new LinkedHashMap<>();
+        for (PersistEntry persistEntry : persistEntries) {
+            entriesByObjectClass.computeIfAbsent(persistEntry.getObjectClasses()[0], k -> new ArrayList<>()).add(persistEntry);
+        }
+
+        for (Map.Entry<String, List<PersistEntry>> objectClassEntries : entriesByObjectClass.entrySet()) {
+            List<PersistEntry> batchEntries = new ArrayList<>(objectClassEntries.getValue().size());
+            List<String> keys = new ArrayList<>(objectClassEntries.getValue().size());
+            List<List<AttributeData>> entriesAttributes = new ArrayList<>(objectClassEntries.getValue().size());
+            for (PersistEntry persistEntry : objectClassEntries.getValue()) {
+                String dn = persistEntry.getDn();
+                try {
+                    ParsedKey parsedKey = toSQLKey(dn);
+                    List<AttributeData> resultAttributes = toPersistAttributes(persistEntry.getAttributes());
+                    resultAttributes.add(new AttributeData(SpannerOperationService.DN, dn));
+                    resultAttributes.add(new AttributeData(SpannerOperationService.DOC_ID, parsedKey.getKey()));
+
+                    batchEntries.add(persistEntry);
+                    keys.add(parsedKey.getKey());
+                    entriesAttributes.add(resultAttributes);
+                } catch (Exception ex) {
+                    persistEntry.setError(new EntryPersistenceException(String.format("Failed to persist entry: '%s'", dn), ex));
+                }
+            }
+
+            if (batchEntries.isEmpty()) {
+                continue;
+            }
+
+            try {
+                Map<Integer, PersistenceException> errors = getOperationService().addEntries(objectClassEntries.getKey(), keys, entriesAttributes);
+                for (Map.Entry<Integer, PersistenceException> error : errors.entrySet()) {
+                    PersistEntry persistEntry = batchEntries.get(error.getKey());
+                    persistEntry.setError(new EntryPersistenceException(String.format("Failed to persist entry: '%s'", persistEntry.getDn()), error.getValue()));
+                }
+            } catch (Exception ex) {
+                for (PersistEntry persistEntry : batchEntries) {
+                    persistEntry.setError(new EntryPersistenceException(String.format("Failed to persist entry: '%s'", persistEntry.getDn()), ex));
+                }
+            }
+        }
+    }
+
+    private List<AttributeData> toPersistAttributes(List<AttributeData> attributes) {
+    	List<AttributeData> resultAttributes = new ArrayList<>(attributes.size() + 2);
         for (AttributeData attribute : attributes) {
             String attributeName = attribute.getName();
             Object[] attributeValues = attribute.getValues();
@@ -209,77 +290,177 @@ public class SpannerEntryManager extends BaseEntryManager implements Serializabl
             }
         }
 
-        // Persist entry
-        try {
-        	ParsedKey parsedKey = toSQLKey(dn);
-            resultAttributes.add(new AttributeData(SpannerOperationService.DN, dn));
-            resultAttributes.add(new AttributeData(SpannerOperationService.DOC_ID, parsedKey.getKey()));
+        return resultAttributes;
+    }
 
-            boolean result = getOperationService().addEntry(parsedKey.getKey(), objectClasses[0], resultAttributes);
-            if (!result) {
-                throw new EntryPersistenceException(String.format("Failed to persist entry: '%s'", dn));
+    @Override
+    public void merge(String dn, String[] objectClasses, List<AttributeDataModification> attributeDataModifications, Integer expirationValue) {
+        // Update entry
+        try {
+            List<AttributeDataModification> modifications = toUpdateModifications(attributeDataModifications);
+            if (modifications.size() > 0) {
+                boolean result = getOperationService().updateEntry(toSQLKey(dn).getKey(), objectClasses[0], modifications);
+                if (!result) {
+                    throw new EntryPersistenceException(String.format("Failed to update entry: '%s'", dn));
+                }
             }
         } catch (Exception ex) {
-            throw new EntryPersistenceException(String.format("Failed to persist entry: '%s'", dn), ex);
+            throw new EntryPersistenceException(String.format("Failed to update entry: '%s'", dn), ex);
         }
     }
 
     @Override
-    public void merge(String dn, String[] objectClasses, List<AttributeDataModification> attributeDataModifications, Integer expirationValue) {
-        // Update entry
-        try {
-            List<AttributeDataModification> modifications = new ArrayList<AttributeDataModification>(attributeDataModifications.size());
-            for (AttributeDataModification attributeDataModification : attributeDataModifications) {
-                AttributeData attribute = attributeDataModification.getAttribute();
-                AttributeData oldAttribute = attributeDataModification.getOldAttribute();
-
-                String attributeName = null;
-                Object[] attributeValues = null;
-                Boolean multiValued = null;
-                if (attribute != null) {
-                    attributeName = attribute.getName();
-                    attributeValues = attribute.getValues();
-                    multiValued = attribute.getMultiValued();
+    protected void merge(List<MergeEntry> mergeEntries) {
+        // Mutations of all entries of one table are sent with one write
+        Map<String, List<MergeEntry>> entriesByObjectClass = new LinkedHashMap<>();
+        for (MergeEntry mergeEntry : mergeEntries) {
+            entriesByObjectClass.computeIfAbsent(mergeEntry.getObjectClasses()[0], k -> new ArrayList<>()).add(mergeEntry);
+        }
+
+        for (Map.Entry<String, List<MergeEntry>> objectClassEntries : entriesByObjectClass.entrySet()) {
+            List<MergeEntry> batchEntries = new ArrayList<>(objectClassEntries.getValue().size());
+            List<String> keys = new ArrayList<>(objectClassEntries.getValue().size());
+            List<List<AttributeDataModification>> entriesModifications = new ArrayList<>(objectClassEntries.getValue().size());
+            for (MergeEntry mergeEntry : objectClassEntries.getValue()) {
+                String dn = mergeEntry.getDn();
+                try {
+                    List<AttributeDataModification> modifications = toUpdateModifications(mergeEntry.getAttributeDataModifications());
+                    if (modifications.isEmpty()) {
+                        continue;
+                    }
+
+                    batchEntries.add(mergeEntry);
+                    keys.add(toSQLKey(dn).getKey());
+                    entriesModifications.add(modifications);
+                } catch (Exception ex) {
+                    mergeEntry.setError(new EntryPersistenceException(String.format("Failed to update entry: '%s'", dn), ex));
                 }
+            }
 
-                String oldAttributeName = null;
-                Object[] oldAttributeValues = null;
-                if (oldAttribute != null) {
-                    oldAttributeName = oldAttribute.getName();
-                    oldAttributeValues = oldAttribute.getValues();
+            if (batchEntries.isEmpty()) {
+                continue;
+            }
+
+            try {
+                Map<Integer, PersistenceException> errors = getOperationService().updateEntries(objectClassEntries.getKey(), keys, entriesModifications);
+                for (Map.Entry<Integer, PersistenceException> error : errors.entrySet()) {
+                    MergeEntry mergeEntry = batchEntries.get(error.getKey());
+                    mergeEntry.setError(new EntryPersistenceException(String.format("Failed to update entry: '%s'", mergeEntry.getDn()), error.getValue()));
                 }
-                
-                AttributeDataModification modification = null;
-                AttributeModificationType modificationType = attributeDataModification.getModificationType();
-				if ((AttributeModificationType.ADD == modificationType) ||
-                	(AttributeModificationType.FORCE_UPDATE == modificationType)) {
-                    modification = createModification(modificationType, toInternalAttribute(attributeName), multiValued, attributeValues, oldAttributeValues);
-                } else {
-                    if ((AttributeModificationType.REMOVE == modificationType)) {
-                		if ((attribute == null) && isEmptyAttributeValues(oldAttribute)) {
-							// It's RDBS case. We don't need to set null to already empty table cell
-                			continue;
-                		}
-                        modification = createModification(AttributeModificationType.REMOVE, toInternalAttribute(oldAttributeName), multiValued, oldAttributeValues, null);
-                    } else if ((AttributeModificationType.REPLACE == modificationType)) {
-                        modification = createModification(AttributeModificationType.REPLACE, toInternalAttribute(attributeName), multiValued, attributeValues, oldAttributeValues);
-                    }
+            } catch (Exception ex) {
+                for (MergeEntry mergeEntry : batchEntries) {
+                    mergeEntry.setError(new EntryPersistenceException(String.format("Failed to update entry: '%s'", mergeEntry.getDn()), ex));
                 }
+            }
+        }
+    }
+
+    @Override
+    protected void write(List<PersistEntry> persistEntries, List<MergeEntry> mergeEntries, List<RemoveEntry> removeEntries) {
+        // All operations are written in one write
+        try {
+            List<EntryWrite> writes = new ArrayList<>(persistEntries.size() + mergeEntries.size() + removeEntries.size());
+            for (PersistEntry persistEntry : persistEntries) {
+                String dn = persistEntry.getDn();
+                ParsedKey parsedKey = toSQLKey(dn);
+                List<AttributeData> resultAttributes = toPersistAttributes(persistEntry.getAttributes());
+                resultAttributes.add(new AttributeData(SpannerOperationService.DN, dn));
+                resultAttributes.add(new AttributeData(SpannerOperationService.DOC_ID, parsedKey.getKey()));
+
+                writes.add(EntryWrite.add(parsedKey.getKey(), persistEntry.getObjectClasses()[0], resultAttributes));
+            }
 
-                if (modification != null) {
-                    modifications.add(modification);
+            for (MergeEntry mergeEntry : mergeEntries) {
+                List<AttributeDataModification> modifications = toUpdateModifications(mergeEntry.getAttributeDataModifications());
+                if (modifications.size() > 0) {
+                    writes.add(EntryWrite.update(toSQLKey(mergeEntry.getDn()).getKey(), mergeEntry.getObjectClasses()[0], modifications));
                 }
             }
 
-            if (modifications.size() > 0) {
-                boolean result = getOperationService().updateEntry(toSQLKey(dn).getKey(), objectClasses[0], modifications);
-                if (!result) {
-                    throw new EntryPersistenceException(String.format("Failed to update entry: '%s'", dn));
+            for (RemoveEntry removeEntry : removeEntries) {
+                if (ArrayHelper.isEmpty(removeEntry.getObjectClasses())) {
+                    throw new UnsupportedOperationException("Entry class is manadatory for remove operation!");
+                }
+                writes.add(EntryWrite.delete(toSQLKey(removeEntry.getDn()).getKey(), removeEntry.getObjectClasses()[0]));
+            }
+
+            for (RemoveEntry removeEntry : removeEntries) {
+                for (DeleteNotifier subscriber : subscribers) {
+                    subscriber.onBeforeRemove(removeEntry.getDn());
+                }
+            }
+
+            getOperationService().writeEntries(writes);
+
+            for (RemoveEntry removeEntry : removeEntries) {
+                for (DeleteNotifier subscriber : subscribers) {
+                    subscriber.onAfterRemove(removeEntry.getDn());
                 }
             }
         } catch (Exception ex) {
-            throw new EntryPersistenceException(String.format("Failed to update entry: '%s'", dn), ex);
+            EntryPersistenceException error = new EntryPersistenceException("Failed to write entries", ex);
+            for (PersistEntry persistEntry : persistEntries) {
+                persistEntry.setError(error);
+            }
+            for (MergeEntry mergeEntry : mergeEntries) {
+                mergeEntry.setError(error);
+            }
+            for (RemoveEntry removeEntry : removeEntries) {
+                removeEntry.setError(error);
+            }
+        }
+    }
+
+    private List<AttributeDataModification> toUpdateModifications(List<AttributeDataModification> attributeDataModifications) {
+        List<AttributeDataModification> modifications = new ArrayList<AttributeDataModification>(attributeDataModifications.size());
+        for (AttributeDataModification attributeDataModification : attributeDataModifications) {
+            AttributeData attribute = attributeDataModification.getAttribute();
+            AttributeData oldAttribute = attributeDataModification.getOldAttribute();
+
+            String attributeName = null;
+            Object[] attributeValues = null;
+            Boolean multiValued = null;
+            if (attribute != null) {
+                attributeName = attribute.getName();
+                attributeValues = attribute.getValues();
+                multiValued = attribute.getMultiValued();
+            }
+
+            String oldAttributeName = null;
+            Object[] oldAttributeValues = null;
+            if (oldAttribute != null) {
+                oldAttributeName = oldAttribute.getName();
+                oldAttributeValues = oldAttribute.getValues();
+            }
+            
+            AttributeDataModification modification = null;
+            AttributeModificationType modificationType = attributeDataModification.getModificationType();
+			if ((AttributeModificationType.ADD == modificationType) ||
+            	(AttributeModificationType.FORCE_UPDATE == modificationType)) {
+                modification = createModification(modificationType, toInternalAttribute(attributeName), multiValued, attributeValues, oldAttributeValues);
+            } else {
+                if ((AttributeModificationType.REMOVE == modificationType)) {
+            		if ((attribute == null) && isEmptyAttributeValues(oldAttribute)) {
+						// It's RDBS case. We don't need to set null to already empty table cell
+            			continue;
+            		}
+                    modification = createModification(AttributeModificationType.REMOVE, toInternalAttribute(oldAttributeName), multiValued, oldAttributeValues, null);
+                } else if ((AttributeModificationType.REPLACE == modificationType)) {
+                    modification = createModification(AttributeModificationType.REPLACE, toInternalAttribute(attributeName), multiValued, attributeValues, oldAttributeValues);
+                }
+            }
+
+            if (modification != null) {
+                modifications.add(modification);
+            }
         }
+
+        return modifications;
+    }
+
+    @Override
+    protected boolean isEntryClassRequiredForRemove() {
+        return true;
     }
 
     @Override
@@ -302,6 +483,43 @@ public class SpannerEntryManager extends BaseEntryManager implements Serializabl
         }
     }
 
+    @Override
+    protected Map<String, Exception> removeByDns(List<String> dns, String[] objectClasses) {
+    	if (ArrayHelper.isEmpty(objectClasses)) {
+    		throw new UnsupportedOperationException("Entry class is manadatory for remove operation!");
+    	}
+
+		// Remove entries with one mutation
+        Map<String, Exception> errors = new HashMap<String, Exception>();
+        try {
+            List<String> keys = new ArrayList<String>(dns.size());
+            for (String dn : dns) {
+                for (DeleteNotifier subscriber : subscribers) {
+                    subscriber.onBeforeRemove(dn);
+                }
+                keys.add(toSQLKey(dn).getKey());
+            }
+            Map<Integer, DeleteException> deleteErrors = getOperationService().delete(keys, objectClasses[0]);
+            for (int i = 0; i < dns.size(); i++) {
+                String dn = dns.get(i);
+                DeleteException deleteError = deleteErrors.get(i);
+                if (deleteError == null) {
+                    for (DeleteNotifier subscriber : subscribers) {
+                        subscriber.onAfterRemove(dn);
+                    }
+                } else {
+                    errors.put(dn, new EntryDeleteException(String.format("Failed to remove entry: '%s'", dn), deleteError));
+                }
+            }
+        } catch (Exception ex) {
+            for (String dn : dns) {
+                errors.put(dn, new EntryDeleteException(String.format("Failed to remove entry: '%s'", dn), ex));
+            }
+        }
+
+        return errors;
+    }
+
     @Override
     protected <T> void removeRecursivelyFromDn(String dn, String[] objectClasses) {
     	if (ArrayHelper.isEmpty(objectClasses)) {
@@ -330,7 +548,11 @@ public class SpannerEntryManager extends BaseEntryManager implements Serializabl
 		}
 
 		// Remove entries by filter
-		return removeImpl(dn, entryClass, filter, count);
+		try {
+			return removeImpl(dn, entryClass, filter, count);
+		} finally {
+			invalidateCaches(dn, entryClass);
+		}
 	}
 
     protected <T> int removeImpl(String dn, Class<T> entryClass, Filter filter, int count) {
@@ -390,6 +612,37 @@ public class SpannerEntryManager extends BaseEntryManager implements Serializabl
         throw new EntryPersistenceException(String.format("Failed to find entry: '%s'", dn));
     }
 
+    @Override
+    protected Map<String, List<AttributeData>> findByDns(List<String> dns, String[] objectClasses, Map<String, PropertyAnnotation> propertiesAnnotationsMap, String... ldapReturnAttributes) {
+        try {
+            // Load entries with one read by multi-key KeySet
+            Set<String> keys = new LinkedHashSet<>();
+            Map<String, List<String>> dnsByKey = new HashMap<>();
+            for (String dn : dns) {
+                String key = toSQLKey(dn).getKey();
+                keys.add(key);
+                // DNs are case insensitive. Returned doc_id is matched to all DNs which differ in case only
+                dnsByKey.computeIfAbsent(StringHelper.toLowerCase(key), k -> new ArrayList<>(1)).add(dn);
+            }
+
+            Map<String, List<AttributeData>> entriesByKey = getOperationService().lookup(new ArrayList<>(keys), objectClasses[0], toInternalAttributes(ldapReturnAttributes));
+
+            Map<String, List<AttributeData>> result = new HashMap<>();
+            for (Map.Entry<String, List<AttributeData>> entryByKey : entriesByKey.entrySet()) {
+                List<String> keyDns = dnsByKey.get(StringHelper.toLowerCase(entryByKey.getKey()));
+                if (keyDns != null) {
+                    for (String dn : keyDns) {
+                        result.put(dn, entryByKey.getValue());
+                    }
+                }
+            }
+
+            return result;
+        } catch (Exception ex) {
+            throw new EntryPersistenceException(String.format("Failed to find entries: '%s'", dns), ex);
+        }
+    }
+
     @Override
     public <T> List<T> findEntries(String baseDN, Class<T> entryClass, Filter filter, SearchScope scope, String[] ldapReturnAttributes,
                                    BatchOperation<T> batchOperation, int start, int count, int chunkSize) {
@@ -404,6 +657,7 @@ public class SpannerEntryManager extends BaseEntryManager implements Serializabl
         }
 
         List<T> entries = createEntities(baseDN, entryClass, searchResult);
+        trackEntries(entryClass, entries, ldapReturnAttributes);
 
         return entries;
     }
@@ -429,11 +683,65 @@ public class SpannerEntryManager extends BaseEntryManager implements Serializabl
         }
 
         List<T> entries = createEntities(baseDN, entryClass, searchResult);
+        trackEntries(entryClass, entries, ldapReturnAttributes);
         result.setEntries(entries);
 
         return result;
     }
 
+    @Override
+    public <T> Stream<T> streamEntries(String baseDN, Class<T> entryClass, Filter filter, SearchScope scope, String[] ldapReturnAttributes,
+            int pageSize) {
+        if (StringHelper.isEmptyString(baseDN)) {
+            throw new MappingException("Base DN to find entries is null");
+        }
+
+        // Check entry class
+        checkEntryClass(entryClass, false);
+        String[] objectClasses = getTypeObjectClasses(entryClass);
+
+        List<PropertyAnnotation> propertiesAnnotations = getEntryPropertyAnnotations(entryClass);
+        String[] currentLdapReturnAttributes = ldapReturnAttributes;
+        if (ArrayHelper.isEmpty(currentLdapReturnAttributes)) {
+            currentLdapReturnAttributes = getAttributes(null, propertiesAnnotations, false);
+        }
+        String[] internalReturnAttributes = toInternalAttributes(currentLdapReturnAttributes);
+
+        Filter searchFilter;
+        if (objectClasses.length > 0) {
+            searchFilter = addObjectClassFilter(filter, objectClasses);
+        } else {
+            searchFilter = filter;
+        }
+
+        Sort[] defaultSort = getDefaultSort(entryClass);
+
+        Map<String, PropertyAnnotation> propertiesAnnotationsMap = prepareEntryPropertiesTypes(entryClass, propertiesAnnotations);
+        ParsedKey keyWithInum = toSQLKey(baseDN);
+        ConvertedExpression convertedExpression;
+		try {
+			convertedExpression = toSqlFilter(keyWithInum.getKey(), objectClasses[0], searchFilter, propertiesAnnotationsMap);
+		} catch (SearchException ex) {
+            throw new EntryPersistenceException(String.format("Failed to convert filter '%s' to expression", searchFilter), ex);
+		}
+
+        // All rows are streamed by one query
+        PagedEntriesIterator<EntryData, T> entriesIterator = new CursorEntriesIterator<EntryData, T>(pageSize) {
+            @Override
+            protected SearchCursor<EntryData> openCursor() throws SearchException {
+                return getOperationService().searchCursor(keyWithInum.getKey(), objectClasses[0], convertedExpression, internalReturnAttributes,
+                        defaultSort);
+            }
+
+            @Override
+            protected T createEntry(EntryData entryData) {
+                return createEntities(entryClass, propertiesAnnotations, keyWithInum, entryData).get(0);
+            }
+        };
+
+        return entriesIterator.stream();
+    }
+
     protected <T> PagedResult<EntryData> findEntriesImpl(String baseDN, Class<T> entryClass, Filter filter, SearchScope scope,
             String[] ldapReturnAttributes, String sortBy, SortOrder sortOrder, BatchOperation<T> batchOperation, SearchReturnDataType returnDataType, int start,
             int count, int chunkSize) {
@@ -664,7 +972,8 @@ public class SpannerEntryManager extends BaseEntryManager implements Serializabl
 		String[] objectClasses = getTypeObjectClasses(entryClass);
 
     	try {
-            return getOperationService().authenticate(toSQLKey(bindDn).getKey(), escapeValue(password), objectClasses[0]);
+            return authenticate(bindDn, entryClass, password,
+            		() -> getOperationService().authenticate(toSQLKey(bindDn).getKey(), escapeValue(password), objectClasses[0]));
         } catch (Exception ex) {
             throw new AuthenticationException(String.format("Failed to authenticate DN: '%s'", bindDn), ex);
         }
@@ -7,6 +7,7 @@
 package io.jans.orm.cloud.spanner.impl;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -24,10 +25,13 @@ import io.jans.orm.cloud.spanner.model.TableMapping;
 import io.jans.orm.cloud.spanner.model.ValueWithStructField;
 import io.jans.orm.cloud.spanner.operation.SpannerOperationService;
 import io.jans.orm.exception.operation.SearchException;
+import io.jans.orm.impl.FilterTemplateCache;
 import io.jans.orm.ldap.impl.LdapFilterConverter;
 import io.jans.orm.reflect.property.PropertyAnnotation;
 import io.jans.orm.reflect.util.ReflectHelper;
 import io.jans.orm.search.filter.Filter;
+import io.jans.orm.search.filter.FilterOptimizer;
+import io.jans.orm.search.filter.FilterShape;
 import io.jans.orm.search.filter.FilterType;
 import io.jans.orm.util.ArrayHelper;
 import io.jans.orm.util.StringHelper;
@@ -64,13 +68,30 @@ public class SpannerFilterConverter {
     private static final Logger LOG = LoggerFactory.getLogger(SpannerFilterConverter.class);
     
     private static final LdapFilterConverter ldapFilterConverter = new LdapFilterConverter();
+    private static final FilterOptimizer filterOptimizer = new FilterOptimizer();
 
 	private SpannerOperationService operationService;
 
+	private final FilterTemplateCache<FilterTemplate> templateCache;
+
+	// Not null only in converter which builds template
+	private final FilterShape templateShape;
+	private final List<TemplateParameter> templateParameters;
+
 	private Table tableAlias = new Table(SpannerOperationService.DOC_ALIAS);
 
 	public SpannerFilterConverter(SpannerOperationService operationService) {
     	this.operationService = operationService;
+    	this.templateCache = new FilterTemplateCache<FilterTemplate>();
+    	this.templateShape = null;
+    	this.templateParameters = null;
+	}
+
+	private SpannerFilterConverter(SpannerOperationService operationService, FilterShape templateShape) {
+    	this.operationService = operationService;
+    	this.templateCache = null;
+    	this.templateShape = templateShape;
+    	this.templateParameters = new ArrayList<TemplateParameter>();
 	}
 
 	public ConvertedExpression convertToSqlFilter(TableMapping tableMapping, Filter genericFilter, Map<String, PropertyAnnotation> propertiesAnnotationsMap) throws SearchException {
@@ -86,13 +107,57 @@ public class SpannerFilterConverter {
     }
 
 	public ConvertedExpression convertToSqlFilter(TableMapping tableMapping, Filter genericFilter, Map<String, PropertyAnnotation> propertiesAnnotationsMap, Function<? super Filter, Boolean> processor, boolean skipAlias) throws SearchException {
+    	Filter optimizedFilter = filterOptimizer.optimize(genericFilter);
+
+    	// Processor should see each filter, so filters with processor are not cached
+    	FilterShape shape = null;
+    	if ((processor == null) && templateCache.isEnabled()) {
+    		shape = FilterShape.of(optimizedFilter);
+    	}
+
+    	if (shape == null) {
+        	Map<String, ValueWithStructField> queryParameters = new HashMap<>();
+        	Map<String, Join> joinTables = new HashMap<>();
+        	ConvertedExpression convertedExpression = convertToSqlFilterImpl(tableMapping, optimizedFilter, propertiesAnnotationsMap, queryParameters, joinTables, processor, skipAlias);
+
+        	return convertedExpression;
+    	}
+
+    	String templateKey = buildTemplateKey(tableMapping, shape, propertiesAnnotationsMap, skipAlias);
+    	FilterTemplate template = templateCache.get(templateKey);
+    	if (template == null) {
+    		SpannerFilterConverter templateConverter = new SpannerFilterConverter(operationService, shape);
+        	Map<String, Join> joinTables = new HashMap<>();
+        	Expression expression = templateConverter.convertToSqlFilterImpl(tableMapping, optimizedFilter, propertiesAnnotationsMap, new HashMap<>(), joinTables, null, skipAlias).expression();
+
+        	template = new FilterTemplate(expression, Collections.unmodifiableMap(joinTables), templateConverter.templateParameters);
+    		templateCache.put(templateKey, template);
+    	}
+
+    	// Expression and joins are shared, only values of query parameters are bound per call
     	Map<String, ValueWithStructField> queryParameters = new HashMap<>();
-    	Map<String, Join> joinTables = new HashMap<>();
-    	ConvertedExpression convertedExpression = convertToSqlFilterImpl(tableMapping, genericFilter, propertiesAnnotationsMap, queryParameters, joinTables, processor, skipAlias);
-    	
-    	return convertedExpression;
+    	for (TemplateParameter templateParameter : template.parameters) {
+    		Object value = templateParameter.valueBuilder.build(shape.getNode(templateParameter.nodeIndex));
+    		queryParameters.put(templateParameter.name, new ValueWithStructField(value, templateParameter.structField));
+    	}
+
+    	return ConvertedExpression.build(template.expression, queryParameters, template.joinTables);
     }
 
+	private String buildTemplateKey(TableMapping tableMapping, FilterShape shape, Map<String, PropertyAnnotation> propertiesAnnotationsMap, boolean skipAlias) {
+		StringBuilder key = new StringBuilder(tableMapping.getTableName());
+		key.append(':').append(shape.getKey());
+		key.append(skipAlias ? 'A' : '-');
+
+		// Conversion depends on attribute types of entry
+		for (String attributeName : shape.getAttributeNames()) {
+			Boolean isMultiValuedDetected = determineMultiValuedByType(attributeName, propertiesAnnotationsMap);
+			key.append(isMultiValuedDetected == null ? '-' : (isMultiValuedDetected ? 'M' : 'S'));
+		}
+
+		return key.toString();
+	}
+
 	private ConvertedExpression convertToSqlFilterImpl(TableMapping tableMapping, Filter genericFilter, Map<String, PropertyAnnotation> propertiesAnnotationsMap,
 			Map<String, ValueWithStructField> queryParameters, Map<String, Join> joinTables, Function<? super Filter, Boolean> processor, boolean skipAlias) throws SearchException {
 		if (genericFilter == null) {
@@ -198,7 +263,7 @@ public class SpannerFilterConverter {
 		Expression leftExpression = buildExpression(tableMapping, currentGenericFilter, multiValued, !hasChildTableForAttribute, propertiesAnnotationsMap, queryParameters, joinTables, processor, skipAlias);
 
     	if (FilterType.EQUALITY == type) {
-        	Expression variableExpression = buildVariableExpression(tableMapping, internalAttribute, currentGenericFilter.getAssertionValue(), queryParameters);
+        	Expression variableExpression = buildVariableExpression(tableMapping, internalAttribute, currentGenericFilter, Filter::getAssertionValue, queryParameters);
     		Expression expression = new EqualsTo(leftExpression, variableExpression);
     		if (multiValued) {
     			if (hasChildTableForAttribute) {
@@ -216,7 +281,7 @@ public class SpannerFilterConverter {
         }
 
         if (FilterType.LESS_OR_EQUAL == type) {
-        	Expression variableExpression = buildVariableExpression(tableMapping, internalAttribute, currentGenericFilter.getAssertionValue(), queryParameters);
+        	Expression variableExpression = buildVariableExpression(tableMapping, internalAttribute, currentGenericFilter, Filter::getAssertionValue, queryParameters);
         	Expression expression = new MinorThanEquals().withLeftExpression(leftExpression).withRightExpression(variableExpression);
     		if (multiValued) {
     			if (hasChildTableForAttribute) {
@@ -231,7 +296,7 @@ public class SpannerFilterConverter {
         }
 
         if (FilterType.GREATER_OR_EQUAL == type) {
-        	Expression variableExpression = buildVariableExpression(tableMapping, internalAttribute, currentGenericFilter.getAssertionValue(), queryParameters);
+        	Expression variableExpression = buildVariableExpression(tableMapping, internalAttribute, currentGenericFilter, Filter::getAssertionValue, queryParameters);
         	Expression expression = new GreaterThanEquals().withLeftExpression(leftExpression).withRightExpression(variableExpression);
     		if (multiValued) {
     			if (hasChildTableForAttribute) {
@@ -264,26 +329,7 @@ public class SpannerFilterConverter {
         }
 
         if (FilterType.SUBSTRING == type) {
-        	StringBuilder like = new StringBuilder();
-            if (currentGenericFilter.getSubInitial() != null) {
-                like.append(currentGenericFilter.getSubInitial());
-            }
-            like.append("%");
-
-            String[] subAny = currentGenericFilter.getSubAny();
-            if ((subAny != null) && (subAny.length > 0)) {
-                for (String any : subAny) {
-                    like.append(any);
-                    like.append("%");
-                }
-            }
-
-            if (currentGenericFilter.getSubFinal() != null) {
-                like.append(currentGenericFilter.getSubFinal());
-            }
-            
-            String likeValue = like.toString();
-        	Expression variableExpression = buildVariableExpression(tableMapping, internalAttribute, likeValue, queryParameters);
+        	Expression variableExpression = buildVariableExpression(tableMapping, internalAttribute, currentGenericFilter, this::buildLikeValue, queryParameters);
         	Expression expression = new LikeExpression().withLeftExpression(leftExpression).withRightExpression(variableExpression);
     		if (multiValued) {
     			if (hasChildTableForAttribute) {
@@ -391,7 +437,8 @@ public class SpannerFilterConverter {
 		return operationService.toInternalAttribute(attributeName);
 	}
 
-	private Expression buildVariableExpression(TableMapping tableMapping, String attributeName, Object attribyteValue, Map<String, ValueWithStructField> queryParameters) throws SearchException {
+	private Expression buildVariableExpression(TableMapping tableMapping, String attributeName, Filter filter, ValueBuilder valueBuilder,
+			Map<String, ValueWithStructField> queryParameters) throws SearchException {
 		StructField structField = getStructField(tableMapping, attributeName);
 
 		String usedAttributeName = attributeName;
@@ -401,10 +448,40 @@ public class SpannerFilterConverter {
 			usedAttributeName = attributeName + Integer.toString(idx++);
 		}
 
-    	queryParameters.put(usedAttributeName, new ValueWithStructField(attribyteValue, structField));
+		if (templateShape != null) {
+			int nodeIndex = templateShape.indexOf(filter);
+			if (nodeIndex == -1) {
+				throw new SearchException(String.format("Filter '%s' is not part of template filter", filter));
+			}
+			templateParameters.add(new TemplateParameter(usedAttributeName, nodeIndex, valueBuilder, structField));
+		}
+
+    	queryParameters.put(usedAttributeName, new ValueWithStructField(valueBuilder.build(filter), structField));
 		return new UserVariable(usedAttributeName);
 	}
 
+	private Object buildLikeValue(Filter filter) {
+    	StringBuilder like = new StringBuilder();
+        if (filter.getSubInitial() != null) {
+            like.append(filter.getSubInitial());
+        }
+        like.append("%");
+
+        String[] subAny = filter.getSubAny();
+        if ((subAny != null) && (subAny.length > 0)) {
+            for (String any : subAny) {
+                like.append(any);
+                like.append("%");
+            }
+        }
+
+        if (filter.getSubFinal() != null) {
+            like.append(filter.getSubFinal());
+        }
+
+        return like.toString();
+	}
+
 	private Expression buildExistsInArrayExpression(String attributeName, Expression whereExpression) {
 		PlainSelect arrayQuery = new PlainSelect();
 		String columnAlias = "_" + attributeName;
@@ -480,5 +557,42 @@ public class SpannerFilterConverter {
 		
 		joinTables.put(attributeName, join);
 	}
-	
+
+	public FilterTemplateCache<?> getTemplateCache() {
+		return templateCache;
+	}
+
+	@FunctionalInterface
+	private interface ValueBuilder {
+		Object build(Filter filter) throws SearchException;
+	}
+
+	private static final class TemplateParameter {
+
+		private final String name;
+		private final int nodeIndex;
+		private final ValueBuilder valueBuilder;
+		private final StructField structField;
+
+		private TemplateParameter(String name, int nodeIndex, ValueBuilder valueBuilder, StructField structField) {
+			this.name = name;
+			this.nodeIndex = nodeIndex;
+			this.valueBuilder = valueBuilder;
+			this.structField = structField;
+		}
+	}
+
+	private static final class FilterTemplate {
+
+		private final Expression expression;
+		private final Map<String, Join> joinTables;
+		private final List<TemplateParameter> parameters;
+
+		private FilterTemplate(Expression expression, Map<String, Join> joinTables, List<TemplateParameter> parameters) {
+			this.expression = expression;
+			this.joinTables = joinTables;
+			this.parameters = parameters;
+		}
+	}
+
 }
@@ -0,0 +1,75 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2020, Janssen Project
+ */
+
+package io.jans.orm.cloud.spanner.model;
+
+import java.util.Collection;
+import java.util.List;
+
+import io.jans.orm.model.AttributeData;
+import io.jans.orm.model.AttributeDataModification;
+
+/**
+ * Add, update or delete of entry which is executed with other entries in one write
+ */
+public class EntryWrite {
+
+    public enum WriteType {
+        ADD, UPDATE, DELETE
+    }
+
+    private final WriteType type;
+    private final String key;
+    private final String objectClass;
+    private final Collection<AttributeData> attributes;
+    private final List<AttributeDataModification> modifications;
+
+    private EntryWrite(WriteType type, String key, String objectClass, Collection<AttributeData> attributes, List<AttributeDataModification> modifications) {
+        this.type = type;
+        this.key = key;
+        this.objectClass = objectClass;
+        this.attributes = attributes;
+        this.modifications = modifications;
+    }
+
+    public static EntryWrite add(String key, String objectClass, Collection<AttributeData> attributes) {
+        return new EntryWrite(WriteType.ADD, key, objectClass, attributes, null);
+    }
+
+    public static EntryWrite update(String key, String objectClass, List<AttributeDataModification> modifications) {
+        return new EntryWrite(WriteType.UPDATE, key, objectClass, null, modifications);
+    }
+
+    public static EntryWrite delete(String key, String objectClass) {
+        return new EntryWrite(WriteType.DELETE, key, objectClass, null, null);
+    }
+
+	public WriteType getType() {
+		return type;
+	}
+
+	public String getKey() {
+		return key;
+	}
+
+	public String getObjectClass() {
+		return objectClass;
+	}
+
+	public Collection<AttributeData> getAttributes() {
+		return attributes;
+	}
+
+	public List<AttributeDataModification> getModifications() {
+		return modifications;
+	}
+
+	@Override
+	public String toString() {
+		return "EntryWrite [type=" + type + ", key=" + key + ", objectClass=" + objectClass + "]";
+	}
+
+}
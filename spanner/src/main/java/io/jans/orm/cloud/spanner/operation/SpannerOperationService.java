@@ -16,6 +16,7 @@ import com.google.cloud.spanner.Type.StructField;
 
 import io.jans.orm.cloud.spanner.impl.SpannerBatchOperationWraper;
 import io.jans.orm.cloud.spanner.model.ConvertedExpression;
+import io.jans.orm.cloud.spanner.model.EntryWrite;
 import io.jans.orm.cloud.spanner.model.SearchReturnDataType;
 import io.jans.orm.cloud.spanner.model.TableMapping;
 import io.jans.orm.cloud.spanner.operation.impl.SpannerConnectionProvider;
@@ -32,6 +33,7 @@ import io.jans.orm.model.PagedResult;
 import io.jans.orm.model.SearchScope;
 import io.jans.orm.model.Sort;
 import io.jans.orm.operation.PersistenceOperationService;
+import io.jans.orm.operation.SearchCursor;
 
 /**
  * SQL operation service interface
@@ -57,19 +59,58 @@ public interface SpannerOperationService extends PersistenceOperationService {
 
     boolean addEntry(String key, String objectClass, Collection<AttributeData> attributes) throws DuplicateEntryException, PersistenceException;
 
+    /**
+     * Add entries with one write of all their mutations. If write fails entries are added one by one
+     *
+     * @return Errors of entries which were not added by index of entry
+     */
+    Map<Integer, PersistenceException> addEntries(String objectClass, List<String> keys, List<? extends Collection<AttributeData>> entriesAttributes) throws PersistenceException;
+
     boolean updateEntry(String key, String objectClass, List<AttributeDataModification> mods) throws UnsupportedOperationException, PersistenceException;
 
+    /**
+     * Update entries with one write of all their mutations. If write fails entries are updated one by one
+     *
+     * @return Errors of entries which were not updated by index of entry
+     */
+    Map<Integer, PersistenceException> updateEntries(String objectClass, List<String> keys, List<? extends List<AttributeDataModification>> entriesMods) throws PersistenceException;
+
+    /**
+     * Add, update and delete entries with one atomic write of mutations
+     */
+    void writeEntries(List<EntryWrite> writes) throws PersistenceException;
+
     boolean delete(String key, String objectClass) throws EntryNotFoundException;
+
+    /**
+     * Delete entries of one table in one read-write transaction
+     *
+     * @return Errors of entries which were not deleted by index of entry
+     */
+    Map<Integer, DeleteException> delete(List<String> keys, String objectClass) throws DeleteException;
 	long delete(String key, String objectClass, ConvertedExpression expression, int count) throws DeleteException;
 
 	boolean deleteRecursively(String key, String objectClass) throws EntryNotFoundException, SearchException;
 
 	List<AttributeData> lookup(String key, String objectClass, String... attributes) throws SearchException, EntryConvertationException;
 
+	/**
+	 * Load entries of one table by set of keys
+	 *
+	 * @return Attributes of found entries by key
+	 */
+	Map<String, List<AttributeData>> lookup(List<String> keys, String objectClass, String... attributes) throws SearchException, EntryConvertationException;
+
     <O> PagedResult<EntryData> search(String key, String objectClass, ConvertedExpression expression, SearchScope scope,
             String[] attributes, Sort[] orderBy, SpannerBatchOperationWraper<O> batchOperationWraper, SearchReturnDataType returnDataType,
             int start, int count, int pageSize) throws SearchException;
 
+    /**
+     * Open search which streams rows of one query. Rows are read until cursor is closed
+     */
+    SearchCursor<EntryData> searchCursor(String key, String objectClass, ConvertedExpression expression, String[] attributes,
+            Sort[] orderBy) throws SearchException;
+
     String[] createStoragePassword(String[] passwords);
     
     boolean isBinaryAttribute(String attribute);
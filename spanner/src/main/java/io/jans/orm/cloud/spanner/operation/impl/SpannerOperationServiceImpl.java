@@ -15,8 +15,10 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -46,6 +48,7 @@ import com.google.cloud.spanner.ValueBinder;
 
 import io.jans.orm.cloud.spanner.impl.SpannerBatchOperationWraper;
 import io.jans.orm.cloud.spanner.model.ConvertedExpression;
+import io.jans.orm.cloud.spanner.model.EntryWrite;
 import io.jans.orm.cloud.spanner.model.SearchReturnDataType;
 import io.jans.orm.cloud.spanner.model.TableMapping;
 import io.jans.orm.cloud.spanner.model.ValueWithStructField;
@@ -69,6 +72,9 @@ import io.jans.orm.model.PagedResult;
 import io.jans.orm.model.SearchScope;
 import io.jans.orm.model.Sort;
 import io.jans.orm.model.SortOrder;
+import io.jans.orm.operation.PagePrefetcher;
+import io.jans.orm.operation.PagePrefetcher.PageLoader;
+import io.jans.orm.operation.SearchCursor;
 import io.jans.orm.operation.auth.PasswordEncryptionHelper;
 import io.jans.orm.util.ArrayHelper;
 import io.jans.orm.util.StringHelper;
@@ -195,56 +201,112 @@ public class SpannerOperationServiceImpl implements SpannerOperationService {
 
 	private boolean addEntryImpl(TableMapping tableMapping, String key, Collection<AttributeData> attributes) throws PersistenceException {
 		try {
-			MessageDigest messageDigest = getMessageDigestInstance();
-			Map<String, StructField> columTypes = tableMapping.getColumTypes();
-
-			WriteBuilder mutationBuilder = Mutation.newInsertOrUpdateBuilder(tableMapping.getTableName());
-			List<Mutation> mutations = new LinkedList<>();
-			for (AttributeData attribute : attributes) {
-				String attributeName = attribute.getName();
-				StructField attributeType = columTypes.get(attributeName.toLowerCase());
-
-				// If column not inside table we should check if there is child table
-				if (attributeType == null) {
-					TableMapping childTableMapping = connectionProvider.getChildTableMappingByKey(key, tableMapping, attributeName);
-					if (childTableMapping == null) {
-			            throw new PersistenceException(String.format("Failed to add entry. Column '%s' is undefined", attributeName));
-					}
+			List<Mutation> mutations = buildInsertMutations(getMessageDigestInstance(), tableMapping, key, attributes);
 
-					Map<String, StructField> childColumTypes = childTableMapping.getColumTypes();
-					if (childColumTypes == null) {
-			            throw new PersistenceException(String.format("Failed to add entry. Column '%s' is undefined", attributeName));
-					}
-					StructField childAttributeType = childColumTypes.get(attributeName.toLowerCase());
-					
-					// Build Mutation for child table
-					for (Object value : attribute.getValues()) {
-						// Build Mutation for child table
-						String dictDocId = getStringUniqueKey(messageDigest, value);
+			databaseClient.write(mutations);
 
-						WriteBuilder childMutationBuilder = Mutation.newInsertOrUpdateBuilder(childTableMapping.getTableName());
-						childMutationBuilder.
-							set(SpannerOperationService.DOC_ID).to(key).
-							set(SpannerOperationService.DICT_DOC_ID).to(dictDocId);
-						
-						setMutationBuilderValue(childMutationBuilder, childAttributeType, value);
+			return true;
+        } catch (SpannerException | IllegalStateException ex) {
+            throw new PersistenceException("Failed to add entry", ex);
+        }
+	}
 
-						mutations.add(childMutationBuilder.build());
-					}
-				} else {
-					setMutationBuilderValue(mutationBuilder, attributeType, attribute.getValues());
-				}
+    @Override
+    public Map<Integer, PersistenceException> addEntries(String objectClass, List<String> keys, List<? extends Collection<AttributeData>> entriesAttributes) throws PersistenceException {
+        Instant startTime = OperationDurationUtil.instance().now();
+
+        Map<Integer, PersistenceException> errors = new HashMap<>();
+        if (keys.isEmpty()) {
+        	return errors;
+        }
+
+        List<TableMapping> tableMappings = new ArrayList<>(keys.size());
+        for (String key : keys) {
+        	tableMappings.add(connectionProvider.getTableMappingByKey(key, objectClass));
+        }
+
+        boolean result = addEntriesImpl(tableMappings, keys, entriesAttributes);
+        if (!result) {
+        	// Write is atomic. Add entries one by one to find out which of them can't be added
+        	for (int i = 0; i < keys.size(); i++) {
+        		try {
+        			addEntryImpl(tableMappings.get(i), keys.get(i), entriesAttributes.get(i));
+        		} catch (PersistenceException ex) {
+        			errors.put(i, ex);
+        		}
+        	}
+        }
+
+        Duration duration = OperationDurationUtil.instance().duration(startTime);
+        OperationDurationUtil.instance().logDebug("Spanner operation: add batch, duration: {}, table: {}, count: {}, batch: {}, errors: {}", duration, tableMappings.get(0).getTableName(), keys.size(), result, errors.size());
+
+        return errors;
+    }
+
+	private boolean addEntriesImpl(List<TableMapping> tableMappings, List<String> keys, List<? extends Collection<AttributeData>> entriesAttributes) {
+		try {
+			MessageDigest messageDigest = getMessageDigestInstance();
+
+			List<Mutation> mutations = new ArrayList<>();
+			for (int i = 0; i < keys.size(); i++) {
+				mutations.addAll(buildInsertMutations(messageDigest, tableMappings.get(i), keys.get(i), entriesAttributes.get(i)));
 			}
-			mutations.add(0, mutationBuilder.build());
 
 			databaseClient.write(mutations);
 
 			return true;
-        } catch (SpannerException | IllegalStateException ex) {
-            throw new PersistenceException("Failed to add entry", ex);
+        } catch (SpannerException | IllegalStateException | PersistenceException ex) {
+			LOG.debug("Failed to add batch of entries", ex);
+
+			return false;
         }
 	}
 
+	private List<Mutation> buildInsertMutations(MessageDigest messageDigest, TableMapping tableMapping, String key, Collection<AttributeData> attributes) throws PersistenceException {
+		Map<String, StructField> columTypes = tableMapping.getColumTypes();
+
+		WriteBuilder mutationBuilder = Mutation.newInsertOrUpdateBuilder(tableMapping.getTableName());
+		List<Mutation> mutations = new LinkedList<>();
+		for (AttributeData attribute : attributes) {
+			String attributeName = attribute.getName();
+			StructField attributeType = columTypes.get(attributeName.toLowerCase());
+
+			// If column not inside table we should check if there is child table
+			if (attributeType == null) {
+				TableMapping childTableMapping = connectionProvider.getChildTableMappingByKey(key, tableMapping, attributeName);
+				if (childTableMapping == null) {
+		            throw new PersistenceException(String.format("Failed to add entry. Column '%s' is undefined", attributeName));
+				}
+
+				Map<String, StructField> childColumTypes = childTableMapping.getColumTypes();
+				if (childColumTypes == null) {
+		            throw new PersistenceException(String.format("Failed to add entry. Column '%s' is undefined", attributeName));
+				}
+				StructField childAttributeType = childColumTypes.get(attributeName.toLowerCase());
+				
+				// Build Mutation for child table
+				for (Object value : attribute.getValues()) {
+					// Build Mutation for child table
+					String dictDocId = getStringUniqueKey(messageDigest, value);
+
+					WriteBuilder childMutationBuilder = Mutation.newInsertOrUpdateBuilder(childTableMapping.getTableName());
+					childMutationBuilder.
+						set(SpannerOperationService.DOC_ID).to(key).
+						set(SpannerOperationService.DICT_DOC_ID).to(dictDocId);
+					
+					setMutationBuilderValue(childMutationBuilder, childAttributeType, value);
+
+					mutations.add(childMutationBuilder.build());
+				}
+			} else {
+				setMutationBuilderValue(mutationBuilder, attributeType, attribute.getValues());
+			}
+		}
+		mutations.add(0, mutationBuilder.build());
+
+		return mutations;
+	}
+
 	@Override
     public boolean updateEntry(String key, String objectClass, List<AttributeDataModification> mods) throws UnsupportedOperationException, PersistenceException {
         Instant startTime = OperationDurationUtil.instance().now();
@@ -261,105 +323,200 @@ public class SpannerOperationServiceImpl implements SpannerOperationService {
 	private boolean updateEntryImpl(TableMapping tableMapping, String key, List<AttributeDataModification> mods)
 			throws PersistenceException {
 		try {
-			MessageDigest messageDigest = getMessageDigestInstance();
-			Map<String, StructField> columTypes = tableMapping.getColumTypes();
-
-			WriteBuilder mutationBuilder = Mutation.newInsertOrUpdateBuilder(tableMapping.getTableName()).
-					set(SpannerOperationService.DOC_ID).to(key);
-			List<Mutation> mutations = new LinkedList<>();
-			for (AttributeDataModification attributeMod : mods) {
-				AttributeData attribute = attributeMod.getAttribute();
-				AttributeModificationType type = attributeMod.getModificationType();
-
-				String attributeName = attribute.getName();
-				StructField attributeType = columTypes.get(attributeName.toLowerCase());
-
-				// If column not inside table we should check if there is child table
-				if (attributeType == null) {
-					TableMapping childTableMapping = connectionProvider.getChildTableMappingByKey(key, tableMapping, attributeName);
-					if (childTableMapping == null) {
-						throw new PersistenceException(
-								String.format("Failed to update entry. Column '%s' is undefined", attributeName));
-					}
+			List<Mutation> mutations = buildUpdateMutations(getMessageDigestInstance(), tableMapping, key, mods);
 
-					Map<String, StructField> childColumTypes = childTableMapping.getColumTypes();
-					StructField childAttributeType = childColumTypes.get(attributeName.toLowerCase());
+			databaseClient.write(mutations);
 
-					// Build Mutation for child table
-					Map<String, Object> oldValues = null;
-					if ((attributeMod.getOldAttribute() != null) && (attributeMod.getOldAttribute().getValues() != null)) {
-						oldValues = new HashMap<>();
-						for (Object oldValue : attributeMod.getOldAttribute().getValues()) {
-							String dictDocId = getStringUniqueKey(messageDigest, oldValue);
-							oldValues.put(dictDocId, oldValue);
-						}
-					}
-					
-					if ((AttributeModificationType.ADD == type) ||
-							(AttributeModificationType.FORCE_UPDATE == type) || (AttributeModificationType.REPLACE == type)) {
-						for (Object value : attribute.getValues()) {
-							WriteBuilder childMutationBuilder = Mutation.newInsertOrUpdateBuilder(childTableMapping.getTableName());
+			return true;
+		} catch (SpannerException | IllegalStateException ex) {
+			throw new PersistenceException("Failed to update entry", ex);
+		}
+	}
 
-							String dictDocId = getStringUniqueKey(messageDigest, value);
-							childMutationBuilder.
-								set(SpannerOperationService.DOC_ID).to(key).
-								set(SpannerOperationService.DICT_DOC_ID).to(dictDocId);
+	private List<Mutation> buildUpdateMutations(MessageDigest messageDigest, TableMapping tableMapping, String key, List<AttributeDataModification> mods)
+			throws PersistenceException {
+		Map<String, StructField> columTypes = tableMapping.getColumTypes();
 
-							setMutationBuilderValue(childMutationBuilder, childAttributeType, value);
+		WriteBuilder mutationBuilder = Mutation.newInsertOrUpdateBuilder(tableMapping.getTableName()).
+				set(SpannerOperationService.DOC_ID).to(key);
+		List<Mutation> mutations = new LinkedList<>();
+		for (AttributeDataModification attributeMod : mods) {
+			AttributeData attribute = attributeMod.getAttribute();
+			AttributeModificationType type = attributeMod.getModificationType();
 
-							mutations.add(childMutationBuilder.build());
+			String attributeName = attribute.getName();
+			StructField attributeType = columTypes.get(attributeName.toLowerCase());
 
-							if (oldValues != null) {
-								oldValues.remove(dictDocId);
-							}
-						}
-					} else if (AttributeModificationType.REMOVE == type) {
-						// Build Mutation for child table
-						com.google.cloud.spanner.KeySet.Builder keySetBuilder = KeySet.newBuilder();
-						for (Object value : attribute.getValues()) {
-							String dictDocId = getStringUniqueKey(messageDigest, value);
-							keySetBuilder.addKey(Key.of(key, dictDocId));
-						}
+			// If column not inside table we should check if there is child table
+			if (attributeType == null) {
+				TableMapping childTableMapping = connectionProvider.getChildTableMappingByKey(key, tableMapping, attributeName);
+				if (childTableMapping == null) {
+					throw new PersistenceException(
+							String.format("Failed to update entry. Column '%s' is undefined", attributeName));
+				}
 
-						Mutation childMutation = Mutation.delete(childTableMapping.getTableName(), keySetBuilder.build());
+				Map<String, StructField> childColumTypes = childTableMapping.getColumTypes();
+				StructField childAttributeType = childColumTypes.get(attributeName.toLowerCase());
 
-						mutations.add(childMutation);
-					} else {
-						throw new UnsupportedOperationException("Operation type '" + type + "' is not implemented");
+				// Build Mutation for child table
+				Map<String, Object> oldValues = null;
+				if ((attributeMod.getOldAttribute() != null) && (attributeMod.getOldAttribute().getValues() != null)) {
+					oldValues = new HashMap<>();
+					for (Object oldValue : attributeMod.getOldAttribute().getValues()) {
+						String dictDocId = getStringUniqueKey(messageDigest, oldValue);
+						oldValues.put(dictDocId, oldValue);
 					}
+				}
+				
+				if ((AttributeModificationType.ADD == type) ||
+						(AttributeModificationType.FORCE_UPDATE == type) || (AttributeModificationType.REPLACE == type)) {
+					for (Object value : attribute.getValues()) {
+						WriteBuilder childMutationBuilder = Mutation.newInsertOrUpdateBuilder(childTableMapping.getTableName());
 
-					if ((oldValues != null) && (oldValues.size() > 0)) {
-						com.google.cloud.spanner.KeySet.Builder keySetBuilder = KeySet.newBuilder();
-						for (String removeDictDocId : oldValues.keySet()) {
-							keySetBuilder.addKey(Key.of(key, removeDictDocId));
-						}
+						String dictDocId = getStringUniqueKey(messageDigest, value);
+						childMutationBuilder.
+							set(SpannerOperationService.DOC_ID).to(key).
+							set(SpannerOperationService.DICT_DOC_ID).to(dictDocId);
+
+						setMutationBuilderValue(childMutationBuilder, childAttributeType, value);
 
-						Mutation childMutation = Mutation.delete(childTableMapping.getTableName(), keySetBuilder.build());
+						mutations.add(childMutationBuilder.build());
 
-						mutations.add(childMutation);
+						if (oldValues != null) {
+							oldValues.remove(dictDocId);
+						}
+					}
+				} else if (AttributeModificationType.REMOVE == type) {
+					// Build Mutation for child table
+					com.google.cloud.spanner.KeySet.Builder keySetBuilder = KeySet.newBuilder();
+					for (Object value : attribute.getValues()) {
+						String dictDocId = getStringUniqueKey(messageDigest, value);
+						keySetBuilder.addKey(Key.of(key, dictDocId));
 					}
+
+					Mutation childMutation = Mutation.delete(childTableMapping.getTableName(), keySetBuilder.build());
+
+					mutations.add(childMutation);
 				} else {
-					if ((AttributeModificationType.ADD == type) || (AttributeModificationType.FORCE_UPDATE == type)
-							|| (AttributeModificationType.REPLACE == type)) {
-						setMutationBuilderValue(mutationBuilder, attributeType, attribute.getValues());
-					} else if (AttributeModificationType.REMOVE == type) {
-						removeMutationBuilderValue(mutationBuilder, attribute, attributeType);
-					} else {
-						throw new UnsupportedOperationException("Operation type '" + type + "' is not implemented");
+					throw new UnsupportedOperationException("Operation type '" + type + "' is not implemented");
+				}
+
+				if ((oldValues != null) && (oldValues.size() > 0)) {
+					com.google.cloud.spanner.KeySet.Builder keySetBuilder = KeySet.newBuilder();
+					for (String removeDictDocId : oldValues.keySet()) {
+						keySetBuilder.addKey(Key.of(key, removeDictDocId));
 					}
 
+					Mutation childMutation = Mutation.delete(childTableMapping.getTableName(), keySetBuilder.build());
+
+					mutations.add(childMutation);
+				}
+			} else {
+				if ((AttributeModificationType.ADD == type) || (AttributeModificationType.FORCE_UPDATE == type)
+						|| (AttributeModificationType.REPLACE == type)) {
+					setMutationBuilderValue(mutationBuilder, attributeType, attribute.getValues());
+				} else if (AttributeModificationType.REMOVE == type) {
+					removeMutationBuilderValue(mutationBuilder, attribute, attributeType);
+				} else {
+					throw new UnsupportedOperationException("Operation type '" + type + "' is not implemented");
 				}
+
+			}
+		}
+		mutations.add(0, mutationBuilder.build());
+
+		return mutations;
+	}
+
+    @Override
+    public Map<Integer, PersistenceException> updateEntries(String objectClass, List<String> keys, List<? extends List<AttributeDataModification>> entriesMods) throws PersistenceException {
+        Instant startTime = OperationDurationUtil.instance().now();
+
+        Map<Integer, PersistenceException> errors = new HashMap<>();
+        if (keys.isEmpty()) {
+        	return errors;
+        }
+
+        List<TableMapping> tableMappings = new ArrayList<>(keys.size());
+        for (String key : keys) {
+        	tableMappings.add(connectionProvider.getTableMappingByKey(key, objectClass));
+        }
+
+        boolean result = updateEntriesImpl(tableMappings, keys, entriesMods);
+        if (!result) {
+        	// Write is atomic. Update entries one by one to find out which of them can't be updated
+        	for (int i = 0; i < keys.size(); i++) {
+        		try {
+        			updateEntryImpl(tableMappings.get(i), keys.get(i), entriesMods.get(i));
+        		} catch (PersistenceException ex) {
+        			errors.put(i, ex);
+        		}
+        	}
+        }
+
+        Duration duration = OperationDurationUtil.instance().duration(startTime);
+        OperationDurationUtil.instance().logDebug("Spanner operation: modify batch, duration: {}, table: {}, count: {}, batch: {}, errors: {}", duration, tableMappings.get(0).getTableName(), keys.size(), result, errors.size());
+
+        return errors;
+    }
+
+	private boolean updateEntriesImpl(List<TableMapping> tableMappings, List<String> keys, List<? extends List<AttributeDataModification>> entriesMods) {
+		try {
+			MessageDigest messageDigest = getMessageDigestInstance();
+
+			List<Mutation> mutations = new ArrayList<>();
+			for (int i = 0; i < keys.size(); i++) {
+				mutations.addAll(buildUpdateMutations(messageDigest, tableMappings.get(i), keys.get(i), entriesMods.get(i)));
 			}
-			mutations.add(0, mutationBuilder.build());
 
 			databaseClient.write(mutations);
 
 			return true;
-		} catch (SpannerException | IllegalStateException ex) {
-			throw new PersistenceException("Failed to update entry", ex);
-		}
+        } catch (SpannerException | IllegalStateException | PersistenceException ex) {
+			LOG.debug("Failed to update batch of entries", ex);
+
+			return false;
+        }
 	}
 
+    @Override
+    public void writeEntries(List<EntryWrite> writes) throws PersistenceException {
+        Instant startTime = OperationDurationUtil.instance().now();
+
+        if (writes.isEmpty()) {
+        	return;
+        }
+
+		try {
+			MessageDigest messageDigest = getMessageDigestInstance();
+
+			List<Mutation> mutations = new ArrayList<>();
+			for (EntryWrite write : writes) {
+				TableMapping tableMapping = connectionProvider.getTableMappingByKey(write.getKey(), write.getObjectClass());
+				switch (write.getType()) {
+				case ADD:
+					mutations.addAll(buildInsertMutations(messageDigest, tableMapping, write.getKey(), write.getAttributes()));
+					break;
+				case UPDATE:
+					mutations.addAll(buildUpdateMutations(messageDigest, tableMapping, write.getKey(), write.getModifications()));
+					break;
+				case DELETE:
+					mutations.add(Mutation.delete(tableMapping.getTableName(), Key.of(write.getKey())));
+					break;
+				default:
+					throw new UnsupportedOperationException("Write type '" + write.getType() + "' is not implemented");
+				}
+			}
+
+			databaseClient.write(mutations);
+        } catch (SpannerException | IllegalStateException ex) {
+            throw new PersistenceException("Failed to write entries", ex);
+        }
+
+        Duration duration = OperationDurationUtil.instance().duration(startTime);
+        OperationDurationUtil.instance().logDebug("Spanner operation: write, duration: {}, count: {}", duration, writes.size());
+    }
+
 	@Override
     public boolean delete(String key, String objectClass) throws EntryNotFoundException {
         Instant startTime = OperationDurationUtil.instance().now();
@@ -388,6 +545,72 @@ public class SpannerOperationServiceImpl implements SpannerOperationService {
         }
 	}
 
+    @Override
+    public Map<Integer, DeleteException> delete(List<String> keys, String objectClass) throws DeleteException {
+        Instant startTime = OperationDurationUtil.instance().now();
+
+        Map<Integer, DeleteException> errors = new HashMap<>();
+        if (keys.isEmpty()) {
+        	return errors;
+        }
+
+        TableMapping tableMapping = connectionProvider.getTableMappingByKey(keys.get(0), objectClass);
+        Set<String> existingKeys = null;
+        try {
+        	existingKeys = deleteImpl(tableMapping, keys);
+        	for (int i = 0; i < keys.size(); i++) {
+        		if (!existingKeys.contains(keys.get(i))) {
+        			errors.put(i, new DeleteException(String.format("Entry with key '%s' doesn't exist", keys.get(i))));
+        		}
+        	}
+        } catch (DeleteException ex) {
+        	LOG.debug("Failed to delete batch of entries", ex);
+
+        	// Transaction is atomic. Delete entries one by one to find out which of them can't be deleted
+        	for (int i = 0; i < keys.size(); i++) {
+        		try {
+        			deleteImpl(tableMapping, keys.get(i));
+        		} catch (EntryNotFoundException ex2) {
+        			errors.put(i, new DeleteException("Failed to delete entry", ex2));
+        		}
+        	}
+        }
+
+        Duration duration = OperationDurationUtil.instance().duration(startTime);
+        OperationDurationUtil.instance().logDebug("Spanner operation: delete batch, duration: {}, table: {}, count: {}, batch: {}, errors: {}", duration, tableMapping.getTableName(), keys.size(), existingKeys != null, errors.size());
+
+        return errors;
+    }
+
+	private Set<String> deleteImpl(TableMapping tableMapping, List<String> keys) throws DeleteException {
+		try {
+			KeySet.Builder keySetBuilder = KeySet.newBuilder();
+			for (String key : keys) {
+				keySetBuilder.addKey(Key.of(key));
+			}
+			KeySet keySet = keySetBuilder.build();
+
+			// Blind delete mutation can't report missing rows. Read existing keys and delete them in same transaction
+			return databaseClient.readWriteTransaction().run(new TransactionCallable<Set<String>>() {
+				@Override
+				public Set<String> run(TransactionContext transaction) throws Exception {
+					Set<String> existingKeys = new HashSet<>();
+					try (ResultSet resultSet = transaction.read(tableMapping.getTableName(), keySet, Collections.singletonList(DOC_ID))) {
+						while (resultSet.next()) {
+							existingKeys.add(resultSet.getString(DOC_ID));
+						}
+					}
+
+					transaction.buffer(Mutation.delete(tableMapping.getTableName(), keySet));
+
+					return existingKeys;
+				}
+			});
+        } catch (SpannerException ex) {
+            throw new DeleteException("Failed to delete entries", ex);
+        }
+	}
+
     @Override
     public long delete(String key, String objectClass, ConvertedExpression expression, int count) throws DeleteException {
         Instant startTime = OperationDurationUtil.instance().now();
@@ -543,7 +766,76 @@ public class SpannerOperationServiceImpl implements SpannerOperationService {
 			throw new SearchException(String.format("Failed to lookup query by key: '%s'", key), ex);
 		}
 
-		throw new SearchException(String.format("Failed to lookup entry by key: '%s'", key));
+		String message = String.format("Failed to lookup entry by key: '%s'", key);
+		throw new SearchException(message, new EntryNotFoundException(message));
+	}
+
+    @Override
+    public Map<String, List<AttributeData>> lookup(List<String> keys, String objectClass, String... attributes) throws SearchException, EntryConvertationException {
+        if (keys.isEmpty()) {
+        	return new HashMap<String, List<AttributeData>>();
+        }
+
+        Instant startTime = OperationDurationUtil.instance().now();
+        
+    	TableMapping tableMapping = connectionProvider.getTableMappingByKey(keys.get(0), objectClass);
+
+    	Map<String, List<AttributeData>> result = lookupImpl(tableMapping, keys, attributes);
+
+        Duration duration = OperationDurationUtil.instance().duration(startTime);
+        OperationDurationUtil.instance().logDebug("SQL operation: lookup, duration: {}, table: {}, keys: {}, attributes: {}", duration, tableMapping.getTableName(), keys, attributes);
+
+        return result;
+    }
+
+	private Map<String, List<AttributeData>> lookupImpl(TableMapping tableMapping, List<String> keys, String... attributes) throws SearchException, EntryConvertationException {
+		Map<String, List<AttributeData>> result = new HashMap<String, List<AttributeData>>();
+
+		String tableName = tableMapping.getTableName();
+		Set<String> childTables = connectionProvider.getTableChildAttributes(tableName);
+		if (childTables != null) {
+			// Attributes from child tables are loaded with join query per entry
+			for (String key : keys) {
+				try {
+					result.put(key, lookupImpl(tableMapping, key, attributes));
+				} catch (SearchException ex) {
+					if (!(ex.getCause() instanceof EntryNotFoundException)) {
+						throw ex;
+					}
+					LOG.trace("Entry '{}' not found", key);
+				}
+			}
+
+			return result;
+		}
+
+		try {
+			// All attributes in one table. Read all rows with one request by set of primary keys
+			KeySet.Builder keySetBuilder = KeySet.newBuilder();
+			for (String key : keys) {
+				keySetBuilder.addKey(Key.of(key));
+			}
+
+			List<String> columns = new ArrayList<String>(attributes == null ? tableMapping.getColumTypes().keySet() : Arrays.asList(attributes));
+			boolean hasDocId = false;
+			for (String column : columns) {
+				hasDocId |= DOC_ID.equalsIgnoreCase(column);
+			}
+			if (!hasDocId) {
+				columns.add(DOC_ID);
+			}
+
+            try (ResultSet resultSet = databaseClient.singleUse().read(tableName, keySetBuilder.build(), columns)) {
+            	List<AttributeData> entryAttributes;
+            	while ((entryAttributes = getAttributeDataList(tableMapping.getObjectClass(), resultSet, true)) != null) {
+            		result.put(resultSet.getString(DOC_ID), entryAttributes);
+            	}
+            }
+		} catch (SpannerException ex) {
+			throw new SearchException(String.format("Failed to lookup query by keys: '%s'", keys), ex);
+		}
+
+		return result;
 	}
 
 	@Override
@@ -570,32 +862,7 @@ public class SpannerOperationServiceImpl implements SpannerOperationService {
         }
 
 		Table table = buildTable(tableMapping);
-
-		PlainSelect sqlSelectQuery = new PlainSelect();
-		sqlSelectQuery.setFromItem(table);
-
-		List<SelectItem> selectItems = buildSelectAttributes(tableMapping, key, attributes);
-		sqlSelectQuery.addSelectItems(selectItems);
-		
-		if (expression != null) {
-			applyWhereExpression(sqlSelectQuery, expression);
-		}
-
-        if (orderBy != null) {
-        	OrderByElement[] orderByElements = new OrderByElement[orderBy.length];
-        	for (int i = 0; i < orderBy.length; i++) {
-        		Column column = new Column(orderBy[i].getName());
-        		orderByElements[i] = new OrderByElement();
-        		orderByElements[i].setExpression(column);
-        		
-        		if (orderBy[i].getSortOrder() != null) {
-        			orderByElements[i].setAscDescPresent(true);
-        			orderByElements[i].setAsc(SortOrder.ASCENDING == orderBy[i].getSortOrder());
-        		}
-        	}
-
-            sqlSelectQuery.withOrderByElements(Arrays.asList(orderByElements));
-        }
+		PlainSelect sqlSelectQuery = buildSelectQuery(table, tableMapping, key, expression, attributes, orderBy);
 
         List<EntryData> searchResultList = new LinkedList<EntryData>();
         if ((SearchReturnDataType.SEARCH == returnDataType) || (SearchReturnDataType.SEARCH_COUNT == returnDataType)) {
@@ -607,56 +874,66 @@ public class SpannerOperationServiceImpl implements SpannerOperationService {
 	    		
 	    		Offset offset = new Offset();
 	    		sqlSelectQuery.setOffset(offset);
-	
-	            int currentLimit;
-	    		try {
-	                int resultCount = 0;
-	                int lastCountRows = 0;
-	                do {
-	                    collectSearchResult = true;
-	
-	                    currentLimit = pageSize;
-	                    if (count > 0) {
-	                        currentLimit = Math.min(pageSize, count - resultCount);
-	                    }
-
-	                    // Change limit and offset
-	    	    		limit.setRowCount(new LongValue(currentLimit));
-	    	    		offset.setOffset(start + resultCount);
-	                    
-	    				Statement.Builder statementBuilder = Statement.newBuilder(sqlSelectQuery.toString());
-	    				applyParametersBinding(statementBuilder, expression);
-
-	    				Statement statement = statementBuilder.build();
-	                    LOG.debug("Executing query: '{}'", statement);
-
-	                    try (ResultSet resultSet = databaseClient.singleUse().executeQuery(statement)) {
-	                    	lastResult = getEntryDataList(tableMapping.getObjectClass(), resultSet);
-	                    }
-
-		    			lastCountRows = lastResult.size();
-		    			
-	                    if (batchOperation != null) {
-	                        collectSearchResult = batchOperation.collectSearchResult(lastCountRows);
-	                    }
-	                    if (collectSearchResult) {
-	                        searchResultList.addAll(lastResult);
-	                    }
-	
-	                    if (batchOperation != null) {
-	                        List<O> entries = batchOperationWraper.createEntities(lastResult);
-	                        batchOperation.performAction(entries);
-	                    }
-	
-	                    resultCount += lastCountRows;
-	
-	                    if ((count > 0) && (resultCount >= count)) {
-	                        break;
-	                    }
-	                } while (lastCountRows > 0);
-	    		} catch (SpannerException | EntryConvertationException | IncompatibleTypeException ex) {
-	    			LOG.error("Failed to execute query with expression: '{}'", expression);
-	    			throw new SearchException(String.format("Failed to execute query '%s'  with key: '%s'", sqlSelectQuery, key), ex);
+
+	    		PageLoader<List<EntryData>> pageLoader = new PageLoader<List<EntryData>>() {
+	    			private int resultCount = 0;
+	    			private boolean lastPage = false;
+
+	    			@Override
+	    			public List<EntryData> loadPage() throws SearchException {
+	    				if (lastPage) {
+	    					return null;
+	    				}
+
+	    				int currentLimit = pageSize;
+	    				if (count > 0) {
+	    					currentLimit = Math.min(pageSize, count - resultCount);
+	    				}
+
+	    				try {
+	    					// Change limit and offset
+	    					limit.setRowCount(new LongValue(currentLimit));
+	    					offset.setOffset(start + resultCount);
+
+	    					Statement.Builder statementBuilder = Statement.newBuilder(sqlSelectQuery.toString());
+	    					applyParametersBinding(statementBuilder, expression);
+
+	    					Statement statement = statementBuilder.build();
+	    					LOG.debug("Executing query: '{}'", statement);
+
+	    					List<EntryData> pageResult;
+	    					try (ResultSet resultSet = databaseClient.singleUse().executeQuery(statement)) {
+	    						pageResult = getEntryDataList(tableMapping.getObjectClass(), resultSet);
+	    					}
+
+	    					resultCount += pageResult.size();
+	    					lastPage = ((count > 0) && (resultCount >= count)) || pageResult.isEmpty();
+
+	    					return pageResult;
+	    				} catch (SpannerException | EntryConvertationException | IncompatibleTypeException ex) {
+	    					LOG.error("Failed to execute query with expression: '{}'", expression);
+	    					throw new SearchException(String.format("Failed to execute query '%s'  with key: '%s'", sqlSelectQuery, key), ex);
+	    				}
+	    			}
+	    		};
+
+	    		int prefetchPages = batchOperation == null ? 0 : batchOperation.getPrefetchPages();
+	    		try (PagePrefetcher<List<EntryData>> pages = PagePrefetcher.create(pageLoader, prefetchPages, batchOperationWraper == null ? null : batchOperationWraper.getPrefetchExecutor())) {
+	    			while ((lastResult = pages.nextPage()) != null) {
+	    				collectSearchResult = true;
+
+	    				if (batchOperation != null) {
+	    					collectSearchResult = batchOperation.collectSearchResult(lastResult.size());
+	    				}
+	    				if (collectSearchResult) {
+	    					searchResultList.addAll(lastResult);
+	    				}
+
+	    				if (batchOperation != null) {
+	    					List<O> entries = batchOperationWraper.createEntities(lastResult);
+	    					batchOperation.performAction(entries);
+	    				}
+	    			}
 	    		}
 	        } else {
 	    		try {
@@ -737,6 +1014,57 @@ public class SpannerOperationServiceImpl implements SpannerOperationService {
         return result;
     }
 
+	private PlainSelect buildSelectQuery(Table table, TableMapping tableMapping, String key, ConvertedExpression expression, String[] attributes,
+			Sort[] orderBy) throws SearchException {
+		PlainSelect sqlSelectQuery = new PlainSelect();
+		sqlSelectQuery.setFromItem(table);
+
+		List<SelectItem> selectItems = buildSelectAttributes(tableMapping, key, attributes);
+		sqlSelectQuery.addSelectItems(selectItems);
+		
+		if (expression != null) {
+			applyWhereExpression(sqlSelectQuery, expression);
+		}
+
+        if (orderBy != null) {
+        	OrderByElement[] orderByElements = new OrderByElement[orderBy.length];
+        	for (int i = 0; i < orderBy.length; i++) {
+        		Column column = new Column(orderBy[i].getName());
+        		orderByElements[i] = new OrderByElement();
+        		orderByElements[i].setExpression(column);
+        		
+        		if (orderBy[i].getSortOrder() != null) {
+        			orderByElements[i].setAscDescPresent(true);
+        			orderByElements[i].setAsc(SortOrder.ASCENDING == orderBy[i].getSortOrder());
+        		}
+        	}
+
+            sqlSelectQuery.withOrderByElements(Arrays.asList(orderByElements));
+        }
+
+        return sqlSelectQuery;
+	}
+
+	@Override
+    public SearchCursor<EntryData> searchCursor(String key, String objectClass, ConvertedExpression expression, String[] attributes,
+            Sort[] orderBy) throws SearchException {
+        TableMapping tableMapping = connectionProvider.getTableMappingByKey(key, objectClass);
+
+		PlainSelect sqlSelectQuery = buildSelectQuery(buildTable(tableMapping), tableMapping, key, expression, attributes, orderBy);
+		try {
+			Statement.Builder statementBuilder = Statement.newBuilder(sqlSelectQuery.toString());
+			applyParametersBinding(statementBuilder, expression);
+
+			Statement statement = statementBuilder.build();
+			LOG.debug("Opening cursor for query: '{}'", statement);
+
+			// Rows are streamed by Spanner while result set is open
+			return new ResultSetCursor(tableMapping.getObjectClass(), databaseClient.singleUse().executeQuery(statement), statement);
+		} catch (SpannerException | IncompatibleTypeException ex) {
+			throw new SearchException(String.format("Failed to execute query '%s'  with key: '%s'", sqlSelectQuery, key), ex);
+		}
+	}
+
 	public String[] createStoragePassword(String[] passwords) {
         if (ArrayHelper.isEmpty(passwords)) {
             return passwords;
@@ -1306,4 +1634,48 @@ public class SpannerOperationServiceImpl implements SpannerOperationService {
 		return messageDigest;
 	}
 
+	private final class ResultSetCursor implements SearchCursor<EntryData> {
+
+		private final String objectClass;
+		private final ResultSet resultSet;
+		private final Statement statement;
+		private boolean closed;
+
+		private ResultSetCursor(String objectClass, ResultSet resultSet, Statement statement) {
+			this.objectClass = objectClass;
+			this.resultSet = resultSet;
+			this.statement = statement;
+		}
+
+		@Override
+		public List<EntryData> next(int count) throws SearchException {
+			List<EntryData> result = new ArrayList<EntryData>(count);
+			try {
+				while (!closed && (result.size() < count)) {
+					List<AttributeData> attributeDataList = getAttributeDataList(objectClass, resultSet, false);
+					if (attributeDataList == null) {
+						close();
+						break;
+					}
+
+					result.add(new EntryData(attributeDataList));
+				}
+			} catch (EntryConvertationException | SpannerException ex) {
+				throw new SearchException(String.format("Failed to read result of query '%s'", statement), ex);
+			}
+
+			return result;
+		}
+
+		@Override
+		public void close() {
+			if (closed) {
+				return;
+			}
+
+			closed = true;
+			resultSet.close();
+		}
+	}
+
 }
@@ -0,0 +1,257 @@
+package io.jans.orm.cloud.spanner.impl.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.google.cloud.spanner.Type;
+import com.google.cloud.spanner.Type.StructField;
+
+import io.jans.orm.annotation.AttributeEnum;
+import io.jans.orm.cloud.spanner.impl.SpannerFilterConverter;
+import io.jans.orm.cloud.spanner.model.ConvertedExpression;
+import io.jans.orm.cloud.spanner.model.TableMapping;
+import io.jans.orm.exception.operation.SearchException;
+import io.jans.orm.reflect.property.PropertyAnnotation;
+import io.jans.orm.search.filter.Filter;
+import io.jans.orm.search.filter.PreparedFilter;
+
+/**
+ * Checks that filters converted with cached template are equal to filters
+ * converted without cache
+ */
+public class SpannerFilterConverterTemplateTest {
+
+	private TableMapping tableMapping;
+
+	@BeforeClass
+	public void init() {
+		Map<String, StructField> columTypes = new HashMap<String, StructField>();
+		columTypes.put("uid", StructField.of("uid", Type.string()));
+		columTypes.put("displayname", StructField.of("displayName", Type.string()));
+		columTypes.put("age", StructField.of("age", Type.int64()));
+		columTypes.put("enabled", StructField.of("enabled", Type.bool()));
+		columTypes.put("added", StructField.of("added", Type.timestamp()));
+		columTypes.put("status", StructField.of("status", Type.string()));
+		columTypes.put("mail", StructField.of("mail", Type.array(Type.string())));
+
+		Map<String, StructField> childColumTypes = new HashMap<String, StructField>();
+		childColumTypes.put("jansredirecturi", StructField.of("jansRedirectURI", Type.string()));
+		Map<String, TableMapping> childTableMapping = new HashMap<String, TableMapping>();
+		childTableMapping.put("jansredirecturi", new TableMapping("o=jans", "jansClnt_Interleave_jansRedirectURI", "jansClnt", childColumTypes));
+
+		this.tableMapping = new TableMapping("o=jans", "jansClnt", "jansClnt", columTypes);
+		this.tableMapping.setChildTableMapping(childTableMapping);
+	}
+
+	@Test
+	public void checkEqFilters() throws SearchException {
+		assertCachedEqualsConverted(Filter.createEqualityFilter("uid", "test"), Filter.createEqualityFilter("uid", "test2"));
+		assertCachedEqualsConverted(Filter.createEqualityFilter("age", 23), Filter.createEqualityFilter("age", 24));
+		assertCachedEqualsConverted(Filter.createEqualityFilter("age", 23L), Filter.createEqualityFilter("age", 24L));
+		assertCachedEqualsConverted(Filter.createEqualityFilter("enabled", true), Filter.createEqualityFilter("enabled", false));
+		assertCachedEqualsConverted(Filter.createEqualityFilter("added", new Date(1608130698398L)), Filter.createEqualityFilter("added", new Date(1608130699398L)));
+		assertCachedEqualsConverted(Filter.createEqualityFilter("status", TestStatus.ACTIVE), Filter.createEqualityFilter("status", TestStatus.INACTIVE));
+	}
+
+	@Test
+	public void checkMultivaluedFilters() throws SearchException {
+		assertCachedEqualsConverted(Filter.createEqualityFilter("mail", "test@jans.io"), Filter.createEqualityFilter("mail", "test2@jans.io"));
+		assertCachedEqualsConverted(Filter.createLessOrEqualFilter("mail", "a").multiValued(), Filter.createLessOrEqualFilter("mail", "b").multiValued());
+		assertCachedEqualsConverted(Filter.createPresenceFilter("mail").multiValued(), Filter.createPresenceFilter("mail").multiValued());
+		assertCachedEqualsConverted(Filter.createSubstringFilter("mail", null, new String[] { "test" }, null),
+				Filter.createSubstringFilter("mail", null, new String[] { "test2" }, null));
+
+		// Multi valued attribute in child table
+		assertCachedEqualsConverted(Filter.createEqualityFilter("jansRedirectURI", "https://jans.io"),
+				Filter.createEqualityFilter("jansRedirectURI", "https://jans2.io"));
+		assertCachedEqualsConverted(
+				Filter.createANDFilter(Filter.createEqualityFilter("jansRedirectURI", "https://jans.io"), Filter.createEqualityFilter("uid", "test")),
+				Filter.createANDFilter(Filter.createEqualityFilter("jansRedirectURI", "https://jans2.io"), Filter.createEqualityFilter("uid", "test2")));
+
+		// Attribute is multi valued by type of entry property
+		Map<String, PropertyAnnotation> propertiesAnnotationsMap = new HashMap<String, PropertyAnnotation>();
+		PropertyAnnotation propertyAnnotation = new PropertyAnnotation("mail", new ArrayList<>());
+		propertyAnnotation.setParameterType(String[].class);
+		propertiesAnnotationsMap.put("mail", propertyAnnotation);
+
+		assertCachedEqualsConverted(Filter.createEqualityFilter("mail", "test@jans.io"), Filter.createEqualityFilter("mail", "test2@jans.io"),
+				propertiesAnnotationsMap, false);
+	}
+
+	@Test
+	public void checkLeGeFilters() throws SearchException {
+		assertCachedEqualsConverted(Filter.createLessOrEqualFilter("uid", "test"), Filter.createLessOrEqualFilter("uid", "test2"));
+		assertCachedEqualsConverted(Filter.createGreaterOrEqualFilter("age", 23L), Filter.createGreaterOrEqualFilter("age", 24L));
+		assertCachedEqualsConverted(Filter.createGreaterOrEqualFilter("added", new Date(1608130698398L)),
+				Filter.createGreaterOrEqualFilter("added", new Date(1608130699398L)));
+	}
+
+	@Test
+	public void checkPresenceAndSubFilters() throws SearchException {
+		assertCachedEqualsConverted(Filter.createPresenceFilter("uid"), Filter.createPresenceFilter("uid"));
+		assertCachedEqualsConverted(Filter.createSubstringFilter("uid", "a", new String[] { "b" }, "c"),
+				Filter.createSubstringFilter("uid", "d", new String[] { "e" }, "f"));
+		assertCachedEqualsConverted(Filter.createSubstringFilter(Filter.createLowercaseFilter("displayName"), null, new String[] { "test" }, null),
+				Filter.createSubstringFilter(Filter.createLowercaseFilter("displayName"), null, new String[] { "test2" }, null));
+	}
+
+	@Test
+	public void checkJunctionFilters() throws SearchException {
+		assertCachedEqualsConverted(Filter.createNOTFilter(Filter.createEqualityFilter("uid", "test")),
+				Filter.createNOTFilter(Filter.createEqualityFilter("uid", "test2")));
+		assertCachedEqualsConverted(
+				Filter.createANDFilter(Filter.createPresenceFilter("uid"), Filter.createEqualityFilter("uid", "test"), Filter.createLessOrEqualFilter("age", 23)),
+				Filter.createANDFilter(Filter.createPresenceFilter("uid"), Filter.createEqualityFilter("uid", "test2"), Filter.createLessOrEqualFilter("age", 24)));
+		assertCachedEqualsConverted(
+				Filter.createORFilter(Filter.createPresenceFilter("uid"), Filter.createEqualityFilter("uid", "test"), Filter.createLessOrEqualFilter("age", 23)),
+				Filter.createORFilter(Filter.createPresenceFilter("uid"), Filter.createEqualityFilter("uid", "test2"), Filter.createLessOrEqualFilter("age", 24)));
+	}
+
+	@Test
+	public void checkOrJoinFilters() throws SearchException {
+		assertCachedEqualsConverted(
+				Filter.createORFilter(Filter.createEqualityFilter("uid", "test"), Filter.createEqualityFilter("uid", "test2"), Filter.createEqualityFilter("uid", "test3")).multiValued(false),
+				Filter.createORFilter(Filter.createEqualityFilter("uid", "test4"), Filter.createEqualityFilter("uid", "test5"), Filter.createEqualityFilter("uid", "test6")).multiValued(false));
+		assertCachedEqualsConverted(
+				Filter.createORFilter(Filter.createEqualityFilter("status", TestStatus.ACTIVE), Filter.createEqualityFilter("status", TestStatus.INACTIVE)).multiValued(false),
+				Filter.createORFilter(Filter.createEqualityFilter("status", TestStatus.INACTIVE), Filter.createEqualityFilter("status", TestStatus.ACTIVE)).multiValued(false));
+	}
+
+	@Test
+	public void checkSkipAliasFilters() throws SearchException {
+		Filter filter1 = Filter.createANDFilter(Filter.createEqualityFilter("uid", "test"), Filter.createEqualityFilter("age", 23));
+		Filter filter2 = Filter.createANDFilter(Filter.createEqualityFilter("uid", "test2"), Filter.createEqualityFilter("age", 24));
+
+		assertCachedEqualsConverted(filter1, filter2, null, true);
+
+		// Templates with and without alias are different
+		SpannerFilterConverter converter = new SpannerFilterConverter(null);
+		String expression1 = converter.convertToSqlFilter(tableMapping, filter1, null, null, true).expression().toString();
+		String expression2 = converter.convertToSqlFilter(tableMapping, filter1, null, null, false).expression().toString();
+		assertNotEquals(expression1, expression2);
+		assertEquals(converter.getTemplateCache().size(), 2);
+	}
+
+	@Test
+	public void checkPreparedFilters() throws SearchException {
+		PreparedFilter preparedFilter = PreparedFilter.prepare(Filter.createANDFilter(
+				Filter.createORFilter(Filter.createEqualityFilter("uid", PreparedFilter.parameter("uid1")),
+						Filter.createEqualityFilter("uid", PreparedFilter.parameter("uid2"))).multiValued(false),
+				Filter.createLessOrEqualFilter("age", PreparedFilter.parameter("age"))));
+
+		Map<String, Object> values1 = new HashMap<String, Object>();
+		values1.put("uid1", "test");
+		values1.put("uid2", "test2");
+		values1.put("age", 23);
+
+		Map<String, Object> values2 = new HashMap<String, Object>();
+		values2.put("uid1", "test3");
+		values2.put("uid2", "test4");
+		values2.put("age", 24);
+
+		// Second bound filter is converted with template of first one
+		assertCachedEqualsConverted(preparedFilter.bind(values1), preparedFilter.bind(values2));
+	}
+
+	@Test
+	public void checkFiltersOfSameShapeReuseTemplate() throws SearchException {
+		SpannerFilterConverter cachedConverter = new SpannerFilterConverter(null);
+		SpannerFilterConverter converter = new SpannerFilterConverter(null);
+		converter.getTemplateCache().setMaxSize(0);
+
+		Filter[] filters = new Filter[16];
+		for (int i = 0; i < filters.length; i++) {
+			filters[i] = Filter.createANDFilter(
+					Filter.createORFilter(Filter.createEqualityFilter("uid", "test" + i), Filter.createEqualityFilter("uid", "user" + i)).multiValued(false),
+					Filter.createSubstringFilter(Filter.createLowercaseFilter("displayName"), null, new String[] { "name" + i }, null),
+					Filter.createLessOrEqualFilter("age", i), Filter.createEqualityFilter("mail", "test" + i + "@jans.io"),
+					Filter.createNOTFilter(Filter.createEqualityFilter("status", TestStatus.INACTIVE)));
+		}
+
+		convert(cachedConverter, filters);
+		convert(converter, filters);
+
+		// Only first filter is converted, others are bound to its template
+		assertEquals(cachedConverter.getTemplateCache().getMissCount(), 1);
+		assertEquals(cachedConverter.getTemplateCache().getHitCount(), filters.length - 1);
+		assertEquals(cachedConverter.getTemplateCache().size(), 1);
+
+		// Disabled cache converts each filter
+		assertEquals(converter.getTemplateCache().getMissCount(), 0);
+		assertEquals(converter.getTemplateCache().getHitCount(), 0);
+		assertEquals(converter.getTemplateCache().size(), 0);
+
+		// Filter of other shape gets own template
+		convert(cachedConverter, new Filter[] { Filter.createEqualityFilter("uid", "test") });
+		assertEquals(cachedConverter.getTemplateCache().getMissCount(), 2);
+		assertEquals(cachedConverter.getTemplateCache().size(), 2);
+	}
+
+	private void convert(SpannerFilterConverter converter, Filter[] filters) throws SearchException {
+		for (Filter filter : filters) {
+			converter.convertToSqlFilter(tableMapping, filter, null);
+		}
+	}
+
+	private void assertCachedEqualsConverted(Filter filter1, Filter filter2) throws SearchException {
+		assertCachedEqualsConverted(filter1, filter2, null, false);
+	}
+
+	private void assertCachedEqualsConverted(Filter filter1, Filter filter2, Map<String, PropertyAnnotation> propertiesAnnotationsMap,
+			boolean skipAlias) throws SearchException {
+		SpannerFilterConverter cachedConverter = new SpannerFilterConverter(null);
+		SpannerFilterConverter converter = new SpannerFilterConverter(null);
+		converter.getTemplateCache().setMaxSize(0);
+
+		// First filter builds template, second one is bound to it
+		for (Filter filter : new Filter[] { filter1, filter2 }) {
+			ConvertedExpression cachedExpression = cachedConverter.convertToSqlFilter(tableMapping, filter, propertiesAnnotationsMap, null, skipAlias);
+			ConvertedExpression convertedExpression = converter.convertToSqlFilter(tableMapping, filter, propertiesAnnotationsMap, null, skipAlias);
+
+			assertEquals(cachedExpression.expression().toString(), convertedExpression.expression().toString());
+			assertEquals(cachedExpression.queryParameters().toString(), convertedExpression.queryParameters().toString());
+			assertEquals(cachedExpression.joinTables().toString(), convertedExpression.joinTables().toString());
+		}
+
+		assertEquals(cachedConverter.getTemplateCache().getMissCount(), 1);
+		assertEquals(cachedConverter.getTemplateCache().getHitCount(), 1);
+		assertEquals(converter.getTemplateCache().size(), 0);
+	}
+
+	private enum TestStatus implements AttributeEnum {
+
+		ACTIVE("active"), INACTIVE("inactive");
+
+		private final String value;
+
+		TestStatus(String value) {
+			this.value = value;
+		}
+
+		@Override
+		public String getValue() {
+			return value;
+		}
+
+		@Override
+		public Enum<? extends AttributeEnum> resolveByValue(String value) {
+			for (TestStatus status : values()) {
+				if (status.value.equals(value)) {
+					return status;
+				}
+			}
+
+			return null;
+		}
+
+	}
+
+}
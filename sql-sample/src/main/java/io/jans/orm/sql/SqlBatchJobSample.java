@@ -113,6 +113,12 @@ public final class SqlBatchJobSample {
 
                 LOG.info("Total processed clients: " + processedCount);
             }
+
+            @Override
+            public int getPrefetchPages() {
+                // Entries are not modified. Load next page while current one is processed
+                return 1;
+            }
         };
 
         final Filter filter3 = Filter.createPresenceFilter("exp");
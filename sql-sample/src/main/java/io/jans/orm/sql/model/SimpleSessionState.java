@@ -22,7 +22,7 @@ import io.jans.orm.annotation.ObjectClass;
 /**
 * @author Yuriy Movchan Date: 01/15/2020
  */
-@DataEntry
+@DataEntry(trackChanges = true)
 @ObjectClass(value = "jansSessId")
 public class SimpleSessionState implements Serializable {
 
@@ -12,6 +12,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -24,17 +25,22 @@ import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.ExpressionUtils;
 import com.querydsl.core.types.Operation;
 import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.ParamExpression;
 import com.querydsl.core.types.Path;
 import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.Param;
 
 import io.jans.orm.annotation.AttributeEnum;
 import io.jans.orm.annotation.AttributeName;
 import io.jans.orm.exception.operation.SearchException;
+import io.jans.orm.impl.FilterTemplateCache;
 import io.jans.orm.ldap.impl.LdapFilterConverter;
 import io.jans.orm.reflect.property.PropertyAnnotation;
 import io.jans.orm.reflect.util.ReflectHelper;
 import io.jans.orm.search.filter.Filter;
+import io.jans.orm.search.filter.FilterOptimizer;
+import io.jans.orm.search.filter.FilterShape;
 import io.jans.orm.search.filter.FilterType;
 import io.jans.orm.sql.model.ConvertedExpression;
 import io.jans.orm.sql.operation.SqlOperationService;
@@ -52,10 +58,17 @@ public class SqlFilterConverter {
     
     private static final String SQL_DATA_FORMAT = "yyyy-MM-dd'T'HH:mm:ss.SSS";
     private static final LdapFilterConverter ldapFilterConverter = new LdapFilterConverter();
+    private static final FilterOptimizer filterOptimizer = new FilterOptimizer();
 	private static final ObjectMapper JSON_OBJECT_MAPPER = new ObjectMapper();
 
 	private SqlOperationService operationService;
 
+	private final FilterTemplateCache<FilterTemplate> templateCache;
+
+	// Not null only in converter which builds template
+	private final FilterShape templateShape;
+	private final Map<String, TemplateValue> templateParameters;
+
 	private Path<String> stringDocAlias = ExpressionUtils.path(String.class, "doc");
 	private Path<Boolean> booleanDocAlias = ExpressionUtils.path(Boolean.class, "doc");
 	private Path<Integer> integerDocAlias = ExpressionUtils.path(Integer.class, "doc");
@@ -64,6 +77,16 @@ public class SqlFilterConverter {
 
     public SqlFilterConverter(SqlOperationService operationService) {
     	this.operationService = operationService;
+    	this.templateCache = new FilterTemplateCache<FilterTemplate>();
+    	this.templateShape = null;
+    	this.templateParameters = null;
+	}
+
+	private SqlFilterConverter(SqlOperationService operationService, FilterShape templateShape) {
+    	this.operationService = operationService;
+    	this.templateCache = null;
+    	this.templateShape = templateShape;
+    	this.templateParameters = new LinkedHashMap<String, TemplateValue>();
 	}
 
 	public ConvertedExpression convertToSqlFilter(Filter genericFilter, Map<String, PropertyAnnotation> propertiesAnnotationsMap) throws SearchException {
@@ -78,14 +101,155 @@ public class SqlFilterConverter {
     	return convertToSqlFilter(genericFilter, propertiesAnnotationsMap, processor, false);
     }
 
-    @SuppressWarnings({ "unchecked", "rawtypes" })
 	public ConvertedExpression convertToSqlFilter(Filter genericFilter, Map<String, PropertyAnnotation> propertiesAnnotationsMap, Function<? super Filter, Boolean> processor, boolean skipAlias) throws SearchException {
-    	Map<String, Class<?>> jsonAttributes = new HashMap<>();
-    	ConvertedExpression convertedExpression = convertToSqlFilterImpl(genericFilter, propertiesAnnotationsMap, jsonAttributes, processor, skipAlias);
-    	
-    	return convertedExpression;
+    	Filter optimizedFilter = filterOptimizer.optimize(genericFilter);
+
+    	// Processor should see each filter, so filters with processor are not cached
+    	FilterShape shape = null;
+    	if ((processor == null) && templateCache.isEnabled()) {
+    		shape = FilterShape.of(optimizedFilter);
+    	}
+
+    	if (shape == null) {
+        	Map<String, Class<?>> jsonAttributes = new HashMap<>();
+        	ConvertedExpression convertedExpression = convertToSqlFilterImpl(optimizedFilter, propertiesAnnotationsMap, jsonAttributes, processor, skipAlias);
+
+        	return convertedExpression;
+    	}
+
+    	String templateKey = buildTemplateKey(shape, propertiesAnnotationsMap, skipAlias);
+    	FilterTemplate template = templateCache.get(templateKey);
+    	if (template == null) {
+    		SqlFilterConverter templateConverter = new SqlFilterConverter(operationService, shape);
+    		Map<String, Class<?>> jsonAttributes = new HashMap<>();
+    		Expression expression = templateConverter.convertToSqlFilterImpl(optimizedFilter, propertiesAnnotationsMap, jsonAttributes, null, skipAlias).expression();
+
+    		template = new FilterTemplate(expression, jsonAttributes, templateConverter.templateParameters);
+    		templateCache.put(templateKey, template);
+    	}
+
+    	// JSON attributes depend on filter shape only. Caller gets own copy of them
+    	return ConvertedExpression.build(bindParameters(template.expression, template.parameters, shape), new HashMap<>(template.jsonAttributes));
     }
 
+	private String buildTemplateKey(FilterShape shape, Map<String, PropertyAnnotation> propertiesAnnotationsMap, boolean skipAlias) {
+		StringBuilder key = new StringBuilder(shape.getKey());
+		key.append(skipAlias ? 'A' : '-');
+
+		// Conversion depends on attribute types of entry
+		for (String attributeName : shape.getAttributeNames()) {
+			Boolean isMultiValuedDetected = determineMultiValuedByType(attributeName, propertiesAnnotationsMap);
+			key.append(isMultiValuedDetected == null ? '-' : (isMultiValuedDetected ? 'M' : 'S'));
+		}
+
+		return key.toString();
+	}
+
+	@SuppressWarnings("rawtypes")
+	private Expression bindParameters(Expression expression, Map<String, TemplateValue> parameters, FilterShape shape) throws SearchException {
+		if (expression instanceof ParamExpression) {
+			TemplateValue templateValue = parameters.get(((ParamExpression) expression).getName());
+
+			return Expressions.constant(templateValue.get(shape));
+		}
+
+		if (!(expression instanceof Operation)) {
+			return expression;
+		}
+
+		Operation operation = (Operation) expression;
+		List<Expression<?>> args = operation.getArgs();
+		Expression<?>[] boundArgs = new Expression<?>[args.size()];
+		boolean changed = false;
+		for (int i = 0; i < boundArgs.length; i++) {
+			boundArgs[i] = bindParameters(args.get(i), parameters, shape);
+			changed |= boundArgs[i] != args.get(i);
+		}
+
+		if (!changed) {
+			return expression;
+		}
+
+		if (expression instanceof Predicate) {
+			return ExpressionUtils.predicate(operation.getOperator(), boundArgs);
+		}
+
+		return ExpressionUtils.operation(operation.getType(), operation.getOperator(), boundArgs);
+	}
+
+	/**
+	 * In template mode returns parameter slot instead of value
+	 */
+	private Expression buildValueExpression(Filter filter, ValueBuilder valueBuilder) throws SearchException {
+		if (templateShape == null) {
+			return Expressions.constant(valueBuilder.build(filter));
+		}
+
+		int nodeIndex = templateShape.indexOf(filter);
+		if (nodeIndex == -1) {
+			throw new SearchException(String.format("Filter '%s' is not part of template filter", filter));
+		}
+
+		String name = "p" + templateParameters.size();
+		templateParameters.put(name, shape -> valueBuilder.build(shape.getNode(nodeIndex)));
+
+		return new Param<Object>(Object.class, name);
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private Predicate buildInExpression(Expression path, List<Filter> eqFilters) throws SearchException {
+		if (templateShape == null) {
+			return ExpressionUtils.in(path, buildInValues(eqFilters));
+		}
+
+		int[] nodeIndexes = new int[eqFilters.size()];
+		for (int i = 0; i < nodeIndexes.length; i++) {
+			nodeIndexes[i] = templateShape.indexOf(eqFilters.get(i));
+			if (nodeIndexes[i] == -1) {
+				throw new SearchException(String.format("Filter '%s' is not part of template filter", eqFilters.get(i)));
+			}
+		}
+
+		String name = "p" + templateParameters.size();
+		Param<Object> param = new Param<Object>(Object.class, name);
+
+		// The same expressions as ExpressionUtils.in produces
+		if (nodeIndexes.length == 1) {
+			templateParameters.put(name, shape -> buildInValue(shape.getNode(nodeIndexes[0])));
+
+			return ExpressionUtils.eq(path, param);
+		}
+
+		templateParameters.put(name, shape -> {
+			List<Filter> shapeFilters = new ArrayList<Filter>(nodeIndexes.length);
+			for (int nodeIndex : nodeIndexes) {
+				shapeFilters.add(shape.getNode(nodeIndex));
+			}
+
+			return buildInValues(shapeFilters);
+		});
+
+		return ExpressionUtils.predicate(Ops.IN, path, param);
+	}
+
+	private List<Object> buildInValues(List<Filter> eqFilters) {
+    	List<Object> rightObjs = new ArrayList<>(eqFilters.size());
+		for (Filter eqFilter : eqFilters) {
+			rightObjs.add(buildInValue(eqFilter));
+		}
+
+		return rightObjs;
+	}
+
+	private Object buildInValue(Filter eqFilter) {
+		Object assertionValue = eqFilter.getAssertionValue();
+		if (assertionValue instanceof AttributeEnum) {
+			assertionValue = ((AttributeEnum) assertionValue).getValue();
+		}
+
+		return assertionValue;
+	}
+
 	private ConvertedExpression convertToSqlFilterImpl(Filter genericFilter, Map<String, PropertyAnnotation> propertiesAnnotationsMap,
 			Map<String, Class<?>> jsonAttributes, Function<? super Filter, Boolean> processor, boolean skipAlias) throws SearchException {
 		if (genericFilter == null) {
@@ -158,19 +322,9 @@ public class SqlFilterConverter {
                     return ConvertedExpression.build(ExpressionUtils.allOf(expFilters), jsonAttributes);
                 } else if (FilterType.OR == type) {
                     if (canJoinOrFilters) {
-                    	List<Object> rightObjs = new ArrayList<>(joinOrFilters.size());
-                    	Filter lastEqFilter = null;
-                		for (Filter eqFilter : joinOrFilters) {
-                			lastEqFilter = eqFilter;
-
-                			Object assertionValue = eqFilter.getAssertionValue();
-                			if (assertionValue instanceof AttributeEnum) {
-                				assertionValue = ((AttributeEnum) assertionValue).getValue();
-                			}
-                			rightObjs.add(assertionValue);
-            			}
-                		
-                		return ConvertedExpression.build(ExpressionUtils.in(buildTypedPath(lastEqFilter, propertiesAnnotationsMap, jsonAttributes, processor, skipAlias), rightObjs), jsonAttributes);
+                    	Filter lastEqFilter = joinOrFilters.get(joinOrFilters.size() - 1);
+
+                		return ConvertedExpression.build(buildInExpression(buildTypedPath(lastEqFilter, propertiesAnnotationsMap, jsonAttributes, processor, skipAlias), joinOrFilters), jsonAttributes);
                 	} else {
                         return ConvertedExpression.build(ExpressionUtils.anyOf(expFilters), jsonAttributes);
                 	}
@@ -276,24 +430,6 @@ public class SqlFilterConverter {
         }
 
         if (FilterType.SUBSTRING == type) {
-        	StringBuilder like = new StringBuilder();
-            if (currentGenericFilter.getSubInitial() != null) {
-                like.append(currentGenericFilter.getSubInitial());
-            }
-            like.append("%");
-
-            String[] subAny = currentGenericFilter.getSubAny();
-            if ((subAny != null) && (subAny.length > 0)) {
-                for (String any : subAny) {
-                    like.append(any);
-                    like.append("%");
-                }
-            }
-
-            if (currentGenericFilter.getSubFinal() != null) {
-                like.append(currentGenericFilter.getSubFinal());
-            }
-
             Expression expression;
             if (isMultiValue(currentGenericFilter, propertiesAnnotationsMap)) {
             	if (currentGenericFilter.getMultiValuedCount() > 1) {
@@ -301,7 +437,7 @@ public class SqlFilterConverter {
             		for (int i = 0; i < currentGenericFilter.getMultiValuedCount(); i++) {
                 		Operation<Boolean> operation = ExpressionUtils.predicate(SqlOps.JSON_EXTRACT,
                 				buildTypedPath(currentGenericFilter, propertiesAnnotationsMap, jsonAttributes, processor, skipAlias), Expressions.constant("$.v[" + i + "]"));
-                		Predicate predicate = Expressions.booleanOperation(Ops.LIKE, operation, Expressions.constant(like.toString()));
+                		Predicate predicate = Expressions.booleanOperation(Ops.LIKE, operation, buildValueExpression(currentGenericFilter, this::buildLikeValue));
 
                 		expressions.add(predicate);
             		}
@@ -316,7 +452,7 @@ public class SqlFilterConverter {
             	expression = buildTypedPath(currentGenericFilter, propertiesAnnotationsMap, jsonAttributes, processor, skipAlias);
             }
 
-            return ConvertedExpression.build(Expressions.booleanOperation(Ops.LIKE, expression, Expressions.constant(like.toString())), jsonAttributes);
+            return ConvertedExpression.build(Expressions.booleanOperation(Ops.LIKE, expression, buildValueExpression(currentGenericFilter, this::buildLikeValue)), jsonAttributes);
         }
 
         if (FilterType.LOWERCASE == type) {
@@ -360,6 +496,10 @@ public class SqlFilterConverter {
 	}
 
 	private Expression buildTypedExpression(Filter filter) throws SearchException {
+		return buildValueExpression(filter, this::buildTypedValue);
+	}
+
+	private Object buildTypedValue(Filter filter) throws SearchException {
 		if (Boolean.TRUE.equals(filter.getMultiValued())) {
 			Object assertionValue = filter.getAssertionValue();
 			if (assertionValue instanceof AttributeEnum) {
@@ -369,17 +509,39 @@ public class SqlFilterConverter {
 		        assertionValue = jsonDateFormat.format(filter.getAssertionValue());
 			}
 	
-	        return Expressions.constant(convertValueToJson(Arrays.asList(assertionValue)));
+	        return convertValueToJson(Arrays.asList(assertionValue));
 		} else {
 			Object assertionValue = filter.getAssertionValue();
 			if (assertionValue instanceof AttributeEnum) {
 				assertionValue = ((AttributeEnum) assertionValue).getValue();
 			}
 
-			return Expressions.constant(assertionValue);
+			return assertionValue;
 		}
 	}
 
+	private Object buildLikeValue(Filter filter) {
+    	StringBuilder like = new StringBuilder();
+        if (filter.getSubInitial() != null) {
+            like.append(filter.getSubInitial());
+        }
+        like.append("%");
+
+        String[] subAny = filter.getSubAny();
+        if ((subAny != null) && (subAny.length > 0)) {
+            for (String any : subAny) {
+                like.append(any);
+                like.append("%");
+            }
+        }
+
+        if (filter.getSubFinal() != null) {
+            like.append(filter.getSubFinal());
+        }
+
+        return like.toString();
+	}
+
 	private Expression buildTypedPath(Filter genericFilter, Map<String, PropertyAnnotation> propertiesAnnotationsMap,
 			Map<String, Class<?>> jsonAttributes, Function<? super Filter, Boolean> processor, boolean skipAlias) throws SearchException {
     	boolean hasSubFilters = ArrayHelper.isNotEmpty(genericFilter.getFilters());
@@ -459,4 +621,34 @@ public class SqlFilterConverter {
 		}
 	}
 
+	public FilterTemplateCache<?> getTemplateCache() {
+		return templateCache;
+	}
+
+	@FunctionalInterface
+	private interface ValueBuilder {
+		Object build(Filter filter) throws SearchException;
+	}
+
+	/**
+	 * Value of template parameter for filter with template shape
+	 */
+	@FunctionalInterface
+	private interface TemplateValue {
+		Object get(FilterShape shape) throws SearchException;
+	}
+
+	private static final class FilterTemplate {
+
+		private final Expression<?> expression;
+		private final Map<String, Class<?>> jsonAttributes;
+		private final Map<String, TemplateValue> parameters;
+
+		private FilterTemplate(Expression<?> expression, Map<String, Class<?>> jsonAttributes, Map<String, TemplateValue> parameters) {
+			this.expression = expression;
+			this.jsonAttributes = jsonAttributes;
+			this.parameters = parameters;
+		}
+	}
+
 }
@@ -10,6 +10,7 @@ import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import com.querydsl.core.types.OrderSpecifier;
 
@@ -25,8 +26,10 @@ import io.jans.orm.model.EntryData;
 import io.jans.orm.model.PagedResult;
 import io.jans.orm.model.SearchScope;
 import io.jans.orm.operation.PersistenceOperationService;
+import io.jans.orm.operation.SearchCursor;
 import io.jans.orm.sql.impl.SqlBatchOperationWraper;
 import io.jans.orm.sql.model.ConvertedExpression;
+import io.jans.orm.sql.model.EntryWrite;
 import io.jans.orm.sql.model.SearchReturnDataType;
 import io.jans.orm.sql.operation.impl.SqlConnectionProvider;
 
@@ -54,19 +57,61 @@ public interface SqlOperationService extends PersistenceOperationService {
 
     boolean addEntry(String key, String objectClass, Collection<AttributeData> attributes) throws DuplicateEntryException, PersistenceException;
 
+    /**
+     * Add entries of one table with one JDBC batch in transaction. If batch fails entries are added one by one
+     *
+     * @return Errors of entries which were not added by index of entry
+     */
+    Map<Integer, PersistenceException> addEntries(String objectClass, List<String> keys, List<? extends Collection<AttributeData>> entriesAttributes) throws PersistenceException;
+
     boolean updateEntry(String key, String objectClass, List<AttributeDataModification> mods) throws UnsupportedOperationException, PersistenceException;
 
+    /**
+     * Update entries of one table with one JDBC batch in transaction. If batch fails entries are updated one by one
+     *
+     * @return Errors of entries which were not updated by index of entry
+     */
+    Map<Integer, PersistenceException> updateEntries(String objectClass, List<String> keys, List<? extends List<AttributeDataModification>> entriesMods) throws PersistenceException;
+
+    /**
+     * Add, update and delete entries in one transaction. Transaction is rolled back if one of them was not written
+     */
+    void writeEntries(List<EntryWrite> writes) throws PersistenceException;
+
     boolean delete(String key, String objectClass) throws EntryNotFoundException;
+
+    /**
+     * Delete entries of one table with one query in transaction. If not all entries were deleted
+     * transaction is rolled back and entries are deleted one by one
+     *
+     * @return Errors of entries which were not deleted by index of entry
+     */
+    Map<Integer, DeleteException> delete(List<String> keys, String objectClass) throws DeleteException;
 	long delete(String key, String objectClass, ConvertedExpression expression, int count) throws DeleteException;
 
 	boolean deleteRecursively(String key, String objectClass) throws EntryNotFoundException, SearchException;
 
 	List<AttributeData> lookup(String key, String objectClass, String... attributes) throws SearchException, EntryConvertationException;
 
+	/**
+	 * Load entries of one table with one query
+	 *
+	 * @return Attributes of found entries by key
+	 */
+	Map<String, List<AttributeData>> lookup(List<String> keys, String objectClass, String... attributes) throws SearchException, EntryConvertationException;
+
     <O> PagedResult<EntryData> search(String key, String objectClass, ConvertedExpression expression, SearchScope scope,
             String[] attributes, OrderSpecifier<?>[] orderBy, SqlBatchOperationWraper<O> batchOperationWraper, SearchReturnDataType returnDataType,
             int start, int count, int pageSize) throws SearchException;
 
+    /**
+     * Open search which reads rows from forward only result set. Connection is held until cursor is closed
+     *
+     * @param fetchSize Count of rows which driver loads from DB at once
+     */
+    SearchCursor<EntryData> searchCursor(String key, String objectClass, ConvertedExpression expression, String[] attributes,
+            OrderSpecifier<?>[] orderBy, int fetchSize) throws SearchException;
+
     String[] createStoragePassword(String[] passwords);
     
     boolean isBinaryAttribute(String attribute);
@@ -353,6 +353,13 @@ public class SqlConnectionProvider {
 		return schemaName;
 	}
 
+	/**
+	 * Database product name in lower case
+	 */
+	public String getDbType() {
+		return dbType;
+	}
+
 	public SQLQueryFactory getSqlQueryFactory() {
 		return sqlQueryFactory;
 	}
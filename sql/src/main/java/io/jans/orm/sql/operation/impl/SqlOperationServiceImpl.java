@@ -17,6 +17,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -37,6 +38,7 @@ import com.querydsl.core.types.dsl.Wildcard;
 import com.querydsl.sql.RelationalPathBase;
 import com.querydsl.sql.SQLQuery;
 import com.querydsl.sql.SQLQueryFactory;
+import com.querydsl.sql.StatementOptions;
 import com.querydsl.sql.dml.SQLDeleteClause;
 import com.querydsl.sql.dml.SQLInsertClause;
 import com.querydsl.sql.dml.SQLUpdateClause;
@@ -56,9 +58,13 @@ import io.jans.orm.model.BatchOperation;
 import io.jans.orm.model.EntryData;
 import io.jans.orm.model.PagedResult;
 import io.jans.orm.model.SearchScope;
+import io.jans.orm.operation.PagePrefetcher;
+import io.jans.orm.operation.PagePrefetcher.PageLoader;
+import io.jans.orm.operation.SearchCursor;
 import io.jans.orm.operation.auth.PasswordEncryptionHelper;
 import io.jans.orm.sql.impl.SqlBatchOperationWraper;
 import io.jans.orm.sql.model.ConvertedExpression;
+import io.jans.orm.sql.model.EntryWrite;
 import io.jans.orm.sql.model.JsonAttributeValue;
 import io.jans.orm.sql.model.SearchReturnDataType;
 import io.jans.orm.sql.model.TableMapping;
@@ -172,22 +178,10 @@ public class SqlOperationServiceImpl implements SqlOperationService {
 
 	private boolean addEntryImpl(TableMapping tableMapping, String key, Collection<AttributeData> attributes) throws PersistenceException {
 		try {
-			Map<String, String> columTypes = tableMapping.getColumTypes();
-
 			RelationalPathBase<Object> tableRelationalPath = buildTableRelationalPath(tableMapping);
 			SQLInsertClause sqlInsertQuery = this.sqlQueryFactory.insert(tableRelationalPath);
 
-			for (AttributeData attribute : attributes) {
-				String attributeType = columTypes.get(attribute.getName().toLowerCase());
-				boolean multiValued = (attributeType != null) && "json".equals(attributeType);
-
-				sqlInsertQuery.columns(Expressions.stringPath(attribute.getName()));
-				if (multiValued || Boolean.TRUE.equals(attribute.getMultiValued())) {
-					sqlInsertQuery.values(convertValueToDbJson(attribute.getValues()));
-				} else {
-					sqlInsertQuery.values(attribute.getValue());
-				}
-			}
+			addInsertValues(sqlInsertQuery, tableMapping.getColumTypes(), attributes);
 			
 			long rowInserted = sqlInsertQuery.execute();
 
@@ -197,6 +191,80 @@ public class SqlOperationServiceImpl implements SqlOperationService {
         }
 	}
 
+	private void addInsertValues(SQLInsertClause sqlInsertQuery, Map<String, String> columTypes, Collection<AttributeData> attributes) {
+		for (AttributeData attribute : attributes) {
+			String attributeType = columTypes.get(attribute.getName().toLowerCase());
+			boolean multiValued = (attributeType != null) && "json".equals(attributeType);
+
+			sqlInsertQuery.columns(Expressions.stringPath(attribute.getName()));
+			if (multiValued || Boolean.TRUE.equals(attribute.getMultiValued())) {
+				sqlInsertQuery.values(convertValueToDbJson(attribute.getValues()));
+			} else {
+				sqlInsertQuery.values(attribute.getValue());
+			}
+		}
+	}
+
+    @Override
+    public Map<Integer, PersistenceException> addEntries(String objectClass, List<String> keys, List<? extends Collection<AttributeData>> entriesAttributes) throws PersistenceException {
+        Instant startTime = OperationDurationUtil.instance().now();
+
+        Map<Integer, PersistenceException> errors = new HashMap<>();
+        if (keys.isEmpty()) {
+        	return errors;
+        }
+
+        TableMapping tableMapping = connectionProvider.getTableMappingByKey(keys.get(0), objectClass);
+        boolean result = addEntriesImpl(tableMapping, entriesAttributes);
+        if (!result) {
+        	// Batch was rolled back. Add entries one by one to find out which of them can't be added
+        	for (int i = 0; i < keys.size(); i++) {
+        		try {
+        			if (!addEntryImpl(tableMapping, keys.get(i), entriesAttributes.get(i))) {
+        				errors.put(i, new PersistenceException("Failed to add entry"));
+        			}
+        		} catch (PersistenceException ex) {
+        			errors.put(i, ex);
+        		}
+        	}
+        }
+
+        Duration duration = OperationDurationUtil.instance().duration(startTime);
+        OperationDurationUtil.instance().logDebug("SQL operation: add batch, duration: {}, table: {}, count: {}, batch: {}, errors: {}", duration, tableMapping.getTableName(), keys.size(), result, errors.size());
+
+        return errors;
+    }
+
+	private boolean addEntriesImpl(TableMapping tableMapping, List<? extends Collection<AttributeData>> entriesAttributes) throws PersistenceException {
+		RelationalPathBase<Object> tableRelationalPath = buildTableRelationalPath(tableMapping);
+
+		try (Connection connection = connectionProvider.getConnection()) {
+			boolean autoCommit = connection.getAutoCommit();
+			connection.setAutoCommit(false);
+			try {
+				SQLInsertClause sqlInsertQuery = new SQLInsertClause(connection, this.sqlQueryFactory.getConfiguration(), tableRelationalPath);
+				for (Collection<AttributeData> attributes : entriesAttributes) {
+					addInsertValues(sqlInsertQuery, tableMapping.getColumTypes(), attributes);
+					sqlInsertQuery.addBatch();
+				}
+
+				sqlInsertQuery.execute();
+				connection.commit();
+
+				return true;
+			} catch (QueryException ex) {
+				connection.rollback();
+				LOG.debug("Failed to add batch of entries", ex);
+
+				return false;
+			} finally {
+				connection.setAutoCommit(autoCommit);
+			}
+		} catch (SQLException ex) {
+            throw new PersistenceException("Failed to add entries", ex);
+		}
+	}
+
     @Override
     public boolean updateEntry(String key, String objectClass, List<AttributeDataModification> mods) throws UnsupportedOperationException, PersistenceException {
         Instant startTime = OperationDurationUtil.instance().now();
@@ -212,42 +280,12 @@ public class SqlOperationServiceImpl implements SqlOperationService {
 
 	private boolean updateEntryImpl(TableMapping tableMapping, String key, List<AttributeDataModification> mods) throws PersistenceException {
 		try {
-			Map<String, String> columTypes = tableMapping.getColumTypes();
-
 			RelationalPathBase<Object> tableRelationalPath = buildTableRelationalPath(tableMapping);
 			SQLUpdateClause sqlUpdateQuery = this.sqlQueryFactory.update(tableRelationalPath);
 
-			for (AttributeDataModification attributeMod : mods) {
-				AttributeData attribute = attributeMod.getAttribute();
-				Path path = Expressions.stringPath(attribute.getName());
-
-				String attributeType = columTypes.get(attribute.getName().toLowerCase());
-				boolean multiValued = (attributeType != null) && "json".equals(attributeType);
-				
-				AttributeModificationType type = attributeMod.getModificationType();
-                if ((AttributeModificationType.ADD == type) || (AttributeModificationType.FORCE_UPDATE == type)) {
-					if (multiValued || Boolean.TRUE.equals(attribute.getMultiValued())) {
-    					sqlUpdateQuery.set(path, convertValueToDbJson(attribute.getValues()));
-    				} else {
-    					sqlUpdateQuery.set(path, attribute.getValue());
-    				}
-                } else if (AttributeModificationType.REPLACE == type) {
-					if (multiValued || Boolean.TRUE.equals(attribute.getMultiValued())) {
-    					sqlUpdateQuery.set(path, convertValueToDbJson(attribute.getValues()));
-    				} else {
-    					sqlUpdateQuery.set(path, attribute.getValue());
-    				}
-                } else if (AttributeModificationType.REMOVE == type) {
-    				sqlUpdateQuery.setNull(path);
-                } else {
-                    throw new UnsupportedOperationException("Operation type '" + type + "' is not implemented");
-                }
-			}
-
-			Predicate whereExp = ExpressionUtils.eq(Expressions.stringPath(SqlOperationService.DOC_ID),
-					Expressions.constant(key));
+			addUpdateValues(sqlUpdateQuery, tableMapping.getColumTypes(), key, mods);
 
-			long rowInserted = sqlUpdateQuery.where(whereExp).execute();
+			long rowInserted = sqlUpdateQuery.execute();
 
 			return rowInserted == 1;
         } catch (QueryException ex) {
@@ -255,6 +293,167 @@ public class SqlOperationServiceImpl implements SqlOperationService {
         }
 	}
 
+	private void addUpdateValues(SQLUpdateClause sqlUpdateQuery, Map<String, String> columTypes, String key, List<AttributeDataModification> mods) {
+		for (AttributeDataModification attributeMod : mods) {
+			AttributeData attribute = attributeMod.getAttribute();
+			Path path = Expressions.stringPath(attribute.getName());
+
+			String attributeType = columTypes.get(attribute.getName().toLowerCase());
+			boolean multiValued = (attributeType != null) && "json".equals(attributeType);
+			
+			AttributeModificationType type = attributeMod.getModificationType();
+            if ((AttributeModificationType.ADD == type) || (AttributeModificationType.FORCE_UPDATE == type)) {
+				if (multiValued || Boolean.TRUE.equals(attribute.getMultiValued())) {
+    				sqlUpdateQuery.set(path, convertValueToDbJson(attribute.getValues()));
+    			} else {
+    				sqlUpdateQuery.set(path, attribute.getValue());
+    			}
+            } else if (AttributeModificationType.REPLACE == type) {
+				if (multiValued || Boolean.TRUE.equals(attribute.getMultiValued())) {
+    				sqlUpdateQuery.set(path, convertValueToDbJson(attribute.getValues()));
+    			} else {
+    				sqlUpdateQuery.set(path, attribute.getValue());
+    			}
+            } else if (AttributeModificationType.REMOVE == type) {
+    			sqlUpdateQuery.setNull(path);
+            } else {
+                throw new UnsupportedOperationException("Operation type '" + type + "' is not implemented");
+            }
+		}
+
+		Predicate whereExp = ExpressionUtils.eq(Expressions.stringPath(SqlOperationService.DOC_ID),
+				Expressions.constant(key));
+
+		sqlUpdateQuery.where(whereExp);
+	}
+
+    @Override
+    public Map<Integer, PersistenceException> updateEntries(String objectClass, List<String> keys, List<? extends List<AttributeDataModification>> entriesMods) throws PersistenceException {
+        Instant startTime = OperationDurationUtil.instance().now();
+
+        Map<Integer, PersistenceException> errors = new HashMap<>();
+        if (keys.isEmpty()) {
+        	return errors;
+        }
+
+        TableMapping tableMapping = connectionProvider.getTableMappingByKey(keys.get(0), objectClass);
+        boolean result = updateEntriesImpl(tableMapping, keys, entriesMods);
+        if (!result) {
+        	// Batch was rolled back. Update entries one by one to find out which of them can't be updated
+        	for (int i = 0; i < keys.size(); i++) {
+        		try {
+        			if (!updateEntryImpl(tableMapping, keys.get(i), entriesMods.get(i))) {
+        				errors.put(i, new PersistenceException("Failed to update entry"));
+        			}
+        		} catch (PersistenceException ex) {
+        			errors.put(i, ex);
+        		}
+        	}
+        }
+
+        Duration duration = OperationDurationUtil.instance().duration(startTime);
+        OperationDurationUtil.instance().logDebug("SQL operation: modify batch, duration: {}, table: {}, count: {}, batch: {}, errors: {}", duration, tableMapping.getTableName(), keys.size(), result, errors.size());
+
+        return errors;
+    }
+
+	private boolean updateEntriesImpl(TableMapping tableMapping, List<String> keys, List<? extends List<AttributeDataModification>> entriesMods) throws PersistenceException {
+		RelationalPathBase<Object> tableRelationalPath = buildTableRelationalPath(tableMapping);
+
+		try (Connection connection = connectionProvider.getConnection()) {
+			boolean autoCommit = connection.getAutoCommit();
+			connection.setAutoCommit(false);
+			try {
+				// Statements with same set of columns are executed as one JDBC batch
+				SQLUpdateClause sqlUpdateQuery = new SQLUpdateClause(connection, this.sqlQueryFactory.getConfiguration(), tableRelationalPath);
+				for (int i = 0; i < keys.size(); i++) {
+					addUpdateValues(sqlUpdateQuery, tableMapping.getColumTypes(), keys.get(i), entriesMods.get(i));
+					sqlUpdateQuery.addBatch();
+				}
+
+				long rowsUpdated = sqlUpdateQuery.execute();
+				if (rowsUpdated != keys.size()) {
+					// Some entries don't exist
+					connection.rollback();
+					return false;
+				}
+				connection.commit();
+
+				return true;
+			} catch (QueryException ex) {
+				connection.rollback();
+				LOG.debug("Failed to update batch of entries", ex);
+
+				return false;
+			} finally {
+				connection.setAutoCommit(autoCommit);
+			}
+		} catch (SQLException ex) {
+            throw new PersistenceException("Failed to update entries", ex);
+		}
+	}
+
+    @Override
+    public void writeEntries(List<EntryWrite> writes) throws PersistenceException {
+        Instant startTime = OperationDurationUtil.instance().now();
+
+        if (writes.isEmpty()) {
+        	return;
+        }
+
+		try (Connection connection = connectionProvider.getConnection()) {
+			boolean autoCommit = connection.getAutoCommit();
+			connection.setAutoCommit(false);
+			boolean committed = false;
+			try {
+				for (EntryWrite write : writes) {
+					TableMapping tableMapping = connectionProvider.getTableMappingByKey(write.getKey(), write.getObjectClass());
+					long rowsWritten = writeEntryImpl(connection, tableMapping, write);
+					if (rowsWritten != 1) {
+						throw new PersistenceException(String.format("Failed to %s entry with key '%s'", write.getType().name().toLowerCase(), write.getKey()));
+					}
+				}
+				connection.commit();
+				committed = true;
+			} catch (QueryException ex) {
+				throw new PersistenceException("Failed to write entries", ex);
+			} finally {
+				if (!committed) {
+					connection.rollback();
+				}
+				connection.setAutoCommit(autoCommit);
+			}
+		} catch (SQLException ex) {
+            throw new PersistenceException("Failed to write entries", ex);
+		}
+
+        Duration duration = OperationDurationUtil.instance().duration(startTime);
+        OperationDurationUtil.instance().logDebug("SQL operation: write, duration: {}, count: {}", duration, writes.size());
+    }
+
+	private long writeEntryImpl(Connection connection, TableMapping tableMapping, EntryWrite write) {
+		RelationalPathBase<Object> tableRelationalPath = buildTableRelationalPath(tableMapping);
+		switch (write.getType()) {
+		case ADD:
+			SQLInsertClause sqlInsertQuery = new SQLInsertClause(connection, this.sqlQueryFactory.getConfiguration(), tableRelationalPath);
+			addInsertValues(sqlInsertQuery, tableMapping.getColumTypes(), write.getAttributes());
+
+			return sqlInsertQuery.execute();
+		case UPDATE:
+			SQLUpdateClause sqlUpdateQuery = new SQLUpdateClause(connection, this.sqlQueryFactory.getConfiguration(), tableRelationalPath);
+			addUpdateValues(sqlUpdateQuery, tableMapping.getColumTypes(), write.getKey(), write.getModifications());
+
+			return sqlUpdateQuery.execute();
+		case DELETE:
+			SQLDeleteClause sqlDeleteQuery = new SQLDeleteClause(connection, this.sqlQueryFactory.getConfiguration(), tableRelationalPath);
+			sqlDeleteQuery.where(ExpressionUtils.eq(Expressions.stringPath(SqlOperationService.DOC_ID), Expressions.constant(write.getKey())));
+
+			return sqlDeleteQuery.execute();
+		default:
+			throw new UnsupportedOperationException("Write type '" + write.getType() + "' is not implemented");
+		}
+	}
+
     @Override
     public boolean delete(String key, String objectClass) throws EntryNotFoundException {
         Instant startTime = OperationDurationUtil.instance().now();
@@ -284,6 +483,71 @@ public class SqlOperationServiceImpl implements SqlOperationService {
         }
 	}
 
+    @Override
+    public Map<Integer, DeleteException> delete(List<String> keys, String objectClass) throws DeleteException {
+        Instant startTime = OperationDurationUtil.instance().now();
+
+        Map<Integer, DeleteException> errors = new HashMap<>();
+        if (keys.isEmpty()) {
+        	return errors;
+        }
+
+        TableMapping tableMapping = connectionProvider.getTableMappingByKey(keys.get(0), objectClass);
+        boolean result = deleteImpl(tableMapping, keys);
+        if (!result) {
+        	// Batch was rolled back. Delete entries one by one to find out which of them can't be deleted
+        	for (int i = 0; i < keys.size(); i++) {
+        		try {
+        			if (!deleteImpl(tableMapping, keys.get(i))) {
+        				errors.put(i, new DeleteException(String.format("Entry with key '%s' doesn't exist", keys.get(i))));
+        			}
+        		} catch (EntryNotFoundException ex) {
+        			errors.put(i, new DeleteException("Failed to delete entry", ex));
+        		}
+        	}
+        }
+
+        Duration duration = OperationDurationUtil.instance().duration(startTime);
+        OperationDurationUtil.instance().logDebug("SQL operation: delete batch, duration: {}, table: {}, count: {}, batch: {}, errors: {}", duration, tableMapping.getTableName(), keys.size(), result, errors.size());
+
+        return errors;
+    }
+
+	private boolean deleteImpl(TableMapping tableMapping, List<String> keys) throws DeleteException {
+		RelationalPathBase<Object> tableRelationalPath = buildTableRelationalPath(tableMapping);
+
+		try (Connection connection = connectionProvider.getConnection()) {
+			boolean autoCommit = connection.getAutoCommit();
+			connection.setAutoCommit(false);
+			try {
+				SQLDeleteClause sqlDeleteQuery = new SQLDeleteClause(connection, this.sqlQueryFactory.getConfiguration(), tableRelationalPath);
+
+				Predicate exp = ExpressionUtils.in(Expressions.stringPath(SqlOperationService.DOC_ID), keys);
+				sqlDeleteQuery.where(exp);
+
+				long rowsDeleted = sqlDeleteQuery.execute();
+				if (rowsDeleted != keys.size()) {
+					// Some entries don't exist
+					connection.rollback();
+
+					return false;
+				}
+				connection.commit();
+
+				return true;
+			} catch (QueryException ex) {
+				connection.rollback();
+				LOG.debug("Failed to delete batch of entries", ex);
+
+				return false;
+			} finally {
+				connection.setAutoCommit(autoCommit);
+			}
+		} catch (SQLException ex) {
+            throw new DeleteException("Failed to delete entries", ex);
+		}
+	}
+
     @Override
     public long delete(String key, String objectClass, ConvertedExpression expression, int count) throws DeleteException {
         Instant startTime = OperationDurationUtil.instance().now();
@@ -371,7 +635,50 @@ public class SqlOperationServiceImpl implements SqlOperationService {
 			throw new SearchException(String.format("Failed to lookup query by key: '%s'", key), ex);
 		}
 
-		throw new SearchException(String.format("Failed to lookup entry by key: '%s'", key));
+		String message = String.format("Failed to lookup entry by key: '%s'", key);
+		throw new SearchException(message, new EntryNotFoundException(message));
+	}
+
+    @Override
+    public Map<String, List<AttributeData>> lookup(List<String> keys, String objectClass, String... attributes) throws SearchException, EntryConvertationException {
+        if (keys.isEmpty()) {
+        	return new HashMap<String, List<AttributeData>>();
+        }
+
+        Instant startTime = OperationDurationUtil.instance().now();
+        
+    	TableMapping tableMapping = connectionProvider.getTableMappingByKey(keys.get(0), objectClass);
+
+    	Map<String, List<AttributeData>> result = lookupImpl(tableMapping, keys, attributes);
+
+        Duration duration = OperationDurationUtil.instance().duration(startTime);
+        OperationDurationUtil.instance().logDebug("SQL operation: lookup, duration: {}, table: {}, keys: {}, attributes: {}", duration, tableMapping.getTableName(), keys, attributes);
+
+        return result;
+    }
+
+	private Map<String, List<AttributeData>> lookupImpl(TableMapping tableMapping, List<String> keys, String... attributes) throws SearchException, EntryConvertationException {
+		try {
+			RelationalPathBase<Object> tableRelationalPath = buildTableRelationalPath(tableMapping);
+
+			Predicate whereExp = ExpressionUtils.in(Expressions.stringPath(SqlOperationService.DOC_ID), keys);
+			Expression<?> attributesExp = buildSelectAttributes(attributes);
+
+			SQLQuery<?> sqlSelectQuery = sqlQueryFactory.select(attributesExp).from(tableRelationalPath)
+					.where(whereExp);
+
+			Map<String, List<AttributeData>> result = new HashMap<String, List<AttributeData>>();
+			try (ResultSet resultSet = sqlSelectQuery.getResults();) {
+				List<AttributeData> entryAttributes;
+				while ((entryAttributes = getAttributeDataList(resultSet, true)) != null) {
+					result.put(resultSet.getString(SqlOperationService.DOC_ID), entryAttributes);
+				}
+			}
+
+			return result;
+		} catch (SQLException | QueryException ex) {
+			throw new SearchException(String.format("Failed to lookup query by keys: '%s'", keys), ex);
+		}
 	}
 
 	@Override
@@ -421,54 +728,65 @@ public class SqlOperationServiceImpl implements SqlOperationService {
         	List<EntryData> lastResult = null;
 	        if (pageSize > 0) {
 	            boolean collectSearchResult;
-	
-	            SQLQuery<?> query;
-	            int currentLimit;
-	    		try {
-	                int resultCount = 0;
-	                int lastCountRows = 0;
-	                do {
-	                    collectSearchResult = true;
-	
-	                    currentLimit = pageSize;
+
+	            final SQLQuery<?> pagedQuery = baseQuery;
+	            PageLoader<List<EntryData>> pageLoader = new PageLoader<List<EntryData>>() {
+	                private int resultCount = 0;
+	                private boolean lastPage = false;
+
+	                @Override
+	                public List<EntryData> loadPage() throws SearchException {
+	                    if (lastPage) {
+	                        return null;
+	                    }
+
+	                    int currentLimit = pageSize;
 	                    if (count > 0) {
 	                        currentLimit = Math.min(pageSize, count - resultCount);
 	                    }
-	
-	                    query = baseQuery.limit(currentLimit).offset(start + resultCount);
 
-	                    queryStr = query.getSQL().getSQL();
-	                    LOG.debug("Executing query: '" + queryStr + "'");
+	                    String pageQueryStr = null;
+	                    try {
+	                        SQLQuery<?> query = pagedQuery.limit(currentLimit).offset(start + resultCount);
+
+	                        pageQueryStr = query.getSQL().getSQL();
+	                        LOG.debug("Executing query: '" + pageQueryStr + "'");
+
+	                        List<EntryData> pageResult;
+	                        try (ResultSet resultSet = query.getResults()) {
+	                            pageResult = getEntryDataList(resultSet);
+	                        }
+
+	                        resultCount += pageResult.size();
+	                        lastPage = ((count > 0) && (resultCount >= count)) || (pageResult.size() < currentLimit);
 
-	                    try (ResultSet resultSet = query.getResults()) {
-	                    	lastResult = getEntryDataList(resultSet);
+	                        return pageResult;
+	                    } catch (QueryException ex) {
+	                        throw new SearchException(String.format("Failed to build search entries query. Key: '%s', expression: '%s'", key, expression.expression()), ex);
+	                    } catch (SQLException | EntryConvertationException ex) {
+	                        throw new SearchException(String.format("Failed to execute query '%s'  with key: '%s'", pageQueryStr, key), ex);
 	                    }
+	                }
+	            };
+
+	            int prefetchPages = batchOperation == null ? 0 : batchOperation.getPrefetchPages();
+	            try (PagePrefetcher<List<EntryData>> pages = PagePrefetcher.create(pageLoader, prefetchPages, batchOperationWraper == null ? null : batchOperationWraper.getPrefetchExecutor())) {
+	                while ((lastResult = pages.nextPage()) != null) {
+	                    collectSearchResult = true;
 
-		    			lastCountRows = lastResult.size();
-		    			
 	                    if (batchOperation != null) {
-	                        collectSearchResult = batchOperation.collectSearchResult(lastCountRows);
+	                        collectSearchResult = batchOperation.collectSearchResult(lastResult.size());
 	                    }
 	                    if (collectSearchResult) {
 	                        searchResultList.addAll(lastResult);
 	                    }
-	
+
 	                    if (batchOperation != null) {
 	                        List<O> entries = batchOperationWraper.createEntities(lastResult);
 	                        batchOperation.performAction(entries);
 	                    }
-	
-	                    resultCount += lastCountRows;
-	
-	                    if (((count > 0) && (resultCount >= count)) || (lastCountRows < currentLimit)) {
-	                        break;
-	                    }
-	                } while (lastCountRows > 0);
-        		} catch (QueryException ex) {
-        			throw new SearchException(String.format("Failed to build search entries query. Key: '%s', expression: '%s'", key, expression.expression()), ex);
-	    		} catch (SQLException | EntryConvertationException ex) {
-	    			throw new SearchException(String.format("Failed to execute query '%s'  with key: '%s'", queryStr, key), ex);
-	    		}
+	                }
+	            }
 	        } else {
 	    		try {
 	                SQLQuery<?> query = baseQuery;
@@ -534,6 +852,88 @@ public class SqlOperationServiceImpl implements SqlOperationService {
         return result;
     }
 
+	@Override
+    public SearchCursor<EntryData> searchCursor(String key, String objectClass, ConvertedExpression expression, String[] attributes,
+            OrderSpecifier<?>[] orderBy, int fetchSize) throws SearchException {
+        TableMapping tableMapping = connectionProvider.getTableMappingByKey(key, objectClass);
+
+        RelationalPathBase<Object> tableRelationalPath = buildTableRelationalPath(tableMapping);
+		Expression<?> attributesExp = buildSelectAttributes(attributes);
+
+		// Cursor keeps own connection until it's closed
+		Connection connection = connectionProvider.getConnection();
+		boolean restoreAutoCommit = false;
+		String queryStr = null;
+		try {
+			String dbType = connectionProvider.getDbType();
+			if (isPostgreSql(dbType) && connection.getAutoCommit()) {
+				// PostgreSQL driver ignores fetch size and loads all rows in auto commit mode
+				connection.setAutoCommit(false);
+				restoreAutoCommit = true;
+			}
+
+			SQLQuery<?> query = new SQLQuery<Object>(connection, sqlQueryFactory.getConfiguration()).select(attributesExp).from(tableRelationalPath);
+			if (expression != null) {
+				query = query.where((Predicate) expression.expression());
+			}
+			if (orderBy != null) {
+				query = query.orderBy(orderBy);
+			}
+			query.setStatementOptions(StatementOptions.builder().setFetchSize(getCursorFetchSize(dbType, fetchSize)).build());
+
+			queryStr = query.getSQL().getSQL();
+			LOG.debug("Opening cursor for query: '" + queryStr + "'");
+
+			return new ResultSetCursor(connection, restoreAutoCommit, query.getResults(), queryStr);
+		} catch (QueryException ex) {
+			releaseCursorConnection(connection, restoreAutoCommit, queryStr);
+			throw new SearchException(String.format("Failed to execute query '%s' with key: '%s'", queryStr, key), ex);
+		} catch (SQLException ex) {
+			releaseCursorConnection(connection, restoreAutoCommit, queryStr);
+			throw new SearchException(String.format("Failed to prepare connection for query with key: '%s'", key), ex);
+		} catch (RuntimeException ex) {
+			releaseCursorConnection(connection, restoreAutoCommit, queryStr);
+			throw ex;
+		}
+	}
+
+	private static boolean isPostgreSql(String dbType) {
+		return (dbType != null) && dbType.startsWith("postgresql");
+	}
+
+	private static boolean isMySql(String dbType) {
+		return (dbType != null) && dbType.startsWith("mysql");
+	}
+
+	/*
+	 * MySQL driver loads all rows on execution unless connection has useCursorFetch=true.
+	 * Integer.MIN_VALUE switches it to streaming of rows one by one in any mode
+	 */
+	private static int getCursorFetchSize(String dbType, int fetchSize) {
+		if (isMySql(dbType)) {
+			return Integer.MIN_VALUE;
+		}
+
+		return fetchSize;
+	}
+
+	private static void releaseCursorConnection(Connection connection, boolean restoreAutoCommit, String queryStr) {
+		try {
+			if (restoreAutoCommit) {
+				// Ends read only transaction
+				connection.setAutoCommit(true);
+			}
+		} catch (SQLException ex) {
+			LOG.warn("Failed to restore auto commit after query '{}'", queryStr, ex);
+		} finally {
+			try {
+				connection.close();
+			} catch (SQLException ex) {
+				LOG.warn("Failed to release connection after query '{}'", queryStr, ex);
+			}
+		}
+	}
+
 	public String[] createStoragePassword(String[] passwords) {
         if (ArrayHelper.isEmpty(passwords)) {
             return passwords;
@@ -869,4 +1269,57 @@ public class SqlOperationServiceImpl implements SqlOperationService {
 		}
 	}
 
+	private final class ResultSetCursor implements SearchCursor<EntryData> {
+
+		private final Connection connection;
+		private final boolean restoreAutoCommit;
+		private final ResultSet resultSet;
+		private final String queryStr;
+		private boolean closed;
+
+		private ResultSetCursor(Connection connection, boolean restoreAutoCommit, ResultSet resultSet, String queryStr) {
+			this.connection = connection;
+			this.restoreAutoCommit = restoreAutoCommit;
+			this.resultSet = resultSet;
+			this.queryStr = queryStr;
+		}
+
+		@Override
+		public List<EntryData> next(int count) throws SearchException {
+			List<EntryData> result = new ArrayList<EntryData>(count);
+			try {
+				while (!closed && (result.size() < count)) {
+					List<AttributeData> attributeDataList = getAttributeDataList(resultSet, false);
+					if (attributeDataList == null) {
+						// Release connection as soon as last row was read
+						close();
+						break;
+					}
+
+					result.add(new EntryData(attributeDataList));
+				}
+			} catch (EntryConvertationException ex) {
+				throw new SearchException(String.format("Failed to read result of query '%s'", queryStr), ex);
+			}
+
+			return result;
+		}
+
+		@Override
+		public void close() {
+			if (closed) {
+				return;
+			}
+
+			closed = true;
+			try {
+				resultSet.close();
+			} catch (SQLException ex) {
+				LOG.warn("Failed to close result of query '{}'", queryStr, ex);
+			} finally {
+				releaseCursorConnection(connection, restoreAutoCommit, queryStr);
+			}
+		}
+	}
+
 }
@@ -0,0 +1,237 @@
+package io.jans.orm.sql.impl.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Properties;
+
+import org.testng.annotations.Test;
+
+import com.querydsl.sql.Configuration;
+import com.querydsl.sql.PostgreSQLTemplates;
+import com.querydsl.sql.SQLQueryFactory;
+
+import io.jans.orm.model.EntryData;
+import io.jans.orm.operation.SearchCursor;
+import io.jans.orm.sql.model.TableMapping;
+import io.jans.orm.sql.operation.impl.SqlConnectionProvider;
+import io.jans.orm.sql.operation.impl.SqlOperationServiceImpl;
+
+/**
+ * Checks that cursor reads rows on demand with driver specific streaming
+ * settings and releases own connection on close
+ */
+public class SqlSearchCursorTest {
+
+	@Test
+	public void postgreSqlCursorReadsRowsIncrementally() throws Exception {
+		FakeJdbc jdbc = new FakeJdbc(5);
+		SqlOperationServiceImpl operationService = new SqlOperationServiceImpl(new Properties(), new TestConnectionProvider("postgresql", jdbc));
+
+		SearchCursor<EntryData> cursor = operationService.searchCursor("ou=people_o=jans", "jansPerson", null, new String[] { "uid" }, null, 2);
+		assertEquals(jdbc.fetchSize, Integer.valueOf(2));
+		assertFalse(jdbc.autoCommit);
+		assertEquals(jdbc.nextCount, 0);
+
+		List<EntryData> entries = cursor.next(2);
+		assertEquals(entries.size(), 2);
+		assertEquals(jdbc.nextCount, 2);
+		assertFalse(jdbc.connectionClosed);
+
+		cursor.close();
+		assertTrue(jdbc.resultSetClosed);
+		assertTrue(jdbc.autoCommit);
+		assertTrue(jdbc.connectionClosed);
+	}
+
+	@Test
+	public void mySqlCursorStreamsRows() throws Exception {
+		FakeJdbc jdbc = new FakeJdbc(3);
+		SqlOperationServiceImpl operationService = new SqlOperationServiceImpl(new Properties(), new TestConnectionProvider("mysql", jdbc));
+
+		SearchCursor<EntryData> cursor = operationService.searchCursor("ou=people_o=jans", "jansPerson", null, new String[] { "uid" }, null, 2);
+		assertEquals(jdbc.fetchSize, Integer.valueOf(Integer.MIN_VALUE));
+		assertTrue(jdbc.autoCommit);
+
+		assertEquals(cursor.next(2).size(), 2);
+		assertEquals(jdbc.nextCount, 2);
+
+		// Cursor releases connection after last row
+		assertEquals(cursor.next(2).size(), 1);
+		assertTrue(jdbc.connectionClosed);
+		assertTrue(jdbc.autoCommit);
+	}
+
+	@Test
+	public void otherDbKeepsRequestedFetchSize() throws Exception {
+		FakeJdbc jdbc = new FakeJdbc(0);
+		SqlOperationServiceImpl operationService = new SqlOperationServiceImpl(new Properties(), new TestConnectionProvider("h2", jdbc));
+
+		SearchCursor<EntryData> cursor = operationService.searchCursor("ou=people_o=jans", "jansPerson", null, new String[] { "uid" }, null, 10);
+		assertEquals(jdbc.fetchSize, Integer.valueOf(10));
+		assertTrue(jdbc.autoCommit);
+
+		assertTrue(cursor.next(10).isEmpty());
+		assertTrue(jdbc.connectionClosed);
+	}
+
+	private static final class TestConnectionProvider extends SqlConnectionProvider {
+
+		private final String dbType;
+		private final FakeJdbc jdbc;
+		private final SQLQueryFactory sqlQueryFactory;
+
+		private TestConnectionProvider(String dbType, FakeJdbc jdbc) {
+			this.dbType = dbType;
+			this.jdbc = jdbc;
+			this.sqlQueryFactory = new SQLQueryFactory(new Configuration(PostgreSQLTemplates.builder().printSchema().build()), () -> jdbc.connection());
+		}
+
+		@Override
+		public String getDbType() {
+			return dbType;
+		}
+
+		@Override
+		public String getSchemaName() {
+			return "jans";
+		}
+
+		@Override
+		public SQLQueryFactory getSqlQueryFactory() {
+			return sqlQueryFactory;
+		}
+
+		@Override
+		public TableMapping getTableMappingByKey(String key, String objectClass) {
+			return new TableMapping("people", objectClass, objectClass, new HashMap<String, String>());
+		}
+
+		@Override
+		public Connection getConnection() {
+			return jdbc.connection();
+		}
+	}
+
+	/*
+	 * Records calls which define how driver reads rows
+	 */
+	private static final class FakeJdbc {
+
+		private final int rows;
+
+		private boolean autoCommit = true;
+		private Integer fetchSize;
+		private int nextCount;
+		private boolean resultSetClosed;
+		private boolean connectionClosed;
+
+		private FakeJdbc(int rows) {
+			this.rows = rows;
+		}
+
+		private Connection connection() {
+			return proxy(Connection.class, (proxy, method, args) -> {
+				switch (method.getName()) {
+				case "getAutoCommit":
+					return autoCommit;
+				case "setAutoCommit":
+					autoCommit = (Boolean) args[0];
+					return null;
+				case "prepareStatement":
+					return statement();
+				case "close":
+					connectionClosed = true;
+					return null;
+				case "isClosed":
+					return connectionClosed;
+				default:
+					return defaultValue(method.getReturnType());
+				}
+			});
+		}
+
+		private PreparedStatement statement() {
+			return proxy(PreparedStatement.class, (proxy, method, args) -> {
+				switch (method.getName()) {
+				case "setFetchSize":
+					fetchSize = (Integer) args[0];
+					return null;
+				case "executeQuery":
+					return resultSet();
+				default:
+					return defaultValue(method.getReturnType());
+				}
+			});
+		}
+
+		private ResultSet resultSet() {
+			ResultSetMetaData metaData = proxy(ResultSetMetaData.class, (proxy, method, args) -> {
+				switch (method.getName()) {
+				case "getColumnCount":
+					return 1;
+				case "getColumnName":
+					return "uid";
+				case "getColumnTypeName":
+					return "VARCHAR";
+				case "isNullable":
+					return ResultSetMetaData.columnNoNulls;
+				default:
+					return defaultValue(method.getReturnType());
+				}
+			});
+
+			return proxy(ResultSet.class, (proxy, method, args) -> {
+				switch (method.getName()) {
+				case "next":
+					nextCount++;
+					return nextCount <= rows;
+				case "getMetaData":
+					return metaData;
+				case "getObject":
+					return "user" + nextCount;
+				case "close":
+					resultSetClosed = true;
+					return null;
+				default:
+					return defaultValue(method.getReturnType());
+				}
+			});
+		}
+
+		@SuppressWarnings("unchecked")
+		private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+			return (T) Proxy.newProxyInstance(SqlSearchCursorTest.class.getClassLoader(), new Class<?>[] { type }, handler);
+		}
+
+		private static Object defaultValue(Class<?> type) {
+			if (!type.isPrimitive() || (type == void.class)) {
+				return null;
+			}
+			if (type == boolean.class) {
+				return false;
+			}
+			if (type == long.class) {
+				return 0L;
+			}
+			if ((type == double.class) || (type == float.class)) {
+				return type == double.class ? (Object) 0d : (Object) 0f;
+			}
+			if ((type == short.class) || (type == byte.class)) {
+				return type == short.class ? (Object) (short) 0 : (Object) (byte) 0;
+			}
+
+			return 0;
+		}
+	}
+
+}